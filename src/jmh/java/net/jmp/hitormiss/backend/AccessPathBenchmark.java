@@ -0,0 +1,188 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)AccessPathBenchmark.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.UUID;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.hitormiss.config.KeyLayout;
+
+import net.jmp.hitormiss.data.DataElement;
+import net.jmp.hitormiss.data.RequestQueueElement;
+import net.jmp.hitormiss.data.RequestType;
+
+import net.jmp.hitormiss.util.BucketKeys;
+import net.jmp.hitormiss.util.KeyEncoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the steps of a client access that need no
+ * Redis: encoding the key and reading its bucket from
+ * an in-process backend, probing the local tier, and
+ * building the request queue element of the outcome.
+ * Run it with the gc profiler, as the jmh task does,
+ * to see which steps allocate and how much.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessPathBenchmark {
+    /** The number of keys drawn from. */
+    private static final int KEY_SPACE = 30_001;
+
+    /** The backend. */
+    @Param({"in_process", "off_heap"})
+    private String backendType;
+
+    /** The key encoder. */
+    private KeyEncoder keyEncoder;
+
+    /** The backend under test. */
+    private CacheBackend backend;
+
+    /** The file of the local tier. */
+    private Path path;
+
+    /** The local tier. */
+    private MappedTier localTier;
+
+    /**
+     * Create the backend and the local tier
+     * and store a bucket for every key.
+     *
+     * @throws  java.io.IOException When the local tier cannot be mapped
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.PLAIN, 1);
+
+        this.keyEncoder = new KeyEncoder(bucketKeys, KEY_SPACE);
+        this.backend = switch (this.backendType) {
+            case "in_process" -> new InProcessBackend();
+            case "off_heap" -> new OffHeapBackend(bucketKeys, KEY_SPACE);
+            default -> throw new IllegalArgumentException("Unknown backend: " + this.backendType);
+        };
+        this.path = Files.createTempFile("access-path", ".dat");
+        this.localTier = new MappedTier(this.path, KEY_SPACE, 0, 1);
+
+        for (int key = 0; key < KEY_SPACE; key++) {
+            final DataElement element = new DataElement(key, UUID.randomUUID().toString());
+
+            this.backend.set(this.keyEncoder.key(key), element, null);
+            this.localTier.put(element);
+        }
+    }
+
+    /**
+     * Shut the backend down and remove the local tier.
+     *
+     * @throws  java.io.IOException When the local tier file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.localTier.close();
+        this.backend.shutdown();
+
+        Files.deleteIfExists(this.path);
+    }
+
+    /**
+     * Encode a random key and read its bucket.
+     *
+     * @return  net.jmp.hitormiss.data.DataElement
+     */
+    @Benchmark
+    public DataElement get() {
+        return this.backend.get(this.keyEncoder.key(this.draw()));
+    }
+
+    /**
+     * Probe the local tier for a random key.
+     *
+     * @return  boolean
+     */
+    @Benchmark
+    public boolean localTierContains() {
+        return this.localTier.contains(this.draw());
+    }
+
+    /**
+     * Read the bucket of a random key from the local tier.
+     *
+     * @return  net.jmp.hitormiss.data.DataElement
+     */
+    @Benchmark
+    public DataElement localTierGet() {
+        return this.localTier.get(this.draw());
+    }
+
+    /**
+     * Build the request queue element of a hit.
+     *
+     * @return  net.jmp.hitormiss.data.RequestQueueElement
+     */
+    @Benchmark
+    public RequestQueueElement outcome() {
+        return new RequestQueueElement(RequestType.HIT, 1_000, 1_000, 0, -1, 1);
+    }
+
+    /**
+     * Draw a random key.
+     *
+     * @return  int
+     */
+    private int draw() {
+        return ThreadLocalRandom.current().nextInt(KEY_SPACE);
+    }
+}
@@ -0,0 +1,123 @@
+package net.jmp.hitormiss.recorder;
+
+/*
+ * (#)RecorderBenchmark.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what a record costs the calling thread for
+ * each recorder, alone and with four threads recording
+ * at once. The event stream recorder drops what its
+ * listener cannot keep up with, so its figure is the
+ * cost of the offer rather than of the delivery. Run it
+ * with the gc profiler, as the jmh task does, to see
+ * the bytes allocated per record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecorderBenchmark {
+    /** The recorder. */
+    @Param({"counting", "sampled", "event_stream"})
+    private String recorderType;
+
+    /** The events the listener has seen. */
+    private final LongAdder seen = new LongAdder();
+
+    /** The recorder under test. */
+    private HitMissRecorder<String> recorder;
+
+    /**
+     * Create the recorder.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.recorder = switch (this.recorderType) {
+            case "counting" -> new CountingRecorder<>();
+            case "sampled" -> new SampledRecorder<>(100);
+            case "event_stream" -> new EventStreamRecorder<>(event -> this.seen.increment(), 65_536);
+            default -> throw new IllegalArgumentException("Unknown recorder: " + this.recorderType);
+        };
+    }
+
+    /**
+     * Close the recorder.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.recorder.close();
+    }
+
+    /**
+     * Record a hit.
+     */
+    @Benchmark
+    public void recordHit() {
+        this.recorder.recordHit("DE-312");
+    }
+
+    /**
+     * Record a timed hit.
+     */
+    @Benchmark
+    public void recordTimedHit() {
+        this.recorder.recordHit("DE-312", 1_500);
+    }
+
+    /**
+     * Record a timed hit from four threads at once.
+     */
+    @Benchmark
+    @Threads(4)
+    public void recordTimedHitContended() {
+        this.recorder.recordHit("DE-312", 1_500);
+    }
+}
@@ -0,0 +1,139 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)KeyEncoderBenchmark.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.hitormiss.config.KeyLayout;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building the bucket key and slot of a key on
+ * every access with looking them up in the key encoder.
+ * It measures key encoding alone, not the access path.
+ * Run it with the gc profiler, as the jmh task does, and
+ * read the allocation per operation from gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyEncoderBenchmark {
+    /** The number of keys drawn from. */
+    @Param({"3001", "3000001"})
+    private int keySpace;
+
+    /** The key layout. */
+    @Param({"plain", "hash_tag"})
+    private String layout;
+
+    /** The bucket keys. */
+    private BucketKeys bucketKeys;
+
+    /** The key encoder. */
+    private KeyEncoder keyEncoder;
+
+    /**
+     * Create the bucket keys and encode every key, as a
+     * long enough run does before it is measured.
+     */
+    @Setup
+    public void setUp() {
+        this.bucketKeys = new BucketKeys("DE-", "hash_tag".equals(this.layout) ? KeyLayout.HASH_TAG : KeyLayout.PLAIN, 100);
+        this.keyEncoder = new KeyEncoder(this.bucketKeys, this.keySpace);
+
+        for (int i = 0; i < this.keySpace; i++)
+            this.keyEncoder.slot(i);
+    }
+
+    /**
+     * Build the bucket key of a random key.
+     *
+     * @return  java.lang.String
+     */
+    @Benchmark
+    public String buildKey() {
+        return this.bucketKeys.key(this.draw());
+    }
+
+    /**
+     * Look up the bucket key of a random key.
+     *
+     * @return  java.lang.String
+     */
+    @Benchmark
+    public String encodedKey() {
+        return this.keyEncoder.key(this.draw());
+    }
+
+    /**
+     * Build the bucket key of a random key and compute its slot.
+     *
+     * @return  int
+     */
+    @Benchmark
+    public int buildSlot() {
+        return this.bucketKeys.slot(this.draw());
+    }
+
+    /**
+     * Look up the slot of a random key.
+     *
+     * @return  int
+     */
+    @Benchmark
+    public int encodedSlot() {
+        return this.keyEncoder.slot(this.draw());
+    }
+
+    /**
+     * Draw a random key.
+     *
+     * @return  int
+     */
+    private int draw() {
+        return ThreadLocalRandom.current().nextInt(this.keySpace);
+    }
+}
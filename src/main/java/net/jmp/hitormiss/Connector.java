@@ -1,12 +1,13 @@
 package net.jmp.hitormiss;
 
 /*
+ * (#)Connector.java    0.6.0   10/19/2026
  * (#)Connector.java    0.5.0   06/29/2024
  * (#)Connector.java    0.3.0   05/31/2024
  * (#)Connector.java    0.1.0   05/25/2024
  *
  * @author   Jonathan Parker
- * @version  0.5.0
+ * @version  0.6.0
  * @since    0.1.0
  *
  * MIT License
@@ -32,15 +33,26 @@ package net.jmp.hitormiss;
  * SOFTWARE.
  */
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import net.jmp.hitormiss.config.Connection;
+import net.jmp.hitormiss.config.ReadMode;
+import net.jmp.hitormiss.config.Redis;
+import net.jmp.hitormiss.config.Topology;
+
 import org.redisson.Redisson;
 
 import org.redisson.api.RedissonClient;
 
 import org.redisson.client.RedisConnectionException;
 
+import org.redisson.config.BaseConfig;
+import org.redisson.config.BaseMasterSlaveServersConfig;
 import org.redisson.config.Config;
+import org.redisson.config.TransportMode;
 
 import org.slf4j.LoggerFactory;
 
@@ -64,54 +76,262 @@ final class Connector {
     /** The Redis protocol. */
     private final String protocol;
 
+    /** The connection settings. @since 0.6.0 */
+    private final Connection connection;
+
+    /** The topology. @since 0.6.0 */
+    private final Topology topology;
+
+    /** The host:port addresses of the nodes or sentinels. @since 0.6.0 */
+    private final List<String> nodes;
+
+    /** The name of the master monitored by the sentinels. @since 0.6.0 */
+    private final String masterName;
+
+    /** The nodes that serve the reads when not single. @since 0.6.0 */
+    private final ReadMode readMode;
+
+    /** The transport mode selected on connecting. @since 0.6.0 */
+    private TransportMode transportMode;
+
     /**
-     * The constructor.
+     * The constructor. A single server is reached at
+     * the host name and port; the other topologies
+     * through their list of nodes.
      *
-     * @param   hostName    java.lang.String
-     * @param   port        int
-     * @param   protocol    java.lang.String
+     * @param   redis   net.jmp.hitormiss.config.Redis
      */
-    Connector(final String hostName, final int port, final String protocol) {
+    Connector(final Redis redis) {
         super();
 
-        Objects.requireNonNull(hostName);
-        Objects.requireNonNull(protocol);
+        Objects.requireNonNull(redis);
+        Objects.requireNonNull(redis.getProtocol());
+        Objects.requireNonNull(redis.getConnection());
+        Objects.requireNonNull(redis.getTopology());
+
+        if (redis.getTopology() == Topology.SINGLE) {
+            Objects.requireNonNull(redis.getHostName());
+
+            if (redis.getPort() <= 0)
+                throw new IllegalArgumentException("Port must be greater than 0");
+        } else if (redis.getNodes() == null || redis.getNodes().isEmpty()) {
+            throw new IllegalArgumentException("Nodes must be listed for the " + redis.getTopology() + " topology");
+        }
 
-        if (port <= 0)
-            throw new IllegalArgumentException("Port must be greater than 0");
+        if (redis.getTopology() == Topology.SENTINEL && (redis.getMasterName() == null || redis.getMasterName().isBlank()))
+            throw new IllegalArgumentException("A master name is required for the sentinel topology");
 
-        this.hostName = hostName;
-        this.port = port;
-        this.protocol = protocol;
+        this.hostName = redis.getHostName();
+        this.port = redis.getPort();
+        this.protocol = redis.getProtocol();
+        this.connection = redis.getConnection();
+        this.topology = redis.getTopology();
+        this.nodes = redis.getNodes() != null ? List.copyOf(redis.getNodes()) : List.of();
+        this.masterName = redis.getMasterName();
+        this.readMode = Objects.requireNonNullElse(redis.getReadMode(), ReadMode.MASTER);
     }
 
     /**
-     * Connect to Redis.
+     * Connect to Redis. A sharded topology has
+     * one client per instance and is connected
+     * with connectInstances instead.
      *
      * @return  org.redisson.api.RedissonClient
      */
     RedissonClient connect() {
         this.logger.entry();
 
+        if (this.topology == Topology.SHARDED)
+            throw new IllegalStateException("The instances of a sharded topology are connected one by one");
+
+        final var config = this.createConfig();
+        final String[] addresses = this.getAddresses();
+
+        switch (this.topology) {
+            case SINGLE -> this.applySingle(config, addresses[0]);
+            case SENTINEL -> this.applyTimeouts(this.applyPool(config.useSentinelServers()
+                    .setMasterName(this.masterName)
+                    .addSentinelAddress(addresses)));
+            case REPLICATED -> this.applyTimeouts(this.applyPool(config.useReplicatedServers()
+                    .addNodeAddress(addresses)));
+            case CLUSTER -> this.applyTimeouts(this.applyPool(config.useClusterServers()
+                    .addNodeAddress(addresses)));
+        }
+
+        this.logger.info("Topology: {}, nodes: {}, reads from: {}",
+                this.topology,
+                String.join(", ", addresses),
+                this.topology == Topology.SINGLE ? ReadMode.MASTER : this.readMode);
+
+        final RedissonClient client = this.createClient(config, addresses);
+
+        this.logger.exit(client);
+
+        return client;
+    }
+
+    /**
+     * Connect to Redis, returning the clients keyed
+     * by the host and port of the instance they reach.
+     * Every topology but sharded has a single client.
+     *
+     * @return  java.util.Map&lt;java.lang.String, org.redisson.api.RedissonClient&gt;
+     * @since   0.6.0
+     */
+    Map<String, RedissonClient> connectInstances() {
+        this.logger.entry();
+
+        final Map<String, RedissonClient> clients = new LinkedHashMap<>();
+
+        if (this.topology != Topology.SHARDED) {
+            clients.put(this.topology == Topology.SINGLE ? this.hostName + ":" + this.port : String.join(",", this.nodes), this.connect());
+        } else {
+            this.logger.info("Topology: {}, instances: {}", this.topology, String.join(", ", this.nodes));
+
+            try {
+                for (final String node : this.nodes) {
+                    final var config = this.createConfig();
+
+                    this.applySingle(config, this.protocol + node);
+
+                    clients.put(node, this.createClient(config, new String[] { this.protocol + node }));
+                }
+            } catch (final RedisError re) {
+                clients.values().forEach(Connector::disconnect);
+
+                throw re;
+            }
+        }
+
+        this.logger.exit(clients);
+
+        return clients;
+    }
+
+    /**
+     * Return a Redisson configuration with the
+     * transport and thread settings applied.
+     *
+     * @return  org.redisson.config.Config
+     * @since   0.6.0
+     */
+    private Config createConfig() {
         final var config = new Config();
 
-        config.useSingleServer().setAddress(this.protocol + this.hostName + ":" + this.port);
+        this.transportMode = new TransportSelector().select(this.connection.getTransport());
+
+        config.setTransportMode(this.transportMode)
+              .setThreads(this.connection.getThreads())
+              .setNettyThreads(this.connection.getNettyThreads());
+
+        return config;
+    }
+
+    /**
+     * Configure a single server.
+     *
+     * @param   config  org.redisson.config.Config
+     * @param   address java.lang.String
+     * @since           0.6.0
+     */
+    private void applySingle(final Config config, final String address) {
+        this.applyTimeouts(config.useSingleServer()
+                .setAddress(address)
+                .setConnectionPoolSize(this.connection.getConnectionPoolSize())
+                .setConnectionMinimumIdleSize(this.connection.getConnectionMinimumIdleSize()));
+    }
+
+    /**
+     * Create a Redisson client.
+     *
+     * @param   config      org.redisson.config.Config
+     * @param   addresses   java.lang.String[]
+     * @return              org.redisson.api.RedissonClient
+     * @since               0.6.0
+     */
+    private RedissonClient createClient(final Config config, final String[] addresses) {
+        this.logger.info("Transport: {}, connection pool: {} connections ({} idle), Netty threads: {}, timeout: {} ms",
+                this.transportMode,
+                this.connection.getConnectionPoolSize(),
+                this.connection.getConnectionMinimumIdleSize(),
+                this.connection.getNettyThreads(),
+                this.connection.getTimeoutMillis());
 
         RedissonClient client;
 
         try {
             client = Redisson.create(config);
         } catch (final RedisConnectionException rce) {
-            throw new RedisError("Failed to connect to Redis: " + this.protocol + this.hostName + ":" + this.port, rce);
+            throw new RedisError("Failed to connect to Redis: " + String.join(", ", addresses), rce);
         }
 
         this.logger.info("Redisson client ID: {}", client.getId());
 
-        this.logger.exit(client);
-
         return client;
     }
 
+    /**
+     * Return the addresses to connect to,
+     * each prefixed with the protocol.
+     *
+     * @return  java.lang.String[]
+     * @since   0.6.0
+     */
+    private String[] getAddresses() {
+        if (this.topology == Topology.SINGLE)
+            return new String[] { this.protocol + this.hostName + ":" + this.port };
+
+        return this.nodes.stream()
+                .map(node -> this.protocol + node)
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Apply the read mode and the connection pool
+     * settings to every master and replica of a
+     * multi-node topology.
+     *
+     * @param   <T>     The type of server configuration
+     * @param   config  T
+     * @return          T
+     * @since           0.6.0
+     */
+    private <T extends BaseMasterSlaveServersConfig<T>> T applyPool(final T config) {
+        return config.setReadMode(org.redisson.config.ReadMode.valueOf(this.readMode.name()))
+                     .setMasterConnectionPoolSize(this.connection.getConnectionPoolSize())
+                     .setMasterConnectionMinimumIdleSize(this.connection.getConnectionMinimumIdleSize())
+                     .setSlaveConnectionPoolSize(this.connection.getConnectionPoolSize())
+                     .setSlaveConnectionMinimumIdleSize(this.connection.getConnectionMinimumIdleSize());
+    }
+
+    /**
+     * Apply the timeout, retry and ping settings.
+     *
+     * @param   <T>     The type of server configuration
+     * @param   config  T
+     * @return          T
+     * @since           0.6.0
+     */
+    private <T extends BaseConfig<T>> T applyTimeouts(final T config) {
+        return config.setIdleConnectionTimeout(this.connection.getIdleConnectionTimeoutMillis())
+                     .setConnectTimeout(this.connection.getConnectTimeoutMillis())
+                     .setTimeout(this.connection.getTimeoutMillis())
+                     .setRetryAttempts(this.connection.getRetryAttempts())
+                     .setRetryInterval(this.connection.getRetryIntervalMillis())
+                     .setPingConnectionInterval(this.connection.getPingConnectionIntervalMillis());
+    }
+
+    /**
+     * Return the transport mode selected
+     * on connecting or null before that.
+     *
+     * @return  org.redisson.config.TransportMode
+     * @since   0.6.0
+     */
+    TransportMode getTransportMode() {
+        return this.transportMode;
+    }
+
     /**
      * Disconnect from Redis.
      *
@@ -1,6 +1,7 @@
 package net.jmp.hitormiss;
 
 /*
+ * (#)Main.java 0.6.0   10/19/2026
  * (#)Main.java 0.5.0   06/29/2024
  * (#)Main.java 0.4.0   06/14/2024
  * (#)Main.java 0.3.0   05/29/2024
@@ -8,7 +9,7 @@ package net.jmp.hitormiss;
  * (#)Main.java 0.1.0   05/25/2024
  *
  * @author   Jonathan Parker
- * @version  0.5.0
+ * @version  0.6.0
  * @since    0.1.0
  *
  * MIT License
@@ -38,27 +39,85 @@ import com.google.gson.Gson;
 
 import java.io.IOException;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
 import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+
+import net.jmp.hitormiss.data.AccessScript;
 import net.jmp.hitormiss.data.RequestQueueElement;
 import net.jmp.hitormiss.data.RequestType;
+import net.jmp.hitormiss.data.ServerStatistics;
+import net.jmp.hitormiss.data.SlotStatistics;
+import net.jmp.hitormiss.data.Statistics;
 
 import net.jmp.hitormiss.threads.AccessThread;
 
+import net.jmp.hitormiss.util.BucketKeys;
+import net.jmp.hitormiss.util.KeyEncoder;
+import net.jmp.hitormiss.util.KeyTracker;
+import net.jmp.hitormiss.util.PoolGate;
+import net.jmp.hitormiss.util.RateSchedule;
+import net.jmp.hitormiss.util.SingleFlight;
 import net.jmp.hitormiss.util.Synchronizer;
 
+import net.jmp.hitormiss.backend.CacheBackend;
+import net.jmp.hitormiss.backend.InProcessBackend;
+import net.jmp.hitormiss.backend.MappedTier;
+import net.jmp.hitormiss.backend.OffHeapBackend;
+import net.jmp.hitormiss.backend.RedissonBackend;
+
+import net.jmp.hitormiss.config.AccessMode;
+import net.jmp.hitormiss.config.BackingStoreType;
+import net.jmp.hitormiss.config.CacheBackendType;
 import net.jmp.hitormiss.config.Config;
+import net.jmp.hitormiss.config.Load;
+import net.jmp.hitormiss.config.LocalTier;
+import net.jmp.hitormiss.config.LoadMode;
+import net.jmp.hitormiss.config.Report;
+import net.jmp.hitormiss.config.Topology;
+import net.jmp.hitormiss.config.Transport;
 
 import net.jmp.hitormiss.data.DataManager;
+import net.jmp.hitormiss.data.ShardRouter;
+
+import net.jmp.hitormiss.monitoring.NodeLatencySampler;
+import net.jmp.hitormiss.monitoring.PrometheusEndpoint;
+import net.jmp.hitormiss.monitoring.RingBalance;
+import net.jmp.hitormiss.monitoring.ServerStatisticsSampler;
+import net.jmp.hitormiss.monitoring.ShardBreakdown;
+import net.jmp.hitormiss.monitoring.StatisticsMonitor;
+
+import net.jmp.hitormiss.report.LatencyReport;
+import net.jmp.hitormiss.report.ReportComparator;
+import net.jmp.hitormiss.report.RunReport;
+import net.jmp.hitormiss.report.RunReporter;
 
+import net.jmp.hitormiss.store.BackingStore;
+import net.jmp.hitormiss.store.InstantBackingStore;
+import net.jmp.hitormiss.store.SimulatedBackingStore;
+
+import net.jmp.hitormiss.threads.Refresher;
 import net.jmp.hitormiss.threads.StatisticsThread;
 
 import org.redisson.api.RedissonClient;
 
+import org.redisson.client.RedisException;
+
+import org.redisson.config.TransportMode;
+
 import org.slf4j.LoggerFactory;
 
 import org.slf4j.ext.XLogger;
@@ -82,6 +141,42 @@ public final class Main {
     /** The statistics thread. */
     private Thread statisticsThread;
 
+    /** The rate schedule or null for a closed loop. @since 0.6.0 */
+    private RateSchedule schedule;
+
+    /** The Prometheus metrics endpoint. @since 0.6.0 */
+    private PrometheusEndpoint prometheusEndpoint;
+
+    /** The statistics MBean. @since 0.6.0 */
+    private StatisticsMonitor statisticsMonitor;
+
+    /** The tracker of stored keys. @since 0.6.0 */
+    private KeyTracker keyTracker;
+
+    /** The sampler of the server statistics or null. @since 0.6.0 */
+    private ServerStatisticsSampler serverStatisticsSampler;
+
+    /** The sampler of the round trips of each node or null. @since 0.6.0 */
+    private NodeLatencySampler nodeLatencySampler;
+
+    /** The access thread objects. @since 0.6.0 */
+    private AccessThread[] accessThreadObjects;
+
+    /** The transport mode the client runs on. @since 0.6.0 */
+    private TransportMode transportMode;
+
+    /** The local tier in front of the backend or null. @since 0.6.0 */
+    private MappedTier localTier;
+
+    /** The heap bytes the buckets took per bucket set up. @since 0.6.0 */
+    private double heapBytesPerBucket;
+
+    /** The bytes outside the heap per bucket set up. @since 0.6.0 */
+    private double offHeapBytesPerBucket;
+
+    /** The process exit status; non-zero when the run regressed against its baseline. @since 0.6.0 */
+    private int exitStatus;
+
     /**
      * The default constructor.
      */
@@ -98,18 +193,19 @@ public final class Main {
         this.logger.info("{} {}", Name.NAME_STRING, Version.VERSION_STRING);
 
         this.getAppConfig().ifPresentOrElse(appConfig -> {
-            RedissonClient client = null;
+            CacheBackend backend = null;
 
-            if (ProcessUtility.isRedisProcessRunning(appConfig.getProcessUtility().getRedisServer()) ||
+            if (appConfig.getApplication().getCacheBackend() != CacheBackendType.REDIS ||
+                ProcessUtility.isRedisProcessRunning(appConfig.getProcessUtility().getRedisServer()) ||
                 ProcessUtility.isRedisProcessRunning(appConfig.getProcessUtility().getRedisStackServer())) {
                 try {
-                    client = this.getClient(appConfig);
+                    backend = this.getBackend(appConfig);
 
-                    this.runBody(client, appConfig);
+                    this.runBody(backend, appConfig);
                 } catch (final IOException ioe) {
                     this.logger.catching(ioe);
                 } finally {
-                    this.runCleanup(client);
+                    this.runCleanup(backend);
                 }
             }
         }, () -> this.logger.error("No configuration found for {}", Name.NAME_STRING));
@@ -120,23 +216,53 @@ public final class Main {
     /**
      * Run the main body of the application.
      *
-     * @param   client  org.redisson.api.RedissonClient
+     * @param   backend net.jmp.hitormiss.backend.CacheBackend
      * @param   config  net.jmp.hitormiss.config.Config
      * @throws          java.io.IOException When an I/O exception occurs
      */
-    private void runBody(final RedissonClient client, final Config config) throws IOException {
-        this.logger.entry(client, config);
+    private void runBody(final CacheBackend backend, final Config config) throws IOException {
+        this.logger.entry(backend, config);
 
-        assert client != null;
+        assert backend != null;
         assert config != null;
 
-        this.logServerVersion(config);
+        // The features that only Redis has reach it through the router
+
+        final ShardRouter router = backend instanceof RedissonBackend redissonBackend ? redissonBackend.getRouter() : null;
+
+        if (router != null)
+            this.logServerVersion(config);
 
-        this.dataManager = new DataManager(config, client);
+        this.keyTracker = new KeyTracker(config.getApplication().getInitialNumberOfBuckets() * 3 + 1);
+        this.dataManager = new DataManager(config, backend, this.keyTracker);
+
+        final long heapBytesBefore = this.getUsedHeapBytes();
 
         this.dataManager.setupData();
-        this.startStatisticsThread();
-        this.runAccessThread(config, client);
+
+        this.logFootprint(config, backend, heapBytesBefore);
+
+        this.localTier = this.openLocalTier(config);
+
+        this.schedule = this.createRateSchedule(config.getLoad());
+
+        this.startStatisticsThread(config);
+        this.startMonitoring(config);
+        this.startServerStatisticsSampler(config, router);
+        this.runAccessThreads(config, backend, router);
+        this.stopServerStatisticsSampler();
+        this.stopStatisticsThread();
+
+        if (router != null) {
+            this.logShardBreakdown(router.getPrimary().getClient());
+            this.logRingBalance(config, router);
+        }
+
+        if (backend instanceof OffHeapBackend offHeapBackend && offHeapBackend.getEvictions() > 0)
+            this.logger.warn("The off-heap backend evicted {} buckets from full stripes", offHeapBackend.getEvictions());
+
+        this.crossCheckServerStatistics(config);
+        this.reportRun(config);
 
         this.logger.exit();
     }
@@ -144,23 +270,32 @@ public final class Main {
     /**
      * Run the application cleanup.
      *
-     * @param   client  org.redisson.api.RedissonClient
+     * @param   backend net.jmp.hitormiss.backend.CacheBackend
      */
-    private void runCleanup(final RedissonClient client) {
-        this.logger.entry(client);
+    private void runCleanup(final CacheBackend backend) {
+        this.logger.entry(backend);
 
+        this.stopMonitoring();
+        this.stopServerStatisticsSampler();
         this.stopStatisticsThread();
 
+        if (this.localTier != null) {
+            this.localTier.close();
+            this.localTier = null;
+        }
+
         // Log the contents of the accumulator buckets
 
-        if (this.dataManager != null)
+        if (this.dataManager != null) {
+            this.dataManager.logAccumulators();
             this.dataManager.teardownData();
+        }
 
-        if (client != null) {
-            Connector.disconnect(client);
+        if (backend != null) {
+            backend.shutdown();
 
-            if (client.isShutdown())
-                this.logger.info("Redisson client has shut down");
+            if (backend.isShutdown())
+                this.logger.info("The {} cache backend has shut down", backend.getName());
         }
 
         this.logger.exit();
@@ -192,27 +327,61 @@ public final class Main {
     }
 
     /**
-     * Get the Redisson client.
+     * Get the cache backend.
      *
      * @param   config  net.jmp.hitormiss.config.Config
-     * @return          org.redisson.api.RedissonClient
+     * @return          net.jmp.hitormiss.backend.CacheBackend
+     * @since           0.6.0
      */
-    private RedissonClient getClient(final Config config) {
+    private CacheBackend getBackend(final Config config) {
         this.logger.entry(config);
 
         assert config != null;
 
-        final var connector = new Connector(
-                config.getRedis().getHostName(),
-                config.getRedis().getPort(),
-                config.getRedis().getProtocol()
-        );
+        final CacheBackend backend = switch (config.getApplication().getCacheBackend()) {
+            case REDIS -> new RedissonBackend(this.getRouter(config));
+            case IN_PROCESS -> new InProcessBackend();
+            case OFF_HEAP -> new OffHeapBackend(new BucketKeys(config.getApplication()),
+                                                config.getApplication().getInitialNumberOfBuckets() * 3 + 1);
+        };
 
-        final var client = connector.connect();
+        this.logger.info("Caching buckets in the {} backend", backend.getName());
 
-        this.logger.exit(client);
+        this.logger.exit(backend);
 
-        return client;
+        return backend;
+    }
+
+    /**
+     * Get the router over the Redisson clients.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @return          net.jmp.hitormiss.data.ShardRouter
+     */
+    private ShardRouter getRouter(final Config config) {
+        this.logger.entry(config);
+
+        assert config != null;
+
+        final String transport = System.getProperty("app.transport");
+
+        if (transport != null)
+            config.getRedis().getConnection().setTransport(Transport.valueOf(transport.toUpperCase(Locale.ROOT)));
+
+        final var connector = new Connector(config.getRedis());
+
+        final var router = new ShardRouter(connector.connectInstances(), config.getRedis().getVirtualNodes());
+
+        this.transportMode = connector.getTransportMode();
+
+        if (router.isSharded())
+            this.logger.info("Sharding buckets over {} instances with {} virtual nodes each",
+                    router.getInstances().size(),
+                    config.getRedis().getVirtualNodes());
+
+        this.logger.exit(router);
+
+        return router;
     }
 
     /**
@@ -233,11 +402,15 @@ public final class Main {
 
     /**
      * Start the statistics thread.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
      */
-    private void startStatisticsThread() {
-        this.logger.entry();
+    private void startStatisticsThread(final Config config) {
+        this.logger.entry(config);
 
-        this.statisticsThreadObject = new StatisticsThread();
+        assert config != null;
+
+        this.statisticsThreadObject = new StatisticsThread(config);
         this.statisticsThread = new Thread(this.statisticsThreadObject, "statistics");
 
         this.statisticsThread.start();
@@ -246,38 +419,603 @@ public final class Main {
     }
 
     /**
-     * Run the data access thread.
+     * Return the rate schedule for an open-loop
+     * load or null for a closed-loop load.
+     *
+     * @param   load    net.jmp.hitormiss.config.Load
+     * @return          net.jmp.hitormiss.util.RateSchedule
+     * @since           0.6.0
+     */
+    private RateSchedule createRateSchedule(final Load load) {
+        this.logger.entry(load);
+
+        assert load != null;
+
+        RateSchedule schedule = null;
+
+        if (load.getMode() == LoadMode.OPEN) {
+            if (load.getRampSeconds() > 0 && load.getRampToRate() > 0) {
+                schedule = new RateSchedule(load.getTargetRate(), load.getRampToRate(), TimeUnit.SECONDS.toNanos(load.getRampSeconds()));
+
+                this.logger.info("Open loop ramping from {} to {} ops/s over {} s", load.getTargetRate(), load.getRampToRate(), load.getRampSeconds());
+            } else {
+                schedule = new RateSchedule(load.getTargetRate());
+
+                this.logger.info("Open loop at {} ops/s", load.getTargetRate());
+            }
+        }
+
+        this.logger.exit(schedule);
+
+        return schedule;
+    }
+
+    /**
+     * Start the monitoring endpoints that are enabled.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @throws          java.io.IOException When an endpoint cannot be started
+     * @since           0.6.0
+     */
+    private void startMonitoring(final Config config) throws IOException {
+        this.logger.entry(config);
+
+        assert config != null;
+
+        if (config.getMonitoring().isPrometheusEnabled()) {
+            this.prometheusEndpoint = new PrometheusEndpoint(config.getMonitoring(), this.statisticsThreadObject);
+            this.prometheusEndpoint.start();
+        }
+
+        if (config.getMonitoring().isJmxEnabled()) {
+            this.statisticsMonitor = new StatisticsMonitor(this.statisticsThreadObject, this.schedule);
+
+            try {
+                this.statisticsMonitor.register();
+            } catch (final JMException jme) {
+                this.logger.catching(jme);
+                this.statisticsMonitor = null;
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Stop the monitoring endpoints.
+     *
+     * @since   0.6.0
+     */
+    private void stopMonitoring() {
+        this.logger.entry();
+
+        if (this.prometheusEndpoint != null)
+            this.prometheusEndpoint.stop();
+
+        if (this.statisticsMonitor != null)
+            this.statisticsMonitor.unregister();
+
+        this.logger.exit();
+    }
+
+    /**
+     * Start sampling the server statistics and
+     * the round trips of each node if enabled.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @param   router  net.jmp.hitormiss.data.ShardRouter or null when the backend is not Redis
+     * @since           0.6.0
+     */
+    private void startServerStatisticsSampler(final Config config, final ShardRouter router) {
+        this.logger.entry(config, router);
+
+        assert config != null;
+
+        final boolean sampling = config.getServerStats().isEnabled() || config.getServerStats().getNodeLatencyIntervalMillis() > 0;
+
+        if (router == null) {
+            if (sampling)
+                this.logger.warn("The server statistics and node round trips are only sampled from Redis");
+        } else if (router.isSharded()) {
+            if (sampling)
+                this.logger.warn("The server statistics and node round trips are not sampled across sharded instances");
+        } else {
+            this.startSamplers(config, router.getPrimary().getClient());
+        }
+
+        if (!config.getServerStats().isClientCapture()) {
+            if (this.serverStatisticsSampler != null)
+                this.logger.info("Client capture is off; only the server statistics are reported");
+            else
+                this.logger.warn("Client capture is off and the server statistics are disabled; no outcomes are reported");
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Start the server statistics and node round trip
+     * samplers of a single deployment.
      *
      * @param   config  net.jmp.hitormiss.config.Config
      * @param   client  org.redisson.api.RedissonClient
      */
-    private void runAccessThread(final Config config, final RedissonClient client) {
+    private void startSamplers(final Config config, final RedissonClient client) {
         this.logger.entry(config, client);
 
+        if (config.getServerStats().isEnabled()) {
+            this.serverStatisticsSampler = new ServerStatisticsSampler(config.getServerStats(), config.getRedis().getTopology(), client);
+            this.serverStatisticsSampler.start();
+        }
+
+        if (config.getServerStats().getNodeLatencyIntervalMillis() > 0) {
+            this.nodeLatencySampler = new NodeLatencySampler(config.getServerStats().getNodeLatencyIntervalMillis(), config.getRedis().getTopology(), client);
+            this.nodeLatencySampler.start();
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Stop sampling the server statistics
+     * and the round trips of each node.
+     *
+     * @since   0.6.0
+     */
+    private void stopServerStatisticsSampler() {
+        this.logger.entry();
+
+        if (this.serverStatisticsSampler != null)
+            this.serverStatisticsSampler.stop();
+
+        if (this.nodeLatencySampler != null)
+            this.nodeLatencySampler.stop();
+
+        this.logger.exit();
+    }
+
+    /**
+     * Compare the lookups Redis counted during the
+     * run with those captured on the client, warmup
+     * included. Every client lookup is one GET, so
+     * the counts differ only when other clients use
+     * the server or the capture lost outcomes.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @since           0.6.0
+     */
+    private void crossCheckServerStatistics(final Config config) {
+        this.logger.entry(config);
+
         assert config != null;
+
+        final ServerStatistics delta = this.serverStatisticsSampler != null ? this.serverStatisticsSampler.getDelta() : null;
+
+        if (delta != null && config.getServerStats().isClientCapture()) {
+            final Statistics warmup = this.statisticsThreadObject.getWarmupStatistics();
+            final Statistics measured = this.statisticsThreadObject.getStatistics();
+
+            this.logger.info("Client hits: {}, misses: {}",
+                    getLookupHits(warmup) + getLookupHits(measured),
+                    getLookupMisses(warmup) + getLookupMisses(measured));
+
+            final ServerStatistics expected = expectServerStatistics(warmup, measured, config.getRedis().isReplicaReads());
+
+            if (expected.getKeyspaceHits() != delta.getKeyspaceHits() || expected.getKeyspaceMisses() != delta.getKeyspaceMisses())
+                this.logger.warn("Server counted {} hits and {} misses more than the client",
+                        delta.getKeyspaceHits() - expected.getKeyspaceHits(),
+                        delta.getKeyspaceMisses() - expected.getKeyspaceMisses());
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Log the hits and misses of each shard
+     * when Redis is a cluster.
+     *
+     * @param   client  org.redisson.api.RedissonClient
+     * @since           0.6.0
+     */
+    private void logShardBreakdown(final RedissonClient client) {
+        this.logger.entry(client);
+
         assert client != null;
 
-        final Thread accessThread = new Thread(new AccessThread(config, client, this.statisticsThreadObject), "access");
+        final SlotStatistics slotStatistics = this.statisticsThreadObject.getSlotStatistics();
 
-        accessThread.start();
+        if (slotStatistics != null) {
+            try {
+                new ShardBreakdown(client).log(slotStatistics);
+            } catch (final RedisException re) {
+                this.logger.warn("Unable to break the run down by shard: {}", re.getMessage());
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Log how evenly the keys and the load spread
+     * over the instances when buckets are sharded.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @param   router  net.jmp.hitormiss.data.ShardRouter
+     * @since           0.6.0
+     */
+    private void logRingBalance(final Config config, final ShardRouter router) {
+        this.logger.entry(config, router);
+
+        assert config != null;
+        assert router != null;
+
+        if (router.isSharded())
+            new RingBalance(router,
+                    new BucketKeys(config.getApplication()),
+                    config.getApplication().getInitialNumberOfBuckets() * 3).log();
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return the keyspace hits and misses the server
+     * should count for the lookups captured on the
+     * client, warmup included. With replica reads every
+     * miss is checked on the master, a second lookup
+     * that finds the bucket of a false miss and misses
+     * the bucket of any other miss.
+     *
+     * @param   warmup          net.jmp.hitormiss.data.Statistics
+     * @param   measured        net.jmp.hitormiss.data.Statistics
+     * @param   replicaReads    boolean
+     * @return                  net.jmp.hitormiss.data.ServerStatistics
+     * @since                   0.6.0
+     */
+    static ServerStatistics expectServerStatistics(final Statistics warmup, final Statistics measured, final boolean replicaReads) {
+        final long falseMisses = warmup.getFalseMisses() + measured.getFalseMisses();
+
+        long hits = getLookupHits(warmup) + getLookupHits(measured);
+        long misses = getLookupMisses(warmup) + getLookupMisses(measured);
+
+        if (replicaReads) {
+            hits += falseMisses;
+            misses += misses - falseMisses;
+        }
+
+        return new ServerStatistics(hits, misses, 0, 0);
+    }
+
+    /**
+     * Return the lookups that found their bucket.
+     *
+     * @param   statistics  net.jmp.hitormiss.data.Statistics
+     * @return              long
+     * @since               0.6.0
+     */
+    static long getLookupHits(final Statistics statistics) {
+        return statistics.getHits() + statistics.getEarlyRefreshes() + statistics.getStaleHits();
+    }
+
+    /**
+     * Return the lookups that did not find their bucket.
+     *
+     * @param   statistics  net.jmp.hitormiss.data.Statistics
+     * @return              long
+     * @since               0.6.0
+     */
+    static long getLookupMisses(final Statistics statistics) {
+        return statistics.getMisses() + statistics.getExpiryMisses() + statistics.getCoalescedMisses() + statistics.getFalseMisses() + statistics.getLoadFailures();
+    }
+
+    /**
+     * Run the data access threads. The operations are
+     * split between the threads, which share the rate
+     * schedule and coalesce concurrent misses of a key.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @param   backend net.jmp.hitormiss.backend.CacheBackend
+     * @param   router  net.jmp.hitormiss.data.ShardRouter or null when the backend is not Redis
+     */
+    private void runAccessThreads(final Config config, final CacheBackend backend, final ShardRouter router) {
+        this.logger.entry(config, backend, router);
+
+        assert config != null;
+        assert backend != null;
+
+        final int numberOfThreads = Math.max(1, config.getApplication().getNumberOfAccessThreads());
+        final long totalOperations = config.getApplication().getInitialNumberOfBuckets() * 3L;
+        final BackingStore backingStore = this.createBackingStore(config);
+        final SingleFlight<Integer> singleFlight = new SingleFlight<>();
+        final KeyEncoder keyEncoder = new KeyEncoder(new BucketKeys(config.getApplication()), config.getApplication().getInitialNumberOfBuckets() * 3 + 1);
+        final AccessScript accessScript = this.createAccessScript(config, router, keyEncoder);
+        final Refresher refresher = accessScript == null ? this.createRefresher(config, backend, backingStore, singleFlight, keyEncoder) : null;
+        final PoolGate poolGate = this.createPoolGate(config);
+        final Thread[] accessThreads = new Thread[numberOfThreads];
+
+        this.accessThreadObjects = new AccessThread[numberOfThreads];
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            final long operations = totalOperations / numberOfThreads + (i < totalOperations % numberOfThreads ? 1 : 0);
+
+            this.accessThreadObjects[i] = new AccessThread(config, backend, this.statisticsThreadObject, this.schedule, backingStore, singleFlight, this.keyTracker, keyEncoder, refresher, accessScript, poolGate, this.localTier, operations);
+            accessThreads[i] = new Thread(this.accessThreadObjects[i], "access-" + i);
+        }
+
+        if (config.getApplication().getAccessMode() == AccessMode.MGET)
+            this.logger.info("Reading up to {} buckets with each multi-get", config.getApplication().getMultiGetKeys());
+
+        this.logger.info("Running {} access thread(s)", numberOfThreads);
+
+        for (final Thread accessThread : accessThreads)
+            accessThread.start();
 
         try {
-            accessThread.join();
+            for (final Thread accessThread : accessThreads)
+                accessThread.join();
         } catch (final InterruptedException ie) {
             this.logger.catching(ie);
             Thread.currentThread().interrupt();
         }
 
+        if (refresher != null)
+            refresher.shutdown();
+
         this.logger.exit();
     }
 
     /**
-     * Stop the statistics thread.
+     * Return the backing store that misses are loaded from.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @return          net.jmp.hitormiss.store.BackingStore
+     * @since           0.6.0
+     */
+    private BackingStore createBackingStore(final Config config) {
+        this.logger.entry(config);
+
+        assert config != null;
+
+        final BackingStore backingStore = switch (config.getBackingStore().getType()) {
+            case INSTANT -> new InstantBackingStore();
+            case SIMULATED -> new SimulatedBackingStore(config.getBackingStore());
+        };
+
+        this.logger.info("Loading misses from a {} backing store", config.getBackingStore().getType().name().toLowerCase(Locale.ROOT));
+
+        this.logger.exit(backingStore);
+
+        return backingStore;
+    }
+
+    /**
+     * Map the local tier when it is enabled and buckets
+     * are accessed one at a time from the client, or
+     * return null. The tier has a slot for every key.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @return          net.jmp.hitormiss.backend.MappedTier
+     * @throws          java.io.IOException When the file cannot be mapped
+     * @since           0.6.0
+     */
+    private MappedTier openLocalTier(final Config config) throws IOException {
+        this.logger.entry(config);
+
+        assert config != null;
+
+        final LocalTier localTierConfig = config.getLocalTier();
+
+        MappedTier mappedTier = null;
+
+        if (localTierConfig != null && localTierConfig.isEnabled()) {
+            if (config.getApplication().getAccessMode() != AccessMode.CLIENT) {
+                this.logger.warn("The local tier is used only with client access; it is ignored in {} mode", config.getApplication().getAccessMode());
+            } else {
+                mappedTier = new MappedTier(
+                        Paths.get(localTierConfig.getFileName()),
+                        config.getApplication().getInitialNumberOfBuckets() * 3 + 1,
+                        TimeUnit.SECONDS.toMillis(localTierConfig.getMaxAgeSeconds()),
+                        this.dataManager.getEpoch()
+                );
+
+                this.logger.info("Mapped the local tier from {} with {} slots in {} bytes; {} elements are warm",
+                        localTierConfig.getFileName(),
+                        mappedTier.getSlots(),
+                        mappedTier.getFileBytes(),
+                        mappedTier.getWarmElements());
+            }
+        }
+
+        this.logger.exit(mappedTier);
+
+        return mappedTier;
+    }
+
+    /**
+     * Return the gate that measures how long lookups wait
+     * for a pooled connection or null if not measured.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @return          net.jmp.hitormiss.util.PoolGate
+     * @since           0.6.0
+     */
+    private PoolGate createPoolGate(final Config config) {
+        this.logger.entry(config);
+
+        assert config != null;
+
+        PoolGate poolGate = null;
+
+        if (config.getRedis().getConnection().isMeasurePoolWait()) {
+            poolGate = new PoolGate(config.getRedis().getConnection().getConnectionPoolSize());
+
+            this.logger.info("Measuring the pool wait of lookups against {} connections", config.getRedis().getConnection().getConnectionPoolSize());
+        }
+
+        this.logger.exit(poolGate);
+
+        return poolGate;
+    }
+
+    /**
+     * Return the loaded access script when buckets
+     * are accessed by script or null otherwise.
+     *
+     * @param   config      net.jmp.hitormiss.config.Config
+     * @param   router      net.jmp.hitormiss.data.ShardRouter or null when the backend is not Redis
+     * @param   keyEncoder  net.jmp.hitormiss.util.KeyEncoder
+     * @return              net.jmp.hitormiss.data.AccessScript
+     * @since               0.6.0
+     */
+    private AccessScript createAccessScript(final Config config, final ShardRouter router, final KeyEncoder keyEncoder) {
+        this.logger.entry(config, router, keyEncoder);
+
+        assert config != null;
+
+        AccessScript accessScript = null;
+
+        if (config.getApplication().getAccessMode() == AccessMode.SCRIPT && router == null) {
+            this.logger.warn("Scripts run only on Redis; accessing buckets with the client instead");
+        } else if (config.getApplication().getAccessMode() == AccessMode.SCRIPT && config.getRedis().getTopology() == Topology.CLUSTER) {
+            this.logger.warn("The script's keys span cluster slots; accessing buckets with the client instead");
+        } else if (config.getApplication().getAccessMode() == AccessMode.SCRIPT && config.getRedis().getTopology() == Topology.SHARDED) {
+            this.logger.warn("The script's keys span sharded instances; accessing buckets with the client instead");
+        } else if (config.getApplication().getAccessMode() == AccessMode.SCRIPT) {
+            accessScript = new AccessScript(config, router.getPrimary().getClient(), keyEncoder);
+
+            this.logger.info("Accessing buckets with script {}", accessScript.load());
+
+            if (config.getBackingStore().getType() != BackingStoreType.INSTANT)
+                this.logger.warn("The script fills misses itself; the {} backing store is not used", config.getBackingStore().getType().name().toLowerCase(Locale.ROOT));
+
+            if (config.getExpiry().isEarlyRefresh() || config.getExpiry().isStaleWhileRevalidate())
+                this.logger.warn("Early refresh and stale-while-revalidate are ignored when accessing by script");
+        }
+
+        this.logger.exit(accessScript);
+
+        return accessScript;
+    }
+
+    /**
+     * Return the refresher that refreshes buckets early
+     * or while they are served stale, or null if buckets
+     * do not expire or neither is enabled.
+     *
+     * @param   config          net.jmp.hitormiss.config.Config
+     * @param   backend         net.jmp.hitormiss.backend.CacheBackend
+     * @param   backingStore    net.jmp.hitormiss.store.BackingStore
+     * @param   singleFlight    net.jmp.hitormiss.util.SingleFlight&lt;java.lang.Integer&gt;
+     * @param   keyEncoder      net.jmp.hitormiss.util.KeyEncoder
+     * @return                  net.jmp.hitormiss.threads.Refresher
+     * @since                   0.6.0
+     */
+    private Refresher createRefresher(final Config config,
+                                      final CacheBackend backend,
+                                      final BackingStore backingStore,
+                                      final SingleFlight<Integer> singleFlight,
+                                      final KeyEncoder keyEncoder) {
+        this.logger.entry(config, backend, backingStore, singleFlight, keyEncoder);
+
+        assert config != null;
+
+        Refresher refresher = null;
+
+        if (config.getExpiry().isEarlyRefresh() || config.getExpiry().isStaleWhileRevalidate()) {
+            if (config.getApplication().getAccessMode() == AccessMode.MGET) {
+                this.logger.warn("Early refresh and stale-while-revalidate are ignored when reading by multi-get");
+            } else if (config.getExpiry().getTtlMillis() > 0) {
+                refresher = new Refresher(config, backend, backingStore, singleFlight, this.keyTracker, keyEncoder);
+
+                if (config.getExpiry().isEarlyRefresh())
+                    this.logger.info("Refreshing buckets early with beta {}", config.getExpiry().getEarlyRefreshBeta());
+
+                if (config.getExpiry().isStaleWhileRevalidate())
+                    this.logger.info("Serving buckets up to {} ms stale while they are refreshed", config.getExpiry().getStaleMillis());
+            } else {
+                this.logger.warn("Early refresh and stale-while-revalidate are ignored because buckets do not expire");
+            }
+        }
+
+        this.logger.exit(refresher);
+
+        return refresher;
+    }
+
+    /**
+     * Return the bytes the access threads allocated
+     * during the measurement phase or -1 if unknown.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    private long getAllocatedBytes() {
+        long allocatedBytes = 0;
+
+        for (final AccessThread accessThreadObject : this.accessThreadObjects) {
+            if (accessThreadObject.getAllocatedBytes() < 0)
+                return -1;
+
+            allocatedBytes += accessThreadObject.getAllocatedBytes();
+        }
+
+        return allocatedBytes;
+    }
+
+    /**
+     * Return the bytes in use on the heap after
+     * asking for a full collection, so that
+     * garbage is not counted.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    private long getUsedHeapBytes() {
+        final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+
+        memoryBean.gc();
+
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Log what the buckets set up take on and off the
+     * heap per bucket. The heap figure is the growth of
+     * the heap over the setup, so it is an estimate that
+     * includes anything else the setup left behind.
+     *
+     * @param   config          net.jmp.hitormiss.config.Config
+     * @param   backend         net.jmp.hitormiss.backend.CacheBackend
+     * @param   heapBytesBefore long
+     * @since                   0.6.0
+     */
+    private void logFootprint(final Config config, final CacheBackend backend, final long heapBytesBefore) {
+        this.logger.entry(config, backend, heapBytesBefore);
+
+        assert config != null;
+        assert backend != null;
+
+        final int buckets = Math.max(1, config.getApplication().getInitialNumberOfBuckets());
+        final long heapBytes = Math.max(0, this.getUsedHeapBytes() - heapBytesBefore);
+
+        this.heapBytesPerBucket = (double) heapBytes / buckets;
+        this.offHeapBytesPerBucket = (double) backend.getOffHeapBytes() / buckets;
+
+        this.logger.info("The {} backend took {} heap bytes per bucket and {} off-heap bytes per bucket",
+                backend.getName(),
+                String.format("%.1f", this.heapBytesPerBucket),
+                String.format("%.1f", this.offHeapBytesPerBucket));
+
+        this.logger.exit();
+    }
+
+    /**
+     * Stop the statistics thread. Once stopped
+     * later calls do nothing.
      */
     private void stopStatisticsThread() {
         this.logger.entry();
 
-        if (this.statisticsThreadObject != null) {
+        if (this.statisticsThread != null) {
             final Synchronizer synchronizer = this.statisticsThreadObject.getSynchronizer();
             final Deque<RequestQueueElement> requestQueue = this.statisticsThreadObject.getRequestQueue();
 
@@ -287,15 +1025,89 @@ public final class Main {
                 synchronizer.setNotified(true);
                 synchronizer.notifyAll();
             }
-        }
 
-        if (this.statisticsThread != null) {
             try {
                 this.statisticsThread.join();
             } catch (final InterruptedException ie) {
                 this.logger.catching(ie);
                 Thread.currentThread().interrupt();
             }
+
+            this.statisticsThread = null;
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Write the run report and compare it against the
+     * baseline report when one is configured. The
+     * system properties app.reportFile and
+     * app.baselineReport override the configuration.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @throws          java.io.IOException When a report cannot be read or written
+     * @since           0.6.0
+     */
+    private void reportRun(final Config config) throws IOException {
+        this.logger.entry(config);
+
+        assert config != null;
+
+        final Report reportConfig = config.getReport();
+        final String reportFileName = System.getProperty("app.reportFile", reportConfig.getFileName());
+        final String baselineFileName = System.getProperty("app.baselineReport", reportConfig.getBaselineFileName());
+
+        final boolean writing = reportConfig.isEnabled() || System.getProperty("app.reportFile") != null;
+        final boolean comparing = baselineFileName != null && !baselineFileName.isBlank();
+
+        if (writing || comparing) {
+            final RunReporter reporter = new RunReporter(Name.NAME_STRING, Version.VERSION_STRING);
+            final RunReport report = reporter.createReport(config, this.statisticsThreadObject, this.getAllocatedBytes());
+
+            report.setAccumulatedHits(this.dataManager.getAccumulatedHits());
+            report.setAccumulatedMisses(this.dataManager.getAccumulatedMisses());
+            report.setSetupKeysPerSlot(this.dataManager.getSetupKeysPerSlot());
+            report.setCacheBackend(config.getApplication().getCacheBackend().name());
+            report.setHeapBytesPerBucket(this.heapBytesPerBucket);
+            report.setOffHeapBytesPerBucket(this.offHeapBytesPerBucket);
+
+            if (this.transportMode != null)
+                report.setTransport(this.transportMode.name());
+
+            if (this.serverStatisticsSampler != null) {
+                report.setServer(this.serverStatisticsSampler.getDelta());
+                report.setServerNodes(this.serverStatisticsSampler.getNodeDeltas());
+            }
+
+            if (this.nodeLatencySampler != null) {
+                final Map<String, LatencyReport> nodeLatency = new LinkedHashMap<>();
+
+                this.nodeLatencySampler.getSummaries().forEach((node, summary) -> nodeLatency.put(node, new LatencyReport(summary)));
+
+                report.setNodeLatency(nodeLatency);
+            }
+
+            if (writing)
+                reporter.writeReport(report, Paths.get(reportFileName));
+
+            if (comparing) {
+                this.logger.info("Comparing against the baseline report: {}", baselineFileName);
+
+                final RunReport baseline = reporter.readReport(Paths.get(baselineFileName));
+                final List<String> regressions = new ReportComparator(
+                        reportConfig.getThroughputTolerancePercent(),
+                        reportConfig.getP99TolerancePercent()
+                ).compare(baseline, report);
+
+                if (regressions.isEmpty()) {
+                    this.logger.info("No regression against the baseline");
+                } else {
+                    regressions.forEach(regression -> this.logger.error("Regression: {}", regression));
+
+                    this.exitStatus = 1;
+                }
+            }
         }
 
         this.logger.exit();
@@ -307,6 +1119,11 @@ public final class Main {
      * @param   args    java.lang.String[]
      */
     public static void main(final String[] args) {
-        new Main().run();
+        final Main main = new Main();
+
+        main.run();
+
+        if (main.exitStatus != 0)
+            System.exit(main.exitStatus);
     }
 }
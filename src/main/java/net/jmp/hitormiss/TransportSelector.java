@@ -0,0 +1,141 @@
+package net.jmp.hitormiss;
+
+/*
+ * (#)TransportSelector.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.function.BooleanSupplier;
+
+import net.jmp.hitormiss.config.Transport;
+
+import org.redisson.config.TransportMode;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Selects the Netty transport of the Redisson client.
+ * The native transports are runtime dependencies of
+ * Linux builds only, so their availability is checked
+ * reflectively. A requested transport that is not
+ * available falls back to the next best one.
+ */
+final class TransportSelector {
+    /** The class that reports whether the native epoll transport is available. */
+    static final String EPOLL_CLASS_NAME = "io.netty.channel.epoll.Epoll";
+
+    /** The class that reports whether the native io_uring transport is available. */
+    static final String IO_URING_CLASS_NAME = "io.netty.incubator.channel.uring.IOUring";
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** Reports whether epoll is available. */
+    private final BooleanSupplier epollAvailable;
+
+    /** Reports whether io_uring is available. */
+    private final BooleanSupplier ioUringAvailable;
+
+    /**
+     * The default constructor.
+     */
+    TransportSelector() {
+        this(() -> isAvailable(EPOLL_CLASS_NAME), () -> isAvailable(IO_URING_CLASS_NAME));
+    }
+
+    /**
+     * A constructor that takes the availability checks.
+     *
+     * @param   epollAvailable      java.util.function.BooleanSupplier
+     * @param   ioUringAvailable    java.util.function.BooleanSupplier
+     */
+    TransportSelector(final BooleanSupplier epollAvailable, final BooleanSupplier ioUringAvailable) {
+        super();
+
+        this.epollAvailable = Objects.requireNonNull(epollAvailable);
+        this.ioUringAvailable = Objects.requireNonNull(ioUringAvailable);
+    }
+
+    /**
+     * Return the transport mode to use for the requested transport.
+     *
+     * @param   requested   net.jmp.hitormiss.config.Transport
+     * @return              org.redisson.config.TransportMode
+     */
+    TransportMode select(final Transport requested) {
+        this.logger.entry(requested);
+
+        Objects.requireNonNull(requested);
+
+        final TransportMode transportMode = switch (requested) {
+            case NIO -> TransportMode.NIO;
+            case AUTO -> this.epollAvailable.getAsBoolean() ? TransportMode.EPOLL : TransportMode.NIO;
+            case EPOLL -> {
+                if (this.epollAvailable.getAsBoolean())
+                    yield TransportMode.EPOLL;
+
+                this.logger.warn("The epoll transport is not available; using NIO");
+
+                yield TransportMode.NIO;
+            }
+            case IO_URING -> {
+                if (this.ioUringAvailable.getAsBoolean())
+                    yield TransportMode.IO_URING;
+
+                final TransportMode fallback = this.epollAvailable.getAsBoolean() ? TransportMode.EPOLL : TransportMode.NIO;
+
+                this.logger.warn("The io_uring transport is not available; using {}", fallback);
+
+                yield fallback;
+            }
+        };
+
+        this.logger.exit(transportMode);
+
+        return transportMode;
+    }
+
+    /**
+     * Return true if the named Netty class is on the
+     * class path and its isAvailable method is true.
+     *
+     * @param   className   java.lang.String
+     * @return              boolean
+     */
+    static boolean isAvailable(final String className) {
+        try {
+            return Class.forName(className).getMethod("isAvailable").invoke(null) instanceof Boolean available && available;
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.hitormiss;
 
 /*
+ * (#)Version.java  0.6.0   10/19/2026
  * (#)Version.java  0.5.0   06/29/2024
  * (#)Version.java  0.4.1   06/14/2024
  * (#)Version.java  0.4.0   06/14/2024
@@ -9,7 +10,7 @@ package net.jmp.hitormiss;
  * (#)Version.java  0.1.0   05/25/2024
  *
  * @author   Jonathan Parker
- * @version  0.5.0
+ * @version  0.6.0
  * @since    0.1.0
  *
  * MIT License
@@ -40,7 +41,7 @@ package net.jmp.hitormiss;
  */
 public final class Version {
     /** The version. */
-    static final String VERSION_STRING = "0.5.0";
+    static final String VERSION_STRING = "0.6.0";
 
     /**
      * The default constructor.
@@ -0,0 +1,164 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)CacheBackend.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.List;
+import java.util.Map;
+
+import java.util.function.Predicate;
+
+import net.jmp.hitormiss.data.DataElement;
+
+/**
+ * The cache that buckets are read from and written to.
+ * Each bucket holds a data element under a key, and
+ * each counter a plain integer. A time to live of null
+ * means that a bucket never expires.
+ */
+public interface CacheBackend {
+    /**
+     * Return the name of the backend.
+     *
+     * @return  java.lang.String
+     */
+    String getName();
+
+    /**
+     * Return the data element in a bucket or null if it is absent.
+     *
+     * @param   key java.lang.String
+     * @return      net.jmp.hitormiss.data.DataElement
+     */
+    DataElement get(String key);
+
+    /**
+     * Return the data elements in the buckets of some
+     * keys. Absent buckets are missing from the result.
+     *
+     * @param   keys    java.util.List&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     */
+    Map<String, DataElement> getAll(List<String> keys);
+
+    /**
+     * Write a data element unless its bucket holds one.
+     * True is returned if the element was written.
+     *
+     * @param   key         java.lang.String
+     * @param   element     net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive  java.time.Duration or null to never expire
+     * @return              boolean
+     */
+    boolean setIfAbsent(String key, DataElement element, Duration timeToLive);
+
+    /**
+     * Write data elements that never expire unless any of
+     * their buckets holds one, in which case none is written.
+     * True is returned if the elements were written.
+     *
+     * @param   elements    java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     * @return              boolean
+     */
+    boolean setAllIfAbsent(Map<String, DataElement> elements);
+
+    /**
+     * Write a data element, replacing any in its bucket.
+     *
+     * @param   key         java.lang.String
+     * @param   element     net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive  java.time.Duration or null to never expire
+     */
+    void set(String key, DataElement element, Duration timeToLive);
+
+    /**
+     * Delete a bucket or counter. True is returned if it existed.
+     *
+     * @param   key java.lang.String
+     * @return      boolean
+     */
+    boolean delete(String key);
+
+    /**
+     * Return the value of a counter or zero if it is absent.
+     *
+     * @param   key java.lang.String
+     * @return      long
+     */
+    long getCounter(String key);
+
+    /**
+     * Set the value of a counter.
+     *
+     * @param   key     java.lang.String
+     * @param   value   long
+     */
+    void setCounter(String key, long value);
+
+    /**
+     * Return a batch of writes and deletes
+     * that are sent together when executed.
+     *
+     * @return  net.jmp.hitormiss.backend.CacheBatch
+     */
+    CacheBatch createBatch();
+
+    /**
+     * Return the keys that pass a filter.
+     *
+     * @param   filter  java.util.function.Predicate&lt;java.lang.String&gt;
+     * @return          java.util.List&lt;java.lang.String&gt;
+     */
+    List<String> scan(Predicate<String> filter);
+
+    /**
+     * Return the number of bytes the backend holds
+     * outside the Java heap. Most hold none.
+     *
+     * @return  long
+     */
+    default long getOffHeapBytes() {
+        return 0;
+    }
+
+    /**
+     * Shut the backend down.
+     */
+    void shutdown();
+
+    /**
+     * Return true if the backend has shut down.
+     *
+     * @return  boolean
+     */
+    boolean isShutdown();
+}
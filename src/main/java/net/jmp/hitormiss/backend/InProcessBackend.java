@@ -0,0 +1,305 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)InProcessBackend.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.function.Predicate;
+
+import net.jmp.hitormiss.data.DataElement;
+
+/**
+ * A cache backend held in a concurrent hash map in this
+ * process. With no network, codec or server in the way
+ * it measures what the client side alone costs. Reads
+ * never lock and writes compare and swap entries, so
+ * no operation waits for another. Expired buckets are
+ * removed lazily when they are next read or written.
+ */
+public final class InProcessBackend implements CacheBackend {
+    /** The buckets by key. */
+    private final ConcurrentHashMap<String, Entry> buckets = new ConcurrentHashMap<>();
+
+    /** The counters by key. */
+    private final ConcurrentHashMap<String, Long> counters = new ConcurrentHashMap<>();
+
+    /** True once the backend has shut down. */
+    private volatile boolean shutdown;
+
+    /**
+     * The default constructor.
+     */
+    public InProcessBackend() {
+        super();
+    }
+
+    /**
+     * Return the name of the backend.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String getName() {
+        return "in_process";
+    }
+
+    /**
+     * Return the data element in a bucket or null if it is absent.
+     *
+     * @param   key java.lang.String
+     * @return      net.jmp.hitormiss.data.DataElement
+     */
+    @Override
+    public DataElement get(final String key) {
+        final Entry entry = this.buckets.get(key);
+
+        if (entry == null)
+            return null;
+
+        if (entry.isExpired(System.nanoTime())) {
+            this.buckets.remove(key, entry);
+
+            return null;
+        }
+
+        return entry.element;
+    }
+
+    /**
+     * Return the data elements in the buckets of some keys.
+     *
+     * @param   keys    java.util.List&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     */
+    @Override
+    public Map<String, DataElement> getAll(final List<String> keys) {
+        final Map<String, DataElement> found = new LinkedHashMap<>();
+
+        for (final String key : keys) {
+            final DataElement element = this.get(key);
+
+            if (element != null)
+                found.put(key, element);
+        }
+
+        return found;
+    }
+
+    /**
+     * Write a data element unless its bucket holds one
+     * that has not expired.
+     *
+     * @param   key         java.lang.String
+     * @param   element     net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive  java.time.Duration or null to never expire
+     * @return              boolean
+     */
+    @Override
+    public boolean setIfAbsent(final String key, final DataElement element, final Duration timeToLive) {
+        final Entry entry = new Entry(element, timeToLive);
+        final Entry existing = this.buckets.putIfAbsent(key, entry);
+
+        return existing == null || existing.isExpired(System.nanoTime()) && this.buckets.replace(key, existing, entry);
+    }
+
+    /**
+     * Write data elements that never expire unless any
+     * of their buckets holds one. Unlike MSETNX the check
+     * and the writes are not atomic, so a concurrent
+     * writer can fill some of the buckets first, in which
+     * case the others are still written and false is
+     * returned.
+     *
+     * @param   elements    java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     * @return              boolean
+     */
+    @Override
+    public boolean setAllIfAbsent(final Map<String, DataElement> elements) {
+        for (final String key : elements.keySet()) {
+            if (this.get(key) != null)
+                return false;
+        }
+
+        boolean written = true;
+
+        for (final Map.Entry<String, DataElement> element : elements.entrySet())
+            written &= this.setIfAbsent(element.getKey(), element.getValue(), null);
+
+        return written;
+    }
+
+    /**
+     * Write a data element, replacing any in its bucket.
+     *
+     * @param   key         java.lang.String
+     * @param   element     net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive  java.time.Duration or null to never expire
+     */
+    @Override
+    public void set(final String key, final DataElement element, final Duration timeToLive) {
+        this.buckets.put(key, new Entry(element, timeToLive));
+    }
+
+    /**
+     * Delete a bucket or counter. An expired
+     * bucket is removed but did not exist.
+     *
+     * @param   key java.lang.String
+     * @return      boolean
+     */
+    @Override
+    public boolean delete(final String key) {
+        final Entry entry = this.buckets.remove(key);
+        final Long counter = this.counters.remove(key);
+
+        return entry != null && !entry.isExpired(System.nanoTime()) || counter != null;
+    }
+
+    /**
+     * Return the value of a counter or zero if it is absent.
+     *
+     * @param   key java.lang.String
+     * @return      long
+     */
+    @Override
+    public long getCounter(final String key) {
+        return this.counters.getOrDefault(key, 0L);
+    }
+
+    /**
+     * Set the value of a counter.
+     *
+     * @param   key     java.lang.String
+     * @param   value   long
+     */
+    @Override
+    public void setCounter(final String key, final long value) {
+        this.counters.put(key, value);
+    }
+
+    /**
+     * Return a batch that applies its
+     * operations in order when executed.
+     *
+     * @return  net.jmp.hitormiss.backend.CacheBatch
+     */
+    @Override
+    public CacheBatch createBatch() {
+        return new QueuedBatch(this);
+    }
+
+    /**
+     * Return the keys of the buckets and counters that pass
+     * a filter. Like a Redis scan it may miss or repeat
+     * keys that are written while it runs.
+     *
+     * @param   filter  java.util.function.Predicate&lt;java.lang.String&gt;
+     * @return          java.util.List&lt;java.lang.String&gt;
+     */
+    @Override
+    public List<String> scan(final Predicate<String> filter) {
+        final List<String> keys = new ArrayList<>();
+
+        this.buckets.keySet().forEach(key -> {
+            if (filter.test(key))
+                keys.add(key);
+        });
+
+        this.counters.keySet().forEach(key -> {
+            if (filter.test(key))
+                keys.add(key);
+        });
+
+        return keys;
+    }
+
+    /**
+     * Shut the backend down, dropping every bucket and counter.
+     */
+    @Override
+    public void shutdown() {
+        this.buckets.clear();
+        this.counters.clear();
+
+        this.shutdown = true;
+    }
+
+    /**
+     * Return true if the backend has shut down.
+     *
+     * @return  boolean
+     */
+    @Override
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    /**
+     * A data element and when it expires.
+     */
+    private static final class Entry {
+        /** The data element. */
+        private final DataElement element;
+
+        /** The time the bucket expires in nanoseconds or zero if it never does. */
+        private final long expiresAtNanos;
+
+        /**
+         * The constructor.
+         *
+         * @param   element     net.jmp.hitormiss.data.DataElement
+         * @param   timeToLive  java.time.Duration or null to never expire
+         */
+        private Entry(final DataElement element, final Duration timeToLive) {
+            super();
+
+            this.element = element;
+            this.expiresAtNanos = timeToLive == null ? 0 : System.nanoTime() + Math.max(1, timeToLive.toNanos());
+        }
+
+        /**
+         * Return true if the bucket has expired.
+         *
+         * @param   nowNanos    long
+         * @return              boolean
+         */
+        private boolean isExpired(final long nowNanos) {
+            return this.expiresAtNanos != 0 && nowNanos - this.expiresAtNanos >= 0;
+        }
+    }
+}
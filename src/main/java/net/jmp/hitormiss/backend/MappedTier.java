@@ -0,0 +1,457 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)MappedTier.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import java.util.concurrent.locks.StampedLock;
+
+import net.jmp.hitormiss.data.DataElement;
+
+/**
+ * A local tier of data elements in a memory-mapped file.
+ * Each key has a fixed-width slot at the index of the key
+ * modulo the number of slots, holding the key, the UUID
+ * value as two longs, the times of the data element and
+ * when it was written. A key whose slot holds another key
+ * is absent and takes the slot over when it is written.
+ *
+ * <p>The file keeps its elements when the tier is closed,
+ * so a later mapping of the same file with the same number
+ * of slots and the same epoch starts warm. The epoch is that
+ * of the data the elements were read from, so a file with
+ * another header, including one written for data that has
+ * since been set up again with new values, is cleared. An element is ignored once it is older than
+ * the maximum age or, like a bucket, once its value has
+ * gone stale, so that stale values are left to the cache
+ * backend to serve and refresh.
+ *
+ * <p>The slots are guarded by striped locks as in the
+ * off-heap backend, with optimistic reads.
+ */
+public final class MappedTier implements AutoCloseable {
+    /** The layout of the file header. */
+    static final StructLayout HEADER = MemoryLayout.structLayout(
+            ValueLayout.JAVA_LONG.withName("magic"),
+            ValueLayout.JAVA_INT.withName("version"),
+            ValueLayout.JAVA_INT.withName("slotBytes"),
+            ValueLayout.JAVA_LONG.withName("slots"),
+            ValueLayout.JAVA_LONG.withName("epoch")
+    );
+
+    /** The layout of a slot. */
+    static final StructLayout SLOT = MemoryLayout.structLayout(
+            ValueLayout.JAVA_LONG.withName("writtenAtMillis"),
+            ValueLayout.JAVA_LONG.withName("mostSignificantBits"),
+            ValueLayout.JAVA_LONG.withName("leastSignificantBits"),
+            ValueLayout.JAVA_LONG.withName("computeNanos"),
+            ValueLayout.JAVA_LONG.withName("expiresAtMillis"),
+            ValueLayout.JAVA_INT.withName("key"),
+            ValueLayout.JAVA_INT.withName("state")
+    );
+
+    /** The magic number that starts the file. */
+    private static final long MAGIC = 0x4849544D4953534CL;
+
+    /** The version of the file layout. */
+    private static final int VERSION = 1;
+
+    /** The offset of the magic number. */
+    private static final long MAGIC_OFFSET = HEADER.byteOffset(MemoryLayout.PathElement.groupElement("magic"));
+
+    /** The offset of the version. */
+    private static final long VERSION_OFFSET = HEADER.byteOffset(MemoryLayout.PathElement.groupElement("version"));
+
+    /** The offset of the slot size. */
+    private static final long SLOT_BYTES_OFFSET = HEADER.byteOffset(MemoryLayout.PathElement.groupElement("slotBytes"));
+
+    /** The offset of the number of slots. */
+    private static final long SLOTS_OFFSET = HEADER.byteOffset(MemoryLayout.PathElement.groupElement("slots"));
+
+    /** The offset of the epoch of the data. */
+    private static final long EPOCH_OFFSET = HEADER.byteOffset(MemoryLayout.PathElement.groupElement("epoch"));
+
+    /** The offset of the time the element was written. */
+    private static final long WRITTEN_AT_MILLIS = offset("writtenAtMillis");
+
+    /** The offset of the most significant bits of the value. */
+    private static final long MOST_SIGNIFICANT_BITS = offset("mostSignificantBits");
+
+    /** The offset of the least significant bits of the value. */
+    private static final long LEAST_SIGNIFICANT_BITS = offset("leastSignificantBits");
+
+    /** The offset of the time it took to compute the value. */
+    private static final long COMPUTE_NANOS = offset("computeNanos");
+
+    /** The offset of the time the value goes stale. */
+    private static final long EXPIRES_AT_MILLIS = offset("expiresAtMillis");
+
+    /** The offset of the key. */
+    private static final long KEY = offset("key");
+
+    /** The offset of the slot state. */
+    private static final long STATE = offset("state");
+
+    /** The state of a slot that holds an element. */
+    private static final int FULL = 1;
+
+    /** The number of stripes. */
+    private static final int STRIPES = 64;
+
+    /** The number of slots. */
+    private final int slots;
+
+    /** The epoch of the data the elements are read from. */
+    private final long epoch;
+
+    /** The age in milliseconds after which an element is ignored or zero to keep it. */
+    private final long maxAgeMillis;
+
+    /** The arena that owns the mapping. */
+    private final Arena arena;
+
+    /** The mapped file. */
+    private final MemorySegment file;
+
+    /** The lock of each stripe. */
+    private final StampedLock[] locks;
+
+    /** The number of elements the file held when it was mapped. */
+    private final int warmElements;
+
+    /** True once the tier has been closed. */
+    private volatile boolean closed;
+
+    /**
+     * The constructor.
+     *
+     * @param   path            java.nio.file.Path
+     * @param   slots           int
+     * @param   maxAgeMillis    long
+     * @param   epoch           long
+     * @throws                  java.io.IOException When the file cannot be mapped
+     */
+    public MappedTier(final Path path, final int slots, final long maxAgeMillis, final long epoch) throws IOException {
+        super();
+
+        Objects.requireNonNull(path);
+
+        if (slots < 1)
+            throw new IllegalArgumentException("The number of slots must be positive: " + slots);
+
+        final long fileBytes = HEADER.byteSize() + SLOT.byteSize() * slots;
+
+        this.slots = slots;
+        this.maxAgeMillis = Math.max(0, maxAgeMillis);
+        this.epoch = epoch;
+        this.arena = Arena.ofShared();
+
+        try (final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            if (channel.size() != fileBytes)
+                channel.truncate(0);
+
+            this.file = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes, this.arena);
+        } catch (final IOException | RuntimeException e) {
+            this.arena.close();
+
+            throw e;
+        }
+
+        this.locks = new StampedLock[STRIPES];
+
+        for (int i = 0; i < STRIPES; i++)
+            this.locks[i] = new StampedLock();
+
+        if (this.hasHeader()) {
+            this.warmElements = this.countElements();
+        } else {
+            this.file.fill((byte) 0);
+            this.file.set(ValueLayout.JAVA_LONG, MAGIC_OFFSET, MAGIC);
+            this.file.set(ValueLayout.JAVA_INT, VERSION_OFFSET, VERSION);
+            this.file.set(ValueLayout.JAVA_INT, SLOT_BYTES_OFFSET, (int) SLOT.byteSize());
+            this.file.set(ValueLayout.JAVA_LONG, SLOTS_OFFSET, slots);
+            this.file.set(ValueLayout.JAVA_LONG, EPOCH_OFFSET, epoch);
+            this.warmElements = 0;
+        }
+    }
+
+    /**
+     * Return the data element of a key or null if
+     * it is absent, too old or its value is stale.
+     *
+     * @param   keyAsInt    int
+     * @return              net.jmp.hitormiss.data.DataElement
+     */
+    public DataElement get(final int keyAsInt) {
+        final int index = this.index(keyAsInt);
+        final StampedLock lock = this.locks[index % STRIPES];
+
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0) {
+            final DataElement element = this.read(index, keyAsInt);
+
+            if (lock.validate(stamp))
+                return element;
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return this.read(index, keyAsInt);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Return true if the tier holds a data element of
+     * a key that is neither too old nor stale. Unlike
+     * get it builds no data element.
+     *
+     * @param   keyAsInt    int
+     * @return              boolean
+     */
+    public boolean contains(final int keyAsInt) {
+        final int index = this.index(keyAsInt);
+        final StampedLock lock = this.locks[index % STRIPES];
+
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0) {
+            final boolean present = this.isPresent(this.slot(index), keyAsInt);
+
+            if (lock.validate(stamp))
+                return present;
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return this.isPresent(this.slot(index), keyAsInt);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Write a data element to the slot of its
+     * key, replacing whatever the slot held.
+     *
+     * @param   element net.jmp.hitormiss.data.DataElement
+     * @throws          java.lang.IllegalArgumentException  When the value is not a UUID
+     */
+    public void put(final DataElement element) {
+        final UUID value = UUID.fromString(element.getValue());
+        final int index = this.index(element.getKeyAsInt());
+        final long slot = this.slot(index);
+        final StampedLock lock = this.locks[index % STRIPES];
+        final long stamp = lock.writeLock();
+
+        try {
+            this.file.set(ValueLayout.JAVA_LONG, slot + WRITTEN_AT_MILLIS, System.currentTimeMillis());
+            this.file.set(ValueLayout.JAVA_LONG, slot + MOST_SIGNIFICANT_BITS, value.getMostSignificantBits());
+            this.file.set(ValueLayout.JAVA_LONG, slot + LEAST_SIGNIFICANT_BITS, value.getLeastSignificantBits());
+            this.file.set(ValueLayout.JAVA_LONG, slot + COMPUTE_NANOS, element.getComputeNanos());
+            this.file.set(ValueLayout.JAVA_LONG, slot + EXPIRES_AT_MILLIS, element.getExpiresAtMillis());
+            this.file.set(ValueLayout.JAVA_INT, slot + KEY, element.getKeyAsInt());
+            this.file.set(ValueLayout.JAVA_INT, slot + STATE, FULL);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Return the number of slots.
+     *
+     * @return  int
+     */
+    public int getSlots() {
+        return this.slots;
+    }
+
+    /**
+     * Return the number of elements the
+     * file held when it was mapped.
+     *
+     * @return  int
+     */
+    public int getWarmElements() {
+        return this.warmElements;
+    }
+
+    /**
+     * Return the number of bytes in the file.
+     *
+     * @return  long
+     */
+    public long getFileBytes() {
+        return this.file.byteSize();
+    }
+
+    /**
+     * Write the mapped file out and unmap it.
+     * Later calls do nothing.
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            this.file.force();
+            this.arena.close();
+        }
+    }
+
+    /**
+     * Read the data element of a key or return null if
+     * its slot holds another key or the element is too
+     * old or stale. The caller holds the stripe lock or
+     * validates an optimistic read after.
+     *
+     * @param   index       int
+     * @param   keyAsInt    int
+     * @return              net.jmp.hitormiss.data.DataElement
+     */
+    private DataElement read(final int index, final int keyAsInt) {
+        final long slot = this.slot(index);
+
+        if (!this.isPresent(slot, keyAsInt))
+            return null;
+
+        final UUID value = new UUID(this.file.get(ValueLayout.JAVA_LONG, slot + MOST_SIGNIFICANT_BITS),
+                                    this.file.get(ValueLayout.JAVA_LONG, slot + LEAST_SIGNIFICANT_BITS));
+
+        return new DataElement(keyAsInt,
+                               value.toString(),
+                               this.file.get(ValueLayout.JAVA_LONG, slot + COMPUTE_NANOS),
+                               this.file.get(ValueLayout.JAVA_LONG, slot + EXPIRES_AT_MILLIS));
+    }
+
+    /**
+     * Return true if a slot holds the data element of
+     * a key that is neither too old nor stale. The caller
+     * holds the stripe lock or validates an optimistic
+     * read after.
+     *
+     * @param   slot        long
+     * @param   keyAsInt    int
+     * @return              boolean
+     */
+    private boolean isPresent(final long slot, final int keyAsInt) {
+        if (this.file.get(ValueLayout.JAVA_INT, slot + STATE) != FULL || this.file.get(ValueLayout.JAVA_INT, slot + KEY) != keyAsInt)
+            return false;
+
+        final long nowMillis = System.currentTimeMillis();
+        final long expiresAtMillis = this.file.get(ValueLayout.JAVA_LONG, slot + EXPIRES_AT_MILLIS);
+
+        if (expiresAtMillis > 0 && nowMillis >= expiresAtMillis)
+            return false;
+
+        return this.maxAgeMillis <= 0 || nowMillis - this.file.get(ValueLayout.JAVA_LONG, slot + WRITTEN_AT_MILLIS) < this.maxAgeMillis;
+    }
+
+    /**
+     * Return true if the file starts with the
+     * header of a tier of this shape and epoch.
+     *
+     * @return  boolean
+     */
+    private boolean hasHeader() {
+        return this.file.get(ValueLayout.JAVA_LONG, MAGIC_OFFSET) == MAGIC &&
+                this.file.get(ValueLayout.JAVA_INT, VERSION_OFFSET) == VERSION &&
+                this.file.get(ValueLayout.JAVA_INT, SLOT_BYTES_OFFSET) == SLOT.byteSize() &&
+                this.file.get(ValueLayout.JAVA_LONG, SLOTS_OFFSET) == this.slots &&
+                this.file.get(ValueLayout.JAVA_LONG, EPOCH_OFFSET) == this.epoch;
+    }
+
+    /**
+     * Return the number of slots that hold an element.
+     *
+     * @return  int
+     */
+    private int countElements() {
+        int elements = 0;
+
+        for (int index = 0; index < this.slots; index++) {
+            if (this.file.get(ValueLayout.JAVA_INT, this.slot(index) + STATE) == FULL)
+                elements++;
+        }
+
+        return elements;
+    }
+
+    /**
+     * Return the index of the slot of a key.
+     *
+     * @param   keyAsInt    int
+     * @return              int
+     */
+    private int index(final int keyAsInt) {
+        return Integer.remainderUnsigned(keyAsInt, this.slots);
+    }
+
+    /**
+     * Return the offset of a slot.
+     *
+     * @param   index   int
+     * @return          long
+     */
+    private long slot(final int index) {
+        return HEADER.byteSize() + (long) index * SLOT.byteSize();
+    }
+
+    /**
+     * Return the offset of a field in a slot.
+     *
+     * @param   name    java.lang.String
+     * @return          long
+     */
+    private static long offset(final String name) {
+        return SLOT.byteOffset(MemoryLayout.PathElement.groupElement(name));
+    }
+}
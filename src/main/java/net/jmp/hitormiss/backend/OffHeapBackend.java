@@ -0,0 +1,678 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)OffHeapBackend.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.concurrent.locks.StampedLock;
+
+import java.util.function.Predicate;
+
+import net.jmp.hitormiss.data.DataElement;
+
+import net.jmp.hitormiss.util.BucketKeys;
+
+/**
+ * A cache backend that holds the buckets in native memory
+ * in this process. The buckets live in one open-addressing
+ * hash table laid out in a memory segment with a fixed-width
+ * slot per bucket, holding the key, the UUID value as two
+ * longs and the times of the data element. No object is kept
+ * per bucket, so the collector has nothing to trace however
+ * many buckets there are; a data element is only built when
+ * a bucket is read.
+ *
+ * <p>The table is split into stripes, each with its own lock
+ * and its own run of slots that are probed linearly. Reads are
+ * optimistic and retry under the read lock only if a write to
+ * the stripe overlapped them. A deleted bucket leaves a
+ * tombstone that a later write to the stripe reuses, and
+ * expired buckets are skipped when read and overwritten when
+ * written. The table never grows, so it is sized for the keys
+ * it will hold when it is made. The keys do not spread evenly
+ * over the stripes, so each stripe has room for the mean number
+ * of keys per stripe plus several standard deviations. Should a
+ * stripe still fill up, a write of a new key evicts an expired
+ * bucket of the stripe or else the bucket in the key's first
+ * slot, as a cache would, and the eviction is counted.
+ *
+ * <p>Only bucket keys with UUID values are held off the heap.
+ * Counters are few and stay in a map on the heap.
+ */
+public final class OffHeapBackend implements CacheBackend {
+    /** The layout of a slot. */
+    static final StructLayout SLOT = MemoryLayout.structLayout(
+            ValueLayout.JAVA_LONG.withName("expiresAtNanos"),
+            ValueLayout.JAVA_LONG.withName("mostSignificantBits"),
+            ValueLayout.JAVA_LONG.withName("leastSignificantBits"),
+            ValueLayout.JAVA_LONG.withName("computeNanos"),
+            ValueLayout.JAVA_LONG.withName("expiresAtMillis"),
+            ValueLayout.JAVA_INT.withName("key"),
+            ValueLayout.JAVA_INT.withName("state")
+    );
+
+    /** The offset of the time the bucket expires in nanoseconds. */
+    private static final long EXPIRES_AT_NANOS = offset("expiresAtNanos");
+
+    /** The offset of the most significant bits of the value. */
+    private static final long MOST_SIGNIFICANT_BITS = offset("mostSignificantBits");
+
+    /** The offset of the least significant bits of the value. */
+    private static final long LEAST_SIGNIFICANT_BITS = offset("leastSignificantBits");
+
+    /** The offset of the time it took to compute the value. */
+    private static final long COMPUTE_NANOS = offset("computeNanos");
+
+    /** The offset of the time the value goes stale. */
+    private static final long EXPIRES_AT_MILLIS = offset("expiresAtMillis");
+
+    /** The offset of the key. */
+    private static final long KEY = offset("key");
+
+    /** The offset of the slot state. */
+    private static final long STATE = offset("state");
+
+    /** The state of a slot that has never been written. */
+    private static final int EMPTY = 0;
+
+    /** The state of a slot that holds a bucket. */
+    private static final int FULL = 1;
+
+    /** The state of a slot whose bucket was deleted. */
+    private static final int DELETED = 2;
+
+    /** The number of bits that pick a stripe. */
+    private static final int STRIPE_BITS = 6;
+
+    /** The number of stripes. */
+    private static final int STRIPES = 1 << STRIPE_BITS;
+
+    /** The fewest slots in a stripe. */
+    private static final int MINIMUM_STRIPE_SLOTS = 16;
+
+    /** The largest share of the slots of a stripe that its keys fill. */
+    private static final double LOAD_FACTOR = 0.75;
+
+    /** The standard deviations above the mean keys per stripe that a stripe has room for. */
+    private static final double HEADROOM_DEVIATIONS = 8.0;
+
+    /** The bucket keys. */
+    private final BucketKeys bucketKeys;
+
+    /** The number of slots in a stripe. */
+    private final int stripeSlots;
+
+    /** The arena that owns the table. */
+    private final Arena arena;
+
+    /** The table. */
+    private final MemorySegment table;
+
+    /** The lock of each stripe. */
+    private final StampedLock[] locks;
+
+    /** The counters by key. */
+    private final ConcurrentHashMap<String, Long> counters = new ConcurrentHashMap<>();
+
+    /** The number of buckets evicted from full stripes. */
+    private final LongAdder evictions = new LongAdder();
+
+    /** True once the backend has shut down. */
+    private volatile boolean shutdown;
+
+    /**
+     * The constructor.
+     *
+     * @param   bucketKeys      net.jmp.hitormiss.util.BucketKeys
+     * @param   expectedBuckets int
+     */
+    public OffHeapBackend(final BucketKeys bucketKeys, final int expectedBuckets) {
+        super();
+
+        if (expectedBuckets < 1)
+            throw new IllegalArgumentException("The expected number of buckets must be positive: " + expectedBuckets);
+
+        this.bucketKeys = Objects.requireNonNull(bucketKeys);
+        this.stripeSlots = stripeSlots(expectedBuckets);
+        this.arena = Arena.ofShared();
+        this.table = this.arena.allocate(SLOT.byteSize() * this.stripeSlots * STRIPES, SLOT.byteAlignment());
+        this.locks = new StampedLock[STRIPES];
+
+        for (int i = 0; i < STRIPES; i++)
+            this.locks[i] = new StampedLock();
+    }
+
+    /**
+     * Return the name of the backend.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String getName() {
+        return "off_heap";
+    }
+
+    /**
+     * Return the data element in a bucket or null if it is absent.
+     *
+     * @param   key java.lang.String
+     * @return      net.jmp.hitormiss.data.DataElement
+     */
+    @Override
+    public DataElement get(final String key) {
+        final int keyAsInt = this.bucketKeys.keyAsInt(key);
+
+        if (keyAsInt < 0)
+            return null;
+
+        final int hash = hash(keyAsInt);
+        final StampedLock lock = this.locks[hash & (STRIPES - 1)];
+
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0) {
+            final DataElement element = this.read(hash, keyAsInt);
+
+            if (lock.validate(stamp))
+                return element;
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return this.read(hash, keyAsInt);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Return the data elements in the buckets of some keys.
+     *
+     * @param   keys    java.util.List&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     */
+    @Override
+    public Map<String, DataElement> getAll(final List<String> keys) {
+        final Map<String, DataElement> found = new LinkedHashMap<>();
+
+        for (final String key : keys) {
+            final DataElement element = this.get(key);
+
+            if (element != null)
+                found.put(key, element);
+        }
+
+        return found;
+    }
+
+    /**
+     * Write a data element unless its bucket holds one
+     * that has not expired.
+     *
+     * @param   key         java.lang.String
+     * @param   element     net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive  java.time.Duration or null to never expire
+     * @return              boolean
+     */
+    @Override
+    public boolean setIfAbsent(final String key, final DataElement element, final Duration timeToLive) {
+        return this.write(key, element, timeToLive, true);
+    }
+
+    /**
+     * Write data elements that never expire unless any
+     * of their buckets holds one. As in the in-process
+     * backend the check and the writes are not atomic.
+     *
+     * @param   elements    java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     * @return              boolean
+     */
+    @Override
+    public boolean setAllIfAbsent(final Map<String, DataElement> elements) {
+        for (final String key : elements.keySet()) {
+            if (this.get(key) != null)
+                return false;
+        }
+
+        boolean written = true;
+
+        for (final Map.Entry<String, DataElement> element : elements.entrySet())
+            written &= this.setIfAbsent(element.getKey(), element.getValue(), null);
+
+        return written;
+    }
+
+    /**
+     * Write a data element, replacing any in its bucket.
+     *
+     * @param   key         java.lang.String
+     * @param   element     net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive  java.time.Duration or null to never expire
+     */
+    @Override
+    public void set(final String key, final DataElement element, final Duration timeToLive) {
+        this.write(key, element, timeToLive, false);
+    }
+
+    /**
+     * Delete a bucket or counter. An expired
+     * bucket is removed but did not exist.
+     *
+     * @param   key java.lang.String
+     * @return      boolean
+     */
+    @Override
+    public boolean delete(final String key) {
+        final int keyAsInt = this.bucketKeys.keyAsInt(key);
+
+        if (keyAsInt < 0)
+            return this.counters.remove(key) != null;
+
+        final int hash = hash(keyAsInt);
+        final StampedLock lock = this.locks[hash & (STRIPES - 1)];
+        final long stamp = lock.writeLock();
+
+        try {
+            final long slot = this.find(hash, keyAsInt);
+
+            if (slot < 0)
+                return false;
+
+            this.table.set(ValueLayout.JAVA_INT, slot + STATE, DELETED);
+
+            return !this.isExpired(slot, System.nanoTime());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Return the value of a counter or zero if it is absent.
+     *
+     * @param   key java.lang.String
+     * @return      long
+     */
+    @Override
+    public long getCounter(final String key) {
+        return this.counters.getOrDefault(key, 0L);
+    }
+
+    /**
+     * Set the value of a counter.
+     *
+     * @param   key     java.lang.String
+     * @param   value   long
+     */
+    @Override
+    public void setCounter(final String key, final long value) {
+        this.counters.put(key, value);
+    }
+
+    /**
+     * Return a batch that applies its
+     * operations in order when executed.
+     *
+     * @return  net.jmp.hitormiss.backend.CacheBatch
+     */
+    @Override
+    public CacheBatch createBatch() {
+        return new QueuedBatch(this);
+    }
+
+    /**
+     * Return the keys of the buckets and counters that pass
+     * a filter. Each stripe is read under its read lock,
+     * so a write to another stripe while the scan runs may
+     * or may not be seen.
+     *
+     * @param   filter  java.util.function.Predicate&lt;java.lang.String&gt;
+     * @return          java.util.List&lt;java.lang.String&gt;
+     */
+    @Override
+    public List<String> scan(final Predicate<String> filter) {
+        final List<String> keys = new ArrayList<>();
+        final long nowNanos = System.nanoTime();
+
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            final long stamp = this.locks[stripe].readLock();
+
+            try {
+                for (int index = 0; index < this.stripeSlots; index++) {
+                    final long slot = this.slot(stripe, index);
+
+                    if (this.table.get(ValueLayout.JAVA_INT, slot + STATE) == FULL && !this.isExpired(slot, nowNanos)) {
+                        final String key = this.bucketKeys.key(this.table.get(ValueLayout.JAVA_INT, slot + KEY));
+
+                        if (filter.test(key))
+                            keys.add(key);
+                    }
+                }
+            } finally {
+                this.locks[stripe].unlockRead(stamp);
+            }
+        }
+
+        this.counters.keySet().forEach(key -> {
+            if (filter.test(key))
+                keys.add(key);
+        });
+
+        return keys;
+    }
+
+    /**
+     * Return the number of bytes in the table.
+     *
+     * @return  long
+     */
+    @Override
+    public long getOffHeapBytes() {
+        return this.table.byteSize();
+    }
+
+    /**
+     * Return the number of buckets evicted
+     * to make room in a full stripe.
+     *
+     * @return  long
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Shut the backend down, freeing the table
+     * and dropping every counter.
+     */
+    @Override
+    public void shutdown() {
+        if (!this.shutdown) {
+            this.shutdown = true;
+            this.counters.clear();
+            this.arena.close();
+        }
+    }
+
+    /**
+     * Return true if the backend has shut down.
+     *
+     * @return  boolean
+     */
+    @Override
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    /**
+     * Write a data element to its bucket. Only a bucket
+     * key with a UUID value can be written. When only if
+     * absent and the bucket holds an element that has not
+     * expired nothing is written and false is returned. When
+     * the stripe of a new key is full a bucket is evicted.
+     *
+     * @param   key             java.lang.String
+     * @param   element         net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive      java.time.Duration or null to never expire
+     * @param   onlyIfAbsent    boolean
+     * @return                  boolean
+     * @throws  java.lang.IllegalArgumentException  When the key is not a bucket key or the value not a UUID
+     */
+    private boolean write(final String key,
+                          final DataElement element,
+                          final Duration timeToLive,
+                          final boolean onlyIfAbsent) {
+        final int keyAsInt = this.bucketKeys.keyAsInt(key);
+
+        if (keyAsInt < 0)
+            throw new IllegalArgumentException("Only bucket keys are held off the heap: " + key);
+
+        final UUID value = UUID.fromString(element.getValue());
+        final long nowNanos = System.nanoTime();
+        final long expiresAtNanos = timeToLive == null ? 0 : nowNanos + Math.max(1, timeToLive.toNanos());
+        final int hash = hash(keyAsInt);
+        final int stripe = hash & (STRIPES - 1);
+        final StampedLock lock = this.locks[stripe];
+        final long stamp = lock.writeLock();
+
+        try {
+            long free = -1;
+            long expired = -1;
+            int index = this.start(hash);
+
+            for (int probes = 0; probes < this.stripeSlots; probes++) {
+                final long slot = this.slot(stripe, index);
+                final int state = this.table.get(ValueLayout.JAVA_INT, slot + STATE);
+
+                if (state == EMPTY) {
+                    if (free < 0)
+                        free = slot;
+
+                    break;
+                }
+
+                if (state == DELETED) {
+                    if (free < 0)
+                        free = slot;
+                } else if (this.table.get(ValueLayout.JAVA_INT, slot + KEY) == keyAsInt) {
+                    if (onlyIfAbsent && !this.isExpired(slot, nowNanos))
+                        return false;
+
+                    free = slot;
+
+                    break;
+                } else if (expired < 0 && this.isExpired(slot, nowNanos)) {
+                    expired = slot;
+                }
+
+                index = index + 1 == this.stripeSlots ? 0 : index + 1;
+            }
+
+            if (free < 0) {
+                free = expired >= 0 ? expired : this.slot(stripe, this.start(hash));
+
+                this.evictions.increment();
+            }
+
+            this.table.set(ValueLayout.JAVA_LONG, free + EXPIRES_AT_NANOS, expiresAtNanos);
+            this.table.set(ValueLayout.JAVA_LONG, free + MOST_SIGNIFICANT_BITS, value.getMostSignificantBits());
+            this.table.set(ValueLayout.JAVA_LONG, free + LEAST_SIGNIFICANT_BITS, value.getLeastSignificantBits());
+            this.table.set(ValueLayout.JAVA_LONG, free + COMPUTE_NANOS, element.getComputeNanos());
+            this.table.set(ValueLayout.JAVA_LONG, free + EXPIRES_AT_MILLIS, element.getExpiresAtMillis());
+            this.table.set(ValueLayout.JAVA_INT, free + KEY, keyAsInt);
+            this.table.set(ValueLayout.JAVA_INT, free + STATE, FULL);
+
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Read the data element of a key or return null if its
+     * bucket is absent or has expired. The caller holds the
+     * stripe lock or validates an optimistic read after.
+     *
+     * @param   hash        int
+     * @param   keyAsInt    int
+     * @return              net.jmp.hitormiss.data.DataElement
+     */
+    private DataElement read(final int hash, final int keyAsInt) {
+        final long slot = this.find(hash, keyAsInt);
+
+        if (slot < 0 || this.isExpired(slot, System.nanoTime()))
+            return null;
+
+        final UUID value = new UUID(this.table.get(ValueLayout.JAVA_LONG, slot + MOST_SIGNIFICANT_BITS),
+                                    this.table.get(ValueLayout.JAVA_LONG, slot + LEAST_SIGNIFICANT_BITS));
+
+        return new DataElement(keyAsInt,
+                               value.toString(),
+                               this.table.get(ValueLayout.JAVA_LONG, slot + COMPUTE_NANOS),
+                               this.table.get(ValueLayout.JAVA_LONG, slot + EXPIRES_AT_MILLIS));
+    }
+
+    /**
+     * Return the offset of the slot that holds a
+     * key or -1 if no slot in its stripe does.
+     *
+     * @param   hash        int
+     * @param   keyAsInt    int
+     * @return              long
+     */
+    private long find(final int hash, final int keyAsInt) {
+        final int stripe = hash & (STRIPES - 1);
+
+        int index = this.start(hash);
+
+        for (int probes = 0; probes < this.stripeSlots; probes++) {
+            final long slot = this.slot(stripe, index);
+            final int state = this.table.get(ValueLayout.JAVA_INT, slot + STATE);
+
+            if (state == EMPTY)
+                return -1;
+
+            if (state == FULL && this.table.get(ValueLayout.JAVA_INT, slot + KEY) == keyAsInt)
+                return slot;
+
+            index = index + 1 == this.stripeSlots ? 0 : index + 1;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Return true if the bucket in a slot has expired.
+     *
+     * @param   slot        long
+     * @param   nowNanos    long
+     * @return              boolean
+     */
+    private boolean isExpired(final long slot, final long nowNanos) {
+        final long expiresAtNanos = this.table.get(ValueLayout.JAVA_LONG, slot + EXPIRES_AT_NANOS);
+
+        return expiresAtNanos != 0 && nowNanos - expiresAtNanos >= 0;
+    }
+
+    /**
+     * Return the index in its stripe where the probe
+     * for a hash starts. The bits above those that
+     * picked the stripe are scaled to the stripe.
+     *
+     * @param   hash    int
+     * @return          int
+     */
+    private int start(final int hash) {
+        return (int) (((hash >>> STRIPE_BITS) * (long) this.stripeSlots) >>> (Integer.SIZE - STRIPE_BITS));
+    }
+
+    /**
+     * Return the offset of a slot.
+     *
+     * @param   stripe  int
+     * @param   index   int
+     * @return          long
+     */
+    private long slot(final int stripe, final int index) {
+        return ((long) stripe * this.stripeSlots + index) * SLOT.byteSize();
+    }
+
+    /**
+     * Return the number of slots in a stripe.
+     *
+     * @return  int
+     */
+    int getStripeSlots() {
+        return this.stripeSlots;
+    }
+
+    /**
+     * Return the number of slots in a stripe for the
+     * expected buckets. The keys of a stripe are close
+     * to Poisson distributed, so their standard deviation
+     * is the square root of their mean.
+     *
+     * @param   expectedBuckets int
+     * @return                  int
+     */
+    static int stripeSlots(final int expectedBuckets) {
+        final double meanKeys = (double) expectedBuckets / STRIPES;
+        final double mostKeys = meanKeys + HEADROOM_DEVIATIONS * Math.sqrt(meanKeys);
+
+        return Math.max(MINIMUM_STRIPE_SLOTS, (int) Math.ceil(mostKeys / LOAD_FACTOR));
+    }
+
+    /**
+     * Spread the bits of a key so that
+     * neighbouring keys land far apart.
+     *
+     * @param   keyAsInt    int
+     * @return              int
+     */
+    private static int hash(final int keyAsInt) {
+        int hash = keyAsInt;
+
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+
+        return hash;
+    }
+
+    /**
+     * Return the offset of a field in a slot.
+     *
+     * @param   name    java.lang.String
+     * @return          long
+     */
+    private static long offset(final String name) {
+        return SLOT.byteOffset(MemoryLayout.PathElement.groupElement(name));
+    }
+}
@@ -0,0 +1,107 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)QueuedBatch.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.function.BooleanSupplier;
+
+import net.jmp.hitormiss.data.DataElement;
+
+/**
+ * A batch for the backends in this process. It
+ * queues its operations and applies them to the
+ * backend one by one when executed.
+ */
+final class QueuedBatch implements CacheBatch {
+    /** The backend. */
+    private final CacheBackend backend;
+
+    /** The queued operations. */
+    private final List<BooleanSupplier> operations = new ArrayList<>();
+
+    /**
+     * The constructor.
+     *
+     * @param   backend net.jmp.hitormiss.backend.CacheBackend
+     */
+    QueuedBatch(final CacheBackend backend) {
+        super();
+
+        this.backend = Objects.requireNonNull(backend);
+    }
+
+    /**
+     * Queue the write of a data element unless its bucket holds one.
+     *
+     * @param   key         java.lang.String
+     * @param   element     net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive  java.time.Duration or null to never expire
+     */
+    @Override
+    public void setIfAbsent(final String key, final DataElement element, final Duration timeToLive) {
+        this.operations.add(() -> this.backend.setIfAbsent(key, element, timeToLive));
+    }
+
+    /**
+     * Queue the delete of a bucket.
+     *
+     * @param   key java.lang.String
+     */
+    @Override
+    public void delete(final String key) {
+        this.operations.add(() -> this.backend.delete(key));
+    }
+
+    /**
+     * Apply the queued operations and return
+     * the number that wrote or deleted a bucket.
+     *
+     * @return  int
+     */
+    @Override
+    public int execute() {
+        int succeeded = 0;
+
+        for (final BooleanSupplier operation : this.operations) {
+            if (operation.getAsBoolean())
+                succeeded++;
+        }
+
+        this.operations.clear();
+
+        return succeeded;
+    }
+}
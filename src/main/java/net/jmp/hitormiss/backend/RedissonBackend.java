@@ -0,0 +1,355 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)RedissonBackend.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.function.Predicate;
+
+import net.jmp.hitormiss.data.DataElement;
+import net.jmp.hitormiss.data.RedisInstance;
+import net.jmp.hitormiss.data.ShardRouter;
+
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.client.codec.LongCodec;
+
+/**
+ * A cache backend on Redis through Redisson. Each
+ * key is sent to the instance that the router routes
+ * it to, so a batch or a multi-key read is split into
+ * one per instance when the keys are sharded.
+ */
+public final class RedissonBackend implements CacheBackend {
+    /** The router of keys to the Redis instances. */
+    private final ShardRouter router;
+
+    /**
+     * The constructor.
+     *
+     * @param   router  net.jmp.hitormiss.data.ShardRouter
+     */
+    public RedissonBackend(final ShardRouter router) {
+        super();
+
+        this.router = Objects.requireNonNull(router);
+    }
+
+    /**
+     * Return the router, through which the features
+     * that only Redis has, such as scripts and the
+     * server statistics, reach the instances.
+     *
+     * @return  net.jmp.hitormiss.data.ShardRouter
+     */
+    public ShardRouter getRouter() {
+        return this.router;
+    }
+
+    /**
+     * Return the name of the backend.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String getName() {
+        return "redis";
+    }
+
+    /**
+     * Return the data element in a bucket or null if it is absent.
+     *
+     * @param   key java.lang.String
+     * @return      net.jmp.hitormiss.data.DataElement
+     */
+    @Override
+    public DataElement get(final String key) {
+        return this.getBucket(key).get();
+    }
+
+    /**
+     * Return the data elements in the buckets of
+     * some keys with one MGET per instance.
+     *
+     * @param   keys    java.util.List&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     */
+    @Override
+    public Map<String, DataElement> getAll(final List<String> keys) {
+        final Map<String, DataElement> found = new LinkedHashMap<>();
+
+        this.router.groupByClient(keys).forEach((client, group) ->
+                found.putAll(client.getBuckets().<DataElement>get(group.toArray(String[]::new))));
+
+        return found;
+    }
+
+    /**
+     * Write a data element unless its bucket holds one.
+     *
+     * @param   key         java.lang.String
+     * @param   element     net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive  java.time.Duration or null to never expire
+     * @return              boolean
+     */
+    @Override
+    public boolean setIfAbsent(final String key, final DataElement element, final Duration timeToLive) {
+        final RBucket<DataElement> bucket = this.getBucket(key);
+
+        return timeToLive == null ? bucket.setIfAbsent(element) : bucket.setIfAbsent(element, timeToLive);
+    }
+
+    /**
+     * Write data elements with one MSETNX per instance.
+     * When sharded the instances are written one by one,
+     * so some may be written when false is returned.
+     *
+     * @param   elements    java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     * @return              boolean
+     */
+    @Override
+    public boolean setAllIfAbsent(final Map<String, DataElement> elements) {
+        boolean written = true;
+
+        for (final Map.Entry<RedissonClient, List<String>> group : this.router.groupByClient(new ArrayList<>(elements.keySet())).entrySet()) {
+            final Map<String, DataElement> groupElements = new LinkedHashMap<>();
+
+            group.getValue().forEach(key -> groupElements.put(key, elements.get(key)));
+
+            written &= group.getKey().getBuckets().trySet(groupElements);
+        }
+
+        return written;
+    }
+
+    /**
+     * Write a data element, replacing any in its bucket.
+     *
+     * @param   key         java.lang.String
+     * @param   element     net.jmp.hitormiss.data.DataElement
+     * @param   timeToLive  java.time.Duration or null to never expire
+     */
+    @Override
+    public void set(final String key, final DataElement element, final Duration timeToLive) {
+        final RBucket<DataElement> bucket = this.getBucket(key);
+
+        if (timeToLive == null)
+            bucket.set(element);
+        else
+            bucket.set(element, timeToLive);
+    }
+
+    /**
+     * Delete a bucket or counter.
+     *
+     * @param   key java.lang.String
+     * @return      boolean
+     */
+    @Override
+    public boolean delete(final String key) {
+        return this.router.client(key).getBucket(key).delete();
+    }
+
+    /**
+     * Return the value of a counter or zero if it is
+     * absent. Counters hold plain integers so that a
+     * script can increment them.
+     *
+     * @param   key java.lang.String
+     * @return      long
+     */
+    @Override
+    public long getCounter(final String key) {
+        final Long value = this.router.client(key).<Long>getBucket(key, LongCodec.INSTANCE).get();
+
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Set the value of a counter.
+     *
+     * @param   key     java.lang.String
+     * @param   value   long
+     */
+    @Override
+    public void setCounter(final String key, final long value) {
+        this.router.client(key).<Long>getBucket(key, LongCodec.INSTANCE).set(value);
+    }
+
+    /**
+     * Return a batch that queues the operations
+     * of each instance in a batch of its own.
+     *
+     * @return  net.jmp.hitormiss.backend.CacheBatch
+     */
+    @Override
+    public CacheBatch createBatch() {
+        return new RedissonBatch(this.router);
+    }
+
+    /**
+     * Return the keys of every instance that pass a filter.
+     *
+     * @param   filter  java.util.function.Predicate&lt;java.lang.String&gt;
+     * @return          java.util.List&lt;java.lang.String&gt;
+     */
+    @Override
+    public List<String> scan(final Predicate<String> filter) {
+        final List<String> keys = new ArrayList<>();
+
+        for (final RedisInstance instance : this.router.getInstances()) {
+            instance.getClient().getKeys().getKeys().forEach(key -> {
+                if (filter.test(key))
+                    keys.add(key);
+            });
+        }
+
+        return keys;
+    }
+
+    /**
+     * Shut the client of every instance down.
+     */
+    @Override
+    public void shutdown() {
+        this.router.shutdown();
+    }
+
+    /**
+     * Return true if the client of every instance has shut down.
+     *
+     * @return  boolean
+     */
+    @Override
+    public boolean isShutdown() {
+        return this.router.isShutdown();
+    }
+
+    /**
+     * Return the bucket of a key.
+     *
+     * @param   key java.lang.String
+     * @return      org.redisson.api.RBucket&lt;net.jmp.hitormiss.data.DataElement&gt;
+     */
+    private RBucket<DataElement> getBucket(final String key) {
+        return this.router.client(key).getBucket(key);
+    }
+
+    /**
+     * A batch with one Redisson batch per instance.
+     */
+    private static final class RedissonBatch implements CacheBatch {
+        /** The router of keys to the Redis instances. */
+        private final ShardRouter router;
+
+        /** The batch of each client that has operations queued. */
+        private final Map<RedissonClient, RBatch> batches = new LinkedHashMap<>();
+
+        /**
+         * The constructor.
+         *
+         * @param   router  net.jmp.hitormiss.data.ShardRouter
+         */
+        private RedissonBatch(final ShardRouter router) {
+            super();
+
+            this.router = router;
+        }
+
+        /**
+         * Queue the write of a data element unless its bucket holds one.
+         *
+         * @param   key         java.lang.String
+         * @param   element     net.jmp.hitormiss.data.DataElement
+         * @param   timeToLive  java.time.Duration or null to never expire
+         */
+        @Override
+        public void setIfAbsent(final String key, final DataElement element, final Duration timeToLive) {
+            final RBucketAsync<DataElement> bucket = this.getBatch(key).getBucket(key);
+
+            if (timeToLive == null)
+                bucket.setIfAbsentAsync(element);
+            else
+                bucket.setIfAbsentAsync(element, timeToLive);
+        }
+
+        /**
+         * Queue the delete of a bucket.
+         *
+         * @param   key java.lang.String
+         */
+        @Override
+        public void delete(final String key) {
+            this.getBatch(key).getBucket(key).deleteAsync();
+        }
+
+        /**
+         * Execute the batch of each instance and return
+         * the number of operations that returned true.
+         *
+         * @return  int
+         */
+        @Override
+        public int execute() {
+            int succeeded = 0;
+
+            for (final RBatch batch : this.batches.values()) {
+                for (final Object response : batch.execute().getResponses()) {
+                    if (Boolean.TRUE.equals(response))
+                        succeeded++;
+                }
+            }
+
+            this.batches.clear();
+
+            return succeeded;
+        }
+
+        /**
+         * Return the batch of the instance a key is routed to.
+         *
+         * @param   key java.lang.String
+         * @return      org.redisson.api.RBatch
+         */
+        private RBatch getBatch(final String key) {
+            return this.batches.computeIfAbsent(this.router.client(key), RedissonClient::createBatch);
+        }
+    }
+}
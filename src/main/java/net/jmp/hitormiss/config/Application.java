@@ -1,11 +1,12 @@
 package net.jmp.hitormiss.config;
 
 /*
+ * (#)Application.java  0.6.0   10/19/2026
  * (#)Application.java  0.3.0   05/29/2024
  * (#)Application.java  0.1.0   05/26/2024
  *
  * @author    Jonathan Parker
- * @version   0.3.0
+ * @version   0.6.0
  * @since     0.1.0
  *
  * MIT License
@@ -55,6 +56,38 @@ public final class Application {
     @SerializedName("initialNumberOfBuckets")
     private int initialNumberOfBuckets;
 
+    /** The number of access outcomes handed to the statistics thread at a time. @since 0.6.0 */
+    @SerializedName("statisticsBatchSize")
+    private int statisticsBatchSize = 1;
+
+    /** The number of access threads. @since 0.6.0 */
+    @SerializedName("numberOfAccessThreads")
+    private int numberOfAccessThreads = 1;
+
+    /** The access mode. @since 0.6.0 */
+    @SerializedName("accessMode")
+    private AccessMode accessMode = AccessMode.CLIENT;
+
+    /** The key layout. @since 0.6.0 */
+    @SerializedName("keyLayout")
+    private KeyLayout keyLayout = KeyLayout.PLAIN;
+
+    /** The number of consecutive keys that share a hash tag. @since 0.6.0 */
+    @SerializedName("keyGroupSize")
+    private int keyGroupSize = 100;
+
+    /** The number of buckets written or deleted in one batch. @since 0.6.0 */
+    @SerializedName("setupBatchSize")
+    private int setupBatchSize = 100;
+
+    /** The number of keys read by each multi-get. @since 0.6.0 */
+    @SerializedName("multiGetKeys")
+    private int multiGetKeys = 10;
+
+    /** The cache backend. @since 0.6.0 */
+    @SerializedName("cacheBackend")
+    private CacheBackendType cacheBackend = CacheBackendType.REDIS;
+
     /**
      * Get the bucket name for accumulator hits.
      *
@@ -127,6 +160,166 @@ public final class Application {
         this.initialNumberOfBuckets = initialNumberOfBuckets;
     }
 
+    /**
+     * Get the statistics batch size.
+     *
+     * @return  int
+     * @since   0.6.0
+     */
+    public int getStatisticsBatchSize() {
+        return this.statisticsBatchSize;
+    }
+
+    /**
+     * Set the statistics batch size.
+     *
+     * @param   statisticsBatchSize int
+     * @since                       0.6.0
+     */
+    public void setStatisticsBatchSize(final int statisticsBatchSize) {
+        this.statisticsBatchSize = statisticsBatchSize;
+    }
+
+    /**
+     * Get the number of access threads.
+     *
+     * @return  int
+     * @since   0.6.0
+     */
+    public int getNumberOfAccessThreads() {
+        return this.numberOfAccessThreads;
+    }
+
+    /**
+     * Set the number of access threads.
+     *
+     * @param   numberOfAccessThreads   int
+     * @since                           0.6.0
+     */
+    public void setNumberOfAccessThreads(final int numberOfAccessThreads) {
+        this.numberOfAccessThreads = numberOfAccessThreads;
+    }
+
+    /**
+     * Get the access mode.
+     *
+     * @return  net.jmp.hitormiss.config.AccessMode
+     * @since   0.6.0
+     */
+    public AccessMode getAccessMode() {
+        return this.accessMode;
+    }
+
+    /**
+     * Set the access mode.
+     *
+     * @param   accessMode  net.jmp.hitormiss.config.AccessMode
+     * @since               0.6.0
+     */
+    public void setAccessMode(final AccessMode accessMode) {
+        this.accessMode = accessMode;
+    }
+
+    /**
+     * Get the key layout.
+     *
+     * @return  net.jmp.hitormiss.config.KeyLayout
+     * @since   0.6.0
+     */
+    public KeyLayout getKeyLayout() {
+        return this.keyLayout;
+    }
+
+    /**
+     * Set the key layout.
+     *
+     * @param   keyLayout   net.jmp.hitormiss.config.KeyLayout
+     * @since               0.6.0
+     */
+    public void setKeyLayout(final KeyLayout keyLayout) {
+        this.keyLayout = keyLayout;
+    }
+
+    /**
+     * Get the key group size.
+     *
+     * @return  int
+     * @since   0.6.0
+     */
+    public int getKeyGroupSize() {
+        return this.keyGroupSize;
+    }
+
+    /**
+     * Set the key group size.
+     *
+     * @param   keyGroupSize    int
+     * @since                   0.6.0
+     */
+    public void setKeyGroupSize(final int keyGroupSize) {
+        this.keyGroupSize = keyGroupSize;
+    }
+
+    /**
+     * Get the setup batch size.
+     *
+     * @return  int
+     * @since   0.6.0
+     */
+    public int getSetupBatchSize() {
+        return this.setupBatchSize;
+    }
+
+    /**
+     * Set the setup batch size.
+     *
+     * @param   setupBatchSize  int
+     * @since                   0.6.0
+     */
+    public void setSetupBatchSize(final int setupBatchSize) {
+        this.setupBatchSize = setupBatchSize;
+    }
+
+    /**
+     * Get the number of keys read by each multi-get.
+     *
+     * @return  int
+     * @since   0.6.0
+     */
+    public int getMultiGetKeys() {
+        return this.multiGetKeys;
+    }
+
+    /**
+     * Set the number of keys read by each multi-get.
+     *
+     * @param   multiGetKeys    int
+     * @since                   0.6.0
+     */
+    public void setMultiGetKeys(final int multiGetKeys) {
+        this.multiGetKeys = multiGetKeys;
+    }
+
+    /**
+     * Get the cache backend.
+     *
+     * @return  net.jmp.hitormiss.config.CacheBackendType
+     * @since   0.6.0
+     */
+    public CacheBackendType getCacheBackend() {
+        return this.cacheBackend;
+    }
+
+    /**
+     * Set the cache backend.
+     *
+     * @param   cacheBackend    net.jmp.hitormiss.config.CacheBackendType
+     * @since                   0.6.0
+     */
+    public void setCacheBackend(final CacheBackendType cacheBackend) {
+        this.cacheBackend = cacheBackend;
+    }
+
     /**
      * The equals method.
      *
@@ -141,7 +334,7 @@ public final class Application {
 
         final Application that = (Application) o;
 
-        return this.initialNumberOfBuckets == that.initialNumberOfBuckets && Objects.equals(this.bucketKeyPrefix, that.bucketKeyPrefix) && Objects.equals(this.accumulatorBucketNameForHits, that.accumulatorBucketNameForHits) && Objects.equals(this.accumulatorBucketNameForMisses, that.accumulatorBucketNameForMisses);
+        return this.initialNumberOfBuckets == that.initialNumberOfBuckets && Objects.equals(this.bucketKeyPrefix, that.bucketKeyPrefix) && Objects.equals(this.accumulatorBucketNameForHits, that.accumulatorBucketNameForHits) && Objects.equals(this.accumulatorBucketNameForMisses, that.accumulatorBucketNameForMisses) && this.statisticsBatchSize == that.statisticsBatchSize && this.numberOfAccessThreads == that.numberOfAccessThreads && Objects.equals(this.accessMode, that.accessMode) && Objects.equals(this.keyLayout, that.keyLayout) && this.keyGroupSize == that.keyGroupSize && this.setupBatchSize == that.setupBatchSize && this.multiGetKeys == that.multiGetKeys && Objects.equals(this.cacheBackend, that.cacheBackend);
     }
 
     /**
@@ -156,6 +349,14 @@ public final class Application {
         result = 31 * result + this.initialNumberOfBuckets;
         result = 31 * result + Objects.hashCode(this.accumulatorBucketNameForHits);
         result = 31 * result + Objects.hashCode(this.accumulatorBucketNameForMisses);
+        result = 31 * result + this.statisticsBatchSize;
+        result = 31 * result + this.numberOfAccessThreads;
+        result = 31 * result + Objects.hashCode(this.accessMode);
+        result = 31 * result + Objects.hashCode(this.keyLayout);
+        result = 31 * result + this.keyGroupSize;
+        result = 31 * result + this.setupBatchSize;
+        result = 31 * result + this.multiGetKeys;
+        result = 31 * result + Objects.hashCode(this.cacheBackend);
 
         return result;
     }
@@ -172,6 +373,14 @@ public final class Application {
                 ", accumulatorBucketNameForMisses='" + this.accumulatorBucketNameForMisses + '\'' +
                 ", bucketKeyPrefix='" + this.bucketKeyPrefix + '\'' +
                 ", initialNumberOfBuckets=" + this.initialNumberOfBuckets +
+                ", statisticsBatchSize=" + this.statisticsBatchSize +
+                ", numberOfAccessThreads=" + this.numberOfAccessThreads +
+                ", accessMode=" + this.accessMode +
+                ", keyLayout=" + this.keyLayout +
+                ", keyGroupSize=" + this.keyGroupSize +
+                ", setupBatchSize=" + this.setupBatchSize +
+                ", multiGetKeys=" + this.multiGetKeys +
+                ", cacheBackend=" + this.cacheBackend +
                 '}';
     }
 }
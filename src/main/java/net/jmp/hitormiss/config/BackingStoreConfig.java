@@ -0,0 +1,272 @@
+package net.jmp.hitormiss.config;
+
+/*
+ * (#)BackingStoreConfig.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The backing store configuration class.
+ */
+public final class BackingStoreConfig {
+    /** The backing store type. */
+    @SerializedName("type")
+    private BackingStoreType type = BackingStoreType.INSTANT;
+
+    /** The distribution of the load latency. */
+    @SerializedName("distribution")
+    private LatencyDistribution distribution = LatencyDistribution.FIXED;
+
+    /** The mean load latency in milliseconds. */
+    @SerializedName("meanLatencyMillis")
+    private double meanLatencyMillis = 5.0;
+
+    /** The smallest load latency in milliseconds. */
+    @SerializedName("minLatencyMillis")
+    private double minLatencyMillis;
+
+    /** The largest load latency in milliseconds or zero for no limit. */
+    @SerializedName("maxLatencyMillis")
+    private double maxLatencyMillis;
+
+    /** The shape of the log-normal distribution. */
+    @SerializedName("logNormalSigma")
+    private double logNormalSigma = 1.0;
+
+    /** The most loads served at once or zero for no limit. */
+    @SerializedName("maxConcurrency")
+    private int maxConcurrency;
+
+    /** The fraction of loads that fail, from 0 to 1. */
+    @SerializedName("failureRate")
+    private double failureRate;
+
+    /**
+     * Get the backing store type.
+     *
+     * @return  net.jmp.hitormiss.config.BackingStoreType
+     */
+    public BackingStoreType getType() {
+        return this.type;
+    }
+
+    /**
+     * Set the backing store type.
+     *
+     * @param   type    net.jmp.hitormiss.config.BackingStoreType
+     */
+    public void setType(final BackingStoreType type) {
+        this.type = type;
+    }
+
+    /**
+     * Get the latency distribution.
+     *
+     * @return  net.jmp.hitormiss.config.LatencyDistribution
+     */
+    public LatencyDistribution getDistribution() {
+        return this.distribution;
+    }
+
+    /**
+     * Set the latency distribution.
+     *
+     * @param   distribution    net.jmp.hitormiss.config.LatencyDistribution
+     */
+    public void setDistribution(final LatencyDistribution distribution) {
+        this.distribution = distribution;
+    }
+
+    /**
+     * Get the mean latency in milliseconds.
+     *
+     * @return  double
+     */
+    public double getMeanLatencyMillis() {
+        return this.meanLatencyMillis;
+    }
+
+    /**
+     * Set the mean latency in milliseconds.
+     *
+     * @param   meanLatencyMillis   double
+     */
+    public void setMeanLatencyMillis(final double meanLatencyMillis) {
+        this.meanLatencyMillis = meanLatencyMillis;
+    }
+
+    /**
+     * Get the smallest latency in milliseconds.
+     *
+     * @return  double
+     */
+    public double getMinLatencyMillis() {
+        return this.minLatencyMillis;
+    }
+
+    /**
+     * Set the smallest latency in milliseconds.
+     *
+     * @param   minLatencyMillis    double
+     */
+    public void setMinLatencyMillis(final double minLatencyMillis) {
+        this.minLatencyMillis = minLatencyMillis;
+    }
+
+    /**
+     * Get the largest latency in milliseconds.
+     *
+     * @return  double
+     */
+    public double getMaxLatencyMillis() {
+        return this.maxLatencyMillis;
+    }
+
+    /**
+     * Set the largest latency in milliseconds.
+     *
+     * @param   maxLatencyMillis    double
+     */
+    public void setMaxLatencyMillis(final double maxLatencyMillis) {
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+
+    /**
+     * Get the log-normal shape.
+     *
+     * @return  double
+     */
+    public double getLogNormalSigma() {
+        return this.logNormalSigma;
+    }
+
+    /**
+     * Set the log-normal shape.
+     *
+     * @param   logNormalSigma  double
+     */
+    public void setLogNormalSigma(final double logNormalSigma) {
+        this.logNormalSigma = logNormalSigma;
+    }
+
+    /**
+     * Get the maximum concurrency.
+     *
+     * @return  int
+     */
+    public int getMaxConcurrency() {
+        return this.maxConcurrency;
+    }
+
+    /**
+     * Set the maximum concurrency.
+     *
+     * @param   maxConcurrency  int
+     */
+    public void setMaxConcurrency(final int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Get the failure rate.
+     *
+     * @return  double
+     */
+    public double getFailureRate() {
+        return this.failureRate;
+    }
+
+    /**
+     * Set the failure rate.
+     *
+     * @param   failureRate double
+     */
+    public void setFailureRate(final double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final BackingStoreConfig that = (BackingStoreConfig) o;
+
+        return this.type == that.type && this.distribution == that.distribution && Double.compare(this.meanLatencyMillis, that.meanLatencyMillis) == 0 && Double.compare(this.minLatencyMillis, that.minLatencyMillis) == 0 && Double.compare(this.maxLatencyMillis, that.maxLatencyMillis) == 0 && Double.compare(this.logNormalSigma, that.logNormalSigma) == 0 && this.maxConcurrency == that.maxConcurrency && Double.compare(this.failureRate, that.failureRate) == 0;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(this.type);
+
+        result = 31 * result + Objects.hashCode(this.distribution);
+        result = 31 * result + Double.hashCode(this.meanLatencyMillis);
+        result = 31 * result + Double.hashCode(this.minLatencyMillis);
+        result = 31 * result + Double.hashCode(this.maxLatencyMillis);
+        result = 31 * result + Double.hashCode(this.logNormalSigma);
+        result = 31 * result + this.maxConcurrency;
+        result = 31 * result + Double.hashCode(this.failureRate);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "BackingStoreConfig{" +
+                "type=" + this.type +
+                ", distribution=" + this.distribution +
+                ", meanLatencyMillis=" + this.meanLatencyMillis +
+                ", minLatencyMillis=" + this.minLatencyMillis +
+                ", maxLatencyMillis=" + this.maxLatencyMillis +
+                ", logNormalSigma=" + this.logNormalSigma +
+                ", maxConcurrency=" + this.maxConcurrency +
+                ", failureRate=" + this.failureRate +
+                '}';
+    }
+}
@@ -1,11 +1,12 @@
 package net.jmp.hitormiss.config;
 
 /*
+ * (#)Config.java   0.6.0   10/19/2026
  * (#)Config.java   0.5.0   06/29/2024
  * (#)Config.java   0.1.0   05/25/2024
  *
  * @author    Jonathan Parker
- * @version   0.5.0
+ * @version   0.6.0
  * @since     0.1.0
  *
  * MIT License
@@ -43,13 +44,41 @@ public final class Config {
     @SerializedName("application")
     private Application application;
 
+    /** The load component. @since 0.6.0 */
+    @SerializedName("load")
+    private Load load = new Load();
+
+    /** The monitoring component. @since 0.6.0 */
+    @SerializedName("monitoring")
+    private Monitoring monitoring = new Monitoring();
+
+    /** The run report component. @since 0.6.0 */
+    @SerializedName("report")
+    private Report report = new Report();
+
     /** The process utility component. @since 0.5.0 */
     @SerializedName("process-utility")
     private ProcessUtility processUtility;
 
     /** The Redis component. */
     @SerializedName("redis")
-    private Redis redis;
+    private Redis redis = new Redis();
+
+    /** The backing store component. @since 0.6.0 */
+    @SerializedName("backingStore")
+    private BackingStoreConfig backingStore = new BackingStoreConfig();
+
+    /** The expiry component. @since 0.6.0 */
+    @SerializedName("expiry")
+    private Expiry expiry = new Expiry();
+
+    /** The server statistics. @since 0.6.0 */
+    @SerializedName("serverStats")
+    private ServerStats serverStats = new ServerStats();
+
+    /** The local tier. @since 0.6.0 */
+    @SerializedName("localTier")
+    private LocalTier localTier = new LocalTier();
 
     /**
      * Get the Redis component
@@ -69,6 +98,66 @@ public final class Config {
         this.redis = redis;
     }
 
+    /**
+     * Get the load component.
+     *
+     * @return  net.jmp.hitormiss.config.Load
+     * @since   0.6.0
+     */
+    public Load getLoad() {
+        return this.load;
+    }
+
+    /**
+     * Set the load component.
+     *
+     * @param   load    net.jmp.hitormiss.config.Load
+     * @since           0.6.0
+     */
+    public void setLoad(final Load load) {
+        this.load = load;
+    }
+
+    /**
+     * Get the monitoring component.
+     *
+     * @return  net.jmp.hitormiss.config.Monitoring
+     * @since   0.6.0
+     */
+    public Monitoring getMonitoring() {
+        return this.monitoring;
+    }
+
+    /**
+     * Set the monitoring component.
+     *
+     * @param   monitoring  net.jmp.hitormiss.config.Monitoring
+     * @since               0.6.0
+     */
+    public void setMonitoring(final Monitoring monitoring) {
+        this.monitoring = monitoring;
+    }
+
+    /**
+     * Get the run report component.
+     *
+     * @return  net.jmp.hitormiss.config.Report
+     * @since   0.6.0
+     */
+    public Report getReport() {
+        return this.report;
+    }
+
+    /**
+     * Set the run report component.
+     *
+     * @param   report  net.jmp.hitormiss.config.Report
+     * @since           0.6.0
+     */
+    public void setReport(final Report report) {
+        this.report = report;
+    }
+
     /**
      * Set the process utility component.
      *
@@ -107,6 +196,86 @@ public final class Config {
         this.application = application;
     }
 
+    /**
+     * Get the backing store component.
+     *
+     * @return  net.jmp.hitormiss.config.BackingStoreConfig
+     * @since   0.6.0
+     */
+    public BackingStoreConfig getBackingStore() {
+        return this.backingStore;
+    }
+
+    /**
+     * Set the backing store component.
+     *
+     * @param   backingStore    net.jmp.hitormiss.config.BackingStoreConfig
+     * @since                   0.6.0
+     */
+    public void setBackingStore(final BackingStoreConfig backingStore) {
+        this.backingStore = backingStore;
+    }
+
+    /**
+     * Get the expiry component.
+     *
+     * @return  net.jmp.hitormiss.config.Expiry
+     * @since   0.6.0
+     */
+    public Expiry getExpiry() {
+        return this.expiry;
+    }
+
+    /**
+     * Set the expiry component.
+     *
+     * @param   expiry  net.jmp.hitormiss.config.Expiry
+     * @since           0.6.0
+     */
+    public void setExpiry(final Expiry expiry) {
+        this.expiry = expiry;
+    }
+
+    /**
+     * Get the server statistics.
+     *
+     * @return  net.jmp.hitormiss.config.ServerStats
+     * @since   0.6.0
+     */
+    public ServerStats getServerStats() {
+        return this.serverStats;
+    }
+
+    /**
+     * Set the server statistics.
+     *
+     * @param   serverStats net.jmp.hitormiss.config.ServerStats
+     * @since               0.6.0
+     */
+    public void setServerStats(final ServerStats serverStats) {
+        this.serverStats = serverStats;
+    }
+
+    /**
+     * Get the local tier.
+     *
+     * @return  net.jmp.hitormiss.config.LocalTier
+     * @since   0.6.0
+     */
+    public LocalTier getLocalTier() {
+        return this.localTier;
+    }
+
+    /**
+     * Set the local tier.
+     *
+     * @param   localTier   net.jmp.hitormiss.config.LocalTier
+     * @since               0.6.0
+     */
+    public void setLocalTier(final LocalTier localTier) {
+        this.localTier = localTier;
+    }
+
     /**
      * The equals method.
      *
@@ -121,7 +290,7 @@ public final class Config {
 
         final Config config = (Config) o;
 
-        return Objects.equals(this.application, config.application) && Objects.equals(this.processUtility, config.processUtility) && Objects.equals(this.redis, config.redis);
+        return Objects.equals(this.application, config.application) && Objects.equals(this.load, config.load) && Objects.equals(this.monitoring, config.monitoring) && Objects.equals(this.report, config.report) && Objects.equals(this.processUtility, config.processUtility) && Objects.equals(this.redis, config.redis) && Objects.equals(this.backingStore, config.backingStore) && Objects.equals(this.expiry, config.expiry) && Objects.equals(this.serverStats, config.serverStats) && Objects.equals(this.localTier, config.localTier);
     }
 
     /**
@@ -133,8 +302,15 @@ public final class Config {
     public int hashCode() {
         int result = Objects.hashCode(this.application);
 
+        result = 31 * result + Objects.hashCode(this.load);
+        result = 31 * result + Objects.hashCode(this.monitoring);
+        result = 31 * result + Objects.hashCode(this.report);
         result = 31 * result + Objects.hashCode(this.processUtility);
         result = 31 * result + Objects.hashCode(this.redis);
+        result = 31 * result + Objects.hashCode(this.backingStore);
+        result = 31 * result + Objects.hashCode(this.expiry);
+        result = 31 * result + Objects.hashCode(this.serverStats);
+        result = 31 * result + Objects.hashCode(this.localTier);
 
         return result;
     }
@@ -148,8 +324,15 @@ public final class Config {
     public String toString() {
         return "Config{" +
                 "application=" + this.application +
+                ", load=" + this.load +
+                ", monitoring=" + this.monitoring +
+                ", report=" + this.report +
                 ", processUtility=" + this.processUtility +
                 ", redis=" + this.redis +
+                ", backingStore=" + this.backingStore +
+                ", expiry=" + this.expiry +
+                ", serverStats=" + this.serverStats +
+                ", localTier=" + this.localTier +
                 '}';
     }
 }
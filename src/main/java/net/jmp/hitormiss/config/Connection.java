@@ -0,0 +1,370 @@
+package net.jmp.hitormiss.config;
+
+/*
+ * (#)Connection.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The connection class. It holds the Redisson
+ * connection pool, timeout and thread settings.
+ * The defaults are those of Redisson.
+ */
+public final class Connection {
+    /** The most connections in the pool. */
+    @SerializedName("connectionPoolSize")
+    private int connectionPoolSize = 64;
+
+    /** The fewest idle connections kept in the pool. */
+    @SerializedName("connectionMinimumIdleSize")
+    private int connectionMinimumIdleSize = 24;
+
+    /** The milliseconds after which an idle connection above the minimum is closed. */
+    @SerializedName("idleConnectionTimeoutMillis")
+    private int idleConnectionTimeoutMillis = 10000;
+
+    /** The milliseconds allowed to establish a connection. */
+    @SerializedName("connectTimeoutMillis")
+    private int connectTimeoutMillis = 10000;
+
+    /** The milliseconds allowed for a command response. */
+    @SerializedName("timeoutMillis")
+    private int timeoutMillis = 3000;
+
+    /** The number of times a failed command is retried. */
+    @SerializedName("retryAttempts")
+    private int retryAttempts = 3;
+
+    /** The milliseconds between retries. */
+    @SerializedName("retryIntervalMillis")
+    private int retryIntervalMillis = 1500;
+
+    /** The milliseconds between pings of each connection or 0 for none. */
+    @SerializedName("pingConnectionIntervalMillis")
+    private int pingConnectionIntervalMillis = 30000;
+
+    /** The number of Netty event loop threads. */
+    @SerializedName("nettyThreads")
+    private int nettyThreads = 32;
+
+    /** The number of threads that run listeners and callbacks. */
+    @SerializedName("threads")
+    private int threads = 16;
+
+    /** True to measure how long lookups wait for a connection. */
+    @SerializedName("measurePoolWait")
+    private boolean measurePoolWait;
+
+    /** The Netty transport. */
+    @SerializedName("transport")
+    private Transport transport = Transport.AUTO;
+
+    /**
+     * Get the connection pool size.
+     *
+     * @return  int
+     */
+    public int getConnectionPoolSize() {
+        return this.connectionPoolSize;
+    }
+
+    /**
+     * Set the connection pool size.
+     *
+     * @param   connectionPoolSize  int
+     */
+    public void setConnectionPoolSize(final int connectionPoolSize) {
+        this.connectionPoolSize = connectionPoolSize;
+    }
+
+    /**
+     * Get the minimum idle connection count.
+     *
+     * @return  int
+     */
+    public int getConnectionMinimumIdleSize() {
+        return this.connectionMinimumIdleSize;
+    }
+
+    /**
+     * Set the minimum idle connection count.
+     *
+     * @param   connectionMinimumIdleSize   int
+     */
+    public void setConnectionMinimumIdleSize(final int connectionMinimumIdleSize) {
+        this.connectionMinimumIdleSize = connectionMinimumIdleSize;
+    }
+
+    /**
+     * Get the idle connection timeout in milliseconds.
+     *
+     * @return  int
+     */
+    public int getIdleConnectionTimeoutMillis() {
+        return this.idleConnectionTimeoutMillis;
+    }
+
+    /**
+     * Set the idle connection timeout in milliseconds.
+     *
+     * @param   idleConnectionTimeoutMillis int
+     */
+    public void setIdleConnectionTimeoutMillis(final int idleConnectionTimeoutMillis) {
+        this.idleConnectionTimeoutMillis = idleConnectionTimeoutMillis;
+    }
+
+    /**
+     * Get the connect timeout in milliseconds.
+     *
+     * @return  int
+     */
+    public int getConnectTimeoutMillis() {
+        return this.connectTimeoutMillis;
+    }
+
+    /**
+     * Set the connect timeout in milliseconds.
+     *
+     * @param   connectTimeoutMillis    int
+     */
+    public void setConnectTimeoutMillis(final int connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+
+    /**
+     * Get the command timeout in milliseconds.
+     *
+     * @return  int
+     */
+    public int getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    /**
+     * Set the command timeout in milliseconds.
+     *
+     * @param   timeoutMillis   int
+     */
+    public void setTimeoutMillis(final int timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Get the retry attempts.
+     *
+     * @return  int
+     */
+    public int getRetryAttempts() {
+        return this.retryAttempts;
+    }
+
+    /**
+     * Set the retry attempts.
+     *
+     * @param   retryAttempts   int
+     */
+    public void setRetryAttempts(final int retryAttempts) {
+        this.retryAttempts = retryAttempts;
+    }
+
+    /**
+     * Get the retry interval in milliseconds.
+     *
+     * @return  int
+     */
+    public int getRetryIntervalMillis() {
+        return this.retryIntervalMillis;
+    }
+
+    /**
+     * Set the retry interval in milliseconds.
+     *
+     * @param   retryIntervalMillis int
+     */
+    public void setRetryIntervalMillis(final int retryIntervalMillis) {
+        this.retryIntervalMillis = retryIntervalMillis;
+    }
+
+    /**
+     * Get the ping connection interval in milliseconds.
+     *
+     * @return  int
+     */
+    public int getPingConnectionIntervalMillis() {
+        return this.pingConnectionIntervalMillis;
+    }
+
+    /**
+     * Set the ping connection interval in milliseconds.
+     *
+     * @param   pingConnectionIntervalMillis    int
+     */
+    public void setPingConnectionIntervalMillis(final int pingConnectionIntervalMillis) {
+        this.pingConnectionIntervalMillis = pingConnectionIntervalMillis;
+    }
+
+    /**
+     * Get the Netty thread count.
+     *
+     * @return  int
+     */
+    public int getNettyThreads() {
+        return this.nettyThreads;
+    }
+
+    /**
+     * Set the Netty thread count.
+     *
+     * @param   nettyThreads    int
+     */
+    public void setNettyThreads(final int nettyThreads) {
+        this.nettyThreads = nettyThreads;
+    }
+
+    /**
+     * Get the thread count.
+     *
+     * @return  int
+     */
+    public int getThreads() {
+        return this.threads;
+    }
+
+    /**
+     * Set the thread count.
+     *
+     * @param   threads int
+     */
+    public void setThreads(final int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Get the measure pool wait flag.
+     *
+     * @return  boolean
+     */
+    public boolean isMeasurePoolWait() {
+        return this.measurePoolWait;
+    }
+
+    /**
+     * Set the measure pool wait flag.
+     *
+     * @param   measurePoolWait boolean
+     */
+    public void setMeasurePoolWait(final boolean measurePoolWait) {
+        this.measurePoolWait = measurePoolWait;
+    }
+
+    /**
+     * Get the Netty transport.
+     *
+     * @return  net.jmp.hitormiss.config.Transport
+     */
+    public Transport getTransport() {
+        return this.transport;
+    }
+
+    /**
+     * Set the Netty transport.
+     *
+     * @param   transport   net.jmp.hitormiss.config.Transport
+     */
+    public void setTransport(final Transport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Connection connection = (Connection) o;
+
+        return this.connectionPoolSize == connection.connectionPoolSize && this.connectionMinimumIdleSize == connection.connectionMinimumIdleSize && this.idleConnectionTimeoutMillis == connection.idleConnectionTimeoutMillis && this.connectTimeoutMillis == connection.connectTimeoutMillis && this.timeoutMillis == connection.timeoutMillis && this.retryAttempts == connection.retryAttempts && this.retryIntervalMillis == connection.retryIntervalMillis && this.pingConnectionIntervalMillis == connection.pingConnectionIntervalMillis && this.nettyThreads == connection.nettyThreads && this.threads == connection.threads && this.measurePoolWait == connection.measurePoolWait && Objects.equals(this.transport, connection.transport);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = this.connectionPoolSize;
+
+        result = 31 * result + this.connectionMinimumIdleSize;
+        result = 31 * result + this.idleConnectionTimeoutMillis;
+        result = 31 * result + this.connectTimeoutMillis;
+        result = 31 * result + this.timeoutMillis;
+        result = 31 * result + this.retryAttempts;
+        result = 31 * result + this.retryIntervalMillis;
+        result = 31 * result + this.pingConnectionIntervalMillis;
+        result = 31 * result + this.nettyThreads;
+        result = 31 * result + this.threads;
+        result = 31 * result + Boolean.hashCode(this.measurePoolWait);
+        result = 31 * result + Objects.hashCode(this.transport);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Connection{" +
+                "connectionPoolSize=" + this.connectionPoolSize +
+                ", connectionMinimumIdleSize=" + this.connectionMinimumIdleSize +
+                ", idleConnectionTimeoutMillis=" + this.idleConnectionTimeoutMillis +
+                ", connectTimeoutMillis=" + this.connectTimeoutMillis +
+                ", timeoutMillis=" + this.timeoutMillis +
+                ", retryAttempts=" + this.retryAttempts +
+                ", retryIntervalMillis=" + this.retryIntervalMillis +
+                ", pingConnectionIntervalMillis=" + this.pingConnectionIntervalMillis +
+                ", nettyThreads=" + this.nettyThreads +
+                ", threads=" + this.threads +
+                ", measurePoolWait=" + this.measurePoolWait +
+                ", transport=" + this.transport +
+                '}';
+    }
+}
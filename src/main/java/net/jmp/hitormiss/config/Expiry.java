@@ -0,0 +1,246 @@
+package net.jmp.hitormiss.config;
+
+/*
+ * (#)Expiry.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The expiry configuration class.
+ */
+public final class Expiry {
+    /** The time to live of a stored bucket in milliseconds or zero for none. */
+    @SerializedName("ttlMillis")
+    private long ttlMillis;
+
+    /** The percentage by which each time to live is randomly lengthened or shortened. */
+    @SerializedName("jitterPercent")
+    private double jitterPercent;
+
+    /** True if hits refresh buckets probabilistically before they expire. */
+    @SerializedName("earlyRefresh")
+    private boolean earlyRefresh;
+
+    /** The eagerness of early refresh; larger values refresh earlier. */
+    @SerializedName("earlyRefreshBeta")
+    private double earlyRefreshBeta = 1.0;
+
+    /** The number of threads that refresh buckets early. */
+    @SerializedName("earlyRefreshThreads")
+    private int earlyRefreshThreads = 1;
+
+    /** True if a logically expired bucket is served stale while it is refreshed. */
+    @SerializedName("staleWhileRevalidate")
+    private boolean staleWhileRevalidate;
+
+    /** How long in milliseconds past its expiry a bucket may be served stale. */
+    @SerializedName("staleMillis")
+    private long staleMillis;
+
+    /**
+     * Get the time to live in milliseconds.
+     *
+     * @return  long
+     */
+    public long getTtlMillis() {
+        return this.ttlMillis;
+    }
+
+    /**
+     * Set the time to live in milliseconds.
+     *
+     * @param   ttlMillis   long
+     */
+    public void setTtlMillis(final long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Get the jitter in percent.
+     *
+     * @return  double
+     */
+    public double getJitterPercent() {
+        return this.jitterPercent;
+    }
+
+    /**
+     * Set the jitter in percent.
+     *
+     * @param   jitterPercent   double
+     */
+    public void setJitterPercent(final double jitterPercent) {
+        this.jitterPercent = jitterPercent;
+    }
+
+    /**
+     * Get the early refresh indicator.
+     *
+     * @return  boolean
+     */
+    public boolean isEarlyRefresh() {
+        return this.earlyRefresh;
+    }
+
+    /**
+     * Set the early refresh indicator.
+     *
+     * @param   earlyRefresh    boolean
+     */
+    public void setEarlyRefresh(final boolean earlyRefresh) {
+        this.earlyRefresh = earlyRefresh;
+    }
+
+    /**
+     * Get the early refresh beta.
+     *
+     * @return  double
+     */
+    public double getEarlyRefreshBeta() {
+        return this.earlyRefreshBeta;
+    }
+
+    /**
+     * Set the early refresh beta.
+     *
+     * @param   earlyRefreshBeta    double
+     */
+    public void setEarlyRefreshBeta(final double earlyRefreshBeta) {
+        this.earlyRefreshBeta = earlyRefreshBeta;
+    }
+
+    /**
+     * Get the number of early refresh threads.
+     *
+     * @return  int
+     */
+    public int getEarlyRefreshThreads() {
+        return this.earlyRefreshThreads;
+    }
+
+    /**
+     * Set the number of early refresh threads.
+     *
+     * @param   earlyRefreshThreads int
+     */
+    public void setEarlyRefreshThreads(final int earlyRefreshThreads) {
+        this.earlyRefreshThreads = earlyRefreshThreads;
+    }
+
+    /**
+     * Get the stale-while-revalidate indicator.
+     *
+     * @return  boolean
+     */
+    public boolean isStaleWhileRevalidate() {
+        return this.staleWhileRevalidate;
+    }
+
+    /**
+     * Set the stale-while-revalidate indicator.
+     *
+     * @param   staleWhileRevalidate    boolean
+     */
+    public void setStaleWhileRevalidate(final boolean staleWhileRevalidate) {
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    /**
+     * Get the stale period in milliseconds.
+     *
+     * @return  long
+     */
+    public long getStaleMillis() {
+        return this.staleMillis;
+    }
+
+    /**
+     * Set the stale period in milliseconds.
+     *
+     * @param   staleMillis long
+     */
+    public void setStaleMillis(final long staleMillis) {
+        this.staleMillis = staleMillis;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Expiry expiry = (Expiry) o;
+
+        return this.ttlMillis == expiry.ttlMillis && Double.compare(this.jitterPercent, expiry.jitterPercent) == 0 && this.earlyRefresh == expiry.earlyRefresh && Double.compare(this.earlyRefreshBeta, expiry.earlyRefreshBeta) == 0 && this.earlyRefreshThreads == expiry.earlyRefreshThreads && this.staleWhileRevalidate == expiry.staleWhileRevalidate && this.staleMillis == expiry.staleMillis;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(this.ttlMillis);
+
+        result = 31 * result + Double.hashCode(this.jitterPercent);
+        result = 31 * result + Boolean.hashCode(this.earlyRefresh);
+        result = 31 * result + Double.hashCode(this.earlyRefreshBeta);
+        result = 31 * result + this.earlyRefreshThreads;
+        result = 31 * result + Boolean.hashCode(this.staleWhileRevalidate);
+        result = 31 * result + Long.hashCode(this.staleMillis);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Expiry{" +
+                "ttlMillis=" + this.ttlMillis +
+                ", jitterPercent=" + this.jitterPercent +
+                ", earlyRefresh=" + this.earlyRefresh +
+                ", earlyRefreshBeta=" + this.earlyRefreshBeta +
+                ", earlyRefreshThreads=" + this.earlyRefreshThreads +
+                ", staleWhileRevalidate=" + this.staleWhileRevalidate +
+                ", staleMillis=" + this.staleMillis +
+                '}';
+    }
+}
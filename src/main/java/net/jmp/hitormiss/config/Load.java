@@ -0,0 +1,248 @@
+package net.jmp.hitormiss.config;
+
+/*
+ * (#)Load.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The load generation configuration class.
+ */
+public final class Load {
+    /** The load mode. */
+    @SerializedName("mode")
+    private LoadMode mode = LoadMode.CLOSED;
+
+    /** The target rate in operations per second. */
+    @SerializedName("targetRate")
+    private double targetRate;
+
+    /** The rate to ramp up (or down) to in operations per second. */
+    @SerializedName("rampToRate")
+    private double rampToRate;
+
+    /** The number of seconds over which to ramp the rate. */
+    @SerializedName("rampSeconds")
+    private int rampSeconds;
+
+    /** The number of seconds to measure for or zero to run a fixed number of operations. */
+    @SerializedName("durationSeconds")
+    private int durationSeconds;
+
+    /** The number of seconds to warm up for before measuring. */
+    @SerializedName("warmupSeconds")
+    private int warmupSeconds;
+
+    /** The steady-state detection component. */
+    @SerializedName("steadyState")
+    private SteadyState steadyState = new SteadyState();
+
+    /**
+     * Get the load mode.
+     *
+     * @return  net.jmp.hitormiss.config.LoadMode
+     */
+    public LoadMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Set the load mode.
+     *
+     * @param   mode    net.jmp.hitormiss.config.LoadMode
+     */
+    public void setMode(final LoadMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Get the target rate.
+     *
+     * @return  double
+     */
+    public double getTargetRate() {
+        return this.targetRate;
+    }
+
+    /**
+     * Set the target rate.
+     *
+     * @param   targetRate  double
+     */
+    public void setTargetRate(final double targetRate) {
+        this.targetRate = targetRate;
+    }
+
+    /**
+     * Get the rate to ramp to.
+     *
+     * @return  double
+     */
+    public double getRampToRate() {
+        return this.rampToRate;
+    }
+
+    /**
+     * Set the rate to ramp to.
+     *
+     * @param   rampToRate  double
+     */
+    public void setRampToRate(final double rampToRate) {
+        this.rampToRate = rampToRate;
+    }
+
+    /**
+     * Get the number of ramp seconds.
+     *
+     * @return  int
+     */
+    public int getRampSeconds() {
+        return this.rampSeconds;
+    }
+
+    /**
+     * Set the number of ramp seconds.
+     *
+     * @param   rampSeconds int
+     */
+    public void setRampSeconds(final int rampSeconds) {
+        this.rampSeconds = rampSeconds;
+    }
+
+    /**
+     * Get the duration seconds.
+     *
+     * @return  int
+     */
+    public int getDurationSeconds() {
+        return this.durationSeconds;
+    }
+
+    /**
+     * Set the duration seconds.
+     *
+     * @param   durationSeconds int
+     */
+    public void setDurationSeconds(final int durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    /**
+     * Get the warmup seconds.
+     *
+     * @return  int
+     */
+    public int getWarmupSeconds() {
+        return this.warmupSeconds;
+    }
+
+    /**
+     * Set the warmup seconds.
+     *
+     * @param   warmupSeconds   int
+     */
+    public void setWarmupSeconds(final int warmupSeconds) {
+        this.warmupSeconds = warmupSeconds;
+    }
+
+    /**
+     * Get the steady-state detection component.
+     *
+     * @return  net.jmp.hitormiss.config.SteadyState
+     */
+    public SteadyState getSteadyState() {
+        return this.steadyState;
+    }
+
+    /**
+     * Set the steady-state detection component.
+     *
+     * @param   steadyState net.jmp.hitormiss.config.SteadyState
+     */
+    public void setSteadyState(final SteadyState steadyState) {
+        this.steadyState = steadyState;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Load load = (Load) o;
+
+        return Double.compare(this.targetRate, load.targetRate) == 0 && Double.compare(this.rampToRate, load.rampToRate) == 0 && this.rampSeconds == load.rampSeconds && this.durationSeconds == load.durationSeconds && this.warmupSeconds == load.warmupSeconds && this.mode == load.mode && Objects.equals(this.steadyState, load.steadyState);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(this.mode);
+
+        result = 31 * result + Double.hashCode(this.targetRate);
+        result = 31 * result + Double.hashCode(this.rampToRate);
+        result = 31 * result + this.rampSeconds;
+        result = 31 * result + this.durationSeconds;
+        result = 31 * result + this.warmupSeconds;
+        result = 31 * result + Objects.hashCode(this.steadyState);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Load{" +
+                "mode=" + this.mode +
+                ", targetRate=" + this.targetRate +
+                ", rampToRate=" + this.rampToRate +
+                ", rampSeconds=" + this.rampSeconds +
+                ", durationSeconds=" + this.durationSeconds +
+                ", warmupSeconds=" + this.warmupSeconds +
+                ", steadyState=" + this.steadyState +
+                '}';
+    }
+}
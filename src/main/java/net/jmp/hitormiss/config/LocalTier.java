@@ -0,0 +1,152 @@
+package net.jmp.hitormiss.config;
+
+/*
+ * (#)LocalTier.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The local tier configuration class.
+ */
+public final class LocalTier {
+    /** True if a memory-mapped local tier sits in front of the cache backend. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The name of the file the local tier is mapped from. */
+    @SerializedName("fileName")
+    private String fileName = "hit-or-miss-local.dat";
+
+    /** The age in seconds after which an element in the tier is ignored or zero to keep it. */
+    @SerializedName("maxAgeSeconds")
+    private long maxAgeSeconds;
+
+    /**
+     * Get the enabled indicator.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set the enabled indicator.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the local tier file name.
+     *
+     * @return  java.lang.String
+     */
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    /**
+     * Set the local tier file name.
+     *
+     * @param   fileName    java.lang.String
+     */
+    public void setFileName(final String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Get the maximum age in seconds.
+     *
+     * @return  long
+     */
+    public long getMaxAgeSeconds() {
+        return this.maxAgeSeconds;
+    }
+
+    /**
+     * Set the maximum age in seconds.
+     *
+     * @param   maxAgeSeconds   long
+     */
+    public void setMaxAgeSeconds(final long maxAgeSeconds) {
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final LocalTier localTier = (LocalTier) o;
+
+        return this.enabled == localTier.enabled && Objects.equals(this.fileName, localTier.fileName) && this.maxAgeSeconds == localTier.maxAgeSeconds;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + Objects.hashCode(this.fileName);
+        result = 31 * result + Long.hashCode(this.maxAgeSeconds);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "LocalTier{" +
+                "enabled=" + this.enabled +
+                ", fileName='" + this.fileName + '\'' +
+                ", maxAgeSeconds=" + this.maxAgeSeconds +
+                '}';
+    }
+}
@@ -0,0 +1,200 @@
+package net.jmp.hitormiss.config;
+
+/*
+ * (#)Monitoring.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The monitoring configuration class.
+ */
+public final class Monitoring {
+    /** True if the Prometheus metrics endpoint should be served. */
+    @SerializedName("prometheusEnabled")
+    private boolean prometheusEnabled;
+
+    /** The port the Prometheus metrics endpoint listens on. */
+    @SerializedName("prometheusPort")
+    private int prometheusPort = 9404;
+
+    /** The path of the Prometheus metrics endpoint. */
+    @SerializedName("prometheusPath")
+    private String prometheusPath = "/metrics";
+
+    /** True if the statistics MBean should be registered. */
+    @SerializedName("jmxEnabled")
+    private boolean jmxEnabled;
+
+    /** Every how many accesses a flight recorder access event is considered, or zero for never. */
+    @SerializedName("jfrAccessSampleEvery")
+    private int jfrAccessSampleEvery = 1;
+
+    /**
+     * Get the Prometheus enabled indicator.
+     *
+     * @return  boolean
+     */
+    public boolean isPrometheusEnabled() {
+        return this.prometheusEnabled;
+    }
+
+    /**
+     * Set the Prometheus enabled indicator.
+     *
+     * @param   prometheusEnabled   boolean
+     */
+    public void setPrometheusEnabled(final boolean prometheusEnabled) {
+        this.prometheusEnabled = prometheusEnabled;
+    }
+
+    /**
+     * Get the Prometheus port.
+     *
+     * @return  int
+     */
+    public int getPrometheusPort() {
+        return this.prometheusPort;
+    }
+
+    /**
+     * Set the Prometheus port.
+     *
+     * @param   prometheusPort  int
+     */
+    public void setPrometheusPort(final int prometheusPort) {
+        this.prometheusPort = prometheusPort;
+    }
+
+    /**
+     * Get the Prometheus path.
+     *
+     * @return  java.lang.String
+     */
+    public String getPrometheusPath() {
+        return this.prometheusPath;
+    }
+
+    /**
+     * Set the Prometheus path.
+     *
+     * @param   prometheusPath  java.lang.String
+     */
+    public void setPrometheusPath(final String prometheusPath) {
+        this.prometheusPath = prometheusPath;
+    }
+
+    /**
+     * Get the JMX enabled indicator.
+     *
+     * @return  boolean
+     */
+    public boolean isJmxEnabled() {
+        return this.jmxEnabled;
+    }
+
+    /**
+     * Set the JMX enabled indicator.
+     *
+     * @param   jmxEnabled  boolean
+     */
+    public void setJmxEnabled(final boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
+
+    /**
+     * Get the flight recorder access event sampling interval.
+     *
+     * @return  int
+     */
+    public int getJfrAccessSampleEvery() {
+        return this.jfrAccessSampleEvery;
+    }
+
+    /**
+     * Set the flight recorder access event sampling interval.
+     *
+     * @param   jfrAccessSampleEvery    int
+     */
+    public void setJfrAccessSampleEvery(final int jfrAccessSampleEvery) {
+        this.jfrAccessSampleEvery = jfrAccessSampleEvery;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Monitoring that = (Monitoring) o;
+
+        return this.prometheusEnabled == that.prometheusEnabled && this.prometheusPort == that.prometheusPort && Objects.equals(this.prometheusPath, that.prometheusPath) && this.jmxEnabled == that.jmxEnabled && this.jfrAccessSampleEvery == that.jfrAccessSampleEvery;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.prometheusEnabled);
+
+        result = 31 * result + this.prometheusPort;
+        result = 31 * result + Objects.hashCode(this.prometheusPath);
+        result = 31 * result + Boolean.hashCode(this.jmxEnabled);
+        result = 31 * result + this.jfrAccessSampleEvery;
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Monitoring{" +
+                "prometheusEnabled=" + this.prometheusEnabled +
+                ", prometheusPort=" + this.prometheusPort +
+                ", prometheusPath='" + this.prometheusPath + '\'' +
+                ", jmxEnabled=" + this.jmxEnabled +
+                ", jfrAccessSampleEvery=" + this.jfrAccessSampleEvery +
+                '}';
+    }
+}
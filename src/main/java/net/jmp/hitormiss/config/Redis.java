@@ -1,10 +1,11 @@
 package net.jmp.hitormiss.config;
 
 /*
+ * (#)Config.java   0.6.0   10/19/2026
  * (#)Config.java   0.1.0   05/25/2024
  *
  * @author    Jonathan Parker
- * @version   0.1.0
+ * @version   0.6.0
  * @since     0.1.0
  *
  * MIT License
@@ -32,6 +33,8 @@ package net.jmp.hitormiss.config;
 
 import com.google.gson.annotations.SerializedName;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -54,6 +57,30 @@ public final class Redis {
     @SerializedName("server-cli")
     private ServerCLI serverCLI;
 
+    /** The connection settings. @since 0.6.0 */
+    @SerializedName("connection")
+    private Connection connection = new Connection();
+
+    /** The topology. @since 0.6.0 */
+    @SerializedName("topology")
+    private Topology topology = Topology.SINGLE;
+
+    /** The host:port addresses of the nodes or sentinels when not single. @since 0.6.0 */
+    @SerializedName("nodes")
+    private List<String> nodes = new ArrayList<>();
+
+    /** The name of the master monitored by the sentinels. @since 0.6.0 */
+    @SerializedName("masterName")
+    private String masterName;
+
+    /** The nodes that serve the reads when not single. @since 0.6.0 */
+    @SerializedName("readMode")
+    private ReadMode readMode = ReadMode.MASTER;
+
+    /** The number of points of each instance on the consistent hash ring when sharded. @since 0.6.0 */
+    @SerializedName("virtualNodes")
+    private int virtualNodes = 160;
+
     /**
      * Get the host name.
      *
@@ -126,6 +153,137 @@ public final class Redis {
         this.serverCLI = serverCLI;
     }
 
+    /**
+     * Get the connection settings.
+     *
+     * @return  net.jmp.hitormiss.config.Connection
+     * @since   0.6.0
+     */
+    public Connection getConnection() {
+        return this.connection;
+    }
+
+    /**
+     * Set the connection settings.
+     *
+     * @param   connection  net.jmp.hitormiss.config.Connection
+     * @since               0.6.0
+     */
+    public void setConnection(final Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Get the topology.
+     *
+     * @return  net.jmp.hitormiss.config.Topology
+     * @since   0.6.0
+     */
+    public Topology getTopology() {
+        return this.topology;
+    }
+
+    /**
+     * Set the topology.
+     *
+     * @param   topology    net.jmp.hitormiss.config.Topology
+     * @since               0.6.0
+     */
+    public void setTopology(final Topology topology) {
+        this.topology = topology;
+    }
+
+    /**
+     * Get the node addresses.
+     *
+     * @return  java.util.List&lt;java.lang.String&gt;
+     * @since   0.6.0
+     */
+    public List<String> getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * Set the node addresses.
+     *
+     * @param   nodes   java.util.List&lt;java.lang.String&gt;
+     * @since           0.6.0
+     */
+    public void setNodes(final List<String> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Get the sentinel master name.
+     *
+     * @return  java.lang.String
+     * @since   0.6.0
+     */
+    public String getMasterName() {
+        return this.masterName;
+    }
+
+    /**
+     * Set the sentinel master name.
+     *
+     * @param   masterName  java.lang.String
+     * @since               0.6.0
+     */
+    public void setMasterName(final String masterName) {
+        this.masterName = masterName;
+    }
+
+    /**
+     * Get the read mode.
+     *
+     * @return  net.jmp.hitormiss.config.ReadMode
+     * @since   0.6.0
+     */
+    public ReadMode getReadMode() {
+        return this.readMode;
+    }
+
+    /**
+     * Set the read mode.
+     *
+     * @param   readMode    net.jmp.hitormiss.config.ReadMode
+     * @since               0.6.0
+     */
+    public void setReadMode(final ReadMode readMode) {
+        this.readMode = readMode;
+    }
+
+    /**
+     * Get the number of virtual nodes of each instance.
+     *
+     * @return  int
+     * @since   0.6.0
+     */
+    public int getVirtualNodes() {
+        return this.virtualNodes;
+    }
+
+    /**
+     * Set the number of virtual nodes of each instance.
+     *
+     * @param   virtualNodes    int
+     * @since                   0.6.0
+     */
+    public void setVirtualNodes(final int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    /**
+     * Return true if reads may be served by
+     * replicas, whose copies can lag the master.
+     *
+     * @return  boolean
+     * @since   0.6.0
+     */
+    public boolean isReplicaReads() {
+        return this.topology != Topology.SINGLE && this.topology != Topology.SHARDED && this.readMode != ReadMode.MASTER;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -134,7 +292,7 @@ public final class Redis {
 
         final Redis redis = (Redis) o;
 
-        return this.port == redis.port && Objects.equals(this.hostName, redis.hostName) && Objects.equals(this.protocol, redis.protocol) && Objects.equals(this.serverCLI, redis.serverCLI);
+        return this.port == redis.port && Objects.equals(this.hostName, redis.hostName) && Objects.equals(this.protocol, redis.protocol) && Objects.equals(this.serverCLI, redis.serverCLI) && Objects.equals(this.connection, redis.connection) && Objects.equals(this.topology, redis.topology) && Objects.equals(this.nodes, redis.nodes) && Objects.equals(this.masterName, redis.masterName) && Objects.equals(this.readMode, redis.readMode) && this.virtualNodes == redis.virtualNodes;
     }
 
     @Override
@@ -144,6 +302,12 @@ public final class Redis {
         result = 31 * result + this.port;
         result = 31 * result + Objects.hashCode(this.protocol);
         result = 31 * result + Objects.hashCode(this.serverCLI);
+        result = 31 * result + Objects.hashCode(this.connection);
+        result = 31 * result + Objects.hashCode(this.topology);
+        result = 31 * result + Objects.hashCode(this.nodes);
+        result = 31 * result + Objects.hashCode(this.masterName);
+        result = 31 * result + Objects.hashCode(this.readMode);
+        result = 31 * result + this.virtualNodes;
 
         return result;
     }
@@ -160,6 +324,12 @@ public final class Redis {
                 ", port=" + this.port +
                 ", protocol='" + this.protocol +'\'' +
                 ", serverCLI=" + this.serverCLI +
+                ", connection=" + this.connection +
+                ", topology=" + this.topology +
+                ", nodes=" + this.nodes +
+                ", masterName='" + this.masterName + '\'' +
+                ", readMode=" + this.readMode +
+                ", virtualNodes=" + this.virtualNodes +
                 '}';
     }
 }
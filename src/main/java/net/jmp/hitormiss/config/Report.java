@@ -0,0 +1,200 @@
+package net.jmp.hitormiss.config;
+
+/*
+ * (#)Report.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The run report configuration class.
+ */
+public final class Report {
+    /** True if a report should be written at the end of the run. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The name of the file the report is written to. */
+    @SerializedName("fileName")
+    private String fileName = "hit-or-miss-report.json";
+
+    /** The name of a baseline report to compare against or null for none. */
+    @SerializedName("baselineFileName")
+    private String baselineFileName;
+
+    /** The throughput drop in percent tolerated before a regression is declared. */
+    @SerializedName("throughputTolerancePercent")
+    private double throughputTolerancePercent = 5.0;
+
+    /** The p99 response time increase in percent tolerated before a regression is declared. */
+    @SerializedName("p99TolerancePercent")
+    private double p99TolerancePercent = 10.0;
+
+    /**
+     * Get the enabled indicator.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set the enabled indicator.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the report file name.
+     *
+     * @return  java.lang.String
+     */
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    /**
+     * Set the report file name.
+     *
+     * @param   fileName    java.lang.String
+     */
+    public void setFileName(final String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Get the baseline report file name.
+     *
+     * @return  java.lang.String
+     */
+    public String getBaselineFileName() {
+        return this.baselineFileName;
+    }
+
+    /**
+     * Set the baseline report file name.
+     *
+     * @param   baselineFileName    java.lang.String
+     */
+    public void setBaselineFileName(final String baselineFileName) {
+        this.baselineFileName = baselineFileName;
+    }
+
+    /**
+     * Get the throughput tolerance in percent.
+     *
+     * @return  double
+     */
+    public double getThroughputTolerancePercent() {
+        return this.throughputTolerancePercent;
+    }
+
+    /**
+     * Set the throughput tolerance in percent.
+     *
+     * @param   throughputTolerancePercent  double
+     */
+    public void setThroughputTolerancePercent(final double throughputTolerancePercent) {
+        this.throughputTolerancePercent = throughputTolerancePercent;
+    }
+
+    /**
+     * Get the p99 tolerance in percent.
+     *
+     * @return  double
+     */
+    public double getP99TolerancePercent() {
+        return this.p99TolerancePercent;
+    }
+
+    /**
+     * Set the p99 tolerance in percent.
+     *
+     * @param   p99TolerancePercent double
+     */
+    public void setP99TolerancePercent(final double p99TolerancePercent) {
+        this.p99TolerancePercent = p99TolerancePercent;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Report report = (Report) o;
+
+        return this.enabled == report.enabled && Objects.equals(this.fileName, report.fileName) && Objects.equals(this.baselineFileName, report.baselineFileName) && Double.compare(this.throughputTolerancePercent, report.throughputTolerancePercent) == 0 && Double.compare(this.p99TolerancePercent, report.p99TolerancePercent) == 0;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + Objects.hashCode(this.fileName);
+        result = 31 * result + Objects.hashCode(this.baselineFileName);
+        result = 31 * result + Double.hashCode(this.throughputTolerancePercent);
+        result = 31 * result + Double.hashCode(this.p99TolerancePercent);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Report{" +
+                "enabled=" + this.enabled +
+                ", fileName='" + this.fileName + '\'' +
+                ", baselineFileName='" + this.baselineFileName + '\'' +
+                ", throughputTolerancePercent=" + this.throughputTolerancePercent +
+                ", p99TolerancePercent=" + this.p99TolerancePercent +
+                '}';
+    }
+}
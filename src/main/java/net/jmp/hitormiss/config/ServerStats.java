@@ -0,0 +1,176 @@
+package net.jmp.hitormiss.config;
+
+/*
+ * (#)ServerStats.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The server statistics class. Redis INFO stats are
+ * sampled at the start and end of a run and at an
+ * optional interval, and compared with client counts.
+ */
+public final class ServerStats {
+    /** True to sample the server statistics. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The seconds between samples or 0 to sample only at the start and end. */
+    @SerializedName("sampleIntervalSeconds")
+    private int sampleIntervalSeconds;
+
+    /** True to capture outcomes on the client as well. */
+    @SerializedName("clientCapture")
+    private boolean clientCapture = true;
+
+    /** The milliseconds between pings of each node or 0 for none. */
+    @SerializedName("nodeLatencyIntervalMillis")
+    private int nodeLatencyIntervalMillis;
+
+    /**
+     * Get the enabled flag.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set the enabled flag.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the sample interval in seconds.
+     *
+     * @return  int
+     */
+    public int getSampleIntervalSeconds() {
+        return this.sampleIntervalSeconds;
+    }
+
+    /**
+     * Set the sample interval in seconds.
+     *
+     * @param   sampleIntervalSeconds   int
+     */
+    public void setSampleIntervalSeconds(final int sampleIntervalSeconds) {
+        this.sampleIntervalSeconds = sampleIntervalSeconds;
+    }
+
+    /**
+     * Get the client capture flag.
+     *
+     * @return  boolean
+     */
+    public boolean isClientCapture() {
+        return this.clientCapture;
+    }
+
+    /**
+     * Set the client capture flag.
+     *
+     * @param   clientCapture   boolean
+     */
+    public void setClientCapture(final boolean clientCapture) {
+        this.clientCapture = clientCapture;
+    }
+
+    /**
+     * Get the node latency interval in milliseconds.
+     *
+     * @return  int
+     */
+    public int getNodeLatencyIntervalMillis() {
+        return this.nodeLatencyIntervalMillis;
+    }
+
+    /**
+     * Set the node latency interval in milliseconds.
+     *
+     * @param   nodeLatencyIntervalMillis   int
+     */
+    public void setNodeLatencyIntervalMillis(final int nodeLatencyIntervalMillis) {
+        this.nodeLatencyIntervalMillis = nodeLatencyIntervalMillis;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ServerStats serverStats = (ServerStats) o;
+
+        return this.enabled == serverStats.enabled && this.sampleIntervalSeconds == serverStats.sampleIntervalSeconds && this.clientCapture == serverStats.clientCapture && this.nodeLatencyIntervalMillis == serverStats.nodeLatencyIntervalMillis;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + this.sampleIntervalSeconds;
+        result = 31 * result + Boolean.hashCode(this.clientCapture);
+        result = 31 * result + this.nodeLatencyIntervalMillis;
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "ServerStats{" +
+                "enabled=" + this.enabled +
+                ", sampleIntervalSeconds=" + this.sampleIntervalSeconds +
+                ", clientCapture=" + this.clientCapture +
+                ", nodeLatencyIntervalMillis=" + this.nodeLatencyIntervalMillis +
+                '}';
+    }
+}
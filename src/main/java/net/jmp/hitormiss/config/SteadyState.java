@@ -0,0 +1,174 @@
+package net.jmp.hitormiss.config;
+
+/*
+ * (#)SteadyState.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The steady-state detection configuration class.
+ */
+public final class SteadyState {
+    /** True if warmup should end once the run reaches a steady state. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The length of each sampling window in seconds. */
+    @SerializedName("windowSeconds")
+    private int windowSeconds = 1;
+
+    /** The tolerance in percent within which the windows must agree. */
+    @SerializedName("tolerancePercent")
+    private double tolerancePercent = 5.0;
+
+    /** The number of consecutive windows that must agree. */
+    @SerializedName("stableWindows")
+    private int stableWindows = 3;
+
+    /**
+     * Get the enabled indicator.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set the enabled indicator.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the window seconds.
+     *
+     * @return  int
+     */
+    public int getWindowSeconds() {
+        return this.windowSeconds;
+    }
+
+    /**
+     * Set the window seconds.
+     *
+     * @param   windowSeconds   int
+     */
+    public void setWindowSeconds(final int windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    /**
+     * Get the tolerance percent.
+     *
+     * @return  double
+     */
+    public double getTolerancePercent() {
+        return this.tolerancePercent;
+    }
+
+    /**
+     * Set the tolerance percent.
+     *
+     * @param   tolerancePercent    double
+     */
+    public void setTolerancePercent(final double tolerancePercent) {
+        this.tolerancePercent = tolerancePercent;
+    }
+
+    /**
+     * Get the number of stable windows.
+     *
+     * @return  int
+     */
+    public int getStableWindows() {
+        return this.stableWindows;
+    }
+
+    /**
+     * Set the number of stable windows.
+     *
+     * @param   stableWindows   int
+     */
+    public void setStableWindows(final int stableWindows) {
+        this.stableWindows = stableWindows;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SteadyState that = (SteadyState) o;
+
+        return this.enabled == that.enabled && this.windowSeconds == that.windowSeconds && Double.compare(this.tolerancePercent, that.tolerancePercent) == 0 && this.stableWindows == that.stableWindows;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + this.windowSeconds;
+        result = 31 * result + Double.hashCode(this.tolerancePercent);
+        result = 31 * result + this.stableWindows;
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "SteadyState{" +
+                "enabled=" + this.enabled +
+                ", windowSeconds=" + this.windowSeconds +
+                ", tolerancePercent=" + this.tolerancePercent +
+                ", stableWindows=" + this.stableWindows +
+                '}';
+    }
+}
@@ -0,0 +1,378 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)AccessScript.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import net.jmp.hitormiss.config.Config;
+
+import net.jmp.hitormiss.util.ExpiryPolicy;
+import net.jmp.hitormiss.util.KeyEncoder;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.client.RedisException;
+
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Accesses a bucket with a server-side Lua script that
+ * gets it, fills it on a miss and increments the hit
+ * or miss accumulator in one round trip. The fill value
+ * is encoded with the client's codec so the bucket reads
+ * the same as one written by the client.
+ *
+ * <p>The script's keys and arguments of each key are
+ * built the first time the key is accessed and reused
+ * for the rest of the run, as is the encoding of each
+ * time to live, so an access with a fixed time to live
+ * allocates nothing here. With jitter the arguments are
+ * rebuilt when a key's time to live changes. The fill
+ * value carries no logical expiry; the time to live the
+ * script sets on the bucket expires it. Two threads may
+ * both build a key's arguments, but either is a fill.
+ */
+public final class AccessScript {
+    /** The script. KEYS are the bucket and the hit and miss accumulators; ARGV the fill value and time to live. */
+    static final String SCRIPT = """
+            if redis.call('GET', KEYS[1]) then
+                redis.call('INCR', KEYS[2])
+                return 1
+            end
+            if tonumber(ARGV[2]) > 0 then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            else
+                redis.call('SET', KEYS[1], ARGV[1])
+            end
+            redis.call('INCR', KEYS[3])
+            return 0
+            """;
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The configuration. */
+    private final Config config;
+
+    /** The script service whose arguments are raw bytes. */
+    private final RScript script;
+
+    /** The script service that loads the script. */
+    private final RScript loader;
+
+    /** The codec that fill values are encoded with. */
+    private final Codec codec;
+
+    /** The expiry policy. */
+    private final ExpiryPolicy expiryPolicy;
+
+    /** The key encoder shared with the access threads. */
+    private final KeyEncoder keyEncoder;
+
+    /** The most times to live whose encodings are kept. */
+    private static final int MAXIMUM_TIMES_TO_LIVE = 1 << 16;
+
+    /** The script's keys by key or null until built. */
+    private final AtomicReferenceArray<List<Object>> keys;
+
+    /** The encoded fill value and time to live by key or null until built. */
+    private final AtomicReferenceArray<Object[]> arguments;
+
+    /** The encoded times to live from the shortest that can be drawn or null until encoded. */
+    private final AtomicReferenceArray<byte[]> timesToLive;
+
+    /** The shortest time to live in milliseconds that can be drawn. */
+    private final long minTimeToLiveMillis;
+
+    /** The SHA1 digest of the loaded script. */
+    private volatile String sha;
+
+    /**
+     * The constructor.
+     *
+     * @param   config      net.jmp.hitormiss.config.Config
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   keyEncoder  net.jmp.hitormiss.util.KeyEncoder
+     */
+    public AccessScript(final Config config, final RedissonClient client, final KeyEncoder keyEncoder) {
+        this(config,
+             Objects.requireNonNull(client).getScript(ByteArrayCodec.INSTANCE),
+             client.getScript(StringCodec.INSTANCE),
+             client.getConfig().getCodec(),
+             keyEncoder);
+    }
+
+    /**
+     * A constructor that takes the script services and codec.
+     *
+     * @param   config      net.jmp.hitormiss.config.Config
+     * @param   script      org.redisson.api.RScript
+     * @param   loader      org.redisson.api.RScript
+     * @param   codec       org.redisson.client.codec.Codec
+     * @param   keyEncoder  net.jmp.hitormiss.util.KeyEncoder
+     */
+    AccessScript(final Config config, final RScript script, final RScript loader, final Codec codec, final KeyEncoder keyEncoder) {
+        super();
+
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(script);
+        Objects.requireNonNull(loader);
+        Objects.requireNonNull(codec);
+        Objects.requireNonNull(keyEncoder);
+
+        this.config = config;
+        this.script = script;
+        this.loader = loader;
+        this.codec = codec;
+        this.expiryPolicy = new ExpiryPolicy(config.getExpiry().getTtlMillis(), config.getExpiry().getJitterPercent());
+        this.keyEncoder = keyEncoder;
+        this.keys = new AtomicReferenceArray<>(keyEncoder.getKeySpace());
+        this.arguments = new AtomicReferenceArray<>(keyEncoder.getKeySpace());
+        this.minTimeToLiveMillis = this.expiryPolicy.getMinTimeToLiveMillis();
+        this.timesToLive = new AtomicReferenceArray<>((int) Math.min(MAXIMUM_TIMES_TO_LIVE, this.expiryPolicy.getMaxTimeToLiveMillis() - this.minTimeToLiveMillis + 1));
+    }
+
+    /**
+     * Load the script into the server's
+     * script cache and return its digest.
+     *
+     * @return  java.lang.String
+     */
+    public String load() {
+        this.logger.entry();
+
+        this.sha = this.loader.scriptLoad(SCRIPT);
+
+        this.logger.exit(this.sha);
+
+        return this.sha;
+    }
+
+    /**
+     * Access the bucket of a key by script.
+     * True is returned on a hit; a miss has
+     * been filled by the time false is returned.
+     * When the server no longer has the script
+     * cached, after a restart or a SCRIPT FLUSH,
+     * the script is reloaded and the access retried.
+     *
+     * @param   keyAsInt    int
+     * @return              boolean
+     */
+    public boolean access(final int keyAsInt) {
+        assert this.sha != null : "The script has not been loaded";
+
+        final List<Object> scriptKeys = this.getKeys(keyAsInt);
+        final Object[] scriptArguments = this.getArguments(keyAsInt, this.getTimeToLive(this.expiryPolicy.nextTimeToLiveMillis()));
+
+        Long result;
+
+        try {
+            result = this.evalSha(scriptKeys, scriptArguments);
+        } catch (final RedisException re) {
+            if (!this.isNoScript(re))
+                throw re;
+
+            this.logger.warn("Script {} is no longer cached by the server; reloading it", this.sha);
+
+            this.load();
+
+            result = this.evalSha(scriptKeys, scriptArguments);
+        }
+
+        return result != null && result == 1;
+    }
+
+    /**
+     * Evaluate the loaded script. The arguments are
+     * passed as the array itself, so no array is built.
+     *
+     * @param   scriptKeys      java.util.List&lt;java.lang.Object&gt;
+     * @param   scriptArguments java.lang.Object[]
+     * @return                  java.lang.Long
+     */
+    private Long evalSha(final List<Object> scriptKeys, final Object[] scriptArguments) {
+        return this.script.evalSha(
+                RScript.Mode.READ_WRITE,
+                this.sha,
+                RScript.ReturnType.INTEGER,
+                scriptKeys,
+                scriptArguments
+        );
+    }
+
+    /**
+     * Return the script's keys for a key: its bucket
+     * and the hit and miss accumulators. Keys outside
+     * the key space are built every time.
+     *
+     * @param   keyAsInt    int
+     * @return              java.util.List&lt;java.lang.Object&gt;
+     */
+    private List<Object> getKeys(final int keyAsInt) {
+        if (keyAsInt < 0 || keyAsInt >= this.keys.length())
+            return this.buildKeys(keyAsInt);
+
+        List<Object> scriptKeys = this.keys.get(keyAsInt);
+
+        if (scriptKeys == null) {
+            scriptKeys = this.buildKeys(keyAsInt);
+            this.keys.set(keyAsInt, scriptKeys);
+        }
+
+        return scriptKeys;
+    }
+
+    /**
+     * Build the script's keys for a key.
+     *
+     * @param   keyAsInt    int
+     * @return              java.util.List&lt;java.lang.Object&gt;
+     */
+    private List<Object> buildKeys(final int keyAsInt) {
+        return List.of(
+                this.keyEncoder.key(keyAsInt),
+                this.config.getApplication().getAccumulatorBucketNameForHits(),
+                this.config.getApplication().getAccumulatorBucketNameForMisses()
+        );
+    }
+
+    /**
+     * Return the script's arguments for a key: its
+     * encoded fill value and the time to live. They
+     * are rebuilt only when the time to live differs
+     * from the one they were last built with. Keys
+     * outside the key space are built every time.
+     *
+     * @param   keyAsInt    int
+     * @param   timeToLive  byte[]
+     * @return              java.lang.Object[]
+     */
+    private Object[] getArguments(final int keyAsInt, final byte[] timeToLive) {
+        if (keyAsInt < 0 || keyAsInt >= this.arguments.length())
+            return new Object[] {this.encodeFill(keyAsInt), timeToLive};
+
+        Object[] scriptArguments = this.arguments.get(keyAsInt);
+
+        if (scriptArguments == null || scriptArguments[1] != timeToLive) {
+            scriptArguments = new Object[] {scriptArguments == null ? this.encodeFill(keyAsInt) : scriptArguments[0], timeToLive};
+            this.arguments.set(keyAsInt, scriptArguments);
+        }
+
+        return scriptArguments;
+    }
+
+    /**
+     * Return the encoded time to live in milliseconds,
+     * encoding it the first time. Times to live beyond
+     * those kept are encoded every time.
+     *
+     * @param   timeToLiveMillis    long
+     * @return                      byte[]
+     */
+    private byte[] getTimeToLive(final long timeToLiveMillis) {
+        final long index = timeToLiveMillis - this.minTimeToLiveMillis;
+
+        if (index < 0 || index >= this.timesToLive.length())
+            return Long.toString(timeToLiveMillis).getBytes(StandardCharsets.US_ASCII);
+
+        byte[] timeToLive = this.timesToLive.get((int) index);
+
+        if (timeToLive == null) {
+            timeToLive = Long.toString(timeToLiveMillis).getBytes(StandardCharsets.US_ASCII);
+            this.timesToLive.set((int) index, timeToLive);
+        }
+
+        return timeToLive;
+    }
+
+    /**
+     * Return true if an exception reports
+     * that the script is not in the server's
+     * script cache.
+     *
+     * @param   re  org.redisson.client.RedisException
+     * @return      boolean
+     */
+    private boolean isNoScript(final RedisException re) {
+        return re.getMessage() != null && re.getMessage().contains("NOSCRIPT");
+    }
+
+    /**
+     * Encode a new fill value for a key.
+     *
+     * @param   keyAsInt    int
+     * @return              byte[]
+     */
+    private byte[] encodeFill(final int keyAsInt) {
+        return this.encode(new DataElement(keyAsInt, UUID.randomUUID().toString(), 0, 0));
+    }
+
+    /**
+     * Encode a data element with the client's codec.
+     *
+     * @param   dataElement net.jmp.hitormiss.data.DataElement
+     * @return              byte[]
+     */
+    private byte[] encode(final DataElement dataElement) {
+        final ByteBuf buffer;
+
+        try {
+            buffer = this.codec.getValueEncoder().encode(dataElement);
+        } catch (final IOException ioe) {
+            throw new RedisException("Failed to encode data element " + dataElement.getKeyAsInt(), ioe);
+        }
+
+        try {
+            return ByteBufUtil.getBytes(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package net.jmp.hitormiss.data;
 
 /*
+ * (#)DataElement.java  0.6.0   10/19/2026
  * (#)DataElement.java  0.3.0   05/29/2024
  * (#)DataElement.java  0.1.0   05/26/2024
  *
  * @author   Jonathan Parker
- * @version  0.3.0
+ * @version  0.6.0
  * @since    0.1.0
  *
  * MIT License
@@ -40,6 +41,12 @@ public final class DataElement {
     /** The value contained in the bucket. */
     private String value;
 
+    /** The time it took to compute the value in nanoseconds. @since 0.6.0 */
+    private long computeNanos;
+
+    /** The time the bucket expires in milliseconds since the epoch or zero if it does not. @since 0.6.0 */
+    private long expiresAtMillis;
+
     /**
      * The default constructor.
      */
@@ -60,6 +67,23 @@ public final class DataElement {
         this.value = value;
     }
 
+    /**
+     * A constructor that also takes the time it
+     * took to compute the value and its expiry.
+     *
+     * @param   keyAsInt        int
+     * @param   value           java.lang.String
+     * @param   computeNanos    long
+     * @param   expiresAtMillis long
+     * @since                   0.6.0
+     */
+    public DataElement(final int keyAsInt, final String value, final long computeNanos, final long expiresAtMillis) {
+        this(keyAsInt, value);
+
+        this.computeNanos = computeNanos;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
     /**
      * Return the key expressed as an integer.
      *
@@ -78,6 +102,27 @@ public final class DataElement {
         return this.value;
     }
 
+    /**
+     * Return the time it took to compute the value in nanoseconds.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getComputeNanos() {
+        return this.computeNanos;
+    }
+
+    /**
+     * Return the time the bucket expires in milliseconds
+     * since the epoch or zero if it does not expire.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getExpiresAtMillis() {
+        return this.expiresAtMillis;
+    }
+
     /**
      * The equals method.
      *
@@ -92,7 +137,7 @@ public final class DataElement {
 
         final DataElement that = (DataElement) o;
 
-        return keyAsInt == that.keyAsInt && Objects.equals(value, that.value);
+        return keyAsInt == that.keyAsInt && Objects.equals(value, that.value) && this.computeNanos == that.computeNanos && this.expiresAtMillis == that.expiresAtMillis;
     }
 
     /**
@@ -105,6 +150,8 @@ public final class DataElement {
         int result = this.keyAsInt;
 
         result = 31 * result + Objects.hashCode(this.value);
+        result = 31 * result + Long.hashCode(this.computeNanos);
+        result = 31 * result + Long.hashCode(this.expiresAtMillis);
 
         return result;
     }
@@ -119,6 +166,8 @@ public final class DataElement {
         return "DataElement{" +
                 "keyAsInt=" + this.keyAsInt +
                 ", value='" + this.value + '\'' +
+                ", computeNanos=" + this.computeNanos +
+                ", expiresAtMillis=" + this.expiresAtMillis +
                 '}';
     }
 }
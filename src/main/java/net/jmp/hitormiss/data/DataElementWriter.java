@@ -0,0 +1,177 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)DataElementWriter.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Map;
+import java.util.Objects;
+
+import net.jmp.hitormiss.backend.CacheBackend;
+import net.jmp.hitormiss.backend.CacheBatch;
+
+import net.jmp.hitormiss.config.Expiry;
+
+import net.jmp.hitormiss.util.ExpiryPolicy;
+
+/**
+ * Writes data elements to their buckets under the
+ * expiry policy. Each element records its logical
+ * expiry while its bucket lives on for the stale
+ * period past it, so the backend removes it once
+ * it is too stale to serve.
+ */
+public final class DataElementWriter {
+    /** The expiry policy. */
+    private final ExpiryPolicy expiryPolicy;
+
+    /**
+     * The constructor.
+     *
+     * @param   expiry  net.jmp.hitormiss.config.Expiry
+     */
+    public DataElementWriter(final Expiry expiry) {
+        super();
+
+        Objects.requireNonNull(expiry);
+
+        this.expiryPolicy = new ExpiryPolicy(
+                expiry.getTtlMillis(),
+                expiry.getJitterPercent(),
+                expiry.isStaleWhileRevalidate() ? expiry.getStaleMillis() : 0
+        );
+    }
+
+    /**
+     * Write a data element unless its bucket holds one.
+     * True is returned if the element was written.
+     *
+     * @param   backend         net.jmp.hitormiss.backend.CacheBackend
+     * @param   key             java.lang.String
+     * @param   keyAsInt        int
+     * @param   value           java.lang.String
+     * @param   computeNanos    long
+     * @return                  boolean
+     */
+    public boolean writeIfAbsent(final CacheBackend backend, final String key, final int keyAsInt, final String value, final long computeNanos) {
+        if (!this.expiryPolicy.isExpiring())
+            return backend.setIfAbsent(key, new DataElement(keyAsInt, value, computeNanos, 0), null);
+
+        final Duration timeToLive = this.expiryPolicy.nextTimeToLive();
+
+        return backend.setIfAbsent(key, this.createElement(keyAsInt, value, computeNanos, timeToLive), this.getBucketTimeToLive(timeToLive));
+    }
+
+    /**
+     * Queue the write of a data element unless its
+     * bucket holds one, as when setting up buckets
+     * in batches.
+     *
+     * @param   batch           net.jmp.hitormiss.backend.CacheBatch
+     * @param   key             java.lang.String
+     * @param   keyAsInt        int
+     * @param   value           java.lang.String
+     * @param   computeNanos    long
+     * @since                   0.6.0
+     */
+    public void writeIfAbsent(final CacheBatch batch, final String key, final int keyAsInt, final String value, final long computeNanos) {
+        if (!this.expiryPolicy.isExpiring()) {
+            batch.setIfAbsent(key, new DataElement(keyAsInt, value, computeNanos, 0), null);
+        } else {
+            final Duration timeToLive = this.expiryPolicy.nextTimeToLive();
+
+            batch.setIfAbsent(key, this.createElement(keyAsInt, value, computeNanos, timeToLive), this.getBucketTimeToLive(timeToLive));
+        }
+    }
+
+    /**
+     * Write data elements that do not expire to their
+     * buckets together, writing none of them and
+     * returning false if any bucket already exists.
+     * All-or-nothing writes set no time to live, so
+     * when buckets expire nothing is written and false
+     * is returned.
+     *
+     * @param   backend     net.jmp.hitormiss.backend.CacheBackend
+     * @param   elements    java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     * @return              boolean
+     * @since               0.6.0
+     */
+    public boolean tryWriteAll(final CacheBackend backend, final Map<String, DataElement> elements) {
+        if (this.expiryPolicy.isExpiring())
+            return false;
+
+        return backend.setAllIfAbsent(elements);
+    }
+
+    /**
+     * Write a data element, replacing any in its bucket.
+     *
+     * @param   backend         net.jmp.hitormiss.backend.CacheBackend
+     * @param   key             java.lang.String
+     * @param   keyAsInt        int
+     * @param   value           java.lang.String
+     * @param   computeNanos    long
+     */
+    public void write(final CacheBackend backend, final String key, final int keyAsInt, final String value, final long computeNanos) {
+        if (!this.expiryPolicy.isExpiring()) {
+            backend.set(key, new DataElement(keyAsInt, value, computeNanos, 0), null);
+        } else {
+            final Duration timeToLive = this.expiryPolicy.nextTimeToLive();
+
+            backend.set(key, this.createElement(keyAsInt, value, computeNanos, timeToLive), this.getBucketTimeToLive(timeToLive));
+        }
+    }
+
+    /**
+     * Create a data element that expires after a time to live.
+     *
+     * @param   keyAsInt        int
+     * @param   value           java.lang.String
+     * @param   computeNanos    long
+     * @param   timeToLive      java.time.Duration
+     * @return                  net.jmp.hitormiss.data.DataElement
+     */
+    private DataElement createElement(final int keyAsInt, final String value, final long computeNanos, final Duration timeToLive) {
+        return new DataElement(keyAsInt, value, computeNanos, System.currentTimeMillis() + timeToLive.toMillis());
+    }
+
+    /**
+     * Return the time to live of the bucket,
+     * which includes the stale period.
+     *
+     * @param   timeToLive  java.time.Duration
+     * @return              java.time.Duration
+     */
+    private Duration getBucketTimeToLive(final Duration timeToLive) {
+        return timeToLive.plusMillis(this.expiryPolicy.getStaleMillis());
+    }
+}
@@ -1,11 +1,12 @@
 package net.jmp.hitormiss.data;
 
 /*
+ * (#)DataManager.java  0.6.0   10/19/2026
  * (#)DataManager.java  0.3.0   05/29/2024
  * (#)DataManager.java  0.1.0   05/26/2024
  *
  * @author   Jonathan Parker
- * @version  0.3.0
+ * @version  0.6.0
  * @since    0.1.0
  *
  * MIT License
@@ -31,23 +32,26 @@ package net.jmp.hitormiss.data;
  * SOFTWARE.
  */
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.redisson.api.RBucket;
-import org.redisson.api.RKeys;
-import org.redisson.api.RedissonClient;
+import java.util.stream.IntStream;
 
 import org.slf4j.LoggerFactory;
 
 import org.slf4j.ext.XLogger;
 
+import net.jmp.hitormiss.backend.CacheBackend;
+import net.jmp.hitormiss.backend.CacheBatch;
+
 import net.jmp.hitormiss.config.Config;
+import net.jmp.hitormiss.config.Topology;
+
+import net.jmp.hitormiss.util.BucketKeys;
+import net.jmp.hitormiss.util.ClusterSlot;
+import net.jmp.hitormiss.util.KeyTracker;
+import net.jmp.hitormiss.util.SlotBatcher;
 
 /**
  * The data manager class.
@@ -59,23 +63,44 @@ public final class DataManager {
     /** The configuration. */
     private final Config config;
 
-    /** The Redisson client. */
-    private final RedissonClient client;
+    /** The cache backend. @since 0.6.0 */
+    private final CacheBackend backend;
+
+    /** The tracker of stored keys. @since 0.6.0 */
+    private final KeyTracker keyTracker;
+
+    /** The data element writer. @since 0.6.0 */
+    private final DataElementWriter writer;
+
+    /** The bucket keys. @since 0.6.0 */
+    private final BucketKeys bucketKeys;
+
+    /** The batcher of the setup writes. @since 0.6.0 */
+    private final SlotBatcher setupBatcher;
+
+    /** The epoch of the data set up or zero before it is. @since 0.6.0 */
+    private long epoch;
 
     /**
      * The constructor.
      *
-     * @param   config  net.jmp.hitormiss.config.Config
-     * @param   client  org.redisson.api.RedissonClient
+     * @param   config      net.jmp.hitormiss.config.Config
+     * @param   backend     net.jmp.hitormiss.backend.CacheBackend
+     * @param   keyTracker  net.jmp.hitormiss.util.KeyTracker
      */
-    public DataManager(final Config config, final RedissonClient client) {
+    public DataManager(final Config config, final CacheBackend backend, final KeyTracker keyTracker) {
         super();
 
         Objects.requireNonNull(config);
-        Objects.requireNonNull(client);
+        Objects.requireNonNull(backend);
+        Objects.requireNonNull(keyTracker);
 
         this.config = config;
-        this.client = client;
+        this.backend = backend;
+        this.keyTracker = keyTracker;
+        this.writer = new DataElementWriter(config.getExpiry());
+        this.bucketKeys = new BucketKeys(config.getApplication());
+        this.setupBatcher = this.createBatcher();
     }
 
     /**
@@ -85,6 +110,8 @@ public final class DataManager {
     public void setupData() {
         this.logger.entry();
 
+        this.epoch = System.currentTimeMillis();
+
         this.setupDataElementBuckets();
         this.setupAccumulatorBuckets();
 
@@ -92,45 +119,94 @@ public final class DataManager {
     }
 
     /**
-     * Set up the data element buckets.
+     * Return the epoch of the data set up. Each set up
+     * writes new values, so anything that keeps values
+     * beyond a run, like the local tier, is stamped with
+     * the epoch and discards values of another epoch.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getEpoch() {
+        return this.epoch;
+    }
+
+    /**
+     * Set up the data element buckets. They are
+     * written in batches, grouped by slot in a
+     * cluster, which the backend splits by instance.
      */
     private void setupDataElementBuckets() {
         this.logger.entry();
 
-        final String bucketKeyPrefix = this.config.getApplication().getBucketKeyPrefix();
         final int initialNumberOfBuckets = this.config.getApplication().getInitialNumberOfBuckets();
+        final List<Integer> keys = IntStream.range(0, initialNumberOfBuckets).boxed().toList();
 
         this.logger.info("Creating {} buckets to start with", initialNumberOfBuckets);
 
-        for (int i = 0; i < this.config.getApplication().getInitialNumberOfBuckets(); i++) {
-            final String key = bucketKeyPrefix + i;
-            final String value = UUID.randomUUID().toString();
-            final RBucket<DataElement> bucket = this.client.getBucket(key);
+        for (final List<Integer> batchKeys : this.setupBatcher.partition(keys, this.bucketKeys::slot)) {
+            final CacheBatch batch = this.backend.createBatch();
+
+            for (final int keyAsInt : batchKeys)
+                this.writer.writeIfAbsent(batch, this.bucketKeys.key(keyAsInt), keyAsInt, UUID.randomUUID().toString(), 0);
 
-            bucket.setIfAbsent(new DataElement(i, value));
+            batch.execute();
+
+            batchKeys.forEach(this.keyTracker::markStored);
         }
 
+        this.logBatches("Setup", this.setupBatcher);
+
         this.logger.exit();
     }
 
     /**
-     * Set up the accumulator buckets.
+     * Set up the accumulator buckets. They hold plain
+     * integers so that a script can increment them.
      */
     private void setupAccumulatorBuckets() {
         this.logger.entry();
 
-        final var hitsBucketName = this.config.getApplication().getAccumulatorBucketNameForHits();
-        final var missesBucketName = this.config.getApplication().getAccumulatorBucketNameForMisses();
+        this.backend.setCounter(this.config.getApplication().getAccumulatorBucketNameForHits(), 0);
+        this.backend.setCounter(this.config.getApplication().getAccumulatorBucketNameForMisses(), 0);
+
+        this.logger.exit();
+    }
 
-        final RBucket<Integer> hitsBucket = this.client.getBucket(hitsBucketName);
-        final RBucket<Integer> missesBucket = this.client.getBucket(missesBucketName);
+    /**
+     * Log the contents of the accumulator buckets.
+     *
+     * @since   0.6.0
+     */
+    public void logAccumulators() {
+        this.logger.entry();
 
-        hitsBucket.set(0);
-        missesBucket.set(0);
+        this.logger.info("Accumulated hits  : {}", this.getAccumulatedHits());
+        this.logger.info("Accumulated misses: {}", this.getAccumulatedMisses());
 
         this.logger.exit();
     }
 
+    /**
+     * Return the number of hits accumulated on the server.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getAccumulatedHits() {
+        return this.backend.getCounter(this.config.getApplication().getAccumulatorBucketNameForHits());
+    }
+
+    /**
+     * Return the number of misses accumulated on the server.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getAccumulatedMisses() {
+        return this.backend.getCounter(this.config.getApplication().getAccumulatorBucketNameForMisses());
+    }
+
     /**
      * Tear down the data used to
      * provide cache hits and misses.
@@ -145,35 +221,79 @@ public final class DataManager {
     }
 
     /**
-     * Tear down the data element buckets.
+     * Tear down the data element buckets. They are
+     * deleted in batches, grouped by slot in a
+     * cluster, which the backend splits by instance.
      */
     private void teardownDataElementBuckets() {
         this.logger.entry();
 
-        final Pattern pattern = Pattern.compile("^" + this.config.getApplication().getBucketKeyPrefix() + "\\d+$");
-        final RKeys keys = this.client.getKeys();
+        final SlotBatcher batcher = this.createBatcher();
 
-        final AtomicInteger deleteCountOK = new AtomicInteger(0);
-        final AtomicInteger deleteCountNotOK = new AtomicInteger(0);
+        int deleteCountOK = 0;
+        int deleteCountNotOK = 0;
 
-        keys.getKeys().forEach(key -> {
-            final Matcher matcher = pattern.matcher(key);
+        for (final List<String> batchKeys : batcher.partition(this.backend.scan(this.bucketKeys::isBucketKey), ClusterSlot::of)) {
+            final CacheBatch batch = this.backend.createBatch();
 
-            if (matcher.matches()) {
-                if (!this.deleteBucket(key)) {
-                    deleteCountNotOK.incrementAndGet();
-                } else {
-                    deleteCountOK.incrementAndGet();
-                }
-            }
-        });
+            batchKeys.forEach(batch::delete);
 
-        this.logger.info("{} buckets deleted OK", deleteCountOK.get());
-        this.logger.info("{} buckets failed to be deleted", deleteCountNotOK.get());
+            final int deleted = batch.execute();
+
+            deleteCountOK += deleted;
+            deleteCountNotOK += batchKeys.size() - deleted;
+        }
+
+        this.logBatches("Teardown", batcher);
+
+        this.logger.info("{} buckets deleted OK", deleteCountOK);
+        this.logger.info("{} buckets failed to be deleted", deleteCountNotOK);
 
         this.logger.exit();
     }
 
+    /**
+     * Return a batcher of bucket keys that
+     * groups the keys by slot in a cluster.
+     *
+     * @return  net.jmp.hitormiss.util.SlotBatcher
+     * @since   0.6.0
+     */
+    private SlotBatcher createBatcher() {
+        return new SlotBatcher(
+                Math.max(1, this.config.getApplication().getSetupBatchSize()),
+                this.config.getRedis().getTopology() == Topology.CLUSTER
+        );
+    }
+
+    /**
+     * Log how well the batches lined up with the slots.
+     *
+     * @param   name    java.lang.String
+     * @param   batcher net.jmp.hitormiss.util.SlotBatcher
+     * @since           0.6.0
+     */
+    private void logBatches(final String name, final SlotBatcher batcher) {
+        this.logger.info("{} batches: {}, keys: {}, slots per batch: {}, keys per slot: {}",
+                name,
+                batcher.getBatches(),
+                batcher.getKeys(),
+                String.format("%.1f", batcher.getSlotsPerBatch()),
+                String.format("%.2f", batcher.getKeysPerSlot()));
+    }
+
+    /**
+     * Return the mean number of keys each setup batch
+     * sent to a slot. The higher it is, the fewer
+     * slots, and so shards, each batch spanned.
+     *
+     * @return  double
+     * @since   0.6.0
+     */
+    public double getSetupKeysPerSlot() {
+        return this.setupBatcher.getKeysPerSlot();
+    }
+
     /**
      * Tear down the accumulator buckets.
      */
@@ -204,7 +324,7 @@ public final class DataManager {
 
         boolean result = false;
 
-        if (!this.client.getBucket(key).delete())
+        if (!this.backend.delete(key))
             this.logger.error("Failed to delete bucket '{}'", key);
         else
             result = true;
@@ -0,0 +1,131 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)RedisInstance.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.redisson.api.RedissonClient;
+
+/**
+ * An independent Redis instance that a share of
+ * the bucket keys is routed to, with the hits and
+ * misses of the lookups it served.
+ */
+public final class RedisInstance {
+    /** The name of the instance, its host and port. */
+    private final String name;
+
+    /** The Redisson client of the instance. */
+    private final RedissonClient client;
+
+    /** The number of hits. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of misses. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param   name    java.lang.String
+     * @param   client  org.redisson.api.RedissonClient
+     */
+    public RedisInstance(final String name, final RedissonClient client) {
+        super();
+
+        this.name = Objects.requireNonNull(name);
+        this.client = Objects.requireNonNull(client);
+    }
+
+    /**
+     * Record the outcome of a lookup.
+     *
+     * @param   hit boolean
+     */
+    public void record(final boolean hit) {
+        if (hit)
+            this.hits.increment();
+        else
+            this.misses.increment();
+    }
+
+    /**
+     * Return the name of the instance.
+     *
+     * @return  java.lang.String
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Return the Redisson client of the instance.
+     *
+     * @return  org.redisson.api.RedissonClient
+     */
+    public RedissonClient getClient() {
+        return this.client;
+    }
+
+    /**
+     * Return the number of hits.
+     *
+     * @return  long
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of misses.
+     *
+     * @return  long
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "RedisInstance{" +
+                "name='" + this.name + '\'' +
+                ", hits=" + this.getHits() +
+                ", misses=" + this.getMisses() +
+                '}';
+    }
+}
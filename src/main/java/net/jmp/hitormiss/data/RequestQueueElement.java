@@ -1,10 +1,11 @@
 package net.jmp.hitormiss.data;
 
 /*
+ * (#)RequestQueueElement.java  0.6.0   10/19/2026
  * (#)RequestQueueElement.java  0.2.0   05/27/2024
  *
  * @author   Jonathan Parker
- * @version  0.2.0
+ * @version  0.6.0
  * @since    0.2.0
  *
  * MIT License
@@ -36,15 +37,144 @@ package net.jmp.hitormiss.data;
 public final class RequestQueueElement {
     private final RequestType requestType;
 
+    /** The service time in nanoseconds measured from the actual start. @since 0.6.0 */
+    private final long serviceNanos;
+
+    /** The response time in nanoseconds measured from the intended start. @since 0.6.0 */
+    private final long responseNanos;
+
+    /** How long past its expiry a stale hit's value was in nanoseconds. @since 0.6.0 */
+    private final long stalenessNanos;
+
+    /** How long the lookup waited for a pooled connection in nanoseconds or -1 if not measured. @since 0.6.0 */
+    private final long poolWaitNanos;
+
+    /** The number of keys read by the request's operation. @since 0.6.0 */
+    private final int keys;
+
+    /** True if the element carries the timings of its operation. @since 0.6.0 */
+    private final boolean timed;
+
     /**
-     * The constructor.
+     * The constructor. The element carries no timings.
      *
      * @param   requestType net.jmp.hitormiss.data.RequestType
      */
     public RequestQueueElement(final RequestType requestType) {
+        this(requestType, 0L);
+    }
+
+    /**
+     * A constructor for the outcome of one key of a
+     * multi-get whose timings are carried by another
+     * element of the same operation. Only the outcome
+     * and the staleness of a stale hit are recorded.
+     *
+     * @param   requestType     net.jmp.hitormiss.data.RequestType
+     * @param   stalenessNanos  long
+     * @since                   0.6.0
+     */
+    public RequestQueueElement(final RequestType requestType, final long stalenessNanos) {
+        this(requestType, 0, 0, stalenessNanos, -1, 1, false);
+    }
+
+    /**
+     * A constructor that takes the timings of the request.
+     *
+     * @param   requestType     net.jmp.hitormiss.data.RequestType
+     * @param   serviceNanos    long
+     * @param   responseNanos   long
+     * @since                   0.6.0
+     */
+    public RequestQueueElement(final RequestType requestType, final long serviceNanos, final long responseNanos) {
+        this(requestType, serviceNanos, responseNanos, 0);
+    }
+
+    /**
+     * A constructor that takes the timings of the
+     * request and the staleness of a stale hit.
+     *
+     * @param   requestType     net.jmp.hitormiss.data.RequestType
+     * @param   serviceNanos    long
+     * @param   responseNanos   long
+     * @param   stalenessNanos  long
+     * @since                   0.6.0
+     */
+    public RequestQueueElement(final RequestType requestType, final long serviceNanos, final long responseNanos, final long stalenessNanos) {
+        this(requestType, serviceNanos, responseNanos, stalenessNanos, -1);
+    }
+
+    /**
+     * A constructor that also takes how long
+     * the lookup waited for a pooled connection.
+     *
+     * @param   requestType     net.jmp.hitormiss.data.RequestType
+     * @param   serviceNanos    long
+     * @param   responseNanos   long
+     * @param   stalenessNanos  long
+     * @param   poolWaitNanos   long or -1 if not measured
+     * @since                   0.6.0
+     */
+    public RequestQueueElement(final RequestType requestType,
+                               final long serviceNanos,
+                               final long responseNanos,
+                               final long stalenessNanos,
+                               final long poolWaitNanos) {
+        this(requestType, serviceNanos, responseNanos, stalenessNanos, poolWaitNanos, 1);
+    }
+
+    /**
+     * A constructor that also takes the number of keys
+     * read by the operation, which is more than one for
+     * a multi-get. The element carries the timings of the
+     * whole operation; the other keys of a multi-get are
+     * elements of their own that carry only their outcomes.
+     *
+     * @param   requestType     net.jmp.hitormiss.data.RequestType
+     * @param   serviceNanos    long
+     * @param   responseNanos   long
+     * @param   stalenessNanos  long
+     * @param   poolWaitNanos   long or -1 if not measured
+     * @param   keys            int
+     * @since                   0.6.0
+     */
+    public RequestQueueElement(final RequestType requestType,
+                               final long serviceNanos,
+                               final long responseNanos,
+                               final long stalenessNanos,
+                               final long poolWaitNanos,
+                               final int keys) {
+        this(requestType, serviceNanos, responseNanos, stalenessNanos, poolWaitNanos, keys, true);
+    }
+
+    /**
+     * The constructor that all the others delegate to.
+     *
+     * @param   requestType     net.jmp.hitormiss.data.RequestType
+     * @param   serviceNanos    long
+     * @param   responseNanos   long
+     * @param   stalenessNanos  long
+     * @param   poolWaitNanos   long or -1 if not measured
+     * @param   keys            int
+     * @param   timed           boolean
+     * @since                   0.6.0
+     */
+    private RequestQueueElement(final RequestType requestType,
+                                final long serviceNanos,
+                                final long responseNanos,
+                                final long stalenessNanos,
+                                final long poolWaitNanos,
+                                final int keys,
+                                final boolean timed) {
         super();
 
         this.requestType = requestType;
+        this.serviceNanos = serviceNanos;
+        this.responseNanos = responseNanos;
+        this.stalenessNanos = stalenessNanos;
+        this.poolWaitNanos = poolWaitNanos;
+        this.keys = keys;
+        this.timed = timed;
     }
 
     /**
@@ -55,4 +185,67 @@ public final class RequestQueueElement {
     public RequestType getRequestType() {
         return requestType;
     }
+
+    /**
+     * Return the service time in nanoseconds.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getServiceNanos() {
+        return this.serviceNanos;
+    }
+
+    /**
+     * Return the response time in nanoseconds.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getResponseNanos() {
+        return this.responseNanos;
+    }
+
+    /**
+     * Return how long past its expiry a stale
+     * hit's value was in nanoseconds.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getStalenessNanos() {
+        return this.stalenessNanos;
+    }
+
+    /**
+     * Return how long the lookup waited for a pooled
+     * connection in nanoseconds or -1 if not measured.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getPoolWaitNanos() {
+        return this.poolWaitNanos;
+    }
+
+    /**
+     * Return the number of keys read by the request's operation.
+     *
+     * @return  int
+     * @since   0.6.0
+     */
+    public int getKeys() {
+        return this.keys;
+    }
+
+    /**
+     * Return true if the element carries the timings
+     * of its operation and so counts as an operation.
+     *
+     * @return  boolean
+     * @since   0.6.0
+     */
+    public boolean isTimed() {
+        return this.timed;
+    }
 }
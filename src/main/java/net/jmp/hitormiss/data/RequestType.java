@@ -1,10 +1,11 @@
 package net.jmp.hitormiss.data;
 
 /*
+ * (#)RequestType.java  0.6.0   10/19/2026
  * (#)RequestType.java  0.2.0   05/27/2024
  *
  * @author   Jonathan Parker
- * @version  0.2.0
+ * @version  0.6.0
  * @since    0.2.0
  *
  * MIT License
@@ -31,10 +32,74 @@ package net.jmp.hitormiss.data;
  */
 
 /**
- * The request type enumeration.
+ * The request type enumeration. Outcome types
+ * are counted by the statistics while the others
+ * control the statistics thread.
  */
 public enum RequestType {
-    HIT,
-    MISS,
-    SHUTDOWN
+    HIT(true),
+    EARLY_REFRESH(true),
+    STALE_HIT(true),
+    LOCAL_HIT(true),
+    MISS(true),
+    EXPIRY_MISS(true),
+    COALESCED_MISS(true),
+    FALSE_MISS(true),
+    ERROR(true),
+    LOAD_FAILURE(true),
+    RESET_WINDOW(false),
+    SHUTDOWN(false);
+
+    /** True if the request type is the outcome of an access. @since 0.6.0 */
+    private final boolean outcome;
+
+    /**
+     * The constructor.
+     *
+     * @param   outcome boolean
+     * @since           0.6.0
+     */
+    RequestType(final boolean outcome) {
+        this.outcome = outcome;
+    }
+
+    /**
+     * Return true if the request type is the outcome of an access.
+     *
+     * @return  boolean
+     * @since   0.6.0
+     */
+    public boolean isOutcome() {
+        return this.outcome;
+    }
+
+    /**
+     * Return true if the request type is a hit of
+     * any kind: a plain hit, one that refreshed its
+     * bucket early, a stale hit or a local hit.
+     *
+     * @return  boolean
+     * @since   0.6.0
+     */
+    public boolean isHit() {
+        return switch (this) {
+            case HIT, EARLY_REFRESH, STALE_HIT, LOCAL_HIT -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Return true if the request type is a miss of
+     * any kind, including a miss whose load from the
+     * backing store failed.
+     *
+     * @return  boolean
+     * @since   0.6.0
+     */
+    public boolean isMiss() {
+        return switch (this) {
+            case MISS, EXPIRY_MISS, COALESCED_MISS, FALSE_MISS, LOAD_FAILURE -> true;
+            default -> false;
+        };
+    }
 }
@@ -0,0 +1,208 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)ServerStatistics.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable sample of the keyspace counters
+ * that Redis reports in its INFO stats section,
+ * or the difference between two such samples.
+ */
+public final class ServerStatistics {
+    /** The number of successful key lookups. */
+    @SerializedName("keyspaceHits")
+    private final long keyspaceHits;
+
+    /** The number of failed key lookups. */
+    @SerializedName("keyspaceMisses")
+    private final long keyspaceMisses;
+
+    /** The number of keys evicted for the memory limit. */
+    @SerializedName("evictedKeys")
+    private final long evictedKeys;
+
+    /** The number of keys removed because they expired. */
+    @SerializedName("expiredKeys")
+    private final long expiredKeys;
+
+    /**
+     * The constructor.
+     *
+     * @param   keyspaceHits    long
+     * @param   keyspaceMisses  long
+     * @param   evictedKeys     long
+     * @param   expiredKeys     long
+     */
+    public ServerStatistics(final long keyspaceHits,
+                            final long keyspaceMisses,
+                            final long evictedKeys,
+                            final long expiredKeys) {
+        super();
+
+        this.keyspaceHits = keyspaceHits;
+        this.keyspaceMisses = keyspaceMisses;
+        this.evictedKeys = evictedKeys;
+        this.expiredKeys = expiredKeys;
+    }
+
+    /**
+     * Create a sample from the fields of the INFO
+     * stats section. Missing fields count as zero.
+     *
+     * @param   info    java.util.Map&lt;java.lang.String, java.lang.String&gt;
+     * @return          net.jmp.hitormiss.data.ServerStatistics
+     */
+    public static ServerStatistics fromInfo(final Map<String, String> info) {
+        Objects.requireNonNull(info);
+
+        return new ServerStatistics(
+                getField(info, "keyspace_hits"),
+                getField(info, "keyspace_misses"),
+                getField(info, "evicted_keys"),
+                getField(info, "expired_keys")
+        );
+    }
+
+    /**
+     * Return the numeric value of an INFO field or zero.
+     *
+     * @param   info    java.util.Map&lt;java.lang.String, java.lang.String&gt;
+     * @param   name    java.lang.String
+     * @return          long
+     */
+    private static long getField(final Map<String, String> info, final String name) {
+        final String value = info.get(name);
+
+        return value != null ? Long.parseLong(value.trim()) : 0;
+    }
+
+    /**
+     * Return the sum of this sample and another,
+     * as when the servers of a deployment are added up.
+     *
+     * @param   other   net.jmp.hitormiss.data.ServerStatistics
+     * @return          net.jmp.hitormiss.data.ServerStatistics
+     */
+    public ServerStatistics plus(final ServerStatistics other) {
+        Objects.requireNonNull(other);
+
+        return new ServerStatistics(
+                this.keyspaceHits + other.keyspaceHits,
+                this.keyspaceMisses + other.keyspaceMisses,
+                this.evictedKeys + other.evictedKeys,
+                this.expiredKeys + other.expiredKeys
+        );
+    }
+
+    /**
+     * Return the difference between this
+     * sample and an earlier one.
+     *
+     * @param   earlier net.jmp.hitormiss.data.ServerStatistics
+     * @return          net.jmp.hitormiss.data.ServerStatistics
+     */
+    public ServerStatistics minus(final ServerStatistics earlier) {
+        Objects.requireNonNull(earlier);
+
+        return new ServerStatistics(
+                this.keyspaceHits - earlier.keyspaceHits,
+                this.keyspaceMisses - earlier.keyspaceMisses,
+                this.evictedKeys - earlier.evictedKeys,
+                this.expiredKeys - earlier.expiredKeys
+        );
+    }
+
+    /**
+     * Return the number of successful key lookups.
+     *
+     * @return  long
+     */
+    public long getKeyspaceHits() {
+        return this.keyspaceHits;
+    }
+
+    /**
+     * Return the number of failed key lookups.
+     *
+     * @return  long
+     */
+    public long getKeyspaceMisses() {
+        return this.keyspaceMisses;
+    }
+
+    /**
+     * Return the number of keys evicted for the memory limit.
+     *
+     * @return  long
+     */
+    public long getEvictedKeys() {
+        return this.evictedKeys;
+    }
+
+    /**
+     * Return the number of keys removed because they expired.
+     *
+     * @return  long
+     */
+    public long getExpiredKeys() {
+        return this.expiredKeys;
+    }
+
+    /**
+     * Return the hit ratio of the key lookups.
+     *
+     * @return  double
+     */
+    public double getHitRatio() {
+        final long lookups = this.keyspaceHits + this.keyspaceMisses;
+
+        return lookups == 0 ? 0.0 : (double) this.keyspaceHits / lookups;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "ServerStatistics{" +
+                "keyspaceHits=" + this.keyspaceHits +
+                ", keyspaceMisses=" + this.keyspaceMisses +
+                ", evictedKeys=" + this.evictedKeys +
+                ", expiredKeys=" + this.expiredKeys +
+                '}';
+    }
+}
@@ -0,0 +1,171 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)ShardRouter.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import net.jmp.hitormiss.util.ConsistentHashRing;
+
+import org.redisson.api.RedissonClient;
+
+/**
+ * Routes each key to one of some independent Redis
+ * instances on a consistent hash ring. With a single
+ * instance, as with every topology Redis shards or
+ * replicates itself, every key goes to that instance
+ * without being hashed.
+ */
+public final class ShardRouter {
+    /** The ring of instances. */
+    private final ConsistentHashRing<RedisInstance> ring;
+
+    /** The first instance, which holds the keys that are not routed. */
+    private final RedisInstance primary;
+
+    /**
+     * The constructor.
+     *
+     * @param   clients         java.util.Map&lt;java.lang.String, org.redisson.api.RedissonClient&gt;
+     * @param   virtualNodes    int
+     */
+    public ShardRouter(final Map<String, RedissonClient> clients, final int virtualNodes) {
+        super();
+
+        Objects.requireNonNull(clients);
+
+        final Map<String, RedisInstance> instances = new LinkedHashMap<>();
+
+        clients.forEach((name, client) -> instances.put(name, new RedisInstance(name, client)));
+
+        this.ring = new ConsistentHashRing<>(instances, virtualNodes);
+        this.primary = instances.values().iterator().next();
+    }
+
+    /**
+     * Return the instance a key is routed to.
+     *
+     * @param   key java.lang.String
+     * @return      net.jmp.hitormiss.data.RedisInstance
+     */
+    public RedisInstance route(final String key) {
+        return this.ring.route(key);
+    }
+
+    /**
+     * Return the client of the instance a key is routed to.
+     *
+     * @param   key java.lang.String
+     * @return      org.redisson.api.RedissonClient
+     */
+    public RedissonClient client(final String key) {
+        return this.ring.route(key).getClient();
+    }
+
+    /**
+     * Return keys grouped by the client of the instance
+     * each is routed to, in the order they are given.
+     *
+     * @param   keys    java.util.List&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;org.redisson.api.RedissonClient, java.util.List&lt;java.lang.String&gt;&gt;
+     */
+    public Map<RedissonClient, List<String>> groupByClient(final List<String> keys) {
+        if (!this.isSharded())
+            return Map.of(this.primary.getClient(), keys);
+
+        final Map<RedissonClient, List<String>> groups = new LinkedHashMap<>();
+
+        for (final String key : keys)
+            groups.computeIfAbsent(this.client(key), client -> new ArrayList<>()).add(key);
+
+        return groups;
+    }
+
+    /**
+     * Return the first instance. Commands that
+     * do not address a key, such as loading a
+     * script, are sent to it.
+     *
+     * @return  net.jmp.hitormiss.data.RedisInstance
+     */
+    public RedisInstance getPrimary() {
+        return this.primary;
+    }
+
+    /**
+     * Return the instances.
+     *
+     * @return  java.util.Collection&lt;net.jmp.hitormiss.data.RedisInstance&gt;
+     */
+    public Collection<RedisInstance> getInstances() {
+        return this.ring.getNodes().values();
+    }
+
+    /**
+     * Return the ring of instances.
+     *
+     * @return  net.jmp.hitormiss.util.ConsistentHashRing&lt;net.jmp.hitormiss.data.RedisInstance&gt;
+     */
+    public ConsistentHashRing<RedisInstance> getRing() {
+        return this.ring;
+    }
+
+    /**
+     * Return true if the keys are spread
+     * over more than one instance.
+     *
+     * @return  boolean
+     */
+    public boolean isSharded() {
+        return this.ring.getNames().size() > 1;
+    }
+
+    /**
+     * Shut down the client of every instance.
+     */
+    public void shutdown() {
+        for (final RedisInstance instance : this.getInstances())
+            instance.getClient().shutdown();
+    }
+
+    /**
+     * Return true if the client of every instance has shut down.
+     *
+     * @return  boolean
+     */
+    public boolean isShutdown() {
+        return this.getInstances().stream().allMatch(instance -> instance.getClient().isShutdown());
+    }
+}
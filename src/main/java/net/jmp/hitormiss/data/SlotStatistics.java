@@ -0,0 +1,155 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)SlotStatistics.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import net.jmp.hitormiss.util.ClusterSlot;
+
+/**
+ * The hits and misses of each cluster hash slot.
+ * The counters are lock-free so that every access
+ * thread can record while the totals are read.
+ */
+public final class SlotStatistics {
+    /** The hits indexed by slot. */
+    private final AtomicLongArray hits = new AtomicLongArray(ClusterSlot.SLOT_COUNT);
+
+    /** The misses indexed by slot. */
+    private final AtomicLongArray misses = new AtomicLongArray(ClusterSlot.SLOT_COUNT);
+
+    /**
+     * The constructor.
+     */
+    public SlotStatistics() {
+        super();
+    }
+
+    /**
+     * Record a lookup of a slot.
+     *
+     * @param   slot    int
+     * @param   hit     boolean
+     */
+    public void record(final int slot, final boolean hit) {
+        if (hit)
+            this.hits.incrementAndGet(slot);
+        else
+            this.misses.incrementAndGet(slot);
+    }
+
+    /**
+     * Return the hits of a slot.
+     *
+     * @param   slot    int
+     * @return          long
+     */
+    public long getHits(final int slot) {
+        return this.hits.get(slot);
+    }
+
+    /**
+     * Return the misses of a slot.
+     *
+     * @param   slot    int
+     * @return          long
+     */
+    public long getMisses(final int slot) {
+        return this.misses.get(slot);
+    }
+
+    /**
+     * Return the hits of a range of slots, both ends included.
+     *
+     * @param   startSlot   int
+     * @param   endSlot     int
+     * @return              long
+     */
+    public long getHits(final int startSlot, final int endSlot) {
+        long total = 0;
+
+        for (int slot = startSlot; slot <= endSlot; slot++)
+            total += this.hits.get(slot);
+
+        return total;
+    }
+
+    /**
+     * Return the misses of a range of slots, both ends included.
+     *
+     * @param   startSlot   int
+     * @param   endSlot     int
+     * @return              long
+     */
+    public long getMisses(final int startSlot, final int endSlot) {
+        long total = 0;
+
+        for (int slot = startSlot; slot <= endSlot; slot++)
+            total += this.misses.get(slot);
+
+        return total;
+    }
+
+    /**
+     * Return up to a number of the most looked-up
+     * slots, the hottest first. Slots that were
+     * never looked up are left out.
+     *
+     * @param   count   int
+     * @return          java.util.List&lt;java.lang.Integer&gt;
+     */
+    public List<Integer> getHottest(final int count) {
+        final List<Integer> slots = new ArrayList<>();
+
+        for (int slot = 0; slot < ClusterSlot.SLOT_COUNT; slot++) {
+            if (this.getLookups(slot) > 0)
+                slots.add(slot);
+        }
+
+        slots.sort(Comparator.comparingLong(this::getLookups).reversed().thenComparing(Comparator.naturalOrder()));
+
+        return slots.size() > count ? List.copyOf(slots.subList(0, count)) : slots;
+    }
+
+    /**
+     * Return the lookups of a slot.
+     *
+     * @param   slot    int
+     * @return          long
+     */
+    public long getLookups(final int slot) {
+        return this.hits.get(slot) + this.misses.get(slot);
+    }
+}
@@ -0,0 +1,393 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)Statistics.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import net.jmp.hitormiss.util.LatencyHistogram;
+
+/**
+ * The statistics of a run or part of a run. Each
+ * counter and histogram is lock-free so that the
+ * statistics thread can record while other threads
+ * read without either of them blocking.
+ */
+public final class Statistics {
+    /** The counts indexed by request type ordinal. */
+    private final AtomicLongArray counts = new AtomicLongArray(RequestType.values().length);
+
+    /** The number of operations, a multi-get counting once whatever the keys it read. */
+    private final AtomicLong operations = new AtomicLong();
+
+    /** The service times measured from the actual start of each request. */
+    private final LatencyHistogram serviceTimes = new LatencyHistogram();
+
+    /** The response times measured from the intended start of each request. */
+    private final LatencyHistogram responseTimes = new LatencyHistogram();
+
+    /** How long past their expiry the values of stale hits were. */
+    private final LatencyHistogram staleness = new LatencyHistogram();
+
+    /** How long lookups waited for a pooled connection when measured. */
+    private final LatencyHistogram poolWaits = new LatencyHistogram();
+
+    /** The service times of multi-gets divided by the keys each read. */
+    private final LatencyHistogram amortizedTimes = new LatencyHistogram();
+
+    /** The expected interval between requests used to correct for coordinated omission. */
+    private final long expectedIntervalNanos;
+
+    /** The time the statistics started. */
+    private volatile long startNanos;
+
+    /** The time the statistics stopped or zero while running. */
+    private volatile long stopNanos;
+
+    /**
+     * The constructor. When the expected interval is
+     * greater than zero the response times are corrected
+     * for coordinated omission using that interval.
+     *
+     * @param   expectedIntervalNanos   long
+     */
+    public Statistics(final long expectedIntervalNanos) {
+        super();
+
+        this.expectedIntervalNanos = expectedIntervalNanos;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Record a request queue element. Every outcome is
+     * counted, but only the element that carries the
+     * timings of an operation counts as an operation and
+     * is recorded in the histograms, so a multi-get is
+     * one sample however many keys it read.
+     *
+     * @param   element net.jmp.hitormiss.data.RequestQueueElement
+     */
+    public void record(final RequestQueueElement element) {
+        final RequestType requestType = element.getRequestType();
+
+        this.counts.incrementAndGet(requestType.ordinal());
+
+        if (requestType == RequestType.STALE_HIT)
+            this.staleness.record(element.getStalenessNanos());
+
+        if (requestType.isOutcome() && element.isTimed()) {
+            this.operations.incrementAndGet();
+            this.serviceTimes.record(element.getServiceNanos());
+
+            if (this.expectedIntervalNanos > 0)
+                this.responseTimes.recordWithExpectedInterval(element.getResponseNanos(), this.expectedIntervalNanos);
+            else
+                this.responseTimes.record(element.getResponseNanos());
+
+            if (element.getPoolWaitNanos() >= 0)
+                this.poolWaits.record(element.getPoolWaitNanos());
+
+            if (element.getKeys() > 1)
+                this.amortizedTimes.record(element.getServiceNanos() / element.getKeys());
+        }
+    }
+
+    /**
+     * Return the count for a request type.
+     *
+     * @param   requestType net.jmp.hitormiss.data.RequestType
+     * @return              long
+     */
+    public long getCount(final RequestType requestType) {
+        return this.counts.get(requestType.ordinal());
+    }
+
+    /**
+     * Return the number of hits.
+     *
+     * @return  long
+     */
+    public long getHits() {
+        return this.getCount(RequestType.HIT);
+    }
+
+    /**
+     * Return the number of hits that also
+     * refreshed their bucket before it expired.
+     *
+     * @return  long
+     */
+    public long getEarlyRefreshes() {
+        return this.getCount(RequestType.EARLY_REFRESH);
+    }
+
+    /**
+     * Return the number of hits served stale
+     * while their bucket was refreshed.
+     *
+     * @return  long
+     */
+    public long getStaleHits() {
+        return this.getCount(RequestType.STALE_HIT);
+    }
+
+    /**
+     * Return the number of hits served by the
+     * local tier without reaching the backend.
+     *
+     * @return  long
+     */
+    public long getLocalHits() {
+        return this.getCount(RequestType.LOCAL_HIT);
+    }
+
+    /**
+     * Return the number of cold misses, those
+     * of keys that had never been stored.
+     *
+     * @return  long
+     */
+    public long getMisses() {
+        return this.getCount(RequestType.MISS);
+    }
+
+    /**
+     * Return the number of misses of keys that
+     * had been stored but expired or were evicted.
+     *
+     * @return  long
+     */
+    public long getExpiryMisses() {
+        return this.getCount(RequestType.EXPIRY_MISS);
+    }
+
+    /**
+     * Return the number of misses that waited
+     * for another thread's load of the same key.
+     *
+     * @return  long
+     */
+    public long getCoalescedMisses() {
+        return this.getCount(RequestType.COALESCED_MISS);
+    }
+
+    /**
+     * Return the number of misses of a replica
+     * that the primary found to be hits.
+     *
+     * @return  long
+     */
+    public long getFalseMisses() {
+        return this.getCount(RequestType.FALSE_MISS);
+    }
+
+    /**
+     * Return the number of errors.
+     *
+     * @return  long
+     */
+    public long getErrors() {
+        return this.getCount(RequestType.ERROR);
+    }
+
+    /**
+     * Return the number of misses whose
+     * load from the backing store failed.
+     *
+     * @return  long
+     */
+    public long getLoadFailures() {
+        return this.getCount(RequestType.LOAD_FAILURE);
+    }
+
+    /**
+     * Return the number of operations of any outcome.
+     * A multi-get is one operation.
+     *
+     * @return  long
+     */
+    public long getOperations() {
+        return this.operations.get();
+    }
+
+    /**
+     * Return the number of outcomes of any type. Each
+     * key of a multi-get has an outcome of its own, so
+     * there are as many outcomes as keys read.
+     *
+     * @return  long
+     */
+    public long getOutcomes() {
+        long outcomes = 0;
+
+        for (final RequestType requestType : RequestType.values()) {
+            if (requestType.isOutcome())
+                outcomes += this.getCount(requestType);
+        }
+
+        return outcomes;
+    }
+
+    /**
+     * Return the ratio of hits, early refreshes, stale
+     * hits and local hits included, to lookups. Every
+     * outcome other than an error is a lookup.
+     *
+     * @return  double
+     */
+    public double getHitRatio() {
+        final long lookups = this.getOutcomes() - this.getErrors();
+
+        return lookups == 0 ? 0.0 : (double) (this.getHits() + this.getEarlyRefreshes() + this.getStaleHits() + this.getLocalHits()) / lookups;
+    }
+
+    /**
+     * Return the elapsed time in nanoseconds.
+     *
+     * @return  long
+     */
+    public long getElapsedNanos() {
+        final long stop = this.stopNanos;
+
+        return (stop == 0 ? System.nanoTime() : stop) - this.startNanos;
+    }
+
+    /**
+     * Return the throughput in operations per second.
+     *
+     * @return  double
+     */
+    public double getOperationsPerSecond() {
+        final long elapsedNanos = this.getElapsedNanos();
+
+        return elapsedNanos <= 0 ? 0.0 : this.getOperations() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Return the service time histogram.
+     *
+     * @return  net.jmp.hitormiss.util.LatencyHistogram
+     */
+    public LatencyHistogram getServiceTimes() {
+        return this.serviceTimes;
+    }
+
+    /**
+     * Return the response time histogram.
+     *
+     * @return  net.jmp.hitormiss.util.LatencyHistogram
+     */
+    public LatencyHistogram getResponseTimes() {
+        return this.responseTimes;
+    }
+
+    /**
+     * Return the histogram of how long past
+     * their expiry the stale hits' values were.
+     *
+     * @return  net.jmp.hitormiss.util.LatencyHistogram
+     */
+    public LatencyHistogram getStaleness() {
+        return this.staleness;
+    }
+
+    /**
+     * Return the histogram of how long lookups
+     * waited for a pooled connection. It is empty
+     * unless the pool wait is measured.
+     *
+     * @return  net.jmp.hitormiss.util.LatencyHistogram
+     */
+    public LatencyHistogram getPoolWaits() {
+        return this.poolWaits;
+    }
+
+    /**
+     * Return the histogram of the service times of
+     * multi-gets divided by the keys each read. It is
+     * empty unless buckets are read by multi-get.
+     *
+     * @return  net.jmp.hitormiss.util.LatencyHistogram
+     */
+    public LatencyHistogram getAmortizedTimes() {
+        return this.amortizedTimes;
+    }
+
+    /**
+     * Return an immutable snapshot of the statistics.
+     *
+     * @return  net.jmp.hitormiss.data.StatisticsSnapshot
+     */
+    public StatisticsSnapshot snapshot() {
+        final long[] copy = new long[this.counts.length()];
+
+        for (int i = 0; i < copy.length; i++)
+            copy[i] = this.counts.get(i);
+
+        return new StatisticsSnapshot(
+                copy,
+                this.operations.get(),
+                this.getElapsedNanos(),
+                this.serviceTimes.summarize(),
+                this.responseTimes.summarize(),
+                this.staleness.summarize(),
+                this.poolWaits.summarize(),
+                this.amortizedTimes.summarize()
+        );
+    }
+
+    /**
+     * Stop the statistics.
+     */
+    public void stop() {
+        this.stopNanos = System.nanoTime();
+    }
+
+    /**
+     * Reset the statistics and restart the clock.
+     */
+    public void reset() {
+        for (int i = 0; i < this.counts.length(); i++)
+            this.counts.set(i, 0);
+
+        this.operations.set(0);
+        this.serviceTimes.reset();
+        this.responseTimes.reset();
+        this.staleness.reset();
+        this.poolWaits.reset();
+        this.amortizedTimes.reset();
+
+        this.startNanos = System.nanoTime();
+        this.stopNanos = 0;
+    }
+}
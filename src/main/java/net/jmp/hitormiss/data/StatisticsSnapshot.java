@@ -0,0 +1,312 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)StatisticsSnapshot.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.hitormiss.util.LatencySummary;
+
+/**
+ * An immutable point-in-time copy of the statistics.
+ * Readers such as the metrics endpoint work from a
+ * snapshot so they never hold up the recording side.
+ */
+public final class StatisticsSnapshot {
+    /** The counts indexed by request type ordinal. */
+    private final long[] counts;
+
+    /** The number of operations. */
+    private final long operations;
+
+    /** The elapsed time in nanoseconds. */
+    private final long elapsedNanos;
+
+    /** The service time summary. */
+    private final LatencySummary serviceTimes;
+
+    /** The response time summary. */
+    private final LatencySummary responseTimes;
+
+    /** The staleness summary of the stale hits. */
+    private final LatencySummary staleness;
+
+    /** The summary of how long lookups waited for a pooled connection. */
+    private final LatencySummary poolWaits;
+
+    /** The summary of the service times of multi-gets divided by the keys each read. */
+    private final LatencySummary amortizedTimes;
+
+    /**
+     * The constructor.
+     *
+     * @param   counts          long[]
+     * @param   operations      long
+     * @param   elapsedNanos    long
+     * @param   serviceTimes    net.jmp.hitormiss.util.LatencySummary
+     * @param   responseTimes   net.jmp.hitormiss.util.LatencySummary
+     * @param   staleness       net.jmp.hitormiss.util.LatencySummary
+     * @param   poolWaits       net.jmp.hitormiss.util.LatencySummary
+     * @param   amortizedTimes  net.jmp.hitormiss.util.LatencySummary
+     */
+    StatisticsSnapshot(final long[] counts,
+                       final long operations,
+                       final long elapsedNanos,
+                       final LatencySummary serviceTimes,
+                       final LatencySummary responseTimes,
+                       final LatencySummary staleness,
+                       final LatencySummary poolWaits,
+                       final LatencySummary amortizedTimes) {
+        super();
+
+        this.counts = counts;
+        this.operations = operations;
+        this.elapsedNanos = elapsedNanos;
+        this.serviceTimes = serviceTimes;
+        this.responseTimes = responseTimes;
+        this.staleness = staleness;
+        this.poolWaits = poolWaits;
+        this.amortizedTimes = amortizedTimes;
+    }
+
+    /**
+     * Return the count for a request type.
+     *
+     * @param   requestType net.jmp.hitormiss.data.RequestType
+     * @return              long
+     */
+    public long getCount(final RequestType requestType) {
+        return this.counts[requestType.ordinal()];
+    }
+
+    /**
+     * Return the number of hits.
+     *
+     * @return  long
+     */
+    public long getHits() {
+        return this.getCount(RequestType.HIT);
+    }
+
+    /**
+     * Return the number of hits that also
+     * refreshed their bucket before it expired.
+     *
+     * @return  long
+     */
+    public long getEarlyRefreshes() {
+        return this.getCount(RequestType.EARLY_REFRESH);
+    }
+
+    /**
+     * Return the number of hits served stale
+     * while their bucket was refreshed.
+     *
+     * @return  long
+     */
+    public long getStaleHits() {
+        return this.getCount(RequestType.STALE_HIT);
+    }
+
+    /**
+     * Return the number of hits served by the
+     * local tier without reaching the backend.
+     *
+     * @return  long
+     */
+    public long getLocalHits() {
+        return this.getCount(RequestType.LOCAL_HIT);
+    }
+
+    /**
+     * Return the number of cold misses, those
+     * of keys that had never been stored.
+     *
+     * @return  long
+     */
+    public long getMisses() {
+        return this.getCount(RequestType.MISS);
+    }
+
+    /**
+     * Return the number of misses of keys that
+     * had been stored but expired or were evicted.
+     *
+     * @return  long
+     */
+    public long getExpiryMisses() {
+        return this.getCount(RequestType.EXPIRY_MISS);
+    }
+
+    /**
+     * Return the number of misses that waited
+     * for another thread's load of the same key.
+     *
+     * @return  long
+     */
+    public long getCoalescedMisses() {
+        return this.getCount(RequestType.COALESCED_MISS);
+    }
+
+    /**
+     * Return the number of misses of a replica
+     * that the primary found to be hits.
+     *
+     * @return  long
+     */
+    public long getFalseMisses() {
+        return this.getCount(RequestType.FALSE_MISS);
+    }
+
+    /**
+     * Return the number of errors.
+     *
+     * @return  long
+     */
+    public long getErrors() {
+        return this.getCount(RequestType.ERROR);
+    }
+
+    /**
+     * Return the number of misses whose
+     * load from the backing store failed.
+     *
+     * @return  long
+     */
+    public long getLoadFailures() {
+        return this.getCount(RequestType.LOAD_FAILURE);
+    }
+
+    /**
+     * Return the number of operations of any outcome.
+     * A multi-get is one operation.
+     *
+     * @return  long
+     */
+    public long getOperations() {
+        return this.operations;
+    }
+
+    /**
+     * Return the number of outcomes of any type. Each
+     * key of a multi-get has an outcome of its own, so
+     * there are as many outcomes as keys read.
+     *
+     * @return  long
+     */
+    public long getOutcomes() {
+        long outcomes = 0;
+
+        for (final RequestType requestType : RequestType.values()) {
+            if (requestType.isOutcome())
+                outcomes += this.getCount(requestType);
+        }
+
+        return outcomes;
+    }
+
+    /**
+     * Return the ratio of hits, early refreshes, stale
+     * hits and local hits included, to lookups. Every
+     * outcome other than an error is a lookup.
+     *
+     * @return  double
+     */
+    public double getHitRatio() {
+        final long lookups = this.getOutcomes() - this.getErrors();
+
+        return lookups == 0 ? 0.0 : (double) (this.getHits() + this.getEarlyRefreshes() + this.getStaleHits() + this.getLocalHits()) / lookups;
+    }
+
+    /**
+     * Return the elapsed time in nanoseconds.
+     *
+     * @return  long
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Return the throughput in operations per second.
+     *
+     * @return  double
+     */
+    public double getOperationsPerSecond() {
+        return this.elapsedNanos <= 0 ? 0.0 : this.getOperations() / (this.elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Return the service time summary.
+     *
+     * @return  net.jmp.hitormiss.util.LatencySummary
+     */
+    public LatencySummary getServiceTimes() {
+        return this.serviceTimes;
+    }
+
+    /**
+     * Return the response time summary.
+     *
+     * @return  net.jmp.hitormiss.util.LatencySummary
+     */
+    public LatencySummary getResponseTimes() {
+        return this.responseTimes;
+    }
+
+    /**
+     * Return the staleness summary of the stale hits.
+     *
+     * @return  net.jmp.hitormiss.util.LatencySummary
+     */
+    public LatencySummary getStaleness() {
+        return this.staleness;
+    }
+
+    /**
+     * Return the summary of how long lookups
+     * waited for a pooled connection.
+     *
+     * @return  net.jmp.hitormiss.util.LatencySummary
+     */
+    public LatencySummary getPoolWaits() {
+        return this.poolWaits;
+    }
+
+    /**
+     * Return the summary of the service times
+     * of multi-gets divided by the keys each read.
+     *
+     * @return  net.jmp.hitormiss.util.LatencySummary
+     */
+    public LatencySummary getAmortizedTimes() {
+        return this.amortizedTimes;
+    }
+}
@@ -0,0 +1,92 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)AccessEvent.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The flight recorder event for a cache access. Only
+ * accesses that take longer than the threshold are
+ * recorded; the threshold can be changed in the
+ * recording settings like that of any JDK event.
+ */
+@Name("net.jmp.hitormiss.Access")
+@Label("Cache Access")
+@Category("Hit or Miss")
+@Description("A cache access with its keys and their outcomes")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class AccessEvent extends Event {
+    /** The key or the first key of a multi-get expressed as an integer. */
+    @Label("Key")
+    private int key;
+
+    /** The number of keys read by the access. */
+    @Label("Keys")
+    private int keys;
+
+    /** The outcome of the access or the outcomes of the keys of a multi-get in order. */
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Set the key.
+     *
+     * @param   key int
+     */
+    public void setKey(final int key) {
+        this.key = key;
+    }
+
+    /**
+     * Set the number of keys.
+     *
+     * @param   keys    int
+     */
+    public void setKeys(final int keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Set the outcome.
+     *
+     * @param   outcome java.lang.String
+     */
+    public void setOutcome(final String outcome) {
+        this.outcome = outcome;
+    }
+}
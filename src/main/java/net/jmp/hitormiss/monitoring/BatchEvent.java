@@ -0,0 +1,89 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)BatchEvent.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event for a batch of
+ * access outcomes handed to the statistics
+ * thread in one go.
+ */
+@Name("net.jmp.hitormiss.Batch")
+@Label("Statistics Batch")
+@Category("Hit or Miss")
+@Description("A batch of access outcomes handed to the statistics thread")
+@StackTrace(false)
+public final class BatchEvent extends Event {
+    /** The number of outcomes in the batch. */
+    @Label("Size")
+    private int size;
+
+    /** The number of hits of any kind in the batch. */
+    @Label("Hits")
+    private int hits;
+
+    /** The number of misses of any kind, load failures included, in the batch. */
+    @Label("Misses")
+    private int misses;
+
+    /**
+     * Set the size.
+     *
+     * @param   size    int
+     */
+    public void setSize(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * Set the number of hits.
+     *
+     * @param   hits    int
+     */
+    public void setHits(final int hits) {
+        this.hits = hits;
+    }
+
+    /**
+     * Set the number of misses.
+     *
+     * @param   misses  int
+     */
+    public void setMisses(final int misses) {
+        this.misses = misses;
+    }
+}
@@ -0,0 +1,213 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)NodeLatencySampler.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import java.util.function.Supplier;
+
+import net.jmp.hitormiss.config.Topology;
+
+import net.jmp.hitormiss.util.LatencyHistogram;
+import net.jmp.hitormiss.util.LatencySummary;
+
+import org.redisson.api.RedissonClient;
+
+import org.redisson.api.redisnode.RedisNode;
+
+import org.redisson.client.RedisException;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Pings every master and replica at an interval and
+ * records the round trip of each node. Redisson does
+ * not say which node served a read, so the round trips
+ * stand in for the latency of each node; a replica that
+ * is slow to answer a ping is slow to serve reads too.
+ */
+public final class NodeLatencySampler {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The milliseconds between pings. */
+    private final int intervalMillis;
+
+    /** Lists the nodes to ping. */
+    private final Supplier<Map<String, RedisNode>> nodeLister;
+
+    /** The round trips of each node; only the sampling thread records. */
+    private final Map<String, LatencyHistogram> roundTrips = new LinkedHashMap<>();
+
+    /** The executor of the pings or null. */
+    private ScheduledExecutorService executor;
+
+    /** The nodes being pinged. */
+    private Map<String, RedisNode> nodes;
+
+    /**
+     * The constructor.
+     *
+     * @param   intervalMillis  int
+     * @param   topology        net.jmp.hitormiss.config.Topology
+     * @param   client          org.redisson.api.RedissonClient
+     */
+    public NodeLatencySampler(final int intervalMillis, final Topology topology, final RedissonClient client) {
+        this(intervalMillis, nodeLister(topology, client));
+    }
+
+    /**
+     * A constructor that takes what lists the nodes.
+     *
+     * @param   intervalMillis  int
+     * @param   nodeLister      java.util.function.Supplier&lt;java.util.Map&lt;java.lang.String, org.redisson.api.redisnode.RedisNode&gt;&gt;
+     */
+    NodeLatencySampler(final int intervalMillis, final Supplier<Map<String, RedisNode>> nodeLister) {
+        super();
+
+        if (intervalMillis <= 0)
+            throw new IllegalArgumentException("The interval must be positive: " + intervalMillis);
+
+        this.intervalMillis = intervalMillis;
+        this.nodeLister = Objects.requireNonNull(nodeLister);
+    }
+
+    /**
+     * List the nodes and start pinging them.
+     */
+    public void start() {
+        this.logger.entry();
+
+        this.nodes = this.nodeLister.get();
+
+        for (final String node : this.nodes.keySet())
+            this.roundTrips.put(node, new LatencyHistogram());
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("node-latency").daemon().factory());
+        this.executor.scheduleAtFixedRate(this::ping, 0, this.intervalMillis, TimeUnit.MILLISECONDS);
+
+        this.logger.exit();
+    }
+
+    /**
+     * Stop pinging and log the round trips of
+     * each node. Calling it more than once has
+     * no further effect.
+     */
+    public void stop() {
+        this.logger.entry();
+
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+
+            try {
+                if (!this.executor.awaitTermination(1, TimeUnit.SECONDS))
+                    this.logger.warn("The node latency sampler did not stop in time");
+            } catch (final InterruptedException ie) {
+                this.logger.catching(ie);
+                Thread.currentThread().interrupt();
+            }
+
+            this.executor = null;
+
+            this.getSummaries().forEach(this::log);
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return a summary of the round trips of each
+     * node keyed by the role and address of the node.
+     *
+     * @return  java.util.Map&lt;java.lang.String, net.jmp.hitormiss.util.LatencySummary&gt;
+     */
+    public Map<String, LatencySummary> getSummaries() {
+        final Map<String, LatencySummary> summaries = new LinkedHashMap<>();
+
+        this.roundTrips.forEach((node, histogram) -> summaries.put(node, histogram.summarize()));
+
+        return summaries;
+    }
+
+    /**
+     * Ping every node once.
+     */
+    private void ping() {
+        for (final Map.Entry<String, RedisNode> node : this.nodes.entrySet()) {
+            try {
+                final long startNanos = System.nanoTime();
+
+                if (node.getValue().ping())
+                    this.roundTrips.get(node.getKey()).record(System.nanoTime() - startNanos);
+            } catch (final RedisException re) {
+                this.logger.warn("Failed to ping {}: {}", node.getKey(), re.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Return what lists the nodes of a topology.
+     *
+     * @param   topology    net.jmp.hitormiss.config.Topology
+     * @param   client      org.redisson.api.RedissonClient
+     * @return              java.util.function.Supplier&lt;java.util.Map&lt;java.lang.String, org.redisson.api.redisnode.RedisNode&gt;&gt;
+     */
+    private static Supplier<Map<String, RedisNode>> nodeLister(final Topology topology, final RedissonClient client) {
+        Objects.requireNonNull(topology);
+        Objects.requireNonNull(client);
+
+        return () -> TopologyNodes.list(client, topology);
+    }
+
+    /**
+     * Log the round trips of a node in milliseconds.
+     *
+     * @param   node    java.lang.String
+     * @param   summary net.jmp.hitormiss.util.LatencySummary
+     */
+    private void log(final String node, final LatencySummary summary) {
+        this.logger.info("Node {} pings: {}, p50: {} ms, p99: {} ms, max: {} ms",
+                node,
+                summary.getCount(),
+                String.format("%.3f", summary.getP50() / 1_000_000.0),
+                String.format("%.3f", summary.getP99() / 1_000_000.0),
+                String.format("%.3f", summary.getMax() / 1_000_000.0));
+    }
+}
@@ -0,0 +1,278 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)PrometheusEndpoint.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.net.InetSocketAddress;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import net.jmp.hitormiss.config.Monitoring;
+
+import net.jmp.hitormiss.data.RequestType;
+import net.jmp.hitormiss.data.StatisticsSnapshot;
+
+import net.jmp.hitormiss.threads.StatisticsThread;
+
+import net.jmp.hitormiss.util.LatencySummary;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * An embedded HTTP endpoint that serves the statistics
+ * in the Prometheus text exposition format. Each scrape
+ * works from snapshots of the lock-free statistics, so
+ * scraping never blocks the access or statistics threads.
+ */
+public final class PrometheusEndpoint implements HttpHandler {
+    /** The content type of the Prometheus text format. */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** The number of nanoseconds in a second. */
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The monitoring configuration. */
+    private final Monitoring monitoring;
+
+    /** The statistics thread. */
+    private final StatisticsThread statisticsThread;
+
+    /** The HTTP server. */
+    private HttpServer server;
+
+    /**
+     * The constructor.
+     *
+     * @param   monitoring          net.jmp.hitormiss.config.Monitoring
+     * @param   statisticsThread    net.jmp.hitormiss.threads.StatisticsThread
+     */
+    public PrometheusEndpoint(final Monitoring monitoring, final StatisticsThread statisticsThread) {
+        super();
+
+        this.monitoring = Objects.requireNonNull(monitoring);
+        this.statisticsThread = Objects.requireNonNull(statisticsThread);
+    }
+
+    /**
+     * Start serving.
+     *
+     * @throws  java.io.IOException When the server cannot be created
+     */
+    public void start() throws IOException {
+        this.logger.entry();
+
+        this.server = HttpServer.create(new InetSocketAddress(this.monitoring.getPrometheusPort()), 0);
+        this.server.createContext(this.monitoring.getPrometheusPath(), this);
+        this.server.start();
+
+        this.logger.info("Serving Prometheus metrics on port {} at {}", this.monitoring.getPrometheusPort(), this.monitoring.getPrometheusPath());
+
+        this.logger.exit();
+    }
+
+    /**
+     * Stop serving.
+     */
+    public void stop() {
+        this.logger.entry();
+
+        if (this.server != null) {
+            this.server.stop(0);
+            this.server = null;
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Handle a scrape.
+     *
+     * @param   exchange    com.sun.net.httpserver.HttpExchange
+     * @throws              java.io.IOException When an I/O exception occurs
+     */
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+            } else {
+                final byte[] body = this.scrape().getBytes(StandardCharsets.UTF_8);
+
+                exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                exchange.sendResponseHeaders(200, body.length);
+
+                try (final OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the metrics in the Prometheus text format.
+     *
+     * @return  java.lang.String
+     */
+    String scrape() {
+        final StatisticsSnapshot warmup = this.statisticsThread.getWarmupStatistics().snapshot();
+        final StatisticsSnapshot measurement = this.statisticsThread.getStatistics().snapshot();
+        final StringBuilder sb = new StringBuilder(4_096);
+
+        this.header(sb, "hitormiss_requests_total", "counter", "Accesses by phase and outcome.");
+
+        for (final RequestType requestType : RequestType.values()) {
+            if (requestType.isOutcome()) {
+                this.outcome(sb, "warmup", requestType, warmup);
+                this.outcome(sb, "measurement", requestType, measurement);
+            }
+        }
+
+        this.header(sb, "hitormiss_hit_ratio", "gauge", "Fresh, early refresh, stale and local hits divided by every outcome other than errors.");
+        this.sample(sb, "hitormiss_hit_ratio", "phase=\"warmup\"", warmup.getHitRatio());
+        this.sample(sb, "hitormiss_hit_ratio", "phase=\"measurement\"", measurement.getHitRatio());
+
+        this.header(sb, "hitormiss_operations_per_second", "gauge", "Throughput over the phase so far.");
+        this.sample(sb, "hitormiss_operations_per_second", "phase=\"warmup\"", warmup.getOperationsPerSecond());
+        this.sample(sb, "hitormiss_operations_per_second", "phase=\"measurement\"", measurement.getOperationsPerSecond());
+
+        this.header(sb, "hitormiss_service_time_seconds", "summary", "Access latency from the actual start.");
+        this.summary(sb, "hitormiss_service_time_seconds", "warmup", warmup.getServiceTimes());
+        this.summary(sb, "hitormiss_service_time_seconds", "measurement", measurement.getServiceTimes());
+
+        this.header(sb, "hitormiss_response_time_seconds", "summary", "Access latency from the intended start.");
+        this.summary(sb, "hitormiss_response_time_seconds", "warmup", warmup.getResponseTimes());
+        this.summary(sb, "hitormiss_response_time_seconds", "measurement", measurement.getResponseTimes());
+
+        this.header(sb, "hitormiss_request_queue_depth", "gauge", "Statistics queue depth at the last drain.");
+        this.sample(sb, "hitormiss_request_queue_depth", null, this.statisticsThread.getQueueDepth());
+
+        this.header(sb, "hitormiss_request_queue_depth_max", "gauge", "Largest statistics queue depth seen.");
+        this.sample(sb, "hitormiss_request_queue_depth_max", null, this.statisticsThread.getMaxQueueDepth());
+
+        this.header(sb, "hitormiss_measuring", "gauge", "1 once the measurement phase has started.");
+        this.sample(sb, "hitormiss_measuring", null, this.statisticsThread.isMeasuring() ? 1 : 0);
+
+        return sb.toString();
+    }
+
+    /**
+     * Append the help and type lines of a metric.
+     *
+     * @param   sb      java.lang.StringBuilder
+     * @param   name    java.lang.String
+     * @param   type    java.lang.String
+     * @param   help    java.lang.String
+     */
+    private void header(final StringBuilder sb, final String name, final String type, final String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Append one sample.
+     *
+     * @param   sb      java.lang.StringBuilder
+     * @param   name    java.lang.String
+     * @param   labels  java.lang.String
+     * @param   value   double
+     */
+    private void sample(final StringBuilder sb, final String name, final String labels, final double value) {
+        sb.append(name);
+
+        if (labels != null)
+            sb.append('{').append(labels).append('}');
+
+        sb.append(' ').append(this.format(value)).append('\n');
+    }
+
+    /**
+     * Append the count of one outcome.
+     *
+     * @param   sb          java.lang.StringBuilder
+     * @param   phase       java.lang.String
+     * @param   requestType net.jmp.hitormiss.data.RequestType
+     * @param   snapshot    net.jmp.hitormiss.data.StatisticsSnapshot
+     */
+    private void outcome(final StringBuilder sb, final String phase, final RequestType requestType, final StatisticsSnapshot snapshot) {
+        this.sample(
+                sb,
+                "hitormiss_requests_total",
+                "phase=\"" + phase + "\",outcome=\"" + requestType.name().toLowerCase(Locale.ROOT) + '"',
+                snapshot.getCount(requestType)
+        );
+    }
+
+    /**
+     * Append a latency summary in seconds.
+     *
+     * @param   sb      java.lang.StringBuilder
+     * @param   name    java.lang.String
+     * @param   phase   java.lang.String
+     * @param   summary net.jmp.hitormiss.util.LatencySummary
+     */
+    private void summary(final StringBuilder sb, final String name, final String phase, final LatencySummary summary) {
+        final String labels = "phase=\"" + phase + '"';
+
+        this.sample(sb, name, labels + ",quantile=\"0.5\"", summary.getP50() / NANOS_PER_SECOND);
+        this.sample(sb, name, labels + ",quantile=\"0.9\"", summary.getP90() / NANOS_PER_SECOND);
+        this.sample(sb, name, labels + ",quantile=\"0.99\"", summary.getP99() / NANOS_PER_SECOND);
+        this.sample(sb, name, labels + ",quantile=\"0.999\"", summary.getP999() / NANOS_PER_SECOND);
+        this.sample(sb, name + "_sum", labels, summary.getSum() / NANOS_PER_SECOND);
+        this.sample(sb, name + "_count", labels, summary.getCount());
+    }
+
+    /**
+     * Format a sample value.
+     *
+     * @param   value   double
+     * @return          java.lang.String
+     */
+    private String format(final double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15)
+            return Long.toString((long) value);
+
+        return Double.toString(value);
+    }
+}
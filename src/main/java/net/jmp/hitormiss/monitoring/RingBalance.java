@@ -0,0 +1,201 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)RingBalance.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import net.jmp.hitormiss.data.RedisInstance;
+import net.jmp.hitormiss.data.ShardRouter;
+
+import net.jmp.hitormiss.util.BucketKeys;
+import net.jmp.hitormiss.util.ConsistentHashRing;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Logs how evenly the keys and the load spread over
+ * the instances of a sharded run, and how many keys
+ * would move, and how evenly they would then spread,
+ * if an instance were added or each one removed. The
+ * spread is the largest share over the mean share, so
+ * one is perfectly even.
+ */
+public final class RingBalance {
+    /** The name of the instance that is added to the ring. */
+    private static final String ADDED = "added";
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The router. */
+    private final ShardRouter router;
+
+    /** The keys that accesses draw from. */
+    private final List<String> keys;
+
+    /**
+     * The constructor.
+     *
+     * @param   router      net.jmp.hitormiss.data.ShardRouter
+     * @param   bucketKeys  net.jmp.hitormiss.util.BucketKeys
+     * @param   keyCount    int
+     */
+    public RingBalance(final ShardRouter router, final BucketKeys bucketKeys, final int keyCount) {
+        super();
+
+        this.router = Objects.requireNonNull(router);
+        this.keys = new ArrayList<>(keyCount);
+
+        for (int i = 1; i <= keyCount; i++)
+            this.keys.add(bucketKeys.key(i));
+    }
+
+    /**
+     * Log the balance of the ring.
+     */
+    public void log() {
+        this.logger.entry();
+
+        final ConsistentHashRing<RedisInstance> ring = this.router.getRing();
+        final Map<String, Integer> keyCounts = this.countKeys(ring);
+        final int instances = ring.getNames().size();
+
+        long lookups = 0;
+
+        for (final RedisInstance instance : this.router.getInstances())
+            lookups += instance.getHits() + instance.getMisses();
+
+        long maxLookups = 0;
+
+        for (final RedisInstance instance : this.router.getInstances()) {
+            final long instanceLookups = instance.getHits() + instance.getMisses();
+
+            maxLookups = Math.max(maxLookups, instanceLookups);
+
+            this.logger.info("Instance {} keys: {} ({}%), hits: {}, misses: {}, ratio: {}, load: {}%",
+                    instance.getName(),
+                    keyCounts.getOrDefault(instance.getName(), 0),
+                    this.percent(keyCounts.getOrDefault(instance.getName(), 0), this.keys.size()),
+                    instance.getHits(),
+                    instance.getMisses(),
+                    String.format("%.4f", instanceLookups == 0 ? 0.0 : (double) instance.getHits() / instanceLookups),
+                    this.percent(instanceLookups, lookups));
+        }
+
+        this.logger.info("Ring of {} instances with {} virtual nodes each; key spread: {}, load spread: {}",
+                instances,
+                ring.getVirtualNodes(),
+                String.format("%.3f", this.getSpread(keyCounts, instances)),
+                String.format("%.3f", lookups == 0 ? 0.0 : (double) maxLookups * instances / lookups));
+
+        final ConsistentHashRing<RedisInstance> added = ring.withNode(ADDED, null);
+
+        this.logger.info("Adding an instance moves {}% of the keys ({}% at best); key spread: {}",
+                this.percent(this.countMoved(ring, added), this.keys.size()),
+                this.percent(1, instances + 1),
+                String.format("%.3f", this.getSpread(this.countKeys(added), instances + 1)));
+
+        if (instances > 1) {
+            for (final String name : ring.getNames()) {
+                final ConsistentHashRing<RedisInstance> removed = ring.withoutNode(name);
+
+                this.logger.info("Removing {} moves {}% of the keys; key spread: {}",
+                        name,
+                        this.percent(this.countMoved(ring, removed), this.keys.size()),
+                        String.format("%.3f", this.getSpread(this.countKeys(removed), instances - 1)));
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return the number of keys each instance of a ring holds.
+     *
+     * @param   ring    net.jmp.hitormiss.util.ConsistentHashRing&lt;net.jmp.hitormiss.data.RedisInstance&gt;
+     * @return          java.util.Map&lt;java.lang.String, java.lang.Integer&gt;
+     */
+    private Map<String, Integer> countKeys(final ConsistentHashRing<RedisInstance> ring) {
+        final Map<String, Integer> counts = new HashMap<>();
+
+        for (final String key : this.keys)
+            counts.merge(ring.routeName(key), 1, Integer::sum);
+
+        return counts;
+    }
+
+    /**
+     * Return the number of keys that two rings route differently.
+     *
+     * @param   before  net.jmp.hitormiss.util.ConsistentHashRing&lt;net.jmp.hitormiss.data.RedisInstance&gt;
+     * @param   after   net.jmp.hitormiss.util.ConsistentHashRing&lt;net.jmp.hitormiss.data.RedisInstance&gt;
+     * @return          int
+     */
+    private int countMoved(final ConsistentHashRing<RedisInstance> before, final ConsistentHashRing<RedisInstance> after) {
+        int moved = 0;
+
+        for (final String key : this.keys)
+            if (!before.routeName(key).equals(after.routeName(key)))
+                moved++;
+
+        return moved;
+    }
+
+    /**
+     * Return the largest count over the mean count.
+     *
+     * @param   counts      java.util.Map&lt;java.lang.String, java.lang.Integer&gt;
+     * @param   instances   int
+     * @return              double
+     */
+    private double getSpread(final Map<String, Integer> counts, final int instances) {
+        final int max = counts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+
+        return this.keys.isEmpty() ? 0.0 : (double) max * instances / this.keys.size();
+    }
+
+    /**
+     * Return a part of a whole as a percentage.
+     *
+     * @param   part    long
+     * @param   whole   long
+     * @return          java.lang.String
+     */
+    private String percent(final long part, final long whole) {
+        return String.format("%.1f", whole == 0 ? 0.0 : part * 100.0 / whole);
+    }
+}
@@ -0,0 +1,242 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)ServerStatisticsSampler.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.hitormiss.config.ServerStats;
+import net.jmp.hitormiss.config.Topology;
+
+import net.jmp.hitormiss.data.ServerStatistics;
+
+import org.redisson.api.RedissonClient;
+
+import org.redisson.api.redisnode.RedisNode;
+
+import org.redisson.client.RedisException;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Samples the Redis INFO stats section at the start
+ * and end of a run and optionally at an interval in
+ * between. The server counts cost the client nothing
+ * and cross-check the outcomes it captures. With more
+ * than one node the counts of every master and replica
+ * are added up, since replicas may serve the reads,
+ * and the change at each node is logged as well.
+ */
+public final class ServerStatisticsSampler {
+    /** The statistics of a node that has counted nothing. */
+    private static final ServerStatistics ZERO = new ServerStatistics(0, 0, 0, 0);
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The server statistics configuration. */
+    private final ServerStats serverStats;
+
+    /** The topology. */
+    private final Topology topology;
+
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /** The executor of the periodic samples or null. */
+    private ScheduledExecutorService executor;
+
+    /** The samples of each node taken at the start. */
+    private volatile Map<String, ServerStatistics> startSample;
+
+    /** The most recent periodic samples of each node. */
+    private volatile Map<String, ServerStatistics> lastSample;
+
+    /** The samples of each node taken at the end. */
+    private volatile Map<String, ServerStatistics> endSample;
+
+    /**
+     * The constructor.
+     *
+     * @param   serverStats net.jmp.hitormiss.config.ServerStats
+     * @param   topology    net.jmp.hitormiss.config.Topology
+     * @param   client      org.redisson.api.RedissonClient
+     */
+    public ServerStatisticsSampler(final ServerStats serverStats, final Topology topology, final RedissonClient client) {
+        super();
+
+        this.serverStats = Objects.requireNonNull(serverStats);
+        this.topology = Objects.requireNonNull(topology);
+        this.client = Objects.requireNonNull(client);
+    }
+
+    /**
+     * Take the start sample and schedule
+     * the periodic samples if configured.
+     */
+    public void start() {
+        this.logger.entry();
+
+        this.startSample = this.sample();
+        this.lastSample = this.startSample;
+
+        final int intervalSeconds = this.serverStats.getSampleIntervalSeconds();
+
+        if (intervalSeconds > 0) {
+            this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("server-stats").daemon().factory());
+            this.executor.scheduleAtFixedRate(this::samplePeriodically, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Stop the periodic samples, take the end sample
+     * and log the change over the run. Calling it more
+     * than once has no further effect.
+     */
+    public void stop() {
+        this.logger.entry();
+
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+            this.executor = null;
+        }
+
+        if (this.startSample != null && this.endSample == null) {
+            this.endSample = this.sample();
+
+            this.log("Server", this.getDelta());
+
+            if (this.endSample.size() > 1)
+                this.getNodeDeltas().forEach((node, delta) -> this.log("Node " + node, delta));
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return the change in the server statistics
+     * over the run or null until it has ended.
+     *
+     * @return  net.jmp.hitormiss.data.ServerStatistics
+     */
+    public ServerStatistics getDelta() {
+        return this.startSample != null && this.endSample != null ? this.sum(this.endSample).minus(this.sum(this.startSample)) : null;
+    }
+
+    /**
+     * Return the change in the server statistics of
+     * each node over the run, keyed by the role and
+     * address of the node, or null until it has ended.
+     * A node that joined during the run counts from zero.
+     *
+     * @return  java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.ServerStatistics&gt;
+     */
+    public Map<String, ServerStatistics> getNodeDeltas() {
+        if (this.startSample == null || this.endSample == null)
+            return null;
+
+        final Map<String, ServerStatistics> deltas = new LinkedHashMap<>();
+
+        this.endSample.forEach((node, end) -> deltas.put(node, end.minus(this.startSample.getOrDefault(node, ZERO))));
+
+        return deltas;
+    }
+
+    /**
+     * Take a periodic sample and log the
+     * change since the previous one.
+     */
+    private void samplePeriodically() {
+        try {
+            final Map<String, ServerStatistics> sample = this.sample();
+
+            this.log("Server interval", this.sum(sample).minus(this.sum(this.lastSample)));
+
+            this.lastSample = sample;
+        } catch (final RedisException re) {
+            this.logger.warn("Failed to sample the server statistics: {}", re.getMessage());
+        }
+    }
+
+    /**
+     * Log a change in the server statistics.
+     *
+     * @param   name    java.lang.String
+     * @param   delta   net.jmp.hitormiss.data.ServerStatistics
+     */
+    private void log(final String name, final ServerStatistics delta) {
+        this.logger.info("{} hits: {}, misses: {}, ratio: {}, evicted: {}, expired: {}",
+                name,
+                delta.getKeyspaceHits(),
+                delta.getKeyspaceMisses(),
+                String.format("%.4f", delta.getHitRatio()),
+                delta.getEvictedKeys(),
+                delta.getExpiredKeys());
+    }
+
+    /**
+     * Sample the INFO stats section of every node.
+     *
+     * @return  java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.ServerStatistics&gt;
+     */
+    private Map<String, ServerStatistics> sample() {
+        final Map<String, ServerStatistics> samples = new LinkedHashMap<>();
+
+        for (final Map.Entry<String, RedisNode> node : TopologyNodes.list(this.client, this.topology).entrySet())
+            samples.put(node.getKey(), ServerStatistics.fromInfo(node.getValue().info(RedisNode.InfoSection.STATS)));
+
+        return samples;
+    }
+
+    /**
+     * Return the sum of the samples of every node.
+     *
+     * @param   samples java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.ServerStatistics&gt;
+     * @return          net.jmp.hitormiss.data.ServerStatistics
+     */
+    private ServerStatistics sum(final Map<String, ServerStatistics> samples) {
+        ServerStatistics total = ZERO;
+
+        for (final ServerStatistics sample : samples.values())
+            total = total.plus(sample);
+
+        return total;
+    }
+}
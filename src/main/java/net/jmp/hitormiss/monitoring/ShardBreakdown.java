@@ -0,0 +1,172 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)ShardBreakdown.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.net.InetSocketAddress;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import net.jmp.hitormiss.data.SlotStatistics;
+
+import org.redisson.api.RedissonClient;
+
+import org.redisson.api.redisnode.RedisClusterMaster;
+import org.redisson.api.redisnode.RedisNodes;
+
+import org.redisson.cluster.ClusterSlotRange;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Breaks the hits and misses of a cluster run down by
+ * shard and logs the hottest slots. The slot ranges of
+ * each shard are read from the cluster at the end of
+ * the run; a range whose master is not found is logged
+ * under its own slots.
+ */
+public final class ShardBreakdown {
+    /** The number of hottest slots logged. */
+    private static final int HOT_SLOT_COUNT = 10;
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /**
+     * The constructor.
+     *
+     * @param   client  org.redisson.api.RedissonClient
+     */
+    public ShardBreakdown(final RedissonClient client) {
+        super();
+
+        this.client = Objects.requireNonNull(client);
+    }
+
+    /**
+     * Log the hits and misses of each shard
+     * and of the hottest slots.
+     *
+     * @param   slotStatistics  net.jmp.hitormiss.data.SlotStatistics
+     */
+    public void log(final SlotStatistics slotStatistics) {
+        this.logger.entry(slotStatistics);
+
+        Objects.requireNonNull(slotStatistics);
+
+        final Map<String, List<ClusterSlotRange>> shards = this.getShards();
+
+        long lookups = 0;
+
+        for (final List<ClusterSlotRange> ranges : shards.values())
+            for (final ClusterSlotRange range : ranges)
+                lookups += slotStatistics.getHits(range.getStartSlot(), range.getEndSlot()) + slotStatistics.getMisses(range.getStartSlot(), range.getEndSlot());
+
+        for (final Map.Entry<String, List<ClusterSlotRange>> shard : shards.entrySet()) {
+            long hits = 0;
+            long misses = 0;
+            int slots = 0;
+
+            for (final ClusterSlotRange range : shard.getValue()) {
+                hits += slotStatistics.getHits(range.getStartSlot(), range.getEndSlot());
+                misses += slotStatistics.getMisses(range.getStartSlot(), range.getEndSlot());
+                slots += range.getEndSlot() - range.getStartSlot() + 1;
+            }
+
+            this.logger.info("Shard {} ({} slots): hits: {}, misses: {}, ratio: {}, share: {}%",
+                    shard.getKey(),
+                    slots,
+                    hits,
+                    misses,
+                    String.format("%.4f", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses)),
+                    String.format("%.1f", lookups == 0 ? 0.0 : (hits + misses) * 100.0 / lookups));
+        }
+
+        for (final int slot : slotStatistics.getHottest(HOT_SLOT_COUNT))
+            this.logger.info("Hot slot {}: {} lookups ({} hits, {} misses)",
+                    slot,
+                    slotStatistics.getLookups(slot),
+                    slotStatistics.getHits(slot),
+                    slotStatistics.getMisses(slot));
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return the slot ranges of each shard keyed by
+     * the address of its master.
+     *
+     * @return  java.util.Map&lt;java.lang.String, java.util.List&lt;org.redisson.cluster.ClusterSlotRange&gt;&gt;
+     */
+    private Map<String, List<ClusterSlotRange>> getShards() {
+        final Collection<RedisClusterMaster> masters = this.client.getRedisNodes(RedisNodes.CLUSTER).getMasters();
+        final Map<String, List<ClusterSlotRange>> shards = new LinkedHashMap<>();
+
+        if (masters.isEmpty())
+            return shards;
+
+        final List<String> masterAddresses = new ArrayList<>();
+
+        for (final RedisClusterMaster master : masters)
+            masterAddresses.add(this.toAddress(master.getAddr()));
+
+        for (final Map.Entry<ClusterSlotRange, Set<String>> entry : masters.iterator().next().clusterSlots().entrySet()) {
+            final String shard = masterAddresses.stream()
+                    .filter(address -> entry.getValue().stream().anyMatch(node -> node.endsWith(address)))
+                    .findFirst()
+                    .orElse("slots " + entry.getKey().getStartSlot() + "-" + entry.getKey().getEndSlot());
+
+            shards.computeIfAbsent(shard, key -> new ArrayList<>()).add(entry.getKey());
+        }
+
+        return shards;
+    }
+
+    /**
+     * Return the host:port form of a socket address.
+     *
+     * @param   address java.net.InetSocketAddress
+     * @return          java.lang.String
+     */
+    private String toAddress(final InetSocketAddress address) {
+        return address.getHostString() + ":" + address.getPort();
+    }
+}
@@ -0,0 +1,212 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)StatisticsMXBean.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * The management interface of the live statistics.
+ * Counts, ratios and latencies cover the window
+ * since it was last reset, whatever the phase.
+ */
+public interface StatisticsMXBean {
+    /**
+     * Return the current phase, either warmup or measurement.
+     *
+     * @return  java.lang.String
+     */
+    String getPhase();
+
+    /**
+     * Return the number of hits.
+     *
+     * @return  long
+     */
+    long getHits();
+
+    /**
+     * Return the number of hits that refreshed their bucket early.
+     *
+     * @return  long
+     */
+    long getEarlyRefreshes();
+
+    /**
+     * Return the number of hits served stale.
+     *
+     * @return  long
+     */
+    long getStaleHits();
+
+    /**
+     * Return the number of hits served by the local tier.
+     *
+     * @return  long
+     */
+    long getLocalHits();
+
+    /**
+     * Return the number of cold misses.
+     *
+     * @return  long
+     */
+    long getMisses();
+
+    /**
+     * Return the number of misses of keys that had expired.
+     *
+     * @return  long
+     */
+    long getExpiryMisses();
+
+    /**
+     * Return the number of misses that waited for another thread's load.
+     *
+     * @return  long
+     */
+    long getCoalescedMisses();
+
+    /**
+     * Return the number of replica misses that were hits on the primary.
+     *
+     * @return  long
+     */
+    long getFalseMisses();
+
+    /**
+     * Return the number of errors.
+     *
+     * @return  long
+     */
+    long getErrors();
+
+    /**
+     * Return the number of misses whose load from the backing store failed.
+     *
+     * @return  long
+     */
+    long getLoadFailures();
+
+    /**
+     * Return the ratio of hits to lookups.
+     *
+     * @return  double
+     */
+    double getHitRatio();
+
+    /**
+     * Return the throughput in operations per second.
+     *
+     * @return  double
+     */
+    double getOperationsPerSecond();
+
+    /**
+     * Return the 50th percentile service time in milliseconds.
+     *
+     * @return  double
+     */
+    double getServiceTimeP50Millis();
+
+    /**
+     * Return the 90th percentile service time in milliseconds.
+     *
+     * @return  double
+     */
+    double getServiceTimeP90Millis();
+
+    /**
+     * Return the 99th percentile service time in milliseconds.
+     *
+     * @return  double
+     */
+    double getServiceTimeP99Millis();
+
+    /**
+     * Return the 99.9th percentile service time in milliseconds.
+     *
+     * @return  double
+     */
+    double getServiceTimeP999Millis();
+
+    /**
+     * Return the 50th percentile response time in milliseconds.
+     *
+     * @return  double
+     */
+    double getResponseTimeP50Millis();
+
+    /**
+     * Return the 90th percentile response time in milliseconds.
+     *
+     * @return  double
+     */
+    double getResponseTimeP90Millis();
+
+    /**
+     * Return the 99th percentile response time in milliseconds.
+     *
+     * @return  double
+     */
+    double getResponseTimeP99Millis();
+
+    /**
+     * Return the 99.9th percentile response time in milliseconds.
+     *
+     * @return  double
+     */
+    double getResponseTimeP999Millis();
+
+    /**
+     * Return the depth of the statistics queue when it was last drained.
+     *
+     * @return  int
+     */
+    int getQueueDepth();
+
+    /**
+     * Return the target rate in operations per
+     * second, or zero for a closed loop.
+     *
+     * @return  double
+     */
+    double getTargetRate();
+
+    /**
+     * Reset the window.
+     */
+    void resetWindow();
+
+    /**
+     * Change the target rate of an open loop.
+     *
+     * @param   rate    double
+     */
+    void changeTargetRate(double rate);
+}
@@ -0,0 +1,275 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)StatisticsMonitor.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.management.ManagementFactory;
+
+import java.util.Objects;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import net.jmp.hitormiss.threads.StatisticsThread;
+
+import net.jmp.hitormiss.util.LatencyHistogram;
+import net.jmp.hitormiss.util.RateSchedule;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * The platform MBean that exposes the live statistics
+ * and the controls of a run to JConsole, VisualVM and
+ * other JMX clients. Every attribute is read directly
+ * from the lock-free window statistics.
+ */
+public final class StatisticsMonitor implements StatisticsMXBean {
+    /** The object name the MBean is registered under. */
+    static final String OBJECT_NAME = "net.jmp.hitormiss:type=Statistics";
+
+    /** The number of nanoseconds in a millisecond. */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The statistics thread. */
+    private final StatisticsThread statisticsThread;
+
+    /** The rate schedule or null for a closed loop. */
+    private final RateSchedule schedule;
+
+    /** The registered object name. */
+    private ObjectName objectName;
+
+    /**
+     * The constructor.
+     *
+     * @param   statisticsThread    net.jmp.hitormiss.threads.StatisticsThread
+     * @param   schedule            net.jmp.hitormiss.util.RateSchedule or null for a closed loop
+     */
+    public StatisticsMonitor(final StatisticsThread statisticsThread, final RateSchedule schedule) {
+        super();
+
+        this.statisticsThread = Objects.requireNonNull(statisticsThread);
+        this.schedule = schedule;
+    }
+
+    /**
+     * Register with the platform MBean server.
+     *
+     * @throws  javax.management.JMException When registration fails
+     */
+    public void register() throws JMException {
+        this.logger.entry();
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        this.objectName = new ObjectName(OBJECT_NAME);
+
+        try {
+            server.registerMBean(this, this.objectName);
+        } catch (final InstanceAlreadyExistsException iaee) {
+            server.unregisterMBean(this.objectName);
+            server.registerMBean(this, this.objectName);
+        }
+
+        this.logger.info("Registered MBean {}", OBJECT_NAME);
+
+        this.logger.exit();
+    }
+
+    /**
+     * Unregister from the platform MBean server.
+     */
+    public void unregister() {
+        this.logger.entry();
+
+        if (this.objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+            } catch (final InstanceNotFoundException infe) {
+                this.logger.warn("MBean {} was not registered", OBJECT_NAME);
+            } catch (final JMException jme) {
+                this.logger.catching(jme);
+            }
+
+            this.objectName = null;
+        }
+
+        this.logger.exit();
+    }
+
+    @Override
+    public String getPhase() {
+        return this.statisticsThread.isMeasuring() ? "measurement" : "warmup";
+    }
+
+    @Override
+    public long getHits() {
+        return this.statisticsThread.getWindowStatistics().getHits();
+    }
+
+    @Override
+    public long getEarlyRefreshes() {
+        return this.statisticsThread.getWindowStatistics().getEarlyRefreshes();
+    }
+
+    @Override
+    public long getStaleHits() {
+        return this.statisticsThread.getWindowStatistics().getStaleHits();
+    }
+
+    @Override
+    public long getLocalHits() {
+        return this.statisticsThread.getWindowStatistics().getLocalHits();
+    }
+
+    @Override
+    public long getMisses() {
+        return this.statisticsThread.getWindowStatistics().getMisses();
+    }
+
+    @Override
+    public long getExpiryMisses() {
+        return this.statisticsThread.getWindowStatistics().getExpiryMisses();
+    }
+
+    @Override
+    public long getCoalescedMisses() {
+        return this.statisticsThread.getWindowStatistics().getCoalescedMisses();
+    }
+
+    @Override
+    public long getFalseMisses() {
+        return this.statisticsThread.getWindowStatistics().getFalseMisses();
+    }
+
+    @Override
+    public long getErrors() {
+        return this.statisticsThread.getWindowStatistics().getErrors();
+    }
+
+    @Override
+    public long getLoadFailures() {
+        return this.statisticsThread.getWindowStatistics().getLoadFailures();
+    }
+
+    @Override
+    public double getHitRatio() {
+        return this.statisticsThread.getWindowStatistics().getHitRatio();
+    }
+
+    @Override
+    public double getOperationsPerSecond() {
+        return this.statisticsThread.getWindowStatistics().getOperationsPerSecond();
+    }
+
+    @Override
+    public double getServiceTimeP50Millis() {
+        return this.percentile(this.statisticsThread.getWindowStatistics().getServiceTimes(), 50.0);
+    }
+
+    @Override
+    public double getServiceTimeP90Millis() {
+        return this.percentile(this.statisticsThread.getWindowStatistics().getServiceTimes(), 90.0);
+    }
+
+    @Override
+    public double getServiceTimeP99Millis() {
+        return this.percentile(this.statisticsThread.getWindowStatistics().getServiceTimes(), 99.0);
+    }
+
+    @Override
+    public double getServiceTimeP999Millis() {
+        return this.percentile(this.statisticsThread.getWindowStatistics().getServiceTimes(), 99.9);
+    }
+
+    @Override
+    public double getResponseTimeP50Millis() {
+        return this.percentile(this.statisticsThread.getWindowStatistics().getResponseTimes(), 50.0);
+    }
+
+    @Override
+    public double getResponseTimeP90Millis() {
+        return this.percentile(this.statisticsThread.getWindowStatistics().getResponseTimes(), 90.0);
+    }
+
+    @Override
+    public double getResponseTimeP99Millis() {
+        return this.percentile(this.statisticsThread.getWindowStatistics().getResponseTimes(), 99.0);
+    }
+
+    @Override
+    public double getResponseTimeP999Millis() {
+        return this.percentile(this.statisticsThread.getWindowStatistics().getResponseTimes(), 99.9);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return this.statisticsThread.getQueueDepth();
+    }
+
+    @Override
+    public double getTargetRate() {
+        return this.schedule != null ? this.schedule.getCurrentRate() : 0.0;
+    }
+
+    @Override
+    public void resetWindow() {
+        this.logger.info("Resetting the statistics window");
+        this.statisticsThread.resetWindow();
+    }
+
+    @Override
+    public void changeTargetRate(final double rate) {
+        if (this.schedule == null)
+            throw new IllegalStateException("The target rate can only be changed in open mode");
+
+        this.logger.info("Changing the target rate to {} ops/s", rate);
+        this.schedule.setRate(rate);
+    }
+
+    /**
+     * Return a percentile of a histogram in milliseconds.
+     *
+     * @param   histogram   net.jmp.hitormiss.util.LatencyHistogram
+     * @param   percentile  double
+     * @return              double
+     */
+    private double percentile(final LatencyHistogram histogram, final double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,121 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)TopologyNodes.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.net.InetSocketAddress;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.jmp.hitormiss.config.Topology;
+
+import org.redisson.api.RedissonClient;
+
+import org.redisson.api.redisnode.RedisCluster;
+import org.redisson.api.redisnode.RedisMasterSlave;
+import org.redisson.api.redisnode.RedisNode;
+import org.redisson.api.redisnode.RedisNodes;
+import org.redisson.api.redisnode.RedisSentinelMasterSlave;
+
+/**
+ * Lists the masters and replicas of a topology,
+ * each labelled with its role and address.
+ */
+final class TopologyNodes {
+    /**
+     * The default constructor.
+     */
+    private TopologyNodes() {
+        throw new UnsupportedOperationException("The default constructor should not be used");
+    }
+
+    /**
+     * Return the nodes of a topology keyed by a
+     * label of their role and address, masters first.
+     *
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   topology    net.jmp.hitormiss.config.Topology
+     * @return              java.util.Map&lt;java.lang.String, org.redisson.api.redisnode.RedisNode&gt;
+     */
+    static Map<String, RedisNode> list(final RedissonClient client, final Topology topology) {
+        final Map<String, RedisNode> nodes = new LinkedHashMap<>();
+
+        switch (topology) {
+            case SINGLE -> add(nodes, "master", client.getRedisNodes(RedisNodes.SINGLE).getInstance());
+            case SENTINEL -> {
+                final RedisSentinelMasterSlave sentinel = client.getRedisNodes(RedisNodes.SENTINEL_MASTER_SLAVE);
+
+                add(nodes, "master", sentinel.getMaster());
+                addAll(nodes, "replica", sentinel.getSlaves());
+            }
+            case REPLICATED -> {
+                final RedisMasterSlave replicated = client.getRedisNodes(RedisNodes.MASTER_SLAVE);
+
+                add(nodes, "master", replicated.getMaster());
+                addAll(nodes, "replica", replicated.getSlaves());
+            }
+            case CLUSTER -> {
+                final RedisCluster cluster = client.getRedisNodes(RedisNodes.CLUSTER);
+
+                addAll(nodes, "master", cluster.getMasters());
+                addAll(nodes, "replica", cluster.getSlaves());
+            }
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Add some nodes of one role.
+     *
+     * @param   nodes   java.util.Map&lt;java.lang.String, org.redisson.api.redisnode.RedisNode&gt;
+     * @param   role    java.lang.String
+     * @param   add     java.util.Collection&lt;? extends org.redisson.api.redisnode.RedisNode&gt;
+     */
+    private static void addAll(final Map<String, RedisNode> nodes, final String role, final Collection<? extends RedisNode> add) {
+        for (final RedisNode node : add)
+            add(nodes, role, node);
+    }
+
+    /**
+     * Add a node.
+     *
+     * @param   nodes   java.util.Map&lt;java.lang.String, org.redisson.api.redisnode.RedisNode&gt;
+     * @param   role    java.lang.String
+     * @param   node    org.redisson.api.redisnode.RedisNode
+     */
+    private static void add(final Map<String, RedisNode> nodes, final String role, final RedisNode node) {
+        final InetSocketAddress address = node.getAddr();
+
+        nodes.put(role + " " + address.getHostString() + ":" + address.getPort(), node);
+    }
+}
@@ -0,0 +1,159 @@
+package net.jmp.hitormiss.recorder;
+
+/*
+ * (#)CountingRecorder.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A recorder that only counts. It keeps the number of
+ * hits and misses and the total time of the timed ones,
+ * each in a striped adder, so a record is one uncontended
+ * add on the calling thread. The keys are ignored.
+ *
+ * @param   <K> The type of key
+ */
+public final class CountingRecorder<K> implements HitMissRecorder<K> {
+    /** The number of hits. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of misses. */
+    private final LongAdder misses = new LongAdder();
+
+    /** The total time of the timed hits in nanoseconds. */
+    private final LongAdder hitNanos = new LongAdder();
+
+    /** The total time of the timed misses in nanoseconds. */
+    private final LongAdder missNanos = new LongAdder();
+
+    /**
+     * The default constructor.
+     */
+    public CountingRecorder() {
+        super();
+    }
+
+    /**
+     * Record a hit.
+     *
+     * @param   key K
+     */
+    @Override
+    public void recordHit(final K key) {
+        this.hits.increment();
+    }
+
+    /**
+     * Record a miss.
+     *
+     * @param   key K
+     */
+    @Override
+    public void recordMiss(final K key) {
+        this.misses.increment();
+    }
+
+    /**
+     * Record a hit and how long the lookup took.
+     *
+     * @param   key     K
+     * @param   nanos   long
+     */
+    @Override
+    public void recordHit(final K key, final long nanos) {
+        this.hits.increment();
+        this.hitNanos.add(nanos);
+    }
+
+    /**
+     * Record a miss and how long the lookup took.
+     *
+     * @param   key     K
+     * @param   nanos   long
+     */
+    @Override
+    public void recordMiss(final K key, final long nanos) {
+        this.misses.increment();
+        this.missNanos.add(nanos);
+    }
+
+    /**
+     * Return the number of hits recorded.
+     *
+     * @return  long
+     */
+    @Override
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of misses recorded.
+     *
+     * @return  long
+     */
+    @Override
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the total time of the timed hits in nanoseconds.
+     *
+     * @return  long
+     */
+    public long getHitNanos() {
+        return this.hitNanos.sum();
+    }
+
+    /**
+     * Return the total time of the timed misses in nanoseconds.
+     *
+     * @return  long
+     */
+    public long getMissNanos() {
+        return this.missNanos.sum();
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "CountingRecorder{" +
+                "hits=" + this.hits +
+                ", misses=" + this.misses +
+                ", hitNanos=" + this.hitNanos +
+                ", missNanos=" + this.missNanos +
+                '}';
+    }
+}
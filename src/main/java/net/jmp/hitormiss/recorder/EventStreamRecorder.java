@@ -0,0 +1,269 @@
+package net.jmp.hitormiss.recorder;
+
+/*
+ * (#)EventStreamRecorder.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.Consumer;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A recorder that keeps every hit and miss as an event
+ * and delivers the events in order to a listener on a
+ * thread of its own. The calling thread only counts the
+ * record and offers the event to a bounded queue; when
+ * the queue is full the event is dropped and counted
+ * rather than making the caller wait. Closing the
+ * recorder delivers the events already queued.
+ *
+ * @param   <K> The type of key
+ */
+public final class EventStreamRecorder<K> implements HitMissRecorder<K> {
+    /** The most events delivered to the listener at a time. */
+    private static final int DRAIN_BATCH_SIZE = 256;
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The listener the events are delivered to. */
+    private final Consumer<HitMissEvent<K>> listener;
+
+    /** The queued events. */
+    private final BlockingQueue<HitMissEvent<K>> events;
+
+    /** The number of hits. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of misses. */
+    private final LongAdder misses = new LongAdder();
+
+    /** The number of events dropped because the queue was full or the recorder closed. */
+    private final LongAdder dropped = new LongAdder();
+
+    /** The number of events delivered to the listener. */
+    private final LongAdder delivered = new LongAdder();
+
+    /** The thread that delivers the events. */
+    private final Thread deliveryThread;
+
+    /** True once the recorder has been closed. */
+    private volatile boolean closed;
+
+    /**
+     * The constructor.
+     *
+     * @param   listener    java.util.function.Consumer&lt;net.jmp.hitormiss.recorder.HitMissEvent&lt;K&gt;&gt;
+     * @param   capacity    int
+     */
+    public EventStreamRecorder(final Consumer<HitMissEvent<K>> listener, final int capacity) {
+        super();
+
+        this.listener = Objects.requireNonNull(listener);
+        this.events = new ArrayBlockingQueue<>(capacity);
+        this.deliveryThread = Thread.ofPlatform().name("hit-miss-events").daemon().start(this::deliver);
+    }
+
+    /**
+     * Record a hit.
+     *
+     * @param   key K
+     */
+    @Override
+    public void recordHit(final K key) {
+        this.hits.increment();
+        this.offer(new HitMissEvent<>(key, true, -1, System.nanoTime()));
+    }
+
+    /**
+     * Record a miss.
+     *
+     * @param   key K
+     */
+    @Override
+    public void recordMiss(final K key) {
+        this.misses.increment();
+        this.offer(new HitMissEvent<>(key, false, -1, System.nanoTime()));
+    }
+
+    /**
+     * Record a hit and how long the lookup took.
+     *
+     * @param   key     K
+     * @param   nanos   long
+     */
+    @Override
+    public void recordHit(final K key, final long nanos) {
+        this.hits.increment();
+        this.offer(new HitMissEvent<>(key, true, nanos, System.nanoTime()));
+    }
+
+    /**
+     * Record a miss and how long the lookup took.
+     *
+     * @param   key     K
+     * @param   nanos   long
+     */
+    @Override
+    public void recordMiss(final K key, final long nanos) {
+        this.misses.increment();
+        this.offer(new HitMissEvent<>(key, false, nanos, System.nanoTime()));
+    }
+
+    /**
+     * Return the number of hits recorded.
+     *
+     * @return  long
+     */
+    @Override
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of misses recorded.
+     *
+     * @return  long
+     */
+    @Override
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of events dropped because
+     * the queue was full or the recorder closed.
+     *
+     * @return  long
+     */
+    public long getDropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Return the number of events delivered to the listener.
+     *
+     * @return  long
+     */
+    public long getDelivered() {
+        return this.delivered.sum();
+    }
+
+    /**
+     * Stop accepting events and wait for the
+     * queued ones to be delivered. An event
+     * offered while closing may be dropped.
+     * Later calls do nothing.
+     */
+    @Override
+    public void close() {
+        this.logger.entry();
+
+        if (!this.closed) {
+            this.closed = true;
+
+            try {
+                this.deliveryThread.join();
+            } catch (final InterruptedException ie) {
+                this.logger.catching(ie);
+                Thread.currentThread().interrupt();
+            }
+
+            // Events offered while closing arrive after the last delivery
+
+            final List<HitMissEvent<K>> late = new ArrayList<>();
+
+            this.events.drainTo(late);
+            this.dropped.add(late.size());
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Queue an event or drop it if the queue
+     * is full or the recorder has closed.
+     *
+     * @param   event   net.jmp.hitormiss.recorder.HitMissEvent&lt;K&gt;
+     */
+    private void offer(final HitMissEvent<K> event) {
+        if (this.closed || !this.events.offer(event))
+            this.dropped.increment();
+    }
+
+    /**
+     * Deliver the queued events to the listener in
+     * batches until the recorder has closed and the
+     * queue is empty. A listener that throws loses
+     * only the event it was handed.
+     */
+    private void deliver() {
+        final List<HitMissEvent<K>> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+
+        while (!this.closed || !this.events.isEmpty()) {
+            try {
+                final HitMissEvent<K> first = this.events.poll(100, TimeUnit.MILLISECONDS);
+
+                if (first == null)
+                    continue;
+
+                batch.add(first);
+
+                this.events.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+            } catch (final InterruptedException ie) {
+                this.logger.catching(ie);
+
+                return;
+            }
+
+            for (final HitMissEvent<K> event : batch) {
+                try {
+                    this.listener.accept(event);
+                    this.delivered.increment();
+                } catch (final RuntimeException re) {
+                    this.logger.warn("The listener failed on {}: {}", event, re.getMessage());
+                }
+            }
+
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package net.jmp.hitormiss.recorder;
+
+/*
+ * (#)HitMissEvent.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+/**
+ * An immutable hit or miss as delivered
+ * by the event stream recorder.
+ *
+ * @param   <K> The type of key
+ */
+public final class HitMissEvent<K> {
+    /** The key. */
+    private final K key;
+
+    /** True for a hit and false for a miss. */
+    private final boolean hit;
+
+    /** How long the lookup took in nanoseconds or -1 if it was not timed. */
+    private final long nanos;
+
+    /** The time the event was recorded in nanoseconds. */
+    private final long recordedAtNanos;
+
+    /**
+     * The constructor.
+     *
+     * @param   key             K
+     * @param   hit             boolean
+     * @param   nanos           long
+     * @param   recordedAtNanos long
+     */
+    public HitMissEvent(final K key, final boolean hit, final long nanos, final long recordedAtNanos) {
+        super();
+
+        this.key = key;
+        this.hit = hit;
+        this.nanos = nanos;
+        this.recordedAtNanos = recordedAtNanos;
+    }
+
+    /**
+     * Return the key.
+     *
+     * @return  K
+     */
+    public K getKey() {
+        return this.key;
+    }
+
+    /**
+     * Return true for a hit and false for a miss.
+     *
+     * @return  boolean
+     */
+    public boolean isHit() {
+        return this.hit;
+    }
+
+    /**
+     * Return how long the lookup took in
+     * nanoseconds or -1 if it was not timed.
+     *
+     * @return  long
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * Return the time the event was recorded in nanoseconds.
+     *
+     * @return  long
+     */
+    public long getRecordedAtNanos() {
+        return this.recordedAtNanos;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final HitMissEvent<?> event = (HitMissEvent<?>) o;
+
+        return this.hit == event.hit && this.nanos == event.nanos && this.recordedAtNanos == event.recordedAtNanos && Objects.equals(this.key, event.key);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(this.key);
+
+        result = 31 * result + Boolean.hashCode(this.hit);
+        result = 31 * result + Long.hashCode(this.nanos);
+        result = 31 * result + Long.hashCode(this.recordedAtNanos);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "HitMissEvent{" +
+                "key=" + this.key +
+                ", hit=" + this.hit +
+                ", nanos=" + this.nanos +
+                ", recordedAtNanos=" + this.recordedAtNanos +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+package net.jmp.hitormiss.recorder;
+
+/*
+ * (#)HitMissRecorder.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Records the hits and misses of a cache from the
+ * threads that call it. A service wraps its own cache
+ * calls with it, recording each lookup as a hit or a
+ * miss, optionally with how long the lookup took. The
+ * implementations differ in what they keep and so in
+ * what a record costs the calling thread, but none of
+ * them blocks it.
+ *
+ * @param   <K> The type of key
+ */
+public interface HitMissRecorder<K> extends AutoCloseable {
+    /**
+     * Record a hit.
+     *
+     * @param   key K
+     */
+    void recordHit(K key);
+
+    /**
+     * Record a miss.
+     *
+     * @param   key K
+     */
+    void recordMiss(K key);
+
+    /**
+     * Record a hit and how long the lookup took.
+     *
+     * @param   key     K
+     * @param   nanos   long
+     */
+    void recordHit(K key, long nanos);
+
+    /**
+     * Record a miss and how long the lookup took.
+     *
+     * @param   key     K
+     * @param   nanos   long
+     */
+    void recordMiss(K key, long nanos);
+
+    /**
+     * Return the number of hits recorded.
+     *
+     * @return  long
+     */
+    long getHits();
+
+    /**
+     * Return the number of misses recorded.
+     *
+     * @return  long
+     */
+    long getMisses();
+
+    /**
+     * Return the ratio of hits to lookups.
+     *
+     * @return  double
+     */
+    default double getHitRatio() {
+        final long hits = this.getHits();
+        final long lookups = hits + this.getMisses();
+
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Close the recorder. Most hold
+     * nothing that needs releasing.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,199 @@
+package net.jmp.hitormiss.recorder;
+
+/*
+ * (#)SampledRecorder.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.hitormiss.util.LatencyHistogram;
+import net.jmp.hitormiss.util.LatencySummary;
+
+/**
+ * A recorder that counts every hit and miss and keeps the
+ * time of a random sample of the timed ones in lock-free
+ * histograms. Each timed record is kept with a probability
+ * of one in the sample rate, so the percentiles of the
+ * sample estimate those of every lookup while most records
+ * cost no more than a count. The keys are ignored.
+ *
+ * @param   <K> The type of key
+ */
+public final class SampledRecorder<K> implements HitMissRecorder<K> {
+    /** The number of timed records per record kept. */
+    private final int sampleEvery;
+
+    /** The number of hits. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of misses. */
+    private final LongAdder misses = new LongAdder();
+
+    /** The sampled times of hits. */
+    private final LatencyHistogram hitTimes = new LatencyHistogram();
+
+    /** The sampled times of misses. */
+    private final LatencyHistogram missTimes = new LatencyHistogram();
+
+    /**
+     * The constructor.
+     *
+     * @param   sampleEvery int
+     */
+    public SampledRecorder(final int sampleEvery) {
+        super();
+
+        if (sampleEvery < 1)
+            throw new IllegalArgumentException("The sample rate must be positive: " + sampleEvery);
+
+        this.sampleEvery = sampleEvery;
+    }
+
+    /**
+     * Record a hit.
+     *
+     * @param   key K
+     */
+    @Override
+    public void recordHit(final K key) {
+        this.hits.increment();
+    }
+
+    /**
+     * Record a miss.
+     *
+     * @param   key K
+     */
+    @Override
+    public void recordMiss(final K key) {
+        this.misses.increment();
+    }
+
+    /**
+     * Record a hit and keep how long the
+     * lookup took if it is sampled.
+     *
+     * @param   key     K
+     * @param   nanos   long
+     */
+    @Override
+    public void recordHit(final K key, final long nanos) {
+        this.hits.increment();
+
+        if (this.isSampled())
+            this.hitTimes.record(nanos);
+    }
+
+    /**
+     * Record a miss and keep how long the
+     * lookup took if it is sampled.
+     *
+     * @param   key     K
+     * @param   nanos   long
+     */
+    @Override
+    public void recordMiss(final K key, final long nanos) {
+        this.misses.increment();
+
+        if (this.isSampled())
+            this.missTimes.record(nanos);
+    }
+
+    /**
+     * Return the number of hits recorded.
+     *
+     * @return  long
+     */
+    @Override
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of misses recorded.
+     *
+     * @return  long
+     */
+    @Override
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return a summary of the sampled times of hits.
+     *
+     * @return  net.jmp.hitormiss.util.LatencySummary
+     */
+    public LatencySummary getHitTimes() {
+        return this.hitTimes.summarize();
+    }
+
+    /**
+     * Return a summary of the sampled times of misses.
+     *
+     * @return  net.jmp.hitormiss.util.LatencySummary
+     */
+    public LatencySummary getMissTimes() {
+        return this.missTimes.summarize();
+    }
+
+    /**
+     * Return the number of timed records per record kept.
+     *
+     * @return  int
+     */
+    public int getSampleEvery() {
+        return this.sampleEvery;
+    }
+
+    /**
+     * Return true if a timed record is kept.
+     *
+     * @return  boolean
+     */
+    private boolean isSampled() {
+        return this.sampleEvery == 1 || ThreadLocalRandom.current().nextInt(this.sampleEvery) == 0;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "SampledRecorder{" +
+                "sampleEvery=" + this.sampleEvery +
+                ", hits=" + this.hits +
+                ", misses=" + this.misses +
+                '}';
+    }
+}
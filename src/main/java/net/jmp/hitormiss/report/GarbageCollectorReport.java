@@ -0,0 +1,141 @@
+package net.jmp.hitormiss.report;
+
+/*
+ * (#)GarbageCollectorReport.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The activity of one garbage collector
+ * during the measurement phase.
+ */
+public final class GarbageCollectorReport {
+    /** The collector name. */
+    @SerializedName("name")
+    private String name;
+
+    /** The number of collections. */
+    @SerializedName("collections")
+    private long collections;
+
+    /** The accumulated collection time in milliseconds. */
+    @SerializedName("timeMillis")
+    private long timeMillis;
+
+    /**
+     * The default constructor.
+     */
+    public GarbageCollectorReport() {
+        super();
+    }
+
+    /**
+     * A constructor that takes all the values.
+     *
+     * @param   name        java.lang.String
+     * @param   collections long
+     * @param   timeMillis  long
+     */
+    public GarbageCollectorReport(final String name, final long collections, final long timeMillis) {
+        super();
+
+        this.name = name;
+        this.collections = collections;
+        this.timeMillis = timeMillis;
+    }
+
+    /**
+     * Get the collector name.
+     *
+     * @return  java.lang.String
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Set the collector name.
+     *
+     * @param   name    java.lang.String
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the number of collections.
+     *
+     * @return  long
+     */
+    public long getCollections() {
+        return this.collections;
+    }
+
+    /**
+     * Set the number of collections.
+     *
+     * @param   collections long
+     */
+    public void setCollections(final long collections) {
+        this.collections = collections;
+    }
+
+    /**
+     * Get the accumulated collection time in milliseconds.
+     *
+     * @return  long
+     */
+    public long getTimeMillis() {
+        return this.timeMillis;
+    }
+
+    /**
+     * Set the accumulated collection time in milliseconds.
+     *
+     * @param   timeMillis  long
+     */
+    public void setTimeMillis(final long timeMillis) {
+        this.timeMillis = timeMillis;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "GarbageCollectorReport{" +
+                "name='" + this.name + '\'' +
+                ", collections=" + this.collections +
+                ", timeMillis=" + this.timeMillis +
+                '}';
+    }
+}
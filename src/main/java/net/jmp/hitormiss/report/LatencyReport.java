@@ -0,0 +1,237 @@
+package net.jmp.hitormiss.report;
+
+/*
+ * (#)LatencyReport.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import net.jmp.hitormiss.util.LatencySummary;
+
+/**
+ * The latency section of a run report
+ * with all times in milliseconds.
+ */
+public final class LatencyReport {
+    /** The number of recorded values. */
+    @SerializedName("count")
+    private long count;
+
+    /** The mean. */
+    @SerializedName("meanMillis")
+    private double meanMillis;
+
+    /** The 50th percentile. */
+    @SerializedName("p50Millis")
+    private double p50Millis;
+
+    /** The 90th percentile. */
+    @SerializedName("p90Millis")
+    private double p90Millis;
+
+    /** The 99th percentile. */
+    @SerializedName("p99Millis")
+    private double p99Millis;
+
+    /** The 99.9th percentile. */
+    @SerializedName("p999Millis")
+    private double p999Millis;
+
+    /** The largest value. */
+    @SerializedName("maxMillis")
+    private double maxMillis;
+
+    /**
+     * The default constructor.
+     */
+    public LatencyReport() {
+        super();
+    }
+
+    /**
+     * A constructor that takes a latency summary.
+     *
+     * @param   summary net.jmp.hitormiss.util.LatencySummary
+     */
+    public LatencyReport(final LatencySummary summary) {
+        super();
+
+        this.count = summary.getCount();
+        this.meanMillis = summary.getMean() / 1_000_000.0;
+        this.p50Millis = summary.getP50() / 1_000_000.0;
+        this.p90Millis = summary.getP90() / 1_000_000.0;
+        this.p99Millis = summary.getP99() / 1_000_000.0;
+        this.p999Millis = summary.getP999() / 1_000_000.0;
+        this.maxMillis = summary.getMax() / 1_000_000.0;
+    }
+
+    /**
+     * Get the count.
+     *
+     * @return  long
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Set the count.
+     *
+     * @param   count   long
+     */
+    public void setCount(final long count) {
+        this.count = count;
+    }
+
+    /**
+     * Get the mean.
+     *
+     * @return  double
+     */
+    public double getMeanMillis() {
+        return this.meanMillis;
+    }
+
+    /**
+     * Set the mean.
+     *
+     * @param   meanMillis  double
+     */
+    public void setMeanMillis(final double meanMillis) {
+        this.meanMillis = meanMillis;
+    }
+
+    /**
+     * Get the 50th percentile.
+     *
+     * @return  double
+     */
+    public double getP50Millis() {
+        return this.p50Millis;
+    }
+
+    /**
+     * Set the 50th percentile.
+     *
+     * @param   p50Millis   double
+     */
+    public void setP50Millis(final double p50Millis) {
+        this.p50Millis = p50Millis;
+    }
+
+    /**
+     * Get the 90th percentile.
+     *
+     * @return  double
+     */
+    public double getP90Millis() {
+        return this.p90Millis;
+    }
+
+    /**
+     * Set the 90th percentile.
+     *
+     * @param   p90Millis   double
+     */
+    public void setP90Millis(final double p90Millis) {
+        this.p90Millis = p90Millis;
+    }
+
+    /**
+     * Get the 99th percentile.
+     *
+     * @return  double
+     */
+    public double getP99Millis() {
+        return this.p99Millis;
+    }
+
+    /**
+     * Set the 99th percentile.
+     *
+     * @param   p99Millis   double
+     */
+    public void setP99Millis(final double p99Millis) {
+        this.p99Millis = p99Millis;
+    }
+
+    /**
+     * Get the 99.9th percentile.
+     *
+     * @return  double
+     */
+    public double getP999Millis() {
+        return this.p999Millis;
+    }
+
+    /**
+     * Set the 99.9th percentile.
+     *
+     * @param   p999Millis  double
+     */
+    public void setP999Millis(final double p999Millis) {
+        this.p999Millis = p999Millis;
+    }
+
+    /**
+     * Get the largest value.
+     *
+     * @return  double
+     */
+    public double getMaxMillis() {
+        return this.maxMillis;
+    }
+
+    /**
+     * Set the largest value.
+     *
+     * @param   maxMillis   double
+     */
+    public void setMaxMillis(final double maxMillis) {
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "LatencyReport{" +
+                "count=" + this.count +
+                ", meanMillis=" + this.meanMillis +
+                ", p50Millis=" + this.p50Millis +
+                ", p90Millis=" + this.p90Millis +
+                ", p99Millis=" + this.p99Millis +
+                ", p999Millis=" + this.p999Millis +
+                ", maxMillis=" + this.maxMillis +
+                '}';
+    }
+}
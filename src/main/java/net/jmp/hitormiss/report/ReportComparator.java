@@ -0,0 +1,146 @@
+package net.jmp.hitormiss.report;
+
+/*
+ * (#)ReportComparator.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Compares a run report against a baseline report.
+ * A regression is declared when throughput drops or
+ * the p99 response time rises by more than their
+ * tolerances.
+ */
+public final class ReportComparator {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The tolerated throughput drop in percent. */
+    private final double throughputTolerancePercent;
+
+    /** The tolerated p99 response time increase in percent. */
+    private final double p99TolerancePercent;
+
+    /**
+     * The constructor.
+     *
+     * @param   throughputTolerancePercent  double
+     * @param   p99TolerancePercent         double
+     */
+    public ReportComparator(final double throughputTolerancePercent, final double p99TolerancePercent) {
+        super();
+
+        if (throughputTolerancePercent < 0 || p99TolerancePercent < 0)
+            throw new IllegalArgumentException("Tolerances must not be negative");
+
+        this.throughputTolerancePercent = throughputTolerancePercent;
+        this.p99TolerancePercent = p99TolerancePercent;
+    }
+
+    /**
+     * Log the differences between the baseline and the
+     * current report and return a description of each
+     * regression. An empty list means no regression.
+     *
+     * @param   baseline    net.jmp.hitormiss.report.RunReport
+     * @param   current     net.jmp.hitormiss.report.RunReport
+     * @return              java.util.List&lt;java.lang.String&gt;
+     */
+    public List<String> compare(final RunReport baseline, final RunReport current) {
+        this.logger.entry(baseline, current);
+
+        assert baseline != null;
+        assert current != null;
+
+        final List<String> regressions = new ArrayList<>();
+
+        if (baseline.getCacheBackend() != null && current.getCacheBackend() != null)
+            this.logger.info("Backend    : {} -> {}", baseline.getCacheBackend(), current.getCacheBackend());
+
+        this.logDifference("Ops/s      ", baseline.getOperationsPerSecond(), current.getOperationsPerSecond());
+        this.logDifference("Ratio      ", baseline.getHitRatio(), current.getHitRatio());
+        this.logDifference("p50 ms     ", baseline.getResponseTime().getP50Millis(), current.getResponseTime().getP50Millis());
+        this.logDifference("p99 ms     ", baseline.getResponseTime().getP99Millis(), current.getResponseTime().getP99Millis());
+        this.logDifference("p99.9 ms   ", baseline.getResponseTime().getP999Millis(), current.getResponseTime().getP999Millis());
+        this.logDifference("Bytes/op   ", baseline.getAllocatedBytesPerOperation(), current.getAllocatedBytesPerOperation());
+        this.logDifference("GC ms      ", baseline.getGcTimeMillis(), current.getGcTimeMillis());
+        this.logDifference("Heap B/key ", baseline.getHeapBytesPerBucket(), current.getHeapBytesPerBucket());
+        this.logDifference("Off B/key  ", baseline.getOffHeapBytesPerBucket(), current.getOffHeapBytesPerBucket());
+
+        final double throughputChange = this.getChangePercent(baseline.getOperationsPerSecond(), current.getOperationsPerSecond());
+
+        if (-throughputChange > this.throughputTolerancePercent)
+            regressions.add(String.format("Throughput dropped %.2f%% (tolerance %.2f%%)", -throughputChange, this.throughputTolerancePercent));
+
+        final double p99Change = this.getChangePercent(baseline.getResponseTime().getP99Millis(), current.getResponseTime().getP99Millis());
+
+        if (p99Change > this.p99TolerancePercent)
+            regressions.add(String.format("p99 response time rose %.2f%% (tolerance %.2f%%)", p99Change, this.p99TolerancePercent));
+
+        this.logger.exit(regressions);
+
+        return regressions;
+    }
+
+    /**
+     * Log one compared value.
+     *
+     * @param   label       java.lang.String
+     * @param   baseline    double
+     * @param   current     double
+     */
+    private void logDifference(final String label, final double baseline, final double current) {
+        this.logger.info("{}: {} -> {} ({})",
+                label,
+                String.format("%.4f", baseline),
+                String.format("%.4f", current),
+                String.format("%+.2f%%", this.getChangePercent(baseline, current)));
+    }
+
+    /**
+     * Return the change from the baseline in percent
+     * or zero when the baseline is not positive.
+     *
+     * @param   baseline    double
+     * @param   current     double
+     * @return              double
+     */
+    private double getChangePercent(final double baseline, final double current) {
+        if (!(baseline > 0) || Double.isNaN(current))
+            return 0.0;
+
+        return (current - baseline) / baseline * 100.0;
+    }
+}
@@ -0,0 +1,942 @@
+package net.jmp.hitormiss.report;
+
+/*
+ * (#)RunReport.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import net.jmp.hitormiss.config.Config;
+
+import net.jmp.hitormiss.data.ServerStatistics;
+
+/**
+ * The machine-readable report of a run. It is
+ * written as JSON at the end of a run and read
+ * back when a later run is compared against it.
+ */
+public final class RunReport {
+    /** The application name. */
+    @SerializedName("name")
+    private String name;
+
+    /** The application version. */
+    @SerializedName("version")
+    private String version;
+
+    /** The ISO-8601 time the report was created. */
+    @SerializedName("timestamp")
+    private String timestamp;
+
+    /** The configuration of the run. */
+    @SerializedName("config")
+    private Config config;
+
+    /** The Netty transport the client ran on. */
+    @SerializedName("transport")
+    private String transport;
+
+    /** The length of the measurement phase in seconds. */
+    @SerializedName("measurementSeconds")
+    private double measurementSeconds;
+
+    /** The number of measured operations. */
+    @SerializedName("operations")
+    private long operations;
+
+    /** The number of hits. */
+    @SerializedName("hits")
+    private long hits;
+
+    /** The number of hits that refreshed their bucket early. */
+    @SerializedName("earlyRefreshes")
+    private long earlyRefreshes;
+
+    /** The number of hits served stale. */
+    @SerializedName("staleHits")
+    private long staleHits;
+
+    /** The number of hits served by the local tier. */
+    @SerializedName("localHits")
+    private long localHits;
+
+    /** The number of cold misses. */
+    @SerializedName("misses")
+    private long misses;
+
+    /** The number of misses of keys that had expired. */
+    @SerializedName("expiryMisses")
+    private long expiryMisses;
+
+    /** The number of misses that waited for another thread's load. */
+    @SerializedName("coalescedMisses")
+    private long coalescedMisses;
+
+    /** The number of replica misses that were hits on the primary. */
+    @SerializedName("falseMisses")
+    private long falseMisses;
+
+    /** The number of errors. */
+    @SerializedName("errors")
+    private long errors;
+
+    /** The number of misses whose load from the backing store failed. */
+    @SerializedName("loadFailures")
+    private long loadFailures;
+
+    /** The number of hits accumulated on the server. */
+    @SerializedName("accumulatedHits")
+    private long accumulatedHits;
+
+    /** The number of misses accumulated on the server. */
+    @SerializedName("accumulatedMisses")
+    private long accumulatedMisses;
+
+    /** The mean number of keys each setup batch sent to a slot. */
+    @SerializedName("setupKeysPerSlot")
+    private double setupKeysPerSlot;
+
+    /** The change in the server statistics over the run or null if not sampled. */
+    @SerializedName("server")
+    private ServerStatistics server;
+
+    /** The change in the server statistics of each node or null if not sampled. */
+    @SerializedName("serverNodes")
+    private Map<String, ServerStatistics> serverNodes;
+
+    /** The ping round trips of each node or null if not sampled. */
+    @SerializedName("nodeLatency")
+    private Map<String, LatencyReport> nodeLatency;
+
+    /** The hit ratio. */
+    @SerializedName("hitRatio")
+    private double hitRatio;
+
+    /** The throughput in operations per second. */
+    @SerializedName("operationsPerSecond")
+    private double operationsPerSecond;
+
+    /** The service time latencies. */
+    @SerializedName("serviceTime")
+    private LatencyReport serviceTime;
+
+    /** The response time latencies. */
+    @SerializedName("responseTime")
+    private LatencyReport responseTime;
+
+    /** How long past their expiry the values of stale hits were. */
+    @SerializedName("staleness")
+    private LatencyReport staleness;
+
+    /** How long lookups waited for a pooled connection. */
+    @SerializedName("poolWait")
+    private LatencyReport poolWait;
+
+    /** The service times of multi-gets divided by the keys each read. */
+    @SerializedName("amortizedTime")
+    private LatencyReport amortizedTime;
+
+    /** The bytes allocated by the access threads or -1 if unknown. */
+    @SerializedName("allocatedBytes")
+    private long allocatedBytes;
+
+    /** The bytes allocated per operation or -1 if unknown. */
+    @SerializedName("allocatedBytesPerOperation")
+    private double allocatedBytesPerOperation;
+
+    /** The activity of each garbage collector. */
+    @SerializedName("garbageCollectors")
+    private List<GarbageCollectorReport> garbageCollectors = new ArrayList<>();
+
+    /** The total number of collections. */
+    @SerializedName("gcCollections")
+    private long gcCollections;
+
+    /** The total collection time in milliseconds. */
+    @SerializedName("gcTimeMillis")
+    private long gcTimeMillis;
+
+    /** The name of the cache backend. */
+    @SerializedName("cacheBackend")
+    private String cacheBackend;
+
+    /** The heap bytes the buckets took per bucket set up. */
+    @SerializedName("heapBytesPerBucket")
+    private double heapBytesPerBucket;
+
+    /** The bytes outside the heap per bucket set up. */
+    @SerializedName("offHeapBytesPerBucket")
+    private double offHeapBytesPerBucket;
+
+    /**
+     * The default constructor.
+     */
+    public RunReport() {
+        super();
+    }
+
+    /**
+     * Get the application name.
+     *
+     * @return  java.lang.String
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Set the application name.
+     *
+     * @param   name    java.lang.String
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the application version.
+     *
+     * @return  java.lang.String
+     */
+    public String getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Set the application version.
+     *
+     * @param   version java.lang.String
+     */
+    public void setVersion(final String version) {
+        this.version = version;
+    }
+
+    /**
+     * Get the time the report was created.
+     *
+     * @return  java.lang.String
+     */
+    public String getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Set the time the report was created.
+     *
+     * @param   timestamp   java.lang.String
+     */
+    public void setTimestamp(final String timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Get the configuration.
+     *
+     * @return  net.jmp.hitormiss.config.Config
+     */
+    public Config getConfig() {
+        return this.config;
+    }
+
+    /**
+     * Set the configuration.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     */
+    public void setConfig(final Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Get the length of the measurement phase in seconds.
+     *
+     * @return  double
+     */
+    public double getMeasurementSeconds() {
+        return this.measurementSeconds;
+    }
+
+    /**
+     * Set the length of the measurement phase in seconds.
+     *
+     * @param   measurementSeconds  double
+     */
+    public void setMeasurementSeconds(final double measurementSeconds) {
+        this.measurementSeconds = measurementSeconds;
+    }
+
+    /**
+     * Get the Netty transport.
+     *
+     * @return  java.lang.String
+     */
+    public String getTransport() {
+        return this.transport;
+    }
+
+    /**
+     * Set the Netty transport.
+     *
+     * @param   transport   java.lang.String
+     */
+    public void setTransport(final String transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Get the number of operations.
+     *
+     * @return  long
+     */
+    public long getOperations() {
+        return this.operations;
+    }
+
+    /**
+     * Set the number of operations.
+     *
+     * @param   operations  long
+     */
+    public void setOperations(final long operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Get the number of hits.
+     *
+     * @return  long
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Set the number of hits.
+     *
+     * @param   hits    long
+     */
+    public void setHits(final long hits) {
+        this.hits = hits;
+    }
+
+    /**
+     * Get the number of early refreshes.
+     *
+     * @return  long
+     */
+    public long getEarlyRefreshes() {
+        return this.earlyRefreshes;
+    }
+
+    /**
+     * Set the number of early refreshes.
+     *
+     * @param   earlyRefreshes  long
+     */
+    public void setEarlyRefreshes(final long earlyRefreshes) {
+        this.earlyRefreshes = earlyRefreshes;
+    }
+
+    /**
+     * Get the number of stale hits.
+     *
+     * @return  long
+     */
+    public long getStaleHits() {
+        return this.staleHits;
+    }
+
+    /**
+     * Set the number of stale hits.
+     *
+     * @param   staleHits   long
+     */
+    public void setStaleHits(final long staleHits) {
+        this.staleHits = staleHits;
+    }
+
+    /**
+     * Get the number of local hits.
+     *
+     * @return  long
+     */
+    public long getLocalHits() {
+        return this.localHits;
+    }
+
+    /**
+     * Set the number of local hits.
+     *
+     * @param   localHits   long
+     */
+    public void setLocalHits(final long localHits) {
+        this.localHits = localHits;
+    }
+
+    /**
+     * Get the number of misses.
+     *
+     * @return  long
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Set the number of misses.
+     *
+     * @param   misses  long
+     */
+    public void setMisses(final long misses) {
+        this.misses = misses;
+    }
+
+    /**
+     * Get the number of expiry misses.
+     *
+     * @return  long
+     */
+    public long getExpiryMisses() {
+        return this.expiryMisses;
+    }
+
+    /**
+     * Set the number of expiry misses.
+     *
+     * @param   expiryMisses    long
+     */
+    public void setExpiryMisses(final long expiryMisses) {
+        this.expiryMisses = expiryMisses;
+    }
+
+    /**
+     * Get the number of coalesced misses.
+     *
+     * @return  long
+     */
+    public long getCoalescedMisses() {
+        return this.coalescedMisses;
+    }
+
+    /**
+     * Set the number of coalesced misses.
+     *
+     * @param   coalescedMisses long
+     */
+    public void setCoalescedMisses(final long coalescedMisses) {
+        this.coalescedMisses = coalescedMisses;
+    }
+
+    /**
+     * Get the number of false misses.
+     *
+     * @return  long
+     */
+    public long getFalseMisses() {
+        return this.falseMisses;
+    }
+
+    /**
+     * Set the number of false misses.
+     *
+     * @param   falseMisses long
+     */
+    public void setFalseMisses(final long falseMisses) {
+        this.falseMisses = falseMisses;
+    }
+
+    /**
+     * Get the number of errors.
+     *
+     * @return  long
+     */
+    public long getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * Set the number of errors.
+     *
+     * @param   errors  long
+     */
+    public void setErrors(final long errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Get the number of failed loads.
+     *
+     * @return  long
+     */
+    public long getLoadFailures() {
+        return this.loadFailures;
+    }
+
+    /**
+     * Set the number of failed loads.
+     *
+     * @param   loadFailures    long
+     */
+    public void setLoadFailures(final long loadFailures) {
+        this.loadFailures = loadFailures;
+    }
+
+    /**
+     * Get the number of hits accumulated on the server.
+     *
+     * @return  long
+     */
+    public long getAccumulatedHits() {
+        return this.accumulatedHits;
+    }
+
+    /**
+     * Set the number of hits accumulated on the server.
+     *
+     * @param   accumulatedHits long
+     */
+    public void setAccumulatedHits(final long accumulatedHits) {
+        this.accumulatedHits = accumulatedHits;
+    }
+
+    /**
+     * Get the number of misses accumulated on the server.
+     *
+     * @return  long
+     */
+    public long getAccumulatedMisses() {
+        return this.accumulatedMisses;
+    }
+
+    /**
+     * Set the number of misses accumulated on the server.
+     *
+     * @param   accumulatedMisses long
+     */
+    public void setAccumulatedMisses(final long accumulatedMisses) {
+        this.accumulatedMisses = accumulatedMisses;
+    }
+
+    /**
+     * Get the mean number of keys each setup batch sent to a slot.
+     *
+     * @return  double
+     */
+    public double getSetupKeysPerSlot() {
+        return this.setupKeysPerSlot;
+    }
+
+    /**
+     * Set the mean number of keys each setup batch sent to a slot.
+     *
+     * @param   setupKeysPerSlot    double
+     */
+    public void setSetupKeysPerSlot(final double setupKeysPerSlot) {
+        this.setupKeysPerSlot = setupKeysPerSlot;
+    }
+
+    /**
+     * Get the change in the server statistics.
+     *
+     * @return  net.jmp.hitormiss.data.ServerStatistics
+     */
+    public ServerStatistics getServer() {
+        return this.server;
+    }
+
+    /**
+     * Set the change in the server statistics.
+     *
+     * @param   server  net.jmp.hitormiss.data.ServerStatistics
+     */
+    public void setServer(final ServerStatistics server) {
+        this.server = server;
+    }
+
+    /**
+     * Get the change in the server statistics of each node.
+     *
+     * @return  java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.ServerStatistics&gt;
+     */
+    public Map<String, ServerStatistics> getServerNodes() {
+        return this.serverNodes;
+    }
+
+    /**
+     * Set the change in the server statistics of each node.
+     *
+     * @param   serverNodes java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.ServerStatistics&gt;
+     */
+    public void setServerNodes(final Map<String, ServerStatistics> serverNodes) {
+        this.serverNodes = serverNodes;
+    }
+
+    /**
+     * Get the ping round trips of each node.
+     *
+     * @return  java.util.Map&lt;java.lang.String, net.jmp.hitormiss.report.LatencyReport&gt;
+     */
+    public Map<String, LatencyReport> getNodeLatency() {
+        return this.nodeLatency;
+    }
+
+    /**
+     * Set the ping round trips of each node.
+     *
+     * @param   nodeLatency java.util.Map&lt;java.lang.String, net.jmp.hitormiss.report.LatencyReport&gt;
+     */
+    public void setNodeLatency(final Map<String, LatencyReport> nodeLatency) {
+        this.nodeLatency = nodeLatency;
+    }
+
+    /**
+     * Get the hit ratio.
+     *
+     * @return  double
+     */
+    public double getHitRatio() {
+        return this.hitRatio;
+    }
+
+    /**
+     * Set the hit ratio.
+     *
+     * @param   hitRatio    double
+     */
+    public void setHitRatio(final double hitRatio) {
+        this.hitRatio = hitRatio;
+    }
+
+    /**
+     * Get the throughput in operations per second.
+     *
+     * @return  double
+     */
+    public double getOperationsPerSecond() {
+        return this.operationsPerSecond;
+    }
+
+    /**
+     * Set the throughput in operations per second.
+     *
+     * @param   operationsPerSecond double
+     */
+    public void setOperationsPerSecond(final double operationsPerSecond) {
+        this.operationsPerSecond = operationsPerSecond;
+    }
+
+    /**
+     * Get the service time latencies.
+     *
+     * @return  net.jmp.hitormiss.report.LatencyReport
+     */
+    public LatencyReport getServiceTime() {
+        return this.serviceTime;
+    }
+
+    /**
+     * Set the service time latencies.
+     *
+     * @param   serviceTime net.jmp.hitormiss.report.LatencyReport
+     */
+    public void setServiceTime(final LatencyReport serviceTime) {
+        this.serviceTime = serviceTime;
+    }
+
+    /**
+     * Get the response time latencies.
+     *
+     * @return  net.jmp.hitormiss.report.LatencyReport
+     */
+    public LatencyReport getResponseTime() {
+        return this.responseTime;
+    }
+
+    /**
+     * Set the response time latencies.
+     *
+     * @param   responseTime    net.jmp.hitormiss.report.LatencyReport
+     */
+    public void setResponseTime(final LatencyReport responseTime) {
+        this.responseTime = responseTime;
+    }
+
+    /**
+     * Get the staleness of stale hits.
+     *
+     * @return  net.jmp.hitormiss.report.LatencyReport
+     */
+    public LatencyReport getStaleness() {
+        return this.staleness;
+    }
+
+    /**
+     * Set the staleness of stale hits.
+     *
+     * @param   staleness   net.jmp.hitormiss.report.LatencyReport
+     */
+    public void setStaleness(final LatencyReport staleness) {
+        this.staleness = staleness;
+    }
+
+    /**
+     * Get how long lookups waited for a pooled connection.
+     *
+     * @return  net.jmp.hitormiss.report.LatencyReport
+     */
+    public LatencyReport getPoolWait() {
+        return this.poolWait;
+    }
+
+    /**
+     * Set how long lookups waited for a pooled connection.
+     *
+     * @param   poolWait    net.jmp.hitormiss.report.LatencyReport
+     */
+    public void setPoolWait(final LatencyReport poolWait) {
+        this.poolWait = poolWait;
+    }
+
+    /**
+     * Get the service times of multi-gets
+     * divided by the keys each read.
+     *
+     * @return  net.jmp.hitormiss.report.LatencyReport
+     */
+    public LatencyReport getAmortizedTime() {
+        return this.amortizedTime;
+    }
+
+    /**
+     * Set the service times of multi-gets
+     * divided by the keys each read.
+     *
+     * @param   amortizedTime   net.jmp.hitormiss.report.LatencyReport
+     */
+    public void setAmortizedTime(final LatencyReport amortizedTime) {
+        this.amortizedTime = amortizedTime;
+    }
+
+    /**
+     * Get the bytes allocated by the access threads.
+     *
+     * @return  long
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    /**
+     * Set the bytes allocated by the access threads.
+     *
+     * @param   allocatedBytes  long
+     */
+    public void setAllocatedBytes(final long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Get the bytes allocated per operation.
+     *
+     * @return  double
+     */
+    public double getAllocatedBytesPerOperation() {
+        return this.allocatedBytesPerOperation;
+    }
+
+    /**
+     * Set the bytes allocated per operation.
+     *
+     * @param   allocatedBytesPerOperation  double
+     */
+    public void setAllocatedBytesPerOperation(final double allocatedBytesPerOperation) {
+        this.allocatedBytesPerOperation = allocatedBytesPerOperation;
+    }
+
+    /**
+     * Get the activity of each garbage collector.
+     *
+     * @return  java.util.List&lt;net.jmp.hitormiss.report.GarbageCollectorReport&gt;
+     */
+    public List<GarbageCollectorReport> getGarbageCollectors() {
+        return this.garbageCollectors;
+    }
+
+    /**
+     * Set the activity of each garbage collector.
+     *
+     * @param   garbageCollectors   java.util.List&lt;net.jmp.hitormiss.report.GarbageCollectorReport&gt;
+     */
+    public void setGarbageCollectors(final List<GarbageCollectorReport> garbageCollectors) {
+        this.garbageCollectors = garbageCollectors;
+    }
+
+    /**
+     * Get the total number of collections.
+     *
+     * @return  long
+     */
+    public long getGcCollections() {
+        return this.gcCollections;
+    }
+
+    /**
+     * Set the total number of collections.
+     *
+     * @param   gcCollections   long
+     */
+    public void setGcCollections(final long gcCollections) {
+        this.gcCollections = gcCollections;
+    }
+
+    /**
+     * Get the total collection time in milliseconds.
+     *
+     * @return  long
+     */
+    public long getGcTimeMillis() {
+        return this.gcTimeMillis;
+    }
+
+    /**
+     * Set the total collection time in milliseconds.
+     *
+     * @param   gcTimeMillis    long
+     */
+    public void setGcTimeMillis(final long gcTimeMillis) {
+        this.gcTimeMillis = gcTimeMillis;
+    }
+
+    /**
+     * Get the name of the cache backend.
+     *
+     * @return  java.lang.String
+     */
+    public String getCacheBackend() {
+        return this.cacheBackend;
+    }
+
+    /**
+     * Set the name of the cache backend.
+     *
+     * @param   cacheBackend    java.lang.String
+     */
+    public void setCacheBackend(final String cacheBackend) {
+        this.cacheBackend = cacheBackend;
+    }
+
+    /**
+     * Get the heap bytes the buckets took per bucket set up.
+     *
+     * @return  double
+     */
+    public double getHeapBytesPerBucket() {
+        return this.heapBytesPerBucket;
+    }
+
+    /**
+     * Set the heap bytes the buckets took per bucket set up.
+     *
+     * @param   heapBytesPerBucket  double
+     */
+    public void setHeapBytesPerBucket(final double heapBytesPerBucket) {
+        this.heapBytesPerBucket = heapBytesPerBucket;
+    }
+
+    /**
+     * Get the bytes outside the heap per bucket set up.
+     *
+     * @return  double
+     */
+    public double getOffHeapBytesPerBucket() {
+        return this.offHeapBytesPerBucket;
+    }
+
+    /**
+     * Set the bytes outside the heap per bucket set up.
+     *
+     * @param   offHeapBytesPerBucket   double
+     */
+    public void setOffHeapBytesPerBucket(final double offHeapBytesPerBucket) {
+        this.offHeapBytesPerBucket = offHeapBytesPerBucket;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "RunReport{" +
+                "name='" + this.name + '\'' +
+                ", version='" + this.version + '\'' +
+                ", timestamp='" + this.timestamp + '\'' +
+                ", config=" + this.config +
+                ", transport='" + this.transport + '\'' +
+                ", measurementSeconds=" + this.measurementSeconds +
+                ", operations=" + this.operations +
+                ", hits=" + this.hits +
+                ", earlyRefreshes=" + this.earlyRefreshes +
+                ", staleHits=" + this.staleHits +
+                ", localHits=" + this.localHits +
+                ", misses=" + this.misses +
+                ", expiryMisses=" + this.expiryMisses +
+                ", coalescedMisses=" + this.coalescedMisses +
+                ", falseMisses=" + this.falseMisses +
+                ", errors=" + this.errors +
+                ", loadFailures=" + this.loadFailures +
+                ", accumulatedHits=" + this.accumulatedHits +
+                ", accumulatedMisses=" + this.accumulatedMisses +
+                ", setupKeysPerSlot=" + this.setupKeysPerSlot +
+                ", server=" + this.server +
+                ", serverNodes=" + this.serverNodes +
+                ", nodeLatency=" + this.nodeLatency +
+                ", hitRatio=" + this.hitRatio +
+                ", operationsPerSecond=" + this.operationsPerSecond +
+                ", serviceTime=" + this.serviceTime +
+                ", responseTime=" + this.responseTime +
+                ", staleness=" + this.staleness +
+                ", poolWait=" + this.poolWait +
+                ", amortizedTime=" + this.amortizedTime +
+                ", allocatedBytes=" + this.allocatedBytes +
+                ", allocatedBytesPerOperation=" + this.allocatedBytesPerOperation +
+                ", garbageCollectors=" + this.garbageCollectors +
+                ", gcCollections=" + this.gcCollections +
+                ", gcTimeMillis=" + this.gcTimeMillis +
+                ", cacheBackend='" + this.cacheBackend + '\'' +
+                ", heapBytesPerBucket=" + this.heapBytesPerBucket +
+                ", offHeapBytesPerBucket=" + this.offHeapBytesPerBucket +
+                '}';
+    }
+}
@@ -0,0 +1,238 @@
+package net.jmp.hitormiss.report;
+
+/*
+ * (#)RunReporter.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.time.Instant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import net.jmp.hitormiss.config.Config;
+
+import net.jmp.hitormiss.data.StatisticsSnapshot;
+
+import net.jmp.hitormiss.threads.StatisticsThread;
+
+import net.jmp.hitormiss.util.GarbageCollectionSnapshot;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Creates run reports from the measurement phase
+ * and reads and writes them as JSON.
+ */
+public final class RunReporter {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /**
+     * The Gson instance. The ratios of an empty run are
+     * zero rather than NaN, but a special floating point
+     * value is still written rather than failing the report.
+     */
+    private final Gson gson = new GsonBuilder()
+            .setPrettyPrinting()
+            .serializeSpecialFloatingPointValues()
+            .create();
+
+    /** The application name. */
+    private final String name;
+
+    /** The application version. */
+    private final String version;
+
+    /**
+     * The constructor.
+     *
+     * @param   name    java.lang.String
+     * @param   version java.lang.String
+     */
+    public RunReporter(final String name, final String version) {
+        super();
+
+        this.name = Objects.requireNonNull(name);
+        this.version = Objects.requireNonNull(version);
+    }
+
+    /**
+     * Create the report of the measurement phase.
+     *
+     * @param   config              net.jmp.hitormiss.config.Config
+     * @param   statisticsThread    net.jmp.hitormiss.threads.StatisticsThread
+     * @param   allocatedBytes      long
+     * @return                      net.jmp.hitormiss.report.RunReport
+     */
+    public RunReport createReport(final Config config, final StatisticsThread statisticsThread, final long allocatedBytes) {
+        this.logger.entry(config, statisticsThread, allocatedBytes);
+
+        assert config != null;
+        assert statisticsThread != null;
+
+        final StatisticsSnapshot snapshot = statisticsThread.getStatistics().snapshot();
+        final RunReport report = new RunReport();
+
+        report.setName(this.name);
+        report.setVersion(this.version);
+        report.setTimestamp(Instant.now().toString());
+        report.setConfig(config);
+        report.setMeasurementSeconds(snapshot.getElapsedNanos() / 1_000_000_000.0);
+        report.setOperations(snapshot.getOperations());
+        report.setHits(snapshot.getHits());
+        report.setEarlyRefreshes(snapshot.getEarlyRefreshes());
+        report.setStaleHits(snapshot.getStaleHits());
+        report.setLocalHits(snapshot.getLocalHits());
+        report.setMisses(snapshot.getMisses());
+        report.setExpiryMisses(snapshot.getExpiryMisses());
+        report.setCoalescedMisses(snapshot.getCoalescedMisses());
+        report.setFalseMisses(snapshot.getFalseMisses());
+        report.setErrors(snapshot.getErrors());
+        report.setLoadFailures(snapshot.getLoadFailures());
+        report.setHitRatio(snapshot.getHitRatio());
+        report.setOperationsPerSecond(snapshot.getOperationsPerSecond());
+        report.setServiceTime(new LatencyReport(snapshot.getServiceTimes()));
+        report.setResponseTime(new LatencyReport(snapshot.getResponseTimes()));
+        report.setStaleness(new LatencyReport(snapshot.getStaleness()));
+        report.setPoolWait(new LatencyReport(snapshot.getPoolWaits()));
+        report.setAmortizedTime(new LatencyReport(snapshot.getAmortizedTimes()));
+        report.setAllocatedBytes(allocatedBytes);
+
+        if (allocatedBytes >= 0 && snapshot.getOperations() > 0)
+            report.setAllocatedBytesPerOperation((double) allocatedBytes / snapshot.getOperations());
+        else
+            report.setAllocatedBytesPerOperation(-1);
+
+        final List<GarbageCollectorReport> collectors = this.getCollectorReports(
+                statisticsThread.getMeasurementStartCollections(),
+                statisticsThread.getMeasurementEndCollections()
+        );
+
+        report.setGarbageCollectors(collectors);
+        report.setGcCollections(collectors.stream().mapToLong(GarbageCollectorReport::getCollections).sum());
+        report.setGcTimeMillis(collectors.stream().mapToLong(GarbageCollectorReport::getTimeMillis).sum());
+
+        this.logger.exit(report);
+
+        return report;
+    }
+
+    /**
+     * Write a report to a file.
+     *
+     * @param   report  net.jmp.hitormiss.report.RunReport
+     * @param   path    java.nio.file.Path
+     * @throws          java.io.IOException When the file cannot be written
+     */
+    public void writeReport(final RunReport report, final Path path) throws IOException {
+        this.logger.entry(report, path);
+
+        assert report != null;
+        assert path != null;
+
+        try (final Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            this.gson.toJson(report, writer);
+        }
+
+        this.logger.info("Wrote the run report to: {}", path);
+
+        this.logger.exit();
+    }
+
+    /**
+     * Read a report from a file.
+     *
+     * @param   path    java.nio.file.Path
+     * @return          net.jmp.hitormiss.report.RunReport
+     * @throws          java.io.IOException When the file cannot be read
+     */
+    public RunReport readReport(final Path path) throws IOException {
+        this.logger.entry(path);
+
+        assert path != null;
+
+        final RunReport report;
+
+        try (final Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            report = this.gson.fromJson(reader, RunReport.class);
+        }
+
+        if (report == null)
+            throw new IOException("No report found in " + path);
+
+        this.logger.exit(report);
+
+        return report;
+    }
+
+    /**
+     * Return the activity of each garbage collector
+     * between two snapshots. The list is empty when
+     * either snapshot is missing.
+     *
+     * @param   start   net.jmp.hitormiss.util.GarbageCollectionSnapshot
+     * @param   end     net.jmp.hitormiss.util.GarbageCollectionSnapshot
+     * @return          java.util.List&lt;net.jmp.hitormiss.report.GarbageCollectorReport&gt;
+     */
+    private List<GarbageCollectorReport> getCollectorReports(final GarbageCollectionSnapshot start,
+                                                             final GarbageCollectionSnapshot end) {
+        this.logger.entry(start, end);
+
+        final List<GarbageCollectorReport> collectors = new ArrayList<>();
+
+        if (start != null && end != null) {
+            for (final String collectorName : end.getCollectorNames()) {
+                collectors.add(new GarbageCollectorReport(
+                        collectorName,
+                        end.getCount(collectorName) - start.getCount(collectorName),
+                        end.getTimeMillis(collectorName) - start.getTimeMillis(collectorName)
+                ));
+            }
+        }
+
+        this.logger.exit(collectors);
+
+        return collectors;
+    }
+}
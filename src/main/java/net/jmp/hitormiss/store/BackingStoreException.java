@@ -0,0 +1,59 @@
+package net.jmp.hitormiss.store;
+
+/*
+ * (#)BackingStoreException.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.Serial;
+
+/**
+ * The backing store exception class. Thrown
+ * when a load from the backing store fails.
+ */
+public final class BackingStoreException extends RuntimeException {
+    /** The serializable version identifier. */
+    @Serial
+    private static final long serialVersionUID = -3170958441357236517L;
+
+    /**
+     * The default constructor.
+     */
+    private BackingStoreException() {
+        throw new UnsupportedOperationException("The default constructor should not be used");
+    }
+
+    /**
+     * A constructor that takes a message.
+     *
+     * @param   message java.lang.String
+     */
+    public BackingStoreException(final String message) {
+        super(message);
+    }
+}
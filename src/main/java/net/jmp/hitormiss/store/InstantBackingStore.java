@@ -0,0 +1,59 @@
+package net.jmp.hitormiss.store;
+
+/*
+ * (#)InstantBackingStore.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.UUID;
+
+import net.jmp.hitormiss.data.DataElement;
+
+/**
+ * A backing store that creates each
+ * value immediately and never fails.
+ */
+public final class InstantBackingStore implements BackingStore {
+    /**
+     * The default constructor.
+     */
+    public InstantBackingStore() {
+        super();
+    }
+
+    /**
+     * Load the data element of a key.
+     *
+     * @param   key int
+     * @return      net.jmp.hitormiss.data.DataElement
+     */
+    @Override
+    public DataElement load(final int key) {
+        return new DataElement(key, UUID.randomUUID().toString());
+    }
+}
@@ -0,0 +1,178 @@
+package net.jmp.hitormiss.store;
+
+/*
+ * (#)SimulatedBackingStore.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+import java.util.UUID;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+import java.util.concurrent.locks.LockSupport;
+
+import net.jmp.hitormiss.config.BackingStoreConfig;
+import net.jmp.hitormiss.config.LatencyDistribution;
+
+import net.jmp.hitormiss.data.DataElement;
+
+/**
+ * A backing store that models the cost of a miss.
+ * Each load waits for a permit when concurrency is
+ * limited, takes a latency drawn from the configured
+ * distribution and fails at the configured rate.
+ */
+public final class SimulatedBackingStore implements BackingStore {
+    /** The latency distribution. */
+    private final LatencyDistribution distribution;
+
+    /** The mean latency in nanoseconds. */
+    private final double meanNanos;
+
+    /** The smallest latency in nanoseconds. */
+    private final double minNanos;
+
+    /** The largest latency in nanoseconds or zero for no limit. */
+    private final double maxNanos;
+
+    /** The shape of the log-normal distribution. */
+    private final double logNormalSigma;
+
+    /** The concurrency permits or null for no limit. */
+    private final Semaphore permits;
+
+    /** The fraction of loads that fail. */
+    private final double failureRate;
+
+    /**
+     * The constructor.
+     *
+     * @param   config  net.jmp.hitormiss.config.BackingStoreConfig
+     */
+    public SimulatedBackingStore(final BackingStoreConfig config) {
+        super();
+
+        Objects.requireNonNull(config);
+
+        if (config.getMeanLatencyMillis() < 0 || config.getMinLatencyMillis() < 0 || config.getMaxLatencyMillis() < 0)
+            throw new IllegalArgumentException("Latencies must not be negative");
+
+        if (config.getFailureRate() < 0 || config.getFailureRate() > 1)
+            throw new IllegalArgumentException("Failure rate must be between 0 and 1: " + config.getFailureRate());
+
+        if (config.getDistribution() == LatencyDistribution.LOG_NORMAL && config.getLogNormalSigma() <= 0)
+            throw new IllegalArgumentException("Log-normal sigma must be positive: " + config.getLogNormalSigma());
+
+        this.distribution = Objects.requireNonNull(config.getDistribution());
+        this.meanNanos = config.getMeanLatencyMillis() * 1_000_000.0;
+        this.minNanos = config.getMinLatencyMillis() * 1_000_000.0;
+        this.maxNanos = config.getMaxLatencyMillis() * 1_000_000.0;
+        this.logNormalSigma = config.getLogNormalSigma();
+        this.permits = config.getMaxConcurrency() > 0 ? new Semaphore(config.getMaxConcurrency(), true) : null;
+        this.failureRate = config.getFailureRate();
+    }
+
+    /**
+     * Load the data element of a key.
+     *
+     * @param   key int
+     * @return      net.jmp.hitormiss.data.DataElement
+     * @throws      net.jmp.hitormiss.store.BackingStoreException When the load fails
+     */
+    @Override
+    public DataElement load(final int key) {
+        if (this.permits != null) {
+            try {
+                this.permits.acquire();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+
+                throw new BackingStoreException("Interrupted waiting to load key " + key);
+            }
+        }
+
+        try {
+            this.pause(this.sampleLatencyNanos());
+
+            if (this.failureRate > 0 && ThreadLocalRandom.current().nextDouble() < this.failureRate)
+                throw new BackingStoreException("Simulated failure loading key " + key);
+
+            return new DataElement(key, UUID.randomUUID().toString());
+        } finally {
+            if (this.permits != null)
+                this.permits.release();
+        }
+    }
+
+    /**
+     * Draw a latency in nanoseconds from the distribution.
+     * The part above the smallest latency has the mean
+     * less the smallest latency as its own mean, so the
+     * mean of the whole is the configured mean before
+     * the largest latency caps it.
+     *
+     * @return  long
+     */
+    long sampleLatencyNanos() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final double excess = Math.max(0.0, this.meanNanos - this.minNanos);
+
+        double latency = switch (this.distribution) {
+            case FIXED -> this.minNanos + excess;
+            case UNIFORM -> this.minNanos + random.nextDouble() * 2.0 * excess;
+            case EXPONENTIAL -> this.minNanos - Math.log(1.0 - random.nextDouble()) * excess;
+            case LOG_NORMAL -> excess == 0.0 ? this.minNanos : this.minNanos + Math.exp(
+                    Math.log(excess) - this.logNormalSigma * this.logNormalSigma / 2.0 + this.logNormalSigma * random.nextGaussian());
+        };
+
+        if (this.maxNanos > 0)
+            latency = Math.min(latency, Math.max(this.maxNanos, this.minNanos));
+
+        return (long) latency;
+    }
+
+    /**
+     * Wait for a number of nanoseconds.
+     *
+     * @param   nanos   long
+     */
+    private void pause(final long nanos) {
+        final long deadline = System.nanoTime() + nanos;
+
+        long remaining;
+
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+
+            if (Thread.currentThread().isInterrupted())
+                throw new BackingStoreException("Interrupted while loading");
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package net.jmp.hitormiss.threads;
 
 /*
+ * (#)AccessThread.java 0.6.0   10/19/2026
  * (#)AccessThread.java 0.3.0   05/29/2024
  * (#)AccessThread.java 0.2.0   05/27/2024
  *
  * @author   Jonathan Parker
- * @version  0.3.0
+ * @version  0.6.0
  * @since    0.2.0
  *
  * MIT License
@@ -31,20 +32,61 @@ package net.jmp.hitormiss.threads;
  * SOFTWARE.
  */
 
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.StringJoiner;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.locks.LockSupport;
 
+import net.jmp.hitormiss.backend.CacheBackend;
+import net.jmp.hitormiss.backend.MappedTier;
+import net.jmp.hitormiss.backend.RedissonBackend;
+
+import net.jmp.hitormiss.config.AccessMode;
 import net.jmp.hitormiss.config.Config;
+import net.jmp.hitormiss.config.KeyLayout;
 
+import net.jmp.hitormiss.data.AccessScript;
 import net.jmp.hitormiss.data.DataElement;
+import net.jmp.hitormiss.data.DataElementWriter;
 import net.jmp.hitormiss.data.RequestQueueElement;
 import net.jmp.hitormiss.data.RequestType;
+import net.jmp.hitormiss.data.ShardRouter;
+import net.jmp.hitormiss.data.SlotStatistics;
+
+import net.jmp.hitormiss.monitoring.AccessEvent;
+import net.jmp.hitormiss.monitoring.BatchEvent;
+import net.jmp.hitormiss.monitoring.MissFillEvent;
 
+import net.jmp.hitormiss.store.BackingStore;
+import net.jmp.hitormiss.store.BackingStoreException;
+
+import net.jmp.hitormiss.util.BucketKeys;
+import net.jmp.hitormiss.util.EarlyRefreshPolicy;
+import net.jmp.hitormiss.util.KeyEncoder;
+import net.jmp.hitormiss.util.KeyTracker;
+import net.jmp.hitormiss.util.PoolGate;
 import net.jmp.hitormiss.util.RandomNumberGenerator;
+import net.jmp.hitormiss.util.RateSchedule;
+import net.jmp.hitormiss.util.SingleFlight;
 
-import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
 
+import org.redisson.client.RedisException;
+
+import org.redisson.client.codec.StringCodec;
+
 import org.slf4j.LoggerFactory;
 
 import org.slf4j.ext.XLogger;
@@ -53,35 +95,159 @@ import org.slf4j.ext.XLogger;
  * The thread that access Redis buckets like a cache.
  */
 public final class AccessThread implements Runnable {
+    /** Waits shorter than this are spun rather than parked. @since 0.6.0 */
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /** The script that checks a key on its master; as a write script it is never sent to a replica. @since 0.6.0 */
+    private static final String EXISTS_ON_MASTER = "return redis.call('exists', KEYS[1])";
+
     /** The logger. */
     private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
 
     /** The configuration. */
     private final Config config;
 
-    /** The Redisson client. */
-    private final RedissonClient client;
+    /** The cache backend. @since 0.6.0 */
+    private final CacheBackend backend;
+
+    /** The router of keys to the Redis instances or null when the backend is not Redis. @since 0.6.0 */
+    private final ShardRouter router;
 
     /** The statistics thread. */
     private final StatisticsThread statisticsThread;
 
+    /** The rate schedule or null for a closed loop. @since 0.6.0 */
+    private final RateSchedule schedule;
+
+    /** The backing store that misses are loaded from. @since 0.6.0 */
+    private final BackingStore backingStore;
+
+    /** The single-flight loads shared by all access threads. @since 0.6.0 */
+    private final SingleFlight<Integer> singleFlight;
+
+    /** The tracker of stored keys shared by all access threads. @since 0.6.0 */
+    private final KeyTracker keyTracker;
+
+    /** The data element writer. @since 0.6.0 */
+    private final DataElementWriter writer;
+
+    /** The bucket keys. @since 0.6.0 */
+    private final BucketKeys bucketKeys;
+
+    /** The encoder of the bucket keys and slots shared by the access threads. @since 0.6.0 */
+    private final KeyEncoder keyEncoder;
+
+    /** The refresher or null when early refresh is disabled. @since 0.6.0 */
+    private final Refresher refresher;
+
+    /** The early refresh policy or null when early refresh is disabled. @since 0.6.0 */
+    private final EarlyRefreshPolicy earlyRefreshPolicy;
+
+    /** True if logically expired buckets are served stale while they are refreshed. @since 0.6.0 */
+    private final boolean staleWhileRevalidate;
+
+    /** How long past its expiry the value of the last stale hit was in nanoseconds. @since 0.6.0 */
+    private long stalenessNanos;
+
+    /** The access script or null when buckets are accessed from the client. @since 0.6.0 */
+    private final AccessScript accessScript;
+
+    /** The gate that measures the pool wait of lookups or null. @since 0.6.0 */
+    private final PoolGate poolGate;
+
+    /** The local tier in front of the backend or null. @since 0.6.0 */
+    private final MappedTier localTier;
+
+    /** How long the last lookup waited for a pooled connection in nanoseconds or -1. @since 0.6.0 */
+    private long poolWaitNanos = -1;
+
+    /** True if outcomes are captured on the client. @since 0.6.0 */
+    private final boolean clientCapture;
+
+    /** True if misses read from replicas are checked on the master. @since 0.6.0 */
+    private final boolean replicaReads;
+
+    /** The number of keys each multi-get reads or zero when buckets are read one at a time. @since 0.6.0 */
+    private final int multiGetKeys;
+
+    /** The number of operations to run when no duration is configured. @since 0.6.0 */
+    private final long operations;
+
+    /** The bytes allocated during the measurement phase or -1 if unknown. @since 0.6.0 */
+    private volatile long allocatedBytes = -1;
+
     /**
      * The constructor.
      *
      * @param   config              net.jmp.hitormiss.config.Config
-     * @param   client              org.redisson.api.RedissonClient
+     * @param   backend             net.jmp.hitormiss.backend.CacheBackend
      * @param   statisticsThread    net.jmp.hitormiss.threads.StatisticsThread
+     * @param   schedule            net.jmp.hitormiss.util.RateSchedule or null for a closed loop
+     * @param   backingStore        net.jmp.hitormiss.store.BackingStore
+     * @param   singleFlight        net.jmp.hitormiss.util.SingleFlight&lt;java.lang.Integer&gt;
+     * @param   keyTracker          net.jmp.hitormiss.util.KeyTracker
+     * @param   keyEncoder          net.jmp.hitormiss.util.KeyEncoder
+     * @param   refresher           net.jmp.hitormiss.threads.Refresher or null to never refresh early
+     * @param   accessScript        net.jmp.hitormiss.data.AccessScript or null to access from the client
+     * @param   poolGate            net.jmp.hitormiss.util.PoolGate or null to not measure the pool wait
+     * @param   localTier           net.jmp.hitormiss.backend.MappedTier or null for no local tier
+     * @param   operations          long
      */
-    public AccessThread(final Config config, final RedissonClient client, final StatisticsThread statisticsThread) {
+    public AccessThread(final Config config,
+                        final CacheBackend backend,
+                        final StatisticsThread statisticsThread,
+                        final RateSchedule schedule,
+                        final BackingStore backingStore,
+                        final SingleFlight<Integer> singleFlight,
+                        final KeyTracker keyTracker,
+                        final KeyEncoder keyEncoder,
+                        final Refresher refresher,
+                        final AccessScript accessScript,
+                        final PoolGate poolGate,
+                        final MappedTier localTier,
+                        final long operations) {
         super();
 
         Objects.requireNonNull(config);
-        Objects.requireNonNull(client);
+        Objects.requireNonNull(backend);
         Objects.requireNonNull(statisticsThread);
+        Objects.requireNonNull(backingStore);
+        Objects.requireNonNull(singleFlight);
+        Objects.requireNonNull(keyTracker);
+        Objects.requireNonNull(keyEncoder);
 
         this.config = config;
-        this.client = client;
+        this.backend = backend;
+        this.router = backend instanceof RedissonBackend redissonBackend ? redissonBackend.getRouter() : null;
         this.statisticsThread = statisticsThread;
+        this.schedule = schedule;
+        this.backingStore = backingStore;
+        this.singleFlight = singleFlight;
+        this.keyTracker = keyTracker;
+        this.writer = new DataElementWriter(config.getExpiry());
+        this.bucketKeys = keyEncoder.getBucketKeys();
+        this.keyEncoder = keyEncoder;
+        this.refresher = refresher;
+        this.earlyRefreshPolicy = refresher != null && config.getExpiry().isEarlyRefresh() ? new EarlyRefreshPolicy(config.getExpiry().getEarlyRefreshBeta()) : null;
+        this.staleWhileRevalidate = refresher != null && config.getExpiry().isStaleWhileRevalidate();
+        this.accessScript = accessScript;
+        this.poolGate = poolGate;
+        this.localTier = localTier;
+        this.clientCapture = config.getServerStats().isClientCapture();
+        this.replicaReads = this.router != null && config.getRedis().isReplicaReads();
+        this.multiGetKeys = this.getMultiGetKeys(config);
+        this.operations = operations;
+    }
+
+    /**
+     * Return the bytes this thread allocated during
+     * the measurement phase or -1 if it is unknown.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
     }
 
     /**
@@ -91,50 +257,596 @@ public final class AccessThread implements Runnable {
     public void run() {
         this.logger.entry();
 
-        final int counter = this.config.getApplication().getInitialNumberOfBuckets() * 3;
+        final int keys = this.config.getApplication().getInitialNumberOfBuckets() * 3;
+
+        final RandomNumberGenerator generator = new RandomNumberGenerator(1, keys);
+        final long durationNanos = TimeUnit.SECONDS.toNanos(this.config.getLoad().getDurationSeconds());
+        final int batchSize = Math.max(1, this.config.getApplication().getStatisticsBatchSize());
+        final int sampleEvery = this.config.getMonitoring().getJfrAccessSampleEvery();
+        final SlotStatistics slotStatistics = this.statisticsThread.getSlotStatistics();
+        final boolean sharded = this.router != null && this.router.isSharded();
+        final List<RequestQueueElement> batch = new ArrayList<>(batchSize);
+        final int[] keysAsInt = new int[Math.max(1, this.multiGetKeys)];
+        final RequestType[] requestTypes = new RequestType[keysAsInt.length];
+
+        boolean allocationTracked = false;
+        long allocationStart = -1;
+
+        for (long i = 0; !this.isFinished(i, durationNanos); i++) {
+            if (!allocationTracked && this.statisticsThread.isMeasuring()) {
+                allocationTracked = true;
+                allocationStart = this.getCurrentThreadAllocatedBytes();
+            }
+
+            // In an open loop wait for the intended start time; latency is measured from it
+
+            final long intendedNanos = this.schedule != null ? this.awaitIntendedStart(this.schedule) : System.nanoTime();
+            final long startNanos = System.nanoTime();
+
+            this.drawKeys(generator, keys, keysAsInt);
+
+            final AccessEvent accessEvent = sampleEvery > 0 && i % sampleEvery == 0 ? new AccessEvent() : null;
+
+            if (accessEvent != null)
+                accessEvent.begin();
+
+            if (this.multiGetKeys > 0)
+                this.accessMany(keysAsInt, requestTypes);
+            else
+                requestTypes[0] = this.accessOne(keysAsInt[0]);
+
+            final long endNanos = System.nanoTime();
+
+            if (accessEvent != null) {
+                accessEvent.end();
+
+                if (accessEvent.shouldCommit()) {
+                    accessEvent.setKey(keysAsInt[0]);
+                    accessEvent.setKeys(keysAsInt.length);
+                    accessEvent.setOutcome(this.getOutcome(requestTypes));
+                    accessEvent.commit();
+                }
+            }
+
+            // The first key carries the timings of the whole operation; the other keys of a multi-get only count their outcomes
+
+            for (int k = 0; k < keysAsInt.length; k++) {
+                final RequestType requestType = requestTypes[k];
+                final long stalenessNanos = requestType == RequestType.STALE_HIT ? this.stalenessNanos : 0;
+
+                if ((slotStatistics != null || sharded) && this.statisticsThread.isMeasuring())
+                    this.recordKey(slotStatistics, sharded, keysAsInt[k], requestType);
+
+                if (this.clientCapture && k == 0)
+                    batch.add(new RequestQueueElement(
+                            requestType,
+                            endNanos - startNanos,
+                            endNanos - intendedNanos,
+                            stalenessNanos,
+                            this.poolWaitNanos,
+                            keysAsInt.length
+                    ));
+                else if (this.clientCapture)
+                    batch.add(new RequestQueueElement(requestType, stalenessNanos));
+            }
+
+            if (batch.size() >= batchSize)
+                this.publish(batch);
+        }
+
+        if (!batch.isEmpty())
+            this.publish(batch);
+
+        if (allocationStart >= 0)
+            this.allocatedBytes = this.getCurrentThreadAllocatedBytes() - allocationStart;
+
+        this.logger.info("Access thread is exiting");
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return the outcome of an access for its flight
+     * recorder event. The outcome of a multi-get lists
+     * the outcomes of its keys in the order they were read.
+     *
+     * @param   requestTypes    net.jmp.hitormiss.data.RequestType[]
+     * @return                  java.lang.String
+     * @since                   0.6.0
+     */
+    private String getOutcome(final RequestType[] requestTypes) {
+        if (requestTypes.length == 1)
+            return requestTypes[0].name();
+
+        final StringJoiner outcome = new StringJoiner(",");
+
+        for (final RequestType requestType : requestTypes)
+            outcome.add(requestType.name());
+
+        return outcome.toString();
+    }
+
+    /**
+     * Return the number of keys each multi-get reads or
+     * zero when buckets are read one at a time. With the
+     * hash tag layout the keys of a multi-get come from
+     * one group, so it reads no more keys than a group holds.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @return          int
+     * @since           0.6.0
+     */
+    private int getMultiGetKeys(final Config config) {
+        if (config.getApplication().getAccessMode() != AccessMode.MGET)
+            return 0;
+
+        final int multiGetKeys = Math.max(1, config.getApplication().getMultiGetKeys());
+
+        if (this.bucketKeys.getLayout() == KeyLayout.HASH_TAG)
+            return Math.min(multiGetKeys, this.bucketKeys.getGroupSize());
+
+        return multiGetKeys;
+    }
+
+    /**
+     * Draw the keys of the next operation. The keys of
+     * a multi-get with the hash tag layout are related:
+     * the first is drawn and the rest follow it around
+     * its group, so the whole operation reads one slot.
+     * Otherwise every key is drawn on its own.
+     *
+     * @param   generator   net.jmp.hitormiss.util.RandomNumberGenerator
+     * @param   keys        int
+     * @param   keysAsInt   int[]
+     * @since               0.6.0
+     */
+    private void drawKeys(final RandomNumberGenerator generator, final int keys, final int[] keysAsInt) {
+        keysAsInt[0] = generator.generate();
+
+        if (keysAsInt.length > 1 && this.bucketKeys.getLayout() == KeyLayout.HASH_TAG) {
+            final int groupStart = this.bucketKeys.group(keysAsInt[0]) * this.bucketKeys.getGroupSize();
+            final int first = Math.max(1, groupStart);
+            final int span = Math.min(groupStart + this.bucketKeys.getGroupSize() - 1, keys) - first + 1;
+
+            for (int k = 1; k < keysAsInt.length; k++)
+                keysAsInt[k] = first + (keysAsInt[0] - first + k) % span;
+        } else {
+            for (int k = 1; k < keysAsInt.length; k++)
+                keysAsInt[k] = generator.generate();
+        }
+    }
+
+    /**
+     * Access the bucket of one key, classifying
+     * failures as errors or load failures.
+     *
+     * @param   keyAsInt    int
+     * @return              net.jmp.hitormiss.data.RequestType
+     * @since               0.6.0
+     */
+    private RequestType accessOne(final int keyAsInt) {
+        try {
+            return this.access(keyAsInt);
+        } catch (final RedisException re) {
+            this.logger.warn("Access to key {} failed: {}", keyAsInt, re.getMessage());
+
+            return RequestType.ERROR;
+        } catch (final BackingStoreException bse) {
+            this.logger.debug("Load of key {} failed: {}", keyAsInt, bse.getMessage());
+
+            return RequestType.LOAD_FAILURE;
+        }
+    }
+
+    /**
+     * Access the buckets of several keys with one
+     * multi-get, classifying each key as a hit or a
+     * miss. The misses are loaded and then filled
+     * together. When Redis fails every key is an error.
+     *
+     * @param   keysAsInt       int[]
+     * @param   requestTypes    net.jmp.hitormiss.data.RequestType[]
+     * @since                   0.6.0
+     */
+    private void accessMany(final int[] keysAsInt, final RequestType[] requestTypes) {
+        try {
+            this.multiGet(keysAsInt, requestTypes);
+        } catch (final RedisException re) {
+            this.logger.warn("Multi-get of {} keys from key {} failed: {}", keysAsInt.length, keysAsInt[0], re.getMessage());
+
+            Arrays.fill(requestTypes, RequestType.ERROR);
+        }
+    }
+
+    /**
+     * Get the buckets of several keys and determine
+     * which are hits and which misses. A key that is
+     * drawn twice in one operation is filled once and
+     * its repeat is counted as a coalesced miss.
+     *
+     * @param   keysAsInt       int[]
+     * @param   requestTypes    net.jmp.hitormiss.data.RequestType[]
+     * @since                   0.6.0
+     */
+    private void multiGet(final int[] keysAsInt, final RequestType[] requestTypes) {
+        final List<String> keys = new ArrayList<>(keysAsInt.length);
+        final boolean[] stored = new boolean[keysAsInt.length];
+
+        for (int k = 0; k < keysAsInt.length; k++) {
+            keys.add(this.keyEncoder.key(keysAsInt[k]));
+            stored[k] = this.keyTracker.wasStored(keysAsInt[k]);
+        }
+
+        final Map<String, DataElement> found = this.lookupAll(keys);
+        final Map<String, DataElement> fills = new LinkedHashMap<>();
+
+        for (int k = 0; k < keysAsInt.length; k++) {
+            final String bucketKey = keys.get(k);
+
+            if (found.get(bucketKey) != null) {
+                requestTypes[k] = RequestType.HIT;
+            } else if (fills.containsKey(bucketKey)) {
+                requestTypes[k] = RequestType.COALESCED_MISS;
+            } else if (this.replicaReads && this.existsOnMaster(bucketKey)) {
+                requestTypes[k] = RequestType.FALSE_MISS;
+            } else {
+                try {
+                    final long loadStartNanos = System.nanoTime();
+                    final DataElement loaded = this.backingStore.load(keysAsInt[k]);
+
+                    fills.put(bucketKey, new DataElement(keysAsInt[k], loaded.getValue(), System.nanoTime() - loadStartNanos, 0));
+
+                    requestTypes[k] = stored[k] ? RequestType.EXPIRY_MISS : RequestType.MISS;
+                } catch (final BackingStoreException bse) {
+                    this.logger.debug("Load of key {} failed: {}", keysAsInt[k], bse.getMessage());
+
+                    requestTypes[k] = RequestType.LOAD_FAILURE;
+                }
+            }
+        }
+
+        if (!fills.isEmpty())
+            this.fillAll(fills);
+    }
+
+    /**
+     * Get the data elements in the buckets of some keys
+     * with one multi-get, passing through the pool gate
+     * when there is one. Missing buckets are absent
+     * from the result.
+     *
+     * @param   keys    java.util.List&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     * @since           0.6.0
+     */
+    private Map<String, DataElement> lookupAll(final List<String> keys) {
+        this.poolWaitNanos = this.poolGate != null ? this.poolGate.acquire() : -1;
+
+        try {
+            return this.backend.getAll(keys);
+        } finally {
+            if (this.poolGate != null)
+                this.poolGate.release();
+        }
+    }
+
+    /**
+     * Fill the missed buckets of a multi-get. The
+     * misses are filled together unless they expire
+     * or another process filled one of them first, in
+     * which case each is filled on its own unless it
+     * is already present.
+     *
+     * @param   fills   java.util.Map&lt;java.lang.String, net.jmp.hitormiss.data.DataElement&gt;
+     * @since           0.6.0
+     */
+    private void fillAll(final Map<String, DataElement> fills) {
+        final var missFillEvent = new MissFillEvent();
+
+        missFillEvent.begin();
+
+        if (!this.writer.tryWriteAll(this.backend, fills))
+            fills.forEach((bucketKey, element) ->
+                    this.writer.writeIfAbsent(this.backend, bucketKey, element.getKeyAsInt(), element.getValue(), element.getComputeNanos()));
+
+        for (final DataElement element : fills.values())
+            this.keyTracker.markStored(element.getKeyAsInt());
+
+        missFillEvent.end();
 
+        if (missFillEvent.shouldCommit()) {
+            missFillEvent.setKey(fills.values().iterator().next().getKeyAsInt());
+            missFillEvent.commit();
+        }
+    }
+
+    /**
+     * Record the outcome of an access against the
+     * cluster slot or the instance of its key.
+     * Errors are neither hits nor misses and local
+     * hits never reach a slot or an instance.
+     *
+     * @param   slotStatistics  net.jmp.hitormiss.data.SlotStatistics or null
+     * @param   sharded         boolean
+     * @param   keyAsInt        int
+     * @param   requestType     net.jmp.hitormiss.data.RequestType
+     * @since                   0.6.0
+     */
+    private void recordKey(final SlotStatistics slotStatistics, final boolean sharded, final int keyAsInt, final RequestType requestType) {
+        if (requestType == RequestType.ERROR || requestType == RequestType.LOCAL_HIT)
+            return;
+
+        final boolean hit = requestType == RequestType.HIT ||
+                requestType == RequestType.EARLY_REFRESH ||
+                requestType == RequestType.STALE_HIT;
+
+        if (slotStatistics != null)
+            slotStatistics.record(this.keyEncoder.slot(keyAsInt), hit);
+
+        if (sharded)
+            this.router.route(this.keyEncoder.key(keyAsInt)).record(hit);
+    }
+
+    /**
+     * Hand a batch of outcomes to the statistics
+     * thread and clear it for reuse.
+     *
+     * @param   batch   java.util.List&lt;net.jmp.hitormiss.data.RequestQueueElement&gt;
+     * @since           0.6.0
+     */
+    private void publish(final List<RequestQueueElement> batch) {
         final var requestQueue = this.statisticsThread.getRequestQueue();
         final var synchronizer = this.statisticsThread.getSynchronizer();
+        final var batchEvent = new BatchEvent();
 
-        final RandomNumberGenerator generator = new RandomNumberGenerator(1, counter);
-        final String bucketKeyPrefix = this.config.getApplication().getBucketKeyPrefix();
+        batchEvent.begin();
 
-        for (int i = 0; i < counter; i++) {
-            // Get the bucket and determine if it is a hit or miss
+        synchronized (synchronizer) {
+            requestQueue.addAll(batch);
 
-            final int keyAsInt = generator.generate();
-            final String bucketKey = bucketKeyPrefix + keyAsInt;
-            final RBucket<DataElement> bucket = this.client.getBucket(bucketKey);
-            final DataElement dataElement = bucket.get();
+            synchronizer.setNotified(true);
+            synchronizer.notifyAll();
+        }
 
-            if (dataElement != null) {
-                if (this.logger.isDebugEnabled()) {
-                    this.logger.debug("Hit on data element: {}", dataElement.toString());
-                }
+        batchEvent.end();
+
+        if (batchEvent.shouldCommit()) {
+            int hits = 0;
+            int misses = 0;
+
+            for (final RequestQueueElement element : batch) {
+                if (element.getRequestType().isHit())
+                    hits++;
+                else if (element.getRequestType().isMiss())
+                    misses++;
             }
-            else {
-                this.logger.debug("Miss on key: {}", bucketKey);
-                this.persistDataElement(keyAsInt);
+
+            batchEvent.setSize(batch.size());
+            batchEvent.setHits(hits);
+            batchEvent.setMisses(misses);
+            batchEvent.commit();
+        }
+
+        batch.clear();
+    }
+
+    /**
+     * Get the bucket and determine if it is a hit or miss.
+     * A miss is filled before returning; when another
+     * thread is already filling the key the miss waits
+     * for that fill and is counted as coalesced. A hit
+     * that schedules an early refresh is counted as such,
+     * as is a hit on a logically expired bucket, which is
+     * served stale while it is refreshed in the background.
+     * A hit in the local tier never reaches the backend, so
+     * it waits for no pooled connection, and a hit in the
+     * backend is copied to the local tier. A miss of a key
+     * stored before the lookup is counted as an expiry miss
+     * and any other miss as a cold miss.
+     *
+     * @param   keyAsInt    int
+     * @return              net.jmp.hitormiss.data.RequestType
+     * @since               0.6.0
+     */
+    private RequestType access(final int keyAsInt) {
+        if (this.accessScript != null)
+            return this.accessByScript(keyAsInt);
+
+        if (this.localTier != null && this.localTier.contains(keyAsInt)) {
+            this.poolWaitNanos = -1;
+
+            return RequestType.LOCAL_HIT;
+        }
+
+        final String bucketKey = this.keyEncoder.key(keyAsInt);
+        final boolean stored = this.keyTracker.wasStored(keyAsInt);
+        final DataElement dataElement = this.lookup(bucketKey);
+
+        if (dataElement != null) {
+            if (this.localTier != null)
+                this.localTier.put(dataElement);
+
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Hit on data element: {}", dataElement.toString());
             }
 
-            synchronized (synchronizer) {
-                if (dataElement != null)
-                    requestQueue.offer(new RequestQueueElement(RequestType.HIT));
-                else
-                    requestQueue.offer(new RequestQueueElement(RequestType.MISS));
+            if (this.staleWhileRevalidate && dataElement.getExpiresAtMillis() > 0) {
+                final long stalenessMillis = System.currentTimeMillis() - dataElement.getExpiresAtMillis();
+
+                if (stalenessMillis >= 0) {
+                    this.refresher.refresh(keyAsInt);
+                    this.stalenessNanos = TimeUnit.MILLISECONDS.toNanos(stalenessMillis);
 
-                synchronizer.setNotified(true);
-                synchronizer.notifyAll();
+                    return RequestType.STALE_HIT;
+                }
             }
+
+            if (this.earlyRefreshPolicy != null &&
+                    this.earlyRefreshPolicy.shouldRefresh(dataElement.getComputeNanos(), dataElement.getExpiresAtMillis()) &&
+                    this.refresher.refresh(keyAsInt))
+                return RequestType.EARLY_REFRESH;
+
+            return RequestType.HIT;
         }
 
-        this.logger.info("Access thread is exiting");
+        this.logger.debug("Miss on key: {}", bucketKey);
 
-        this.logger.exit();
+        // A replica that lags its master misses keys the master already holds
+
+        if (this.replicaReads && this.existsOnMaster(bucketKey))
+            return RequestType.FALSE_MISS;
+
+        if (this.singleFlight.execute(keyAsInt, () -> this.persistDataElement(keyAsInt)))
+            return stored ? RequestType.EXPIRY_MISS : RequestType.MISS;
+
+        return RequestType.COALESCED_MISS;
     }
 
     /**
-     * Store the data element that was missed.
+     * Access the bucket of a key with the access script,
+     * which fills a miss and counts the outcome on the
+     * server in the same round trip.
+     *
+     * @param   keyAsInt    int
+     * @return              net.jmp.hitormiss.data.RequestType
+     * @since               0.6.0
+     */
+    private RequestType accessByScript(final int keyAsInt) {
+        final boolean stored = this.keyTracker.wasStored(keyAsInt);
+
+        final boolean hit;
+
+        this.poolWaitNanos = this.poolGate != null ? this.poolGate.acquire() : -1;
+
+        try {
+            hit = this.accessScript.access(keyAsInt);
+        } finally {
+            if (this.poolGate != null)
+                this.poolGate.release();
+        }
+
+        if (hit)
+            return RequestType.HIT;
+
+        this.keyTracker.markStored(keyAsInt);
+
+        return stored ? RequestType.EXPIRY_MISS : RequestType.MISS;
+    }
+
+    /**
+     * Get the data element in a bucket, passing
+     * through the pool gate when there is one.
+     *
+     * @param   bucketKey   java.lang.String
+     * @return              net.jmp.hitormiss.data.DataElement
+     * @since               0.6.0
+     */
+    private DataElement lookup(final String bucketKey) {
+        if (this.poolGate == null)
+            return this.backend.get(bucketKey);
+
+        this.poolWaitNanos = this.poolGate.acquire();
+
+        try {
+            return this.backend.get(bucketKey);
+        } finally {
+            this.poolGate.release();
+        }
+    }
+
+    /**
+     * Return true if a bucket exists on its master.
+     *
+     * @param   bucketKey   java.lang.String
+     * @return              boolean
+     * @since               0.6.0
+     */
+    private boolean existsOnMaster(final String bucketKey) {
+        return existsOnMaster(this.router.client(bucketKey), bucketKey);
+    }
+
+    /**
+     * Return true if a bucket exists on its master.
+     * The check is sent as a write script, which the
+     * client never routes to a replica.
+     *
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   bucketKey   java.lang.String
+     * @return              boolean
+     * @since               0.6.0
+     */
+    static boolean existsOnMaster(final RedissonClient client, final String bucketKey) {
+        final Long exists = client.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                EXISTS_ON_MASTER,
+                RScript.ReturnType.INTEGER,
+                List.of(bucketKey)
+        );
+
+        return exists != null && exists > 0;
+    }
+
+    /**
+     * Return true when the run is finished. A run with a
+     * duration ends once the measurement phase has lasted
+     * that long; otherwise it ends after the operation count.
+     *
+     * @param   iteration       long
+     * @param   durationNanos   long
+     * @return                  boolean
+     * @since                   0.6.0
+     */
+    private boolean isFinished(final long iteration, final long durationNanos) {
+        if (durationNanos > 0)
+            return this.statisticsThread.isMeasuring() &&
+                    System.nanoTime() - this.statisticsThread.getMeasurementStartNanos() >= durationNanos;
+
+        return iteration >= this.operations;
+    }
+
+    /**
+     * Wait for the next intended start time and return it.
+     * When the schedule is behind no wait occurs and the
+     * lateness is charged to the request's response time.
+     *
+     * @param   schedule    net.jmp.hitormiss.util.RateSchedule
+     * @return              long
+     * @since               0.6.0
+     */
+    private long awaitIntendedStart(final RateSchedule schedule) {
+        final long intendedNanos = schedule.next();
+
+        long remainingNanos;
+
+        while ((remainingNanos = intendedNanos - System.nanoTime()) > 0) {
+            if (remainingNanos > SPIN_THRESHOLD_NANOS)
+                LockSupport.parkNanos(remainingNanos - SPIN_THRESHOLD_NANOS);
+            else
+                Thread.onSpinWait();
+        }
+
+        return intendedNanos;
+    }
+
+    /**
+     * Return the bytes allocated so far by
+     * the current thread or -1 if the virtual
+     * machine does not measure allocation.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    private long getCurrentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadBean && threadBean.isThreadAllocatedMemoryEnabled())
+            return threadBean.getCurrentThreadAllocatedBytes();
+
+        return -1;
+    }
+
+    /**
+     * Load the data element that was missed from the
+     * backing store and store it unless another process
+     * stored one in the meantime.
      *
      * @param   keyAsInt    int
      */
@@ -143,14 +855,25 @@ public final class AccessThread implements Runnable {
 
         assert keyAsInt > 0;
 
-        final String bucketKeyPrefix = this.config.getApplication().getBucketKeyPrefix();
-        final String bucketKey = bucketKeyPrefix + keyAsInt;
-        final String value = UUID.randomUUID().toString();
-        final RBucket<DataElement> bucket = this.client.getBucket(bucketKey);
+        final String bucketKey = this.keyEncoder.key(keyAsInt);
+        final var missFillEvent = new MissFillEvent();
+
+        missFillEvent.begin();
+
+        final long loadStartNanos = System.nanoTime();
+        final DataElement loaded = this.backingStore.load(keyAsInt);
+        final long computeNanos = System.nanoTime() - loadStartNanos;
 
-        assert bucket.get() == null;
+        this.writer.writeIfAbsent(this.backend, bucketKey, keyAsInt, loaded.getValue(), computeNanos);
 
-        bucket.set(new DataElement(keyAsInt, value));
+        this.keyTracker.markStored(keyAsInt);
+
+        missFillEvent.end();
+
+        if (missFillEvent.shouldCommit()) {
+            missFillEvent.setKey(keyAsInt);
+            missFillEvent.commit();
+        }
 
         this.logger.exit();
     }
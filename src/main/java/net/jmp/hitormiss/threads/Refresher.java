@@ -0,0 +1,228 @@
+package net.jmp.hitormiss.threads;
+
+/*
+ * (#)Refresher.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.hitormiss.backend.CacheBackend;
+
+import net.jmp.hitormiss.config.Config;
+
+import net.jmp.hitormiss.data.DataElement;
+import net.jmp.hitormiss.data.DataElementWriter;
+
+import net.jmp.hitormiss.store.BackingStore;
+import net.jmp.hitormiss.store.BackingStoreException;
+
+import net.jmp.hitormiss.util.KeyEncoder;
+import net.jmp.hitormiss.util.KeyTracker;
+import net.jmp.hitormiss.util.SingleFlight;
+
+import org.redisson.client.RedisException;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Refreshes buckets in the background, either before
+ * they expire or while they are served stale. A key is
+ * refreshed at most once at a time and its refresh joins
+ * the single-flight loads, so a miss of the same key
+ * waits for it rather than loading the key again.
+ */
+public final class Refresher {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The key encoder shared with the access threads. */
+    private final KeyEncoder keyEncoder;
+
+    /** The cache backend. */
+    private final CacheBackend backend;
+
+    /** The backing store that values are loaded from. */
+    private final BackingStore backingStore;
+
+    /** The single-flight loads shared with the access threads. */
+    private final SingleFlight<Integer> singleFlight;
+
+    /** The tracker of stored keys. */
+    private final KeyTracker keyTracker;
+
+    /** The data element writer. */
+    private final DataElementWriter writer;
+
+    /** The executor that runs the refreshes. */
+    private final ExecutorService executor;
+
+    /** The keys whose refresh is pending. */
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+
+    /** The number of completed refreshes. */
+    private final LongAdder refreshes = new LongAdder();
+
+    /** The number of failed refreshes. */
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param   config          net.jmp.hitormiss.config.Config
+     * @param   backend         net.jmp.hitormiss.backend.CacheBackend
+     * @param   backingStore    net.jmp.hitormiss.store.BackingStore
+     * @param   singleFlight    net.jmp.hitormiss.util.SingleFlight&lt;java.lang.Integer&gt;
+     * @param   keyTracker      net.jmp.hitormiss.util.KeyTracker
+     * @param   keyEncoder      net.jmp.hitormiss.util.KeyEncoder
+     */
+    public Refresher(final Config config,
+                     final CacheBackend backend,
+                     final BackingStore backingStore,
+                     final SingleFlight<Integer> singleFlight,
+                     final KeyTracker keyTracker,
+                     final KeyEncoder keyEncoder) {
+        super();
+
+        Objects.requireNonNull(config);
+
+        this.keyEncoder = Objects.requireNonNull(keyEncoder);
+        this.backend = Objects.requireNonNull(backend);
+        this.backingStore = Objects.requireNonNull(backingStore);
+        this.singleFlight = Objects.requireNonNull(singleFlight);
+        this.keyTracker = Objects.requireNonNull(keyTracker);
+        this.writer = new DataElementWriter(config.getExpiry());
+        this.executor = Executors.newFixedThreadPool(
+                Math.max(1, config.getExpiry().getEarlyRefreshThreads()),
+                Thread.ofPlatform().name("refresh-", 0).daemon().factory()
+        );
+    }
+
+    /**
+     * Schedule the refresh of a key. False is returned
+     * when a refresh of the key is already pending or
+     * the refresher has shut down.
+     *
+     * @param   keyAsInt    int
+     * @return              boolean
+     */
+    public boolean refresh(final int keyAsInt) {
+        if (!this.pending.add(keyAsInt))
+            return false;
+
+        try {
+            this.executor.execute(() -> this.reload(keyAsInt));
+        } catch (final RejectedExecutionException ree) {
+            this.pending.remove(keyAsInt);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Return the number of completed refreshes.
+     *
+     * @return  long
+     */
+    public long getRefreshes() {
+        return this.refreshes.sum();
+    }
+
+    /**
+     * Return the number of failed refreshes.
+     *
+     * @return  long
+     */
+    public long getFailures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * Stop accepting refreshes and wait for
+     * the pending ones to finish.
+     */
+    public void shutdown() {
+        this.logger.entry();
+
+        this.executor.shutdown();
+
+        try {
+            if (!this.executor.awaitTermination(10, TimeUnit.SECONDS))
+                this.logger.warn("Background refreshes were still running at shutdown");
+        } catch (final InterruptedException ie) {
+            this.logger.catching(ie);
+            Thread.currentThread().interrupt();
+        }
+
+        this.logger.info("Background refreshes: {}, failed: {}", this.getRefreshes(), this.getFailures());
+
+        this.logger.exit();
+    }
+
+    /**
+     * Reload a key from the backing store and
+     * overwrite its bucket with a new expiry.
+     *
+     * @param   keyAsInt    int
+     */
+    private void reload(final int keyAsInt) {
+        try {
+            final boolean reloaded = this.singleFlight.execute(keyAsInt, () -> {
+                final long startNanos = System.nanoTime();
+                final DataElement loaded = this.backingStore.load(keyAsInt);
+                final long computeNanos = System.nanoTime() - startNanos;
+
+                this.writer.write(this.backend, this.keyEncoder.key(keyAsInt), keyAsInt, loaded.getValue(), computeNanos);
+
+                this.keyTracker.markStored(keyAsInt);
+            });
+
+            if (reloaded)
+                this.refreshes.increment();
+        } catch (final BackingStoreException | RedisException e) {
+            this.logger.debug("Refresh of key {} failed: {}", keyAsInt, e.getMessage());
+
+            this.failures.increment();
+        } finally {
+            this.pending.remove(keyAsInt);
+        }
+    }
+}
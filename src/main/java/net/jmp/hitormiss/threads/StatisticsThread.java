@@ -1,12 +1,13 @@
 package net.jmp.hitormiss.threads;
 
 /*
+ * (#)StatisticsThread.java 0.6.0   10/19/2026
  * (#)StatisticsThread.java 0.5.0   06/29/2024
  * (#)StatisticsThread.java 0.3.0   05/29/2024
  * (#)StatisticsThread.java 0.2.0   05/27/2024
  *
  * @author   Jonathan Parker
- * @version  0.5.0
+ * @version  0.6.0
  * @since    0.2.0
  *
  * MIT License
@@ -34,12 +35,23 @@ package net.jmp.hitormiss.threads;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Objects;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.hitormiss.config.Config;
+import net.jmp.hitormiss.config.Load;
+import net.jmp.hitormiss.config.LoadMode;
+import net.jmp.hitormiss.config.Topology;
 
 import net.jmp.hitormiss.data.RequestQueueElement;
 import net.jmp.hitormiss.data.RequestType;
+import net.jmp.hitormiss.data.SlotStatistics;
+import net.jmp.hitormiss.data.Statistics;
 
+import net.jmp.hitormiss.util.GarbageCollectionSnapshot;
+import net.jmp.hitormiss.util.LatencyHistogram;
+import net.jmp.hitormiss.util.SteadyStateDetector;
 import net.jmp.hitormiss.util.Synchronizer;
 
 import org.slf4j.LoggerFactory;
@@ -59,11 +71,84 @@ public final class StatisticsThread implements Runnable {
     /** The request queue. */
     private final Deque<RequestQueueElement> requestQueue = new ArrayDeque<>();
 
+    /** The load configuration. @since 0.6.0 */
+    private final Load load;
+
+    /** The statistics of the warmup phase. @since 0.6.0 */
+    private final Statistics warmupStatistics;
+
+    /** The statistics of the measurement phase. @since 0.6.0 */
+    private final Statistics statistics;
+
+    /** The statistics since the window was last reset, regardless of phase. @since 0.6.0 */
+    private final Statistics windowStatistics;
+
+    /** The steady-state detector or null when detection is disabled. @since 0.6.0 */
+    private final SteadyStateDetector steadyStateDetector;
+
+    /** The statistics of the current phase. @since 0.6.0 */
+    private Statistics current;
+
+    /** True once the measurement phase has started. @since 0.6.0 */
+    private volatile boolean measuring;
+
+    /** The time the measurement phase started. @since 0.6.0 */
+    private volatile long measurementStartNanos;
+
+    /** The garbage collectors when the measurement phase started. @since 0.6.0 */
+    private volatile GarbageCollectionSnapshot measurementStartCollections;
+
+    /** The garbage collectors when the measurement phase ended. @since 0.6.0 */
+    private volatile GarbageCollectionSnapshot measurementEndCollections;
+
+    /** The depth of the request queue when it was last drained. @since 0.6.0 */
+    private volatile int queueDepth;
+
+    /** The largest depth of the request queue seen so far. @since 0.6.0 */
+    private volatile int maxQueueDepth;
+
+    /** True if outcomes are captured on the client. @since 0.6.0 */
+    private final boolean clientCapture;
+
+    /** The hits and misses of each cluster slot or null if not a cluster. @since 0.6.0 */
+    private final SlotStatistics slotStatistics;
+
+    /** The time the current steady-state window started. @since 0.6.0 */
+    private long windowStartNanos;
+
+    /** The warmup operations at the start of the current window. @since 0.6.0 */
+    private long windowOperations;
+
+    /** The warmup hits at the start of the current window. @since 0.6.0 */
+    private long windowHits;
+
     /**
      * The constructor.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
      */
-    public StatisticsThread() {
+    public StatisticsThread(final Config config) {
         super();
+
+        Objects.requireNonNull(config);
+
+        this.load = config.getLoad();
+        this.clientCapture = config.getServerStats().isClientCapture();
+        this.slotStatistics = config.getRedis().getTopology() == Topology.CLUSTER ? new SlotStatistics() : null;
+
+        final long expectedIntervalNanos = this.getExpectedIntervalNanos(config);
+
+        this.warmupStatistics = new Statistics(expectedIntervalNanos);
+        this.statistics = new Statistics(expectedIntervalNanos);
+        this.windowStatistics = new Statistics(expectedIntervalNanos);
+
+        if (this.load.getSteadyState().isEnabled())
+            this.steadyStateDetector = new SteadyStateDetector(
+                    this.load.getSteadyState().getTolerancePercent(),
+                    this.load.getSteadyState().getStableWindows()
+            );
+        else
+            this.steadyStateDetector = null;
     }
 
     /**
@@ -84,6 +169,134 @@ public final class StatisticsThread implements Runnable {
         return this.requestQueue;
     }
 
+    /**
+     * Return the statistics of the measurement phase.
+     *
+     * @return  net.jmp.hitormiss.data.Statistics
+     * @since   0.6.0
+     */
+    public Statistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Return the hits and misses of each cluster slot
+     * during the measurement phase or null if Redis
+     * is not a cluster.
+     *
+     * @return  net.jmp.hitormiss.data.SlotStatistics
+     * @since   0.6.0
+     */
+    public SlotStatistics getSlotStatistics() {
+        return this.slotStatistics;
+    }
+
+    /**
+     * Return the statistics of the warmup phase.
+     *
+     * @return  net.jmp.hitormiss.data.Statistics
+     * @since   0.6.0
+     */
+    public Statistics getWarmupStatistics() {
+        return this.warmupStatistics;
+    }
+
+    /**
+     * Return the statistics since the window was last reset.
+     *
+     * @return  net.jmp.hitormiss.data.Statistics
+     * @since   0.6.0
+     */
+    public Statistics getWindowStatistics() {
+        return this.windowStatistics;
+    }
+
+    /**
+     * Ask the statistics thread to reset the window. The
+     * reset is queued behind any outstanding requests so
+     * that only the statistics thread writes the counters.
+     *
+     * @since   0.6.0
+     */
+    public void resetWindow() {
+        this.logger.entry();
+
+        synchronized (this.synchronizer) {
+            this.requestQueue.offer(new RequestQueueElement(RequestType.RESET_WINDOW));
+
+            this.synchronizer.setNotified(true);
+            this.synchronizer.notifyAll();
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return true once the measurement phase has started.
+     *
+     * @return  boolean
+     * @since   0.6.0
+     */
+    public boolean isMeasuring() {
+        return this.measuring;
+    }
+
+    /**
+     * Return the time the measurement phase started
+     * expressed in System.nanoTime() units. Only
+     * meaningful once measuring.
+     *
+     * @return  long
+     * @since   0.6.0
+     */
+    public long getMeasurementStartNanos() {
+        return this.measurementStartNanos;
+    }
+
+    /**
+     * Return the garbage collectors as they were
+     * when the measurement phase started or null
+     * if it never started.
+     *
+     * @return  net.jmp.hitormiss.util.GarbageCollectionSnapshot
+     * @since   0.6.0
+     */
+    public GarbageCollectionSnapshot getMeasurementStartCollections() {
+        return this.measurementStartCollections;
+    }
+
+    /**
+     * Return the garbage collectors as they were
+     * when the measurement phase ended or null if
+     * it has not ended.
+     *
+     * @return  net.jmp.hitormiss.util.GarbageCollectionSnapshot
+     * @since   0.6.0
+     */
+    public GarbageCollectionSnapshot getMeasurementEndCollections() {
+        return this.measurementEndCollections;
+    }
+
+    /**
+     * Return the depth of the request queue when it was last drained.
+     *
+     * @return  int
+     * @since   0.6.0
+     */
+    public int getQueueDepth() {
+        return this.queueDepth;
+    }
+
+    /**
+     * Return the largest depth of the request queue seen so far.
+     *
+     * @return  int
+     * @since   0.6.0
+     */
+    public int getMaxQueueDepth() {
+        return this.maxQueueDepth;
+    }
+
     /**
      * The run method.
      */
@@ -93,8 +306,16 @@ public final class StatisticsThread implements Runnable {
 
         boolean shutdown = false;
 
-        final AtomicInteger hits = new AtomicInteger(0);
-        final AtomicInteger misses = new AtomicInteger(0);
+        this.warmupStatistics.reset();
+        this.windowStatistics.reset();
+        this.windowStartNanos = System.nanoTime();
+
+        // Without client capture no outcomes arrive to end a warmup, so measure from the start
+
+        if (this.clientCapture && (this.load.getWarmupSeconds() > 0 || this.steadyStateDetector != null))
+            this.current = this.warmupStatistics;
+        else
+            this.startMeasurement();
 
         while (!shutdown) {
             synchronized (this.synchronizer) {
@@ -109,12 +330,21 @@ public final class StatisticsThread implements Runnable {
 
                 this.synchronizer.setNotified(false);
 
-                shutdown = this.processRequestQueue(hits, misses);
+                shutdown = this.processRequestQueue();
             }
         }
 
-        this.logger.info("Hits  : {}", hits.get());
-        this.logger.info("Misses: {}", misses.get());
+        this.current.stop();
+
+        if (this.measuring)
+            this.measurementEndCollections = GarbageCollectionSnapshot.take();
+        else
+            this.logger.warn("The run ended during warmup; nothing was measured");
+
+        if (this.clientCapture)
+            this.logStatistics(this.statistics);
+        else
+            this.logger.info("Client capture is off; no client statistics were recorded");
 
         // Update accumulator bucket for the last time
 
@@ -124,37 +354,225 @@ public final class StatisticsThread implements Runnable {
     }
 
     /**
-     * Process the request queue. Note that hits
-     * and misses are updated and hence not final.
+     * Process the request queue.
      * True is returned if shutdown was requested.
      *
-     * @param   hits    Integer
-     * @param   misses  Integer
-     * @return          boolean
+     * @return  boolean
      */
-    private boolean processRequestQueue(final AtomicInteger hits, final AtomicInteger misses) {
-        this.logger.entry(hits, misses);
-
-        assert hits != null;
-        assert misses != null;
+    private boolean processRequestQueue() {
+        this.logger.entry();
 
         boolean shutdown = false;
 
-        while (this.requestQueue.peek() != null) {
-            final var requestElement = this.requestQueue.poll();
+        this.queueDepth = this.requestQueue.size();
 
-            if (requestElement.getRequestType() == RequestType.HIT)
-                hits.incrementAndGet();
+        if (this.queueDepth > this.maxQueueDepth)
+            this.maxQueueDepth = this.queueDepth;
 
-            if (requestElement.getRequestType() == RequestType.MISS)
-                misses.incrementAndGet();
+        while (this.requestQueue.peek() != null) {
+            final var requestElement = this.requestQueue.poll();
 
-            if (requestElement.getRequestType() == RequestType.SHUTDOWN)
+            if (requestElement.getRequestType() == RequestType.SHUTDOWN) {
                 shutdown = true;
+            } else if (requestElement.getRequestType() == RequestType.RESET_WINDOW) {
+                this.windowStatistics.reset();
+            } else {
+                this.current.record(requestElement);
+                this.windowStatistics.record(requestElement);
+            }
         }
 
+        if (!this.measuring && !shutdown)
+            this.checkWarmup();
+
         this.logger.exit(shutdown);
 
         return shutdown;
     }
+
+    /**
+     * End the warmup phase if its time limit has
+     * passed or the run has reached a steady state.
+     *
+     * @since   0.6.0
+     */
+    private void checkWarmup() {
+        this.logger.entry();
+
+        final long nowNanos = System.nanoTime();
+        final long warmupNanos = TimeUnit.SECONDS.toNanos(this.load.getWarmupSeconds());
+
+        if (warmupNanos > 0 && this.warmupStatistics.getElapsedNanos() >= warmupNanos) {
+            this.endWarmup("time limit reached");
+        } else if (this.steadyStateDetector != null) {
+            final long windowNanos = TimeUnit.SECONDS.toNanos(this.load.getSteadyState().getWindowSeconds());
+
+            if (nowNanos - this.windowStartNanos >= windowNanos) {
+                final long operations = this.warmupStatistics.getOperations();
+                final long hits = this.warmupStatistics.getHits();
+
+                final boolean steady = this.steadyStateDetector.addWindow(
+                        operations - this.windowOperations,
+                        hits - this.windowHits,
+                        nowNanos - this.windowStartNanos
+                );
+
+                this.windowStartNanos = nowNanos;
+                this.windowOperations = operations;
+                this.windowHits = hits;
+
+                if (steady)
+                    this.endWarmup("steady state detected");
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * End the warmup phase, log its statistics
+     * separately and start measuring afresh.
+     *
+     * @param   reason  java.lang.String
+     * @since           0.6.0
+     */
+    private void endWarmup(final String reason) {
+        this.logger.entry(reason);
+
+        assert reason != null;
+
+        this.warmupStatistics.stop();
+
+        this.logger.info("Warmup ended after {} s: {}", String.format("%.1f", this.warmupStatistics.getElapsedNanos() / 1_000_000_000.0), reason);
+        this.logger.info("Warmup hits: {}, misses: {}, expired: {}, coalesced: {}, ratio: {}, ops/s: {}",
+                this.warmupStatistics.getHits(),
+                this.warmupStatistics.getMisses(),
+                this.warmupStatistics.getExpiryMisses(),
+                this.warmupStatistics.getCoalescedMisses(),
+                String.format("%.4f", this.warmupStatistics.getHitRatio()),
+                String.format("%.1f", this.warmupStatistics.getOperationsPerSecond()));
+
+        this.startMeasurement();
+
+        this.logger.exit();
+    }
+
+    /**
+     * Start the measurement phase.
+     *
+     * @since   0.6.0
+     */
+    private void startMeasurement() {
+        this.logger.entry();
+
+        this.statistics.reset();
+        this.current = this.statistics;
+        this.measurementStartCollections = GarbageCollectionSnapshot.take();
+        this.measurementStartNanos = System.nanoTime();
+        this.measuring = true;
+
+        this.logger.exit();
+    }
+
+    /**
+     * Log the statistics of the measurement phase.
+     *
+     * @param   statistics  net.jmp.hitormiss.data.Statistics
+     * @since               0.6.0
+     */
+    private void logStatistics(final Statistics statistics) {
+        this.logger.entry(statistics);
+
+        assert statistics != null;
+
+        this.logger.info("Hits  : {} ({} refreshed early)", statistics.getHits(), statistics.getEarlyRefreshes());
+        this.logger.info("Stale : {}", statistics.getStaleHits());
+
+        if (statistics.getLocalHits() > 0)
+            this.logger.info("Local : {} hits never reached the backend", statistics.getLocalHits());
+
+        this.logger.info("Misses: {} cold, {} expired, {} coalesced", statistics.getMisses(), statistics.getExpiryMisses(), statistics.getCoalescedMisses());
+
+        if (statistics.getFalseMisses() > 0)
+            this.logger.info("False : {} replica misses were hits on the primary", statistics.getFalseMisses());
+
+        this.logger.info("Errors: {}", statistics.getErrors());
+        this.logger.info("Failed: {}", statistics.getLoadFailures());
+        this.logger.info("Ratio : {}", String.format("%.4f", statistics.getHitRatio()));
+        this.logger.info("Ops/s : {}", String.format("%.1f", statistics.getOperationsPerSecond()));
+
+        this.logLatencies("Service ", statistics.getServiceTimes());
+        this.logLatencies("Response", statistics.getResponseTimes());
+
+        if (statistics.getStaleHits() > 0)
+            this.logLatencies("Stale   ", statistics.getStaleness());
+
+        if (statistics.getPoolWaits().getTotalCount() > 0)
+            this.logLatencies("Pool    ", statistics.getPoolWaits());
+
+        if (statistics.getAmortizedTimes().getTotalCount() > 0)
+            this.logLatencies("Per key ", statistics.getAmortizedTimes());
+
+        this.logger.exit();
+    }
+
+    /**
+     * Log the percentiles of a latency histogram in milliseconds.
+     *
+     * @param   name        java.lang.String
+     * @param   histogram   net.jmp.hitormiss.util.LatencyHistogram
+     * @since               0.6.0
+     */
+    private void logLatencies(final String name, final LatencyHistogram histogram) {
+        this.logger.entry(name, histogram);
+
+        assert name != null;
+        assert histogram != null;
+
+        this.logger.info("{} p50: {} ms, p90: {} ms, p99: {} ms, p99.9: {} ms, max: {} ms",
+                name,
+                this.toMillis(histogram.getValueAtPercentile(50.0)),
+                this.toMillis(histogram.getValueAtPercentile(90.0)),
+                this.toMillis(histogram.getValueAtPercentile(99.0)),
+                this.toMillis(histogram.getValueAtPercentile(99.9)),
+                this.toMillis(histogram.getMax()));
+
+        this.logger.exit();
+    }
+
+    /**
+     * Format nanoseconds as milliseconds.
+     *
+     * @param   nanos   long
+     * @return          java.lang.String
+     * @since           0.6.0
+     */
+    private String toMillis(final long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Return the expected interval between requests used to
+     * correct closed-loop response times for coordinated
+     * omission. The target rate is shared by all the access
+     * threads, so each thread expects one request every
+     * number-of-threads divided by target-rate seconds.
+     * Open-loop response times are measured from the
+     * intended start times and need no correction.
+     *
+     * @param   config  net.jmp.hitormiss.config.Config
+     * @return          long
+     * @since           0.6.0
+     */
+    private long getExpectedIntervalNanos(final Config config) {
+        final Load load = config.getLoad();
+
+        if (load.getMode() == LoadMode.CLOSED && load.getTargetRate() > 0) {
+            final int threads = Math.max(1, config.getApplication().getNumberOfAccessThreads());
+
+            return Math.round(TimeUnit.SECONDS.toNanos(threads) / load.getTargetRate());
+        }
+
+        return 0;
+    }
 }
@@ -0,0 +1,210 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)BucketKeys.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.regex.Pattern;
+
+import net.jmp.hitormiss.config.Application;
+import net.jmp.hitormiss.config.KeyLayout;
+
+/**
+ * Forms the keys of the data element buckets. The
+ * plain layout appends the key to the prefix, as in
+ * DE-312. The hash tag layout puts each run of group
+ * size keys under one hash tag, as in DE-{3}-312, so
+ * that a group lands in one cluster slot and can be
+ * read with one multi-key command.
+ */
+public final class BucketKeys {
+    /** The bucket key prefix. */
+    private final String prefix;
+
+    /** The key layout. */
+    private final KeyLayout layout;
+
+    /** The number of keys that share a hash tag. */
+    private final int groupSize;
+
+    /** The pattern that every bucket key matches. */
+    private final Pattern pattern;
+
+    /**
+     * The constructor.
+     *
+     * @param   application net.jmp.hitormiss.config.Application
+     */
+    public BucketKeys(final Application application) {
+        this(application.getBucketKeyPrefix(), application.getKeyLayout(), application.getKeyGroupSize());
+    }
+
+    /**
+     * A constructor that takes the layout.
+     *
+     * @param   prefix      java.lang.String
+     * @param   layout      net.jmp.hitormiss.config.KeyLayout
+     * @param   groupSize   int
+     */
+    public BucketKeys(final String prefix, final KeyLayout layout, final int groupSize) {
+        super();
+
+        if (groupSize < 1)
+            throw new IllegalArgumentException("The group size must be positive: " + groupSize);
+
+        this.prefix = Objects.requireNonNull(prefix);
+        this.layout = Objects.requireNonNullElse(layout, KeyLayout.PLAIN);
+        this.groupSize = groupSize;
+        this.pattern = Pattern.compile("^" + Pattern.quote(prefix) + (this.layout == KeyLayout.HASH_TAG ? "\\{\\d+\\}-" : "") + "(\\d+)$");
+    }
+
+    /**
+     * Return the bucket key of a key.
+     *
+     * @param   keyAsInt    int
+     * @return              java.lang.String
+     */
+    public String key(final int keyAsInt) {
+        if (this.layout == KeyLayout.HASH_TAG)
+            return this.prefix + '{' + this.group(keyAsInt) + "}-" + keyAsInt;
+
+        return this.prefix + keyAsInt;
+    }
+
+    /**
+     * Return the group of a key. Keys in one
+     * group share a hash tag in that layout.
+     *
+     * @param   keyAsInt    int
+     * @return              int
+     */
+    public int group(final int keyAsInt) {
+        return keyAsInt / this.groupSize;
+    }
+
+    /**
+     * Return the cluster slot of a key.
+     *
+     * @param   keyAsInt    int
+     * @return              int
+     */
+    public int slot(final int keyAsInt) {
+        return ClusterSlot.of(this.key(keyAsInt));
+    }
+
+    /**
+     * Return true if a Redis key is a bucket key.
+     *
+     * @param   key java.lang.String
+     * @return      boolean
+     */
+    public boolean isBucketKey(final String key) {
+        return this.pattern.matcher(key).matches();
+    }
+
+    /**
+     * Return the key of a bucket key or -1 if it is
+     * not a bucket key. The key is parsed by hand rather
+     * than matched against the pattern, so that backends
+     * that index buckets by key can call this on every
+     * access without allocating.
+     *
+     * @param   key java.lang.String
+     * @return      int
+     */
+    public int keyAsInt(final String key) {
+        if (!key.startsWith(this.prefix))
+            return -1;
+
+        int start = this.prefix.length();
+
+        if (this.layout == KeyLayout.HASH_TAG) {
+            if (start >= key.length() || key.charAt(start) != '{')
+                return -1;
+
+            final int end = this.skipDigits(key, start + 1);
+
+            if (end == start + 1 || end + 1 >= key.length() || key.charAt(end) != '}' || key.charAt(end + 1) != '-')
+                return -1;
+
+            start = end + 2;
+        }
+
+        if (start >= key.length() || this.skipDigits(key, start) != key.length())
+            return -1;
+
+        long keyAsInt = 0;
+
+        for (int i = start; i < key.length(); i++) {
+            keyAsInt = keyAsInt * 10 + (key.charAt(i) - '0');
+
+            if (keyAsInt > Integer.MAX_VALUE)
+                return -1;
+        }
+
+        return (int) keyAsInt;
+    }
+
+    /**
+     * Return the index of the first character at
+     * or after an index that is not a digit.
+     *
+     * @param   key     java.lang.String
+     * @param   from    int
+     * @return          int
+     */
+    private int skipDigits(final String key, final int from) {
+        int index = from;
+
+        while (index < key.length() && key.charAt(index) >= '0' && key.charAt(index) <= '9')
+            index++;
+
+        return index;
+    }
+
+    /**
+     * Return the key layout.
+     *
+     * @return  net.jmp.hitormiss.config.KeyLayout
+     */
+    public KeyLayout getLayout() {
+        return this.layout;
+    }
+
+    /**
+     * Return the number of keys that share a hash tag.
+     *
+     * @return  int
+     */
+    public int getGroupSize() {
+        return this.groupSize;
+    }
+}
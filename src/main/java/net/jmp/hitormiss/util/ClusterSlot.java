@@ -0,0 +1,138 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)ClusterSlot.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Objects;
+
+/**
+ * Computes the Redis Cluster hash slot of a key: the
+ * CRC16 (XMODEM) of the key modulo 16384. When the key
+ * holds a non-empty hash tag, the part between the first
+ * '{' and the next '}', only the tag is hashed, so keys
+ * that share a tag share a slot.
+ */
+public final class ClusterSlot {
+    /** The number of hash slots in a cluster. */
+    public static final int SLOT_COUNT = 16384;
+
+    /** The CRC16 lookup table for the polynomial 0x1021. */
+    private static final int[] TABLE = createTable();
+
+    /**
+     * The default constructor.
+     */
+    private ClusterSlot() {
+        throw new UnsupportedOperationException("The default constructor should not be used");
+    }
+
+    /**
+     * Return the hash slot of a key.
+     *
+     * @param   key java.lang.String
+     * @return      int
+     */
+    public static int of(final String key) {
+        Objects.requireNonNull(key);
+
+        return of(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Return the hash slot of a key in bytes.
+     *
+     * @param   key byte[]
+     * @return      int
+     */
+    public static int of(final byte[] key) {
+        Objects.requireNonNull(key);
+
+        int start = 0;
+        int end = key.length;
+
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] == '{') {
+                for (int j = i + 1; j < key.length; j++) {
+                    if (key[j] == '}') {
+                        if (j > i + 1) {
+                            start = i + 1;
+                            end = j;
+                        }
+
+                        break;
+                    }
+                }
+
+                break;
+            }
+        }
+
+        return crc16(key, start, end) & (SLOT_COUNT - 1);
+    }
+
+    /**
+     * Return the CRC16 (XMODEM) of a range of bytes.
+     *
+     * @param   bytes   byte[]
+     * @param   start   int
+     * @param   end     int
+     * @return          int
+     */
+    static int crc16(final byte[] bytes, final int start, final int end) {
+        int crc = 0;
+
+        for (int i = start; i < end; i++)
+            crc = ((crc << 8) ^ TABLE[((crc >>> 8) ^ bytes[i]) & 0xff]) & 0xffff;
+
+        return crc;
+    }
+
+    /**
+     * Create the CRC16 lookup table.
+     *
+     * @return  int[]
+     */
+    private static int[] createTable() {
+        final int[] table = new int[256];
+
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 8;
+
+            for (int bit = 0; bit < 8; bit++)
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+
+            table[i] = crc & 0xffff;
+        }
+
+        return table;
+    }
+}
@@ -0,0 +1,239 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)ConsistentHashRing.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable consistent hash ring. Each node is
+ * placed at a number of virtual points on the ring
+ * and a key is routed to the node of the first point
+ * at or after its hash, wrapping round at the end.
+ * Adding or removing a node only moves the keys
+ * between it and its neighbours. The points are held
+ * in sorted arrays so that a route is one binary
+ * search without allocating.
+ *
+ * @param   <T> The type of node
+ */
+public final class ConsistentHashRing<T> {
+    /** The 64-bit FNV-1a offset basis. */
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    /** The 64-bit FNV-1a prime. */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** The nodes keyed by name in the order they were added. */
+    private final Map<String, T> nodes;
+
+    /** The number of virtual points of each node. */
+    private final int virtualNodes;
+
+    /** The hashes of the points in ascending order. */
+    private final long[] points;
+
+    /** The name of the node of each point. */
+    private final String[] owners;
+
+    /**
+     * The constructor.
+     *
+     * @param   nodes           java.util.Map&lt;java.lang.String, T&gt;
+     * @param   virtualNodes    int
+     */
+    public ConsistentHashRing(final Map<String, T> nodes, final int virtualNodes) {
+        super();
+
+        Objects.requireNonNull(nodes);
+
+        if (nodes.isEmpty())
+            throw new IllegalArgumentException("The ring needs at least one node");
+
+        if (virtualNodes < 1)
+            throw new IllegalArgumentException("The number of virtual nodes must be positive: " + virtualNodes);
+
+        this.nodes = Collections.unmodifiableMap(new LinkedHashMap<>(nodes));
+        this.virtualNodes = virtualNodes;
+
+        final int size = nodes.size() * virtualNodes;
+        final long[] hashes = new long[size];
+        final String[] names = new String[size];
+
+        int i = 0;
+
+        for (final String name : nodes.keySet()) {
+            for (int v = 0; v < virtualNodes; v++, i++) {
+                hashes[i] = hash(name + '#' + v);
+                names[i] = name;
+            }
+        }
+
+        // Sort the points by hash, ties broken by name so the ring does not depend on insertion order
+
+        final Integer[] order = new Integer[size];
+
+        Arrays.setAll(order, index -> index);
+        Arrays.sort(order, (a, b) -> hashes[a] != hashes[b] ? Long.compareUnsigned(hashes[a], hashes[b]) : names[a].compareTo(names[b]));
+
+        this.points = new long[size];
+        this.owners = new String[size];
+
+        for (int p = 0; p < size; p++) {
+            this.points[p] = hashes[order[p]];
+            this.owners[p] = names[order[p]];
+        }
+    }
+
+    /**
+     * Return a ring with one more node.
+     *
+     * @param   name    java.lang.String
+     * @param   node    T
+     * @return          net.jmp.hitormiss.util.ConsistentHashRing&lt;T&gt;
+     */
+    public ConsistentHashRing<T> withNode(final String name, final T node) {
+        final Map<String, T> added = new LinkedHashMap<>(this.nodes);
+
+        added.put(name, node);
+
+        return new ConsistentHashRing<>(added, this.virtualNodes);
+    }
+
+    /**
+     * Return a ring without a node.
+     *
+     * @param   name    java.lang.String
+     * @return          net.jmp.hitormiss.util.ConsistentHashRing&lt;T&gt;
+     */
+    public ConsistentHashRing<T> withoutNode(final String name) {
+        final Map<String, T> removed = new LinkedHashMap<>(this.nodes);
+
+        removed.remove(name);
+
+        return new ConsistentHashRing<>(removed, this.virtualNodes);
+    }
+
+    /**
+     * Return the node a key is routed to.
+     *
+     * @param   key java.lang.String
+     * @return      T
+     */
+    public T route(final String key) {
+        return this.nodes.get(this.routeName(key));
+    }
+
+    /**
+     * Return the name of the node a key is routed to.
+     *
+     * @param   key java.lang.String
+     * @return      java.lang.String
+     */
+    public String routeName(final String key) {
+        if (this.nodes.size() == 1)
+            return this.owners[0];
+
+        final long hash = hash(key);
+
+        int low = 0;
+        int high = this.points.length;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (Long.compareUnsigned(this.points[middle], hash) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+
+        return this.owners[low == this.points.length ? 0 : low];
+    }
+
+    /**
+     * Return the names of the nodes.
+     *
+     * @return  java.util.Set&lt;java.lang.String&gt;
+     */
+    public Set<String> getNames() {
+        return this.nodes.keySet();
+    }
+
+    /**
+     * Return the nodes keyed by name.
+     *
+     * @return  java.util.Map&lt;java.lang.String, T&gt;
+     */
+    public Map<String, T> getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * Return the number of virtual points of each node.
+     *
+     * @return  int
+     */
+    public int getVirtualNodes() {
+        return this.virtualNodes;
+    }
+
+    /**
+     * Return the hash of a string, taken over its
+     * characters rather than encoded bytes so that
+     * hashing allocates nothing. FNV-1a spreads
+     * poorly over nearby strings, so the result is
+     * mixed with the MurmurHash3 finalizer.
+     *
+     * @param   value   java.lang.String
+     * @return          long
+     */
+    static long hash(final String value) {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -0,0 +1,93 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)EarlyRefreshPolicy.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether a hit should refresh its bucket before
+ * it expires, using probabilistic early expiration (XFetch).
+ * A bucket is refreshed when
+ * now - delta * beta * ln(random) &gt;= expiry,
+ * where delta is the time it took to compute the value,
+ * so values that are expensive to compute are refreshed
+ * earlier and the chance rises sharply towards expiry.
+ * Because each hit draws independently, usually only one
+ * of many concurrent readers of a hot key refreshes it.
+ */
+public final class EarlyRefreshPolicy {
+    /** The eagerness; larger values refresh earlier. */
+    private final double beta;
+
+    /**
+     * The constructor.
+     *
+     * @param   beta    double
+     */
+    public EarlyRefreshPolicy(final double beta) {
+        super();
+
+        if (!(beta > 0))
+            throw new IllegalArgumentException("Beta must be positive: " + beta);
+
+        this.beta = beta;
+    }
+
+    /**
+     * Return true if a bucket should be refreshed now.
+     *
+     * @param   computeNanos    long
+     * @param   expiresAtMillis long
+     * @return                  boolean
+     */
+    public boolean shouldRefresh(final long computeNanos, final long expiresAtMillis) {
+        return this.shouldRefresh(computeNanos, expiresAtMillis, System.currentTimeMillis(), 1.0 - ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Return true if a bucket should be refreshed at a
+     * time given a uniform random number in (0, 1].
+     *
+     * @param   computeNanos    long
+     * @param   expiresAtMillis long
+     * @param   nowMillis       long
+     * @param   random          double
+     * @return                  boolean
+     */
+    boolean shouldRefresh(final long computeNanos, final long expiresAtMillis, final long nowMillis, final double random) {
+        if (expiresAtMillis <= 0)
+            return false;
+
+        final double deltaMillis = computeNanos / 1_000_000.0;
+
+        return nowMillis - deltaMillis * this.beta * Math.log(random) >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,155 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)ExpiryPolicy.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses the time to live of each stored bucket.
+ * A random jitter spreads the expiry of buckets
+ * stored together so they do not expire in waves.
+ * When buckets may be served stale they are kept
+ * for the stale period past their logical expiry,
+ * which bounds how stale a served value can be.
+ */
+public final class ExpiryPolicy {
+    /** The time to live in milliseconds or zero for none. */
+    private final long ttlMillis;
+
+    /** The jitter as a fraction of the time to live. */
+    private final double jitter;
+
+    /** How long past its expiry a bucket may be served stale. */
+    private final long staleMillis;
+
+    /**
+     * The constructor.
+     *
+     * @param   ttlMillis       long
+     * @param   jitterPercent   double
+     */
+    public ExpiryPolicy(final long ttlMillis, final double jitterPercent) {
+        this(ttlMillis, jitterPercent, 0);
+    }
+
+    /**
+     * A constructor that also takes how long past
+     * its expiry a bucket may be served stale.
+     *
+     * @param   ttlMillis       long
+     * @param   jitterPercent   double
+     * @param   staleMillis     long
+     */
+    public ExpiryPolicy(final long ttlMillis, final double jitterPercent, final long staleMillis) {
+        super();
+
+        if (staleMillis < 0)
+            throw new IllegalArgumentException("Stale period must not be negative: " + staleMillis);
+
+        if (ttlMillis < 0)
+            throw new IllegalArgumentException("Time to live must not be negative: " + ttlMillis);
+
+        if (jitterPercent < 0 || jitterPercent >= 100)
+            throw new IllegalArgumentException("Jitter must be at least 0 and less than 100 percent: " + jitterPercent);
+
+        this.ttlMillis = ttlMillis;
+        this.jitter = jitterPercent / 100.0;
+        this.staleMillis = staleMillis;
+    }
+
+    /**
+     * Return true if stored buckets expire.
+     *
+     * @return  boolean
+     */
+    public boolean isExpiring() {
+        return this.ttlMillis > 0;
+    }
+
+    /**
+     * Return how long in milliseconds past its
+     * expiry a bucket may be served stale.
+     *
+     * @return  long
+     */
+    public long getStaleMillis() {
+        return this.staleMillis;
+    }
+
+    /**
+     * Return the time to live of the next stored bucket,
+     * drawn uniformly from the time to live plus or minus
+     * the jitter. Zero is returned when buckets do not
+     * expire.
+     *
+     * @return  java.time.Duration
+     */
+    public Duration nextTimeToLive() {
+        return this.ttlMillis == 0 ? Duration.ZERO : Duration.ofMillis(this.nextTimeToLiveMillis());
+    }
+
+    /**
+     * Return the time to live of the next stored bucket
+     * in milliseconds, or zero when buckets do not expire.
+     *
+     * @return  long
+     */
+    public long nextTimeToLiveMillis() {
+        if (this.ttlMillis == 0 || this.jitter == 0)
+            return this.ttlMillis;
+
+        final double factor = 1.0 + this.jitter * (2.0 * ThreadLocalRandom.current().nextDouble() - 1.0);
+
+        return Math.max(1, Math.round(this.ttlMillis * factor));
+    }
+
+    /**
+     * Return the shortest time to live
+     * in milliseconds that can be drawn.
+     *
+     * @return  long
+     */
+    public long getMinTimeToLiveMillis() {
+        return this.ttlMillis == 0 ? 0 : Math.max(1, Math.round(this.ttlMillis * (1.0 - this.jitter)));
+    }
+
+    /**
+     * Return the longest time to live
+     * in milliseconds that can be drawn.
+     *
+     * @return  long
+     */
+    public long getMaxTimeToLiveMillis() {
+        return this.ttlMillis == 0 ? 0 : Math.max(1, Math.round(this.ttlMillis * (1.0 + this.jitter)));
+    }
+}
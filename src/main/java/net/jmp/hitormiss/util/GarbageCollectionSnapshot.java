@@ -0,0 +1,123 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)GarbageCollectionSnapshot.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable copy of the collection counts and
+ * accumulated collection times of the garbage collectors.
+ */
+public final class GarbageCollectionSnapshot {
+    /** The collection counts by collector name. */
+    private final Map<String, Long> counts;
+
+    /** The collection times in milliseconds by collector name. */
+    private final Map<String, Long> timesMillis;
+
+    /**
+     * The constructor.
+     *
+     * @param   counts      java.util.Map&lt;java.lang.String, java.lang.Long&gt;
+     * @param   timesMillis java.util.Map&lt;java.lang.String, java.lang.Long&gt;
+     */
+    public GarbageCollectionSnapshot(final Map<String, Long> counts, final Map<String, Long> timesMillis) {
+        super();
+
+        this.counts = Collections.unmodifiableMap(new LinkedHashMap<>(counts));
+        this.timesMillis = Collections.unmodifiableMap(new LinkedHashMap<>(timesMillis));
+    }
+
+    /**
+     * Take a snapshot of the garbage collectors of this virtual machine.
+     *
+     * @return  net.jmp.hitormiss.util.GarbageCollectionSnapshot
+     */
+    public static GarbageCollectionSnapshot take() {
+        final Map<String, Long> counts = new LinkedHashMap<>();
+        final Map<String, Long> timesMillis = new LinkedHashMap<>();
+
+        for (final GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            counts.put(collector.getName(), Math.max(0, collector.getCollectionCount()));
+            timesMillis.put(collector.getName(), Math.max(0, collector.getCollectionTime()));
+        }
+
+        return new GarbageCollectionSnapshot(counts, timesMillis);
+    }
+
+    /**
+     * Return the collector names.
+     *
+     * @return  java.util.Set&lt;java.lang.String&gt;
+     */
+    public Set<String> getCollectorNames() {
+        return this.counts.keySet();
+    }
+
+    /**
+     * Return the collection count of a collector.
+     *
+     * @param   name    java.lang.String
+     * @return          long
+     */
+    public long getCount(final String name) {
+        return this.counts.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Return the accumulated collection time of a collector in milliseconds.
+     *
+     * @param   name    java.lang.String
+     * @return          long
+     */
+    public long getTimeMillis(final String name) {
+        return this.timesMillis.getOrDefault(name, 0L);
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "GarbageCollectionSnapshot{" +
+                "counts=" + this.counts +
+                ", timesMillis=" + this.timesMillis +
+                '}';
+    }
+}
@@ -0,0 +1,133 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)KeyEncoder.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+/**
+ * Encodes keys as bucket keys and cluster slots once per
+ * key, so that an access of a key seen before builds no
+ * string and computes no checksum. Each key of the key
+ * space is encoded the first time it is asked for and
+ * kept for the rest of the run; keys outside the key
+ * space are encoded every time.
+ *
+ * <p>The caches are plain arrays shared by every access
+ * thread without locks. Two threads may both encode a
+ * key that neither has cached, but they store equal
+ * values, and a string is immutable so a thread that
+ * reads a cached reference sees the whole string.
+ */
+public final class KeyEncoder {
+    /** The bucket keys. */
+    private final BucketKeys bucketKeys;
+
+    /** The bucket keys by key or null until encoded. */
+    private final String[] keys;
+
+    /** The cluster slots plus one by key or zero until computed. */
+    private final short[] slots;
+
+    /**
+     * The constructor.
+     *
+     * @param   bucketKeys  net.jmp.hitormiss.util.BucketKeys
+     * @param   keySpace    int
+     */
+    public KeyEncoder(final BucketKeys bucketKeys, final int keySpace) {
+        super();
+
+        if (keySpace < 0)
+            throw new IllegalArgumentException("The key space must not be negative: " + keySpace);
+
+        this.bucketKeys = Objects.requireNonNull(bucketKeys);
+        this.keys = new String[keySpace];
+        this.slots = new short[keySpace];
+    }
+
+    /**
+     * Return the bucket key of a key.
+     *
+     * @param   keyAsInt    int
+     * @return              java.lang.String
+     */
+    public String key(final int keyAsInt) {
+        if (keyAsInt < 0 || keyAsInt >= this.keys.length)
+            return this.bucketKeys.key(keyAsInt);
+
+        String key = this.keys[keyAsInt];
+
+        if (key == null) {
+            key = this.bucketKeys.key(keyAsInt);
+            this.keys[keyAsInt] = key;
+        }
+
+        return key;
+    }
+
+    /**
+     * Return the cluster slot of a key.
+     *
+     * @param   keyAsInt    int
+     * @return              int
+     */
+    public int slot(final int keyAsInt) {
+        if (keyAsInt < 0 || keyAsInt >= this.slots.length)
+            return ClusterSlot.of(this.bucketKeys.key(keyAsInt));
+
+        int slot = this.slots[keyAsInt] - 1;
+
+        if (slot < 0) {
+            slot = ClusterSlot.of(this.key(keyAsInt));
+            this.slots[keyAsInt] = (short) (slot + 1);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Return the bucket keys.
+     *
+     * @return  net.jmp.hitormiss.util.BucketKeys
+     */
+    public BucketKeys getBucketKeys() {
+        return this.bucketKeys;
+    }
+
+    /**
+     * Return the number of keys in the key space.
+     *
+     * @return  int
+     */
+    public int getKeySpace() {
+        return this.keys.length;
+    }
+}
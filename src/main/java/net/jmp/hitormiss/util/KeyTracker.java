@@ -0,0 +1,105 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)KeyTracker.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free bitmap of the keys that have been stored.
+ * A miss on a stored key means the bucket expired or
+ * was evicted; a miss on any other key is a cold miss.
+ */
+public final class KeyTracker {
+    /** The bits, one per key. */
+    private final AtomicLongArray words;
+
+    /** The number of keys tracked. */
+    private final int capacity;
+
+    /**
+     * The constructor.
+     *
+     * @param   capacity    int
+     */
+    public KeyTracker(final int capacity) {
+        super();
+
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+
+        this.words = new AtomicLongArray((capacity + 63) >>> 6);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Record that a key has been stored.
+     *
+     * @param   key int
+     */
+    public void markStored(final int key) {
+        Objects.checkIndex(key, this.capacity);
+
+        final int index = key >>> 6;
+        final long bit = 1L << key;
+
+        long word;
+
+        do {
+            word = this.words.get(index);
+
+            if ((word & bit) != 0)
+                return;
+        } while (!this.words.compareAndSet(index, word, word | bit));
+    }
+
+    /**
+     * Return true if a key has been stored.
+     *
+     * @param   key int
+     * @return      boolean
+     */
+    public boolean wasStored(final int key) {
+        Objects.checkIndex(key, this.capacity);
+
+        return (this.words.get(key >>> 6) & (1L << key)) != 0;
+    }
+
+    /**
+     * Return the number of keys tracked.
+     *
+     * @return  int
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+}
@@ -0,0 +1,260 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)LatencyHistogram.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free log-linear histogram of latencies in
+ * nanoseconds. Values below 128 are counted exactly
+ * and larger values fall into one of 64 sub-buckets
+ * per power of two, which bounds the relative error
+ * of any reported value to about 1.6%. Recording and
+ * reading never block, so a reader on another thread
+ * sees a consistent-enough view while values are still
+ * being recorded.
+ */
+public final class LatencyHistogram {
+    /** The number of bits used to resolve values within a power of two. */
+    private static final int SUB_BUCKET_BITS = 6;
+
+    /** The number of sub-buckets per power of two. */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Values below this limit are counted exactly. */
+    private static final long EXACT_LIMIT = 2L * SUB_BUCKET_COUNT;
+
+    /** The number of buckets needed to cover every positive long value. */
+    private static final int BUCKET_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+    /** The bucket counts. */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /** The total number of recorded values. */
+    private final AtomicLong totalCount = new AtomicLong();
+
+    /** The sum of the recorded values. */
+    private final AtomicLong totalValue = new AtomicLong();
+
+    /** The largest recorded value. */
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * The default constructor.
+     */
+    public LatencyHistogram() {
+        super();
+    }
+
+    /**
+     * Record a value. Negative values are recorded as zero.
+     *
+     * @param   value   long
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+
+        this.counts.incrementAndGet(bucketIndex(v));
+        this.totalCount.incrementAndGet();
+        this.totalValue.addAndGet(v);
+        this.maxValue.accumulateAndGet(v, Math::max);
+    }
+
+    /**
+     * Record a value and correct for coordinated omission.
+     * When the value is larger than the expected interval
+     * between requests, the requests that would have been
+     * issued during the stall are recorded as well, each
+     * with the latency it would have observed.
+     *
+     * @param   value                   long
+     * @param   expectedIntervalNanos   long
+     */
+    public void recordWithExpectedInterval(final long value, final long expectedIntervalNanos) {
+        this.record(value);
+
+        if (expectedIntervalNanos <= 0)
+            return;
+
+        for (long missing = value - expectedIntervalNanos; missing >= expectedIntervalNanos; missing -= expectedIntervalNanos)
+            this.record(missing);
+    }
+
+    /**
+     * Return the total number of recorded values.
+     *
+     * @return  long
+     */
+    public long getTotalCount() {
+        return this.totalCount.get();
+    }
+
+    /**
+     * Return the largest recorded value.
+     *
+     * @return  long
+     */
+    public long getMax() {
+        return this.maxValue.get();
+    }
+
+    /**
+     * Return the sum of the recorded values.
+     *
+     * @return  long
+     */
+    public long getTotalValue() {
+        return this.totalValue.get();
+    }
+
+    /**
+     * Return the mean of the recorded values.
+     *
+     * @return  double
+     */
+    public double getMean() {
+        final long count = this.totalCount.get();
+
+        return count == 0 ? 0.0 : (double) this.totalValue.get() / count;
+    }
+
+    /**
+     * Return the value at the given percentile. The
+     * value reported is the highest value equivalent
+     * to the bucket holding the percentile, capped
+     * at the largest recorded value.
+     *
+     * @param   percentile  double
+     * @return              long
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+
+        final long count = this.totalCount.get();
+
+        if (count == 0)
+            return 0;
+
+        final long target = Math.max(1, (long) Math.ceil((percentile / 100.0) * count));
+
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.counts.get(i);
+
+            if (seen >= target)
+                return Math.min(highestEquivalentValue(i), this.maxValue.get());
+        }
+
+        return this.maxValue.get();
+    }
+
+    /**
+     * Return an immutable summary of the histogram.
+     *
+     * @return  net.jmp.hitormiss.util.LatencySummary
+     */
+    public LatencySummary summarize() {
+        return new LatencySummary(
+                this.getTotalCount(),
+                this.getTotalValue(),
+                this.getValueAtPercentile(50.0),
+                this.getValueAtPercentile(90.0),
+                this.getValueAtPercentile(99.0),
+                this.getValueAtPercentile(99.9),
+                this.getMax()
+        );
+    }
+
+    /**
+     * Add the contents of another histogram to this one.
+     *
+     * @param   other   net.jmp.hitormiss.util.LatencyHistogram
+     */
+    public void add(final LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            final long count = other.counts.get(i);
+
+            if (count != 0)
+                this.counts.addAndGet(i, count);
+        }
+
+        this.totalCount.addAndGet(other.totalCount.get());
+        this.totalValue.addAndGet(other.totalValue.get());
+        this.maxValue.accumulateAndGet(other.maxValue.get(), Math::max);
+    }
+
+    /**
+     * Reset the histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            this.counts.set(i, 0);
+
+        this.totalCount.set(0);
+        this.totalValue.set(0);
+        this.maxValue.set(0);
+    }
+
+    /**
+     * Return the index of the bucket for a value.
+     *
+     * @param   value   long
+     * @return          int
+     */
+    private static int bucketIndex(final long value) {
+        if (value < EXACT_LIMIT)
+            return (int) value;
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+
+        return (shift * SUB_BUCKET_COUNT) + (int) (value >>> shift);
+    }
+
+    /**
+     * Return the highest value that falls into a bucket.
+     *
+     * @param   index   int
+     * @return          long
+     */
+    private static long highestEquivalentValue(final int index) {
+        if (index < EXACT_LIMIT)
+            return index;
+
+        final int shift = (index / SUB_BUCKET_COUNT) - 1;
+        final long subBucket = (index % SUB_BUCKET_COUNT) + SUB_BUCKET_COUNT;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
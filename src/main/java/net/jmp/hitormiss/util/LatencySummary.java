@@ -0,0 +1,177 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)LatencySummary.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * An immutable summary of a latency histogram
+ * with all values in nanoseconds.
+ */
+public final class LatencySummary {
+    /** The number of recorded values. */
+    private final long count;
+
+    /** The sum of the recorded values. */
+    private final long sum;
+
+    /** The 50th percentile. */
+    private final long p50;
+
+    /** The 90th percentile. */
+    private final long p90;
+
+    /** The 99th percentile. */
+    private final long p99;
+
+    /** The 99.9th percentile. */
+    private final long p999;
+
+    /** The largest recorded value. */
+    private final long max;
+
+    /**
+     * The constructor.
+     *
+     * @param   count   long
+     * @param   sum     long
+     * @param   p50     long
+     * @param   p90     long
+     * @param   p99     long
+     * @param   p999    long
+     * @param   max     long
+     */
+    public LatencySummary(final long count,
+                          final long sum,
+                          final long p50,
+                          final long p90,
+                          final long p99,
+                          final long p999,
+                          final long max) {
+        super();
+
+        this.count = count;
+        this.sum = sum;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    /**
+     * Return the number of recorded values.
+     *
+     * @return  long
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Return the sum of the recorded values.
+     *
+     * @return  long
+     */
+    public long getSum() {
+        return this.sum;
+    }
+
+    /**
+     * Return the mean of the recorded values.
+     *
+     * @return  double
+     */
+    public double getMean() {
+        return this.count == 0 ? 0.0 : (double) this.sum / this.count;
+    }
+
+    /**
+     * Return the 50th percentile.
+     *
+     * @return  long
+     */
+    public long getP50() {
+        return this.p50;
+    }
+
+    /**
+     * Return the 90th percentile.
+     *
+     * @return  long
+     */
+    public long getP90() {
+        return this.p90;
+    }
+
+    /**
+     * Return the 99th percentile.
+     *
+     * @return  long
+     */
+    public long getP99() {
+        return this.p99;
+    }
+
+    /**
+     * Return the 99.9th percentile.
+     *
+     * @return  long
+     */
+    public long getP999() {
+        return this.p999;
+    }
+
+    /**
+     * Return the largest recorded value.
+     *
+     * @return  long
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "LatencySummary{" +
+                "count=" + this.count +
+                ", sum=" + this.sum +
+                ", p50=" + this.p50 +
+                ", p90=" + this.p90 +
+                ", p99=" + this.p99 +
+                ", p999=" + this.p999 +
+                ", max=" + this.max +
+                '}';
+    }
+}
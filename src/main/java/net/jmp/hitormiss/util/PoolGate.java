@@ -0,0 +1,93 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)PoolGate.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * A gate with one permit per pooled connection. Redisson
+ * does not expose how long a command waits for a pooled
+ * connection, so each lookup passes through the gate and
+ * the time it waits stands in for the pool wait. The wait
+ * is zero while fewer lookups are in flight than there
+ * are connections.
+ */
+public final class PoolGate {
+    /** The permits. */
+    private final Semaphore permits;
+
+    /**
+     * The constructor.
+     *
+     * @param   size    int
+     */
+    public PoolGate(final int size) {
+        super();
+
+        if (size <= 0)
+            throw new IllegalArgumentException("Pool size must be greater than 0: " + size);
+
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Take a permit, waiting if none is free,
+     * and return the time waited in nanoseconds.
+     *
+     * @return  long
+     */
+    public long acquire() {
+        if (this.permits.tryAcquire())
+            return 0;
+
+        final long startNanos = System.nanoTime();
+
+        this.permits.acquireUninterruptibly();
+
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Return a permit.
+     */
+    public void release() {
+        this.permits.release();
+    }
+
+    /**
+     * Return the number of free permits.
+     *
+     * @return  int
+     */
+    public int getAvailable() {
+        return this.permits.availablePermits();
+    }
+}
@@ -0,0 +1,201 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)RateSchedule.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A schedule of intended start times for an open-loop
+ * load. The rate is either constant or ramps linearly
+ * from a start rate to an end rate over a ramp period
+ * and then holds. Intended start times are handed out
+ * in order and never depend on when earlier requests
+ * completed, so a stalled server cannot slow the
+ * schedule down. The rate can be changed while the
+ * schedule runs, after which it holds constant.
+ */
+public final class RateSchedule {
+    /** The number of nanoseconds in a second. */
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /** The rate at the start of the schedule in operations per second. */
+    private double startRate;
+
+    /** The rate at the end of the ramp in operations per second. */
+    private double endRate;
+
+    /** The ramp period in nanoseconds. */
+    private long rampNanos;
+
+    /** The time the schedule started. */
+    private long anchorNanos;
+
+    /** The next intended start time. */
+    private long nextNanos;
+
+    /** The most recent intended start time handed out. */
+    private long lastNanos;
+
+    /** True once an intended start time has been handed out. */
+    private boolean issued;
+
+    /** True once the schedule has started. */
+    private boolean started;
+
+    /**
+     * A constructor for a constant rate.
+     *
+     * @param   rate    double
+     */
+    public RateSchedule(final double rate) {
+        this(rate, rate, 0);
+    }
+
+    /**
+     * A constructor for a ramping rate.
+     *
+     * @param   startRate   double
+     * @param   endRate     double
+     * @param   rampNanos   long
+     */
+    public RateSchedule(final double startRate, final double endRate, final long rampNanos) {
+        super();
+
+        if (startRate <= 0)
+            throw new IllegalArgumentException("Start rate must be greater than 0");
+
+        if (endRate <= 0)
+            throw new IllegalArgumentException("End rate must be greater than 0");
+
+        if (rampNanos < 0)
+            throw new IllegalArgumentException("Ramp nanoseconds must not be negative");
+
+        this.startRate = startRate;
+        this.endRate = endRate;
+        this.rampNanos = rampNanos;
+    }
+
+    /**
+     * Start the schedule at the current time. The
+     * schedule starts itself on the first call to
+     * next() if this method has not been called.
+     */
+    public synchronized void start() {
+        this.start(System.nanoTime());
+    }
+
+    /**
+     * Start the schedule at the given time.
+     *
+     * @param   anchorNanos long
+     */
+    synchronized void start(final long anchorNanos) {
+        this.anchorNanos = anchorNanos;
+        this.nextNanos = anchorNanos;
+        this.started = true;
+        this.issued = false;
+    }
+
+    /**
+     * Return the next intended start time
+     * expressed in System.nanoTime() units.
+     *
+     * @return  long
+     */
+    public synchronized long next() {
+        if (!this.started)
+            this.start(System.nanoTime());
+
+        final long intended = this.nextNanos;
+
+        this.nextNanos += this.getIntervalNanos(intended - this.anchorNanos);
+        this.lastNanos = intended;
+        this.issued = true;
+
+        return intended;
+    }
+
+    /**
+     * Change the rate. Any ramp in progress is abandoned
+     * and the schedule continues at the new constant rate
+     * from the next intended start time.
+     *
+     * @param   rate    double
+     */
+    public synchronized void setRate(final double rate) {
+        if (rate <= 0)
+            throw new IllegalArgumentException("Rate must be greater than 0");
+
+        this.startRate = rate;
+        this.endRate = rate;
+        this.rampNanos = 0;
+
+        if (this.issued)
+            this.nextNanos = this.lastNanos + this.getIntervalNanos(0);
+    }
+
+    /**
+     * Return the current rate in operations per second.
+     *
+     * @return  double
+     */
+    public synchronized double getCurrentRate() {
+        return this.started ? this.getRate(this.nextNanos - this.anchorNanos) : this.getRate(0);
+    }
+
+    /**
+     * Return the rate in operations per second
+     * at the given time since the schedule started.
+     *
+     * @param   elapsedNanos    long
+     * @return                  double
+     */
+    public synchronized double getRate(final long elapsedNanos) {
+        if (this.rampNanos == 0 || elapsedNanos >= this.rampNanos)
+            return this.endRate;
+
+        final double fraction = Math.max(0, elapsedNanos) / (double) this.rampNanos;
+
+        return this.startRate + ((this.endRate - this.startRate) * fraction);
+    }
+
+    /**
+     * Return the interval between requests in
+     * nanoseconds at the given time since the
+     * schedule started.
+     *
+     * @param   elapsedNanos    long
+     * @return                  long
+     */
+    public long getIntervalNanos(final long elapsedNanos) {
+        return Math.max(1, Math.round(NANOS_PER_SECOND / this.getRate(elapsedNanos)));
+    }
+}
@@ -0,0 +1,111 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)SingleFlight.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Coalesces concurrent loads of the same key so
+ * that only one caller runs the loader while the
+ * others wait for it and reuse its result.
+ *
+ * @param   <K> The type of key
+ */
+public final class SingleFlight<K> {
+    /** The loads in flight by key. */
+    private final ConcurrentMap<K, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * The default constructor.
+     */
+    public SingleFlight() {
+        super();
+    }
+
+    /**
+     * Run the loader for the key unless a load of the
+     * key is already in flight, in which case wait for
+     * that load instead. True is returned if this call
+     * ran the loader and false if it joined another.
+     * A loader's unchecked exception is thrown to the
+     * caller that ran it and to every caller that
+     * joined it.
+     *
+     * @param   key     K
+     * @param   loader  java.lang.Runnable
+     * @return          boolean
+     */
+    public boolean execute(final K key, final Runnable loader) {
+        final CompletableFuture<Void> flight = new CompletableFuture<>();
+        final CompletableFuture<Void> existing = this.inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            try {
+                existing.join();
+            } catch (final CompletionException ce) {
+                if (ce.getCause() instanceof RuntimeException re)
+                    throw re;
+
+                if (ce.getCause() instanceof Error e)
+                    throw e;
+
+                throw ce;
+            }
+
+            return false;
+        }
+
+        try {
+            loader.run();
+            flight.complete(null);
+        } catch (final RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+
+            throw e;
+        } finally {
+            this.inFlight.remove(key, flight);
+        }
+
+        return true;
+    }
+
+    /**
+     * Return the number of loads in flight.
+     *
+     * @return  int
+     */
+    public int getInFlight() {
+        return this.inFlight.size();
+    }
+}
@@ -0,0 +1,161 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)SlotBatcher.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Cuts keys into batches. Grouped by slot, the keys
+ * are put in cluster slot order before they are cut,
+ * so the keys of a slot travel together and a batch
+ * spans a run of neighbouring slots, which a cluster
+ * assigns to as few masters as it can. The number of
+ * slots each batch touches is counted as a measure of
+ * how well the batches line up with the cluster.
+ */
+public final class SlotBatcher {
+    /** The most keys in a batch. */
+    private final int batchSize;
+
+    /** True to group the keys by slot. */
+    private final boolean groupBySlot;
+
+    /** The number of batches cut. */
+    private long batches;
+
+    /** The number of keys batched. */
+    private long keys;
+
+    /** The sum over the batches of the slots each touched. */
+    private long slotVisits;
+
+    /**
+     * The constructor.
+     *
+     * @param   batchSize   int
+     * @param   groupBySlot boolean
+     */
+    public SlotBatcher(final int batchSize, final boolean groupBySlot) {
+        super();
+
+        if (batchSize < 1)
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+
+        this.batchSize = batchSize;
+        this.groupBySlot = groupBySlot;
+    }
+
+    /**
+     * Cut some items into batches.
+     *
+     * @param   <T>     The type of item
+     * @param   items   java.util.List&lt;T&gt;
+     * @param   slotOf  java.util.function.ToIntFunction&lt;T&gt;
+     * @return          java.util.List&lt;java.util.List&lt;T&gt;&gt;
+     */
+    public <T> List<List<T>> partition(final List<T> items, final ToIntFunction<T> slotOf) {
+        List<T> ordered = items;
+
+        if (this.groupBySlot) {
+            final Map<Integer, List<T>> bySlot = new TreeMap<>();
+
+            for (final T item : items)
+                bySlot.computeIfAbsent(slotOf.applyAsInt(item), slot -> new ArrayList<>()).add(item);
+
+            ordered = new ArrayList<>(items.size());
+
+            for (final List<T> slotItems : bySlot.values())
+                ordered.addAll(slotItems);
+        }
+
+        final List<List<T>> partitions = new ArrayList<>();
+
+        for (int start = 0; start < ordered.size(); start += this.batchSize) {
+            final List<T> batch = ordered.subList(start, Math.min(start + this.batchSize, ordered.size()));
+            final BitSet slots = new BitSet(ClusterSlot.SLOT_COUNT);
+
+            for (final T item : batch)
+                slots.set(slotOf.applyAsInt(item));
+
+            this.batches++;
+            this.keys += batch.size();
+            this.slotVisits += slots.cardinality();
+
+            partitions.add(batch);
+        }
+
+        return partitions;
+    }
+
+    /**
+     * Return the number of batches cut.
+     *
+     * @return  long
+     */
+    public long getBatches() {
+        return this.batches;
+    }
+
+    /**
+     * Return the number of keys batched.
+     *
+     * @return  long
+     */
+    public long getKeys() {
+        return this.keys;
+    }
+
+    /**
+     * Return the mean number of slots a batch touched.
+     *
+     * @return  double
+     */
+    public double getSlotsPerBatch() {
+        return this.batches == 0 ? 0.0 : (double) this.slotVisits / this.batches;
+    }
+
+    /**
+     * Return the mean number of keys a batch
+     * sent to each slot it touched. The higher
+     * it is, the fewer slots the batches span.
+     *
+     * @return  double
+     */
+    public double getKeysPerSlot() {
+        return this.slotVisits == 0 ? 0.0 : (double) this.keys / this.slotVisits;
+    }
+}
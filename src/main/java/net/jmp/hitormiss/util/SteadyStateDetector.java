@@ -0,0 +1,131 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)SteadyStateDetector.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The steady-state detector class. Throughput and hit
+ * ratio are sampled once per window, and the run is
+ * steady once the most recent windows all agree to
+ * within the tolerance: throughput relative to its mean
+ * and hit ratio in absolute percentage points.
+ */
+public final class SteadyStateDetector {
+    /** The tolerance as a fraction. */
+    private final double tolerance;
+
+    /** The number of windows that must agree. */
+    private final int stableWindows;
+
+    /** The throughputs of the most recent windows. */
+    private final Deque<Double> throughputs = new ArrayDeque<>();
+
+    /** The hit ratios of the most recent windows. */
+    private final Deque<Double> hitRatios = new ArrayDeque<>();
+
+    /**
+     * The constructor.
+     *
+     * @param   tolerancePercent    double
+     * @param   stableWindows       int
+     */
+    public SteadyStateDetector(final double tolerancePercent, final int stableWindows) {
+        super();
+
+        if (tolerancePercent <= 0)
+            throw new IllegalArgumentException("Tolerance percent must be greater than 0");
+
+        if (stableWindows < 2)
+            throw new IllegalArgumentException("Stable windows must be at least 2");
+
+        this.tolerance = tolerancePercent / 100.0;
+        this.stableWindows = stableWindows;
+    }
+
+    /**
+     * Add a window and return true if the run is now steady.
+     *
+     * @param   operations  long
+     * @param   hits        long
+     * @param   windowNanos long
+     * @return              boolean
+     */
+    public boolean addWindow(final long operations, final long hits, final long windowNanos) {
+        if (windowNanos <= 0)
+            throw new IllegalArgumentException("Window nanoseconds must be greater than 0");
+
+        this.throughputs.addLast(operations / (windowNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+        this.hitRatios.addLast(operations == 0 ? 0.0 : (double) hits / operations);
+
+        if (this.throughputs.size() > this.stableWindows) {
+            this.throughputs.removeFirst();
+            this.hitRatios.removeFirst();
+        }
+
+        return this.isSteady();
+    }
+
+    /**
+     * Return true if the most recent windows agree.
+     *
+     * @return  boolean
+     */
+    public boolean isSteady() {
+        if (this.throughputs.size() < this.stableWindows)
+            return false;
+
+        final double meanThroughput = this.throughputs.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+
+        if (meanThroughput <= 0)
+            return false;
+
+        final double throughputSpread = this.spread(this.throughputs) / meanThroughput;
+        final double hitRatioSpread = this.spread(this.hitRatios);
+
+        return throughputSpread <= this.tolerance && hitRatioSpread <= this.tolerance;
+    }
+
+    /**
+     * Return the difference between the largest and smallest values.
+     *
+     * @param   values  java.util.Deque&lt;java.lang.Double&gt;
+     * @return          double
+     */
+    private double spread(final Deque<Double> values) {
+        final var statistics = values.stream().mapToDouble(Double::doubleValue).summaryStatistics();
+
+        return statistics.getMax() - statistics.getMin();
+    }
+}
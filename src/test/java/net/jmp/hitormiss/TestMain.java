@@ -0,0 +1,129 @@
+package net.jmp.hitormiss;
+
+/*
+ * (#)TestMain.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.hitormiss.data.RequestQueueElement;
+import net.jmp.hitormiss.data.RequestType;
+import net.jmp.hitormiss.data.ServerStatistics;
+import net.jmp.hitormiss.data.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The main test class.
+ */
+public class TestMain {
+    /**
+     * Test that without replica reads the server is
+     * expected to count each client lookup once and
+     * that local hits, which never reach it, are left out.
+     */
+    @Test
+    public void testExpectServerStatistics() {
+        final Statistics warmup = this.createStatistics(RequestType.HIT, RequestType.MISS, RequestType.LOCAL_HIT);
+        final Statistics measured = this.createStatistics(
+                RequestType.HIT,
+                RequestType.EARLY_REFRESH,
+                RequestType.STALE_HIT,
+                RequestType.LOCAL_HIT,
+                RequestType.MISS,
+                RequestType.EXPIRY_MISS,
+                RequestType.COALESCED_MISS,
+                RequestType.LOAD_FAILURE,
+                RequestType.ERROR
+        );
+
+        assertEquals(3, Main.getLookupHits(measured));
+        assertEquals(4, Main.getLookupMisses(measured));
+
+        final ServerStatistics expected = Main.expectServerStatistics(warmup, measured, false);
+
+        assertEquals(4, expected.getKeyspaceHits());
+        assertEquals(5, expected.getKeyspaceMisses());
+    }
+
+    /**
+     * Test that with replica reads a false miss is a
+     * miss on the replica and a hit on the master, and
+     * that any other miss misses on both.
+     */
+    @Test
+    public void testExpectServerStatisticsWithReplicaReads() {
+        final Statistics warmup = this.createStatistics(RequestType.FALSE_MISS, RequestType.MISS);
+        final Statistics measured = this.createStatistics(
+                RequestType.HIT,
+                RequestType.HIT,
+                RequestType.FALSE_MISS,
+                RequestType.FALSE_MISS,
+                RequestType.EXPIRY_MISS
+        );
+
+        assertEquals(2, Main.getLookupHits(measured));
+        assertEquals(3, Main.getLookupMisses(measured));
+
+        final ServerStatistics expected = Main.expectServerStatistics(warmup, measured, true);
+
+        // Replica: 2 hits, 5 misses; master: 3 hits for the false misses, 2 misses for the others
+
+        assertEquals(5, expected.getKeyspaceHits());
+        assertEquals(7, expected.getKeyspaceMisses());
+    }
+
+    /**
+     * Test that false misses are left as they are
+     * without replica reads.
+     */
+    @Test
+    public void testFalseMissesWithoutReplicaReads() {
+        final Statistics statistics = this.createStatistics(RequestType.FALSE_MISS, RequestType.HIT);
+        final ServerStatistics expected = Main.expectServerStatistics(new Statistics(0), statistics, false);
+
+        assertEquals(1, expected.getKeyspaceHits());
+        assertEquals(1, expected.getKeyspaceMisses());
+    }
+
+    /**
+     * Create statistics that have recorded outcomes.
+     *
+     * @param   requestTypes    net.jmp.hitormiss.data.RequestType[]
+     * @return                  net.jmp.hitormiss.data.Statistics
+     */
+    private Statistics createStatistics(final RequestType... requestTypes) {
+        final Statistics statistics = new Statistics(0);
+
+        for (final RequestType requestType : requestTypes)
+            statistics.record(new RequestQueueElement(requestType, 0));
+
+        return statistics;
+    }
+}
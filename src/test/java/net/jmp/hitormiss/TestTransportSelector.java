@@ -0,0 +1,89 @@
+package net.jmp.hitormiss;
+
+/*
+ * (#)TestTransportSelector.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.hitormiss.config.Transport;
+
+import org.junit.Test;
+
+import org.redisson.config.TransportMode;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * The transport selector test class.
+ */
+public class TestTransportSelector {
+    /**
+     * Test that auto prefers epoll when it is available.
+     */
+    @Test
+    public void testAuto() {
+        assertEquals(TransportMode.EPOLL, new TransportSelector(() -> true, () -> true).select(Transport.AUTO));
+        assertEquals(TransportMode.NIO, new TransportSelector(() -> false, () -> true).select(Transport.AUTO));
+    }
+
+    /**
+     * Test that NIO is always honoured.
+     */
+    @Test
+    public void testNio() {
+        assertEquals(TransportMode.NIO, new TransportSelector(() -> true, () -> true).select(Transport.NIO));
+    }
+
+    /**
+     * Test that epoll falls back to NIO.
+     */
+    @Test
+    public void testEpoll() {
+        assertEquals(TransportMode.EPOLL, new TransportSelector(() -> true, () -> false).select(Transport.EPOLL));
+        assertEquals(TransportMode.NIO, new TransportSelector(() -> false, () -> false).select(Transport.EPOLL));
+    }
+
+    /**
+     * Test that io_uring falls back to epoll and then NIO.
+     */
+    @Test
+    public void testIoUring() {
+        assertEquals(TransportMode.IO_URING, new TransportSelector(() -> true, () -> true).select(Transport.IO_URING));
+        assertEquals(TransportMode.EPOLL, new TransportSelector(() -> true, () -> false).select(Transport.IO_URING));
+        assertEquals(TransportMode.NIO, new TransportSelector(() -> false, () -> false).select(Transport.IO_URING));
+    }
+
+    /**
+     * Test that a class that is not on the class path is not available.
+     */
+    @Test
+    public void testMissingClass() {
+        assertFalse(TransportSelector.isAvailable("net.jmp.hitormiss.NoSuchTransport"));
+    }
+}
@@ -0,0 +1,143 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)TestInProcessBackend.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.List;
+import java.util.Map;
+
+import net.jmp.hitormiss.data.DataElement;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The in-process backend test class.
+ */
+public class TestInProcessBackend {
+    /**
+     * Test that a bucket is only written when absent.
+     */
+    @Test
+    public void testSetIfAbsent() {
+        final InProcessBackend backend = new InProcessBackend();
+        final DataElement first = new DataElement(1, "first");
+
+        assertNull(backend.get("DE-1"));
+        assertTrue(backend.setIfAbsent("DE-1", first, null));
+        assertFalse(backend.setIfAbsent("DE-1", new DataElement(1, "second"), null));
+        assertEquals(first, backend.get("DE-1"));
+    }
+
+    /**
+     * Test that an expired bucket is absent and can be written again.
+     */
+    @Test
+    public void testExpiry() throws InterruptedException {
+        final InProcessBackend backend = new InProcessBackend();
+
+        backend.set("DE-1", new DataElement(1, "first"), Duration.ofMillis(1));
+
+        Thread.sleep(5);
+
+        assertNull(backend.get("DE-1"));
+        assertTrue(backend.setIfAbsent("DE-1", new DataElement(1, "second"), null));
+        assertEquals("second", backend.get("DE-1").getValue());
+    }
+
+    /**
+     * Test that an all-or-nothing write writes nothing
+     * when one of the buckets is present.
+     */
+    @Test
+    public void testSetAllIfAbsent() {
+        final InProcessBackend backend = new InProcessBackend();
+
+        assertTrue(backend.setAllIfAbsent(Map.of("DE-1", new DataElement(1, "one"), "DE-2", new DataElement(2, "two"))));
+        assertFalse(backend.setAllIfAbsent(Map.of("DE-2", new DataElement(2, "two"), "DE-3", new DataElement(3, "three"))));
+        assertNull(backend.get("DE-3"));
+        assertEquals(2, backend.getAll(List.of("DE-1", "DE-2", "DE-3")).size());
+    }
+
+    /**
+     * Test that a batch applies its operations when
+     * executed and counts those that succeeded.
+     */
+    @Test
+    public void testBatch() {
+        final InProcessBackend backend = new InProcessBackend();
+        final CacheBatch batch = backend.createBatch();
+
+        batch.setIfAbsent("DE-1", new DataElement(1, "one"), null);
+        batch.setIfAbsent("DE-1", new DataElement(1, "again"), null);
+        batch.setIfAbsent("DE-2", new DataElement(2, "two"), null);
+
+        assertNull(backend.get("DE-1"));
+        assertEquals(2, batch.execute());
+        assertEquals("one", backend.get("DE-1").getValue());
+
+        batch.delete("DE-1");
+        batch.delete("DE-3");
+
+        assertEquals(1, batch.execute());
+        assertNull(backend.get("DE-1"));
+    }
+
+    /**
+     * Test that counters and buckets are scanned and deleted.
+     */
+    @Test
+    public void testCountersAndScan() {
+        final InProcessBackend backend = new InProcessBackend();
+
+        assertEquals(0, backend.getCounter("hits"));
+
+        backend.setCounter("hits", 42);
+        backend.set("DE-1", new DataElement(1, "one"), null);
+
+        assertEquals(42, backend.getCounter("hits"));
+        assertEquals(List.of("DE-1"), backend.scan(key -> key.startsWith("DE-")));
+        assertEquals(2, backend.scan(key -> true).size());
+        assertTrue(backend.delete("hits"));
+        assertFalse(backend.delete("hits"));
+        assertEquals(0, backend.getCounter("hits"));
+
+        backend.shutdown();
+
+        assertTrue(backend.isShutdown());
+        assertNull(backend.get("DE-1"));
+    }
+}
@@ -0,0 +1,176 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)TestMappedTier.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.UUID;
+
+import net.jmp.hitormiss.data.DataElement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The mapped tier test class.
+ */
+public class TestMappedTier {
+    /** The file the tier is mapped from. */
+    private Path path;
+
+    /**
+     * Create the file.
+     *
+     * @throws  java.io.IOException When the file cannot be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        this.path = Files.createTempFile("hit-or-miss-local", ".dat");
+    }
+
+    /**
+     * Delete the file.
+     *
+     * @throws  java.io.IOException When the file cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    /**
+     * Test that an element is read back as written
+     * and that another key in its slot is absent,
+     * whether it is read or only probed.
+     *
+     * @throws  java.io.IOException When the file cannot be mapped
+     */
+    @Test
+    public void testPutAndGet() throws IOException {
+        try (final MappedTier tier = new MappedTier(this.path, 10, 0, 1)) {
+            final DataElement element = new DataElement(3, UUID.randomUUID().toString(), 1234, 0);
+
+            assertNull(tier.get(3));
+            assertFalse(tier.contains(3));
+
+            tier.put(element);
+
+            assertEquals(element, tier.get(3));
+            assertEquals(1234, tier.get(3).getComputeNanos());
+            assertTrue(tier.contains(3));
+            assertNull(tier.get(13));
+            assertFalse(tier.contains(13));
+
+            tier.put(new DataElement(13, UUID.randomUUID().toString()));
+
+            assertNull(tier.get(3));
+            assertFalse(tier.contains(3));
+            assertTrue(tier.contains(13));
+        }
+    }
+
+    /**
+     * Test that the elements survive the tier being
+     * closed and mapped again with the same slots
+     * and epoch.
+     *
+     * @throws  java.io.IOException When the file cannot be mapped
+     */
+    @Test
+    public void testWarmStart() throws IOException {
+        final String value = UUID.randomUUID().toString();
+
+        try (final MappedTier tier = new MappedTier(this.path, 10, 0, 1)) {
+            assertEquals(0, tier.getWarmElements());
+
+            tier.put(new DataElement(7, value));
+        }
+
+        try (final MappedTier tier = new MappedTier(this.path, 10, 0, 1)) {
+            assertEquals(1, tier.getWarmElements());
+            assertEquals(value, tier.get(7).getValue());
+        }
+
+        try (final MappedTier tier = new MappedTier(this.path, 20, 0, 1)) {
+            assertEquals(0, tier.getWarmElements());
+            assertNull(tier.get(7));
+        }
+    }
+
+    /**
+     * Test that a file of another epoch is cleared.
+     *
+     * @throws  java.io.IOException When the file cannot be mapped
+     */
+    @Test
+    public void testNewEpoch() throws IOException {
+        try (final MappedTier tier = new MappedTier(this.path, 10, 0, 1)) {
+            tier.put(new DataElement(7, UUID.randomUUID().toString()));
+        }
+
+        try (final MappedTier tier = new MappedTier(this.path, 10, 0, 2)) {
+            assertEquals(0, tier.getWarmElements());
+            assertNull(tier.get(7));
+        }
+    }
+
+    /**
+     * Test that stale and old elements are ignored.
+     *
+     * @throws  java.io.IOException             When the file cannot be mapped
+     * @throws  java.lang.InterruptedException  When the sleep is interrupted
+     */
+    @Test
+    public void testStaleAndOld() throws IOException, InterruptedException {
+        try (final MappedTier tier = new MappedTier(this.path, 10, 5, 1)) {
+            tier.put(new DataElement(1, UUID.randomUUID().toString(), 0, System.currentTimeMillis() - 1));
+
+            assertNull(tier.get(1));
+            assertFalse(tier.contains(1));
+
+            tier.put(new DataElement(2, UUID.randomUUID().toString()));
+
+            Thread.sleep(10);
+
+            assertNull(tier.get(2));
+            assertFalse(tier.contains(2));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package net.jmp.hitormiss.backend;
+
+/*
+ * (#)TestOffHeapBackend.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.List;
+import java.util.UUID;
+
+import net.jmp.hitormiss.config.KeyLayout;
+
+import net.jmp.hitormiss.data.DataElement;
+
+import net.jmp.hitormiss.util.BucketKeys;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The off-heap backend test class.
+ */
+public class TestOffHeapBackend {
+    /** The bucket keys. */
+    private final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.PLAIN, 1);
+
+    /**
+     * Test that a data element is read back as written.
+     */
+    @Test
+    public void testRoundTrip() {
+        final OffHeapBackend backend = new OffHeapBackend(this.bucketKeys, 100);
+        final DataElement element = new DataElement(7, UUID.randomUUID().toString(), 1234, 5678);
+
+        assertNull(backend.get("DE-7"));
+
+        backend.set("DE-7", element, null);
+
+        final DataElement read = backend.get("DE-7");
+
+        assertEquals(element, read);
+        assertEquals(1234, read.getComputeNanos());
+        assertEquals(5678, read.getExpiresAtMillis());
+
+        backend.shutdown();
+    }
+
+    /**
+     * Test that a bucket is only written when absent.
+     */
+    @Test
+    public void testSetIfAbsent() {
+        final OffHeapBackend backend = new OffHeapBackend(this.bucketKeys, 100);
+        final DataElement first = new DataElement(1, UUID.randomUUID().toString());
+
+        assertTrue(backend.setIfAbsent("DE-1", first, null));
+        assertFalse(backend.setIfAbsent("DE-1", new DataElement(1, UUID.randomUUID().toString()), null));
+        assertEquals(first, backend.get("DE-1"));
+
+        backend.shutdown();
+    }
+
+    /**
+     * Test that an expired bucket is absent and can be written again.
+     */
+    @Test
+    public void testExpiry() throws InterruptedException {
+        final OffHeapBackend backend = new OffHeapBackend(this.bucketKeys, 100);
+        final String second = UUID.randomUUID().toString();
+
+        backend.set("DE-1", new DataElement(1, UUID.randomUUID().toString()), Duration.ofMillis(1));
+
+        Thread.sleep(5);
+
+        assertNull(backend.get("DE-1"));
+        assertTrue(backend.setIfAbsent("DE-1", new DataElement(1, second), null));
+        assertEquals(second, backend.get("DE-1").getValue());
+
+        backend.shutdown();
+    }
+
+    /**
+     * Test that the table holds the buckets it was sized
+     * for and that deleted slots are written again.
+     */
+    @Test
+    public void testManyBuckets() {
+        final int buckets = 10_000;
+        final OffHeapBackend backend = new OffHeapBackend(this.bucketKeys, buckets);
+
+        for (int key = 0; key < buckets; key++)
+            assertTrue(backend.setIfAbsent(this.bucketKeys.key(key), new DataElement(key, new UUID(0, key).toString()), null));
+
+        for (int key = 0; key < buckets; key += 2)
+            assertTrue(backend.delete(this.bucketKeys.key(key)));
+
+        for (int key = 0; key < buckets; key++) {
+            final DataElement element = backend.get(this.bucketKeys.key(key));
+
+            if (key % 2 == 0)
+                assertNull(element);
+            else
+                assertEquals(new UUID(0, key).toString(), element.getValue());
+        }
+
+        for (int key = 0; key < buckets; key += 2)
+            assertTrue(backend.setIfAbsent(this.bucketKeys.key(key), new DataElement(key, new UUID(0, key).toString()), null));
+
+        assertEquals(buckets, backend.scan(this.bucketKeys::isBucketKey).size());
+        assertEquals(64L * backend.getStripeSlots() * OffHeapBackend.SLOT.byteSize(), backend.getOffHeapBytes());
+        assertTrue(backend.getOffHeapBytes() >= buckets * OffHeapBackend.SLOT.byteSize() / 0.75);
+
+        backend.shutdown();
+    }
+
+    /**
+     * Test that every key of the key space the application
+     * draws from fits in a table sized for it, for a range
+     * of initial numbers of buckets including the default.
+     */
+    @Test
+    public void testWholeKeySpace() {
+        for (final int initialNumberOfBuckets : new int[] {1, 10, 100, 1_000, 3_333, 10_000, 100_000}) {
+            final int keySpace = initialNumberOfBuckets * 3 + 1;
+            final OffHeapBackend backend = new OffHeapBackend(this.bucketKeys, keySpace);
+
+            for (int key = 0; key < keySpace; key++)
+                assertTrue(backend.setIfAbsent(this.bucketKeys.key(key), new DataElement(key, new UUID(0, key).toString()), null));
+
+            assertEquals(keySpace, backend.scan(this.bucketKeys::isBucketKey).size());
+
+            backend.shutdown();
+        }
+    }
+
+    /**
+     * Test that a write to a full stripe evicts
+     * a bucket rather than failing, and that the
+     * written bucket can be read back.
+     */
+    @Test
+    public void testFull() {
+        final OffHeapBackend backend = new OffHeapBackend(this.bucketKeys, 1);
+        final int keys = 64 * backend.getStripeSlots() + 1;
+
+        for (int key = 0; key < keys; key++)
+            backend.set(this.bucketKeys.key(key), new DataElement(key, UUID.randomUUID().toString()), null);
+
+        assertTrue(backend.getEvictions() > 0);
+        assertNotNull(backend.get(this.bucketKeys.key(keys - 1)));
+        assertEquals(keys - backend.getEvictions(), backend.scan(key -> true).size());
+    }
+
+    /**
+     * Test that an expired bucket is evicted before
+     * one that has not expired, so that once every
+     * stripe is full every slot holds a live bucket.
+     *
+     * @throws  java.lang.InterruptedException  When the sleep is interrupted
+     */
+    @Test
+    public void testEvictExpired() throws InterruptedException {
+        final OffHeapBackend backend = new OffHeapBackend(this.bucketKeys, 1);
+        final int keys = 64 * backend.getStripeSlots() * 4;
+
+        backend.set(this.bucketKeys.key(0), new DataElement(0, UUID.randomUUID().toString()), Duration.ofMillis(1));
+
+        Thread.sleep(5);
+
+        for (int key = 1; key < keys; key++)
+            backend.set(this.bucketKeys.key(key), new DataElement(key, UUID.randomUUID().toString()), null);
+
+        assertTrue(backend.getEvictions() > 0);
+        assertNull(backend.get(this.bucketKeys.key(0)));
+        assertEquals(64 * backend.getStripeSlots(), backend.scan(key -> true).size());
+    }
+
+    /**
+     * Test that a value that is not a UUID is refused.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotUuid() {
+        new OffHeapBackend(this.bucketKeys, 100).set("DE-1", new DataElement(1, "one"), null);
+    }
+
+    /**
+     * Test that a data element under a key that
+     * is not a bucket key is refused.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotBucketKey() {
+        new OffHeapBackend(this.bucketKeys, 100).set("hits", new DataElement(1, UUID.randomUUID().toString()), null);
+    }
+
+    /**
+     * Test that counters are held beside the buckets.
+     */
+    @Test
+    public void testCountersAndScan() {
+        final OffHeapBackend backend = new OffHeapBackend(this.bucketKeys, 100);
+
+        backend.setCounter("hits", 42);
+        backend.set("DE-1", new DataElement(1, UUID.randomUUID().toString()), null);
+
+        assertEquals(42, backend.getCounter("hits"));
+        assertNull(backend.get("hits"));
+        assertEquals(List.of("DE-1"), backend.scan(this.bucketKeys::isBucketKey));
+        assertEquals(2, backend.scan(key -> true).size());
+        assertTrue(backend.delete("hits"));
+        assertTrue(backend.delete("DE-1"));
+        assertFalse(backend.delete("DE-1"));
+
+        backend.shutdown();
+
+        assertTrue(backend.isShutdown());
+    }
+}
@@ -0,0 +1,303 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)TestAccessScript.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.netty.buffer.Unpooled;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+
+import net.jmp.hitormiss.config.Application;
+import net.jmp.hitormiss.config.Config;
+import net.jmp.hitormiss.config.Expiry;
+import net.jmp.hitormiss.config.KeyLayout;
+
+import net.jmp.hitormiss.util.BucketKeys;
+import net.jmp.hitormiss.util.KeyEncoder;
+
+import org.junit.Test;
+
+import org.redisson.api.RScript;
+
+import org.redisson.client.RedisException;
+
+import org.redisson.client.codec.Codec;
+
+import org.redisson.client.protocol.Encoder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The access script test class.
+ */
+public class TestAccessScript {
+    /** The digest the fake server returns for the script. */
+    private static final String SHA = "0123456789abcdef0123456789abcdef01234567";
+
+    /** The size of the key space. */
+    private static final int KEY_SPACE = 100;
+
+    /**
+     * Test that the script gets the bucket, fills it
+     * on a miss with the time to live when there is one
+     * and increments the hit or miss accumulator.
+     */
+    @Test
+    public void testScript() {
+        assertTrue(AccessScript.SCRIPT.contains("redis.call('GET', KEYS[1])"));
+        assertTrue(AccessScript.SCRIPT.contains("redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])"));
+        assertTrue(AccessScript.SCRIPT.contains("redis.call('SET', KEYS[1], ARGV[1])"));
+        assertTrue(AccessScript.SCRIPT.contains("redis.call('INCR', KEYS[2])"));
+        assertTrue(AccessScript.SCRIPT.contains("redis.call('INCR', KEYS[3])"));
+        assertTrue(AccessScript.SCRIPT.indexOf("INCR', KEYS[2]") < AccessScript.SCRIPT.indexOf("return 1"));
+        assertTrue(AccessScript.SCRIPT.indexOf("INCR', KEYS[3]") < AccessScript.SCRIPT.indexOf("return 0"));
+    }
+
+    /**
+     * Test the keys and arguments the script is
+     * evaluated with and that they are reused.
+     */
+    @Test
+    public void testArguments() {
+        final FakeScript fake = new FakeScript();
+        final AccessScript accessScript = this.createAccessScript(fake, 0);
+
+        assertEquals(SHA, accessScript.load());
+
+        fake.result = 1L;
+
+        assertTrue(accessScript.access(7));
+        assertEquals(List.of("DE-7", "hits", "misses"), fake.keys);
+        assertEquals(2, fake.values.length);
+        assertEquals(36, ((byte[]) fake.values[0]).length);
+        assertArrayEquals("0".getBytes(StandardCharsets.US_ASCII), (byte[]) fake.values[1]);
+
+        final List<Object> keys = fake.keys;
+        final Object[] values = fake.values;
+
+        fake.result = 0L;
+
+        assertFalse(accessScript.access(7));
+        assertSame(keys, fake.keys);
+        assertSame(values, fake.values);
+
+        assertFalse(accessScript.access(8));
+        assertEquals(List.of("DE-8", "hits", "misses"), fake.keys);
+        assertNotEquals(new String((byte[]) values[0], StandardCharsets.UTF_8), new String((byte[]) fake.values[0], StandardCharsets.UTF_8));
+        assertEquals(3, fake.evaluations);
+    }
+
+    /**
+     * Test that the time to live is encoded as
+     * ASCII digits and that the fill value of a
+     * key outlives a change to its time to live.
+     */
+    @Test
+    public void testTimeToLive() {
+        final FakeScript fake = new FakeScript();
+        final AccessScript accessScript = this.createAccessScript(fake, 1500);
+
+        accessScript.load();
+
+        accessScript.access(3);
+
+        assertArrayEquals("1500".getBytes(StandardCharsets.US_ASCII), (byte[]) fake.values[1]);
+
+        final Object[] values = fake.values;
+
+        accessScript.access(3);
+
+        assertSame(values, fake.values);
+
+        accessScript.access(KEY_SPACE + 3);
+
+        assertEquals(List.of("DE-" + (KEY_SPACE + 3), "hits", "misses"), fake.keys);
+        assertArrayEquals("1500".getBytes(StandardCharsets.US_ASCII), (byte[]) fake.values[1]);
+    }
+
+    /**
+     * Test that a script the server no longer
+     * has cached is reloaded and the access retried.
+     */
+    @Test
+    public void testNoScript() {
+        final FakeScript fake = new FakeScript();
+        final AccessScript accessScript = this.createAccessScript(fake, 0);
+
+        accessScript.load();
+
+        fake.result = 1L;
+        fake.error = new RedisException("NOSCRIPT No matching script. Please use EVAL.");
+
+        assertTrue(accessScript.access(5));
+        assertEquals(2, fake.loads);
+        assertEquals(2, fake.evaluations);
+        assertEquals(List.of("DE-5", "hits", "misses"), fake.keys);
+    }
+
+    /**
+     * Test that other server errors are not retried.
+     */
+    @Test
+    public void testOtherError() {
+        final FakeScript fake = new FakeScript();
+        final AccessScript accessScript = this.createAccessScript(fake, 0);
+
+        accessScript.load();
+
+        fake.error = new RedisException("ERR Error running script");
+
+        try {
+            accessScript.access(5);
+            fail("Expected a RedisException");
+        } catch (final RedisException re) {
+            assertEquals("ERR Error running script", re.getMessage());
+        }
+
+        assertEquals(1, fake.loads);
+        assertEquals(1, fake.evaluations);
+    }
+
+    /**
+     * Create an access script over a fake script
+     * service with a time to live without jitter.
+     *
+     * @param   fake                net.jmp.hitormiss.data.TestAccessScript.FakeScript
+     * @param   timeToLiveMillis    long
+     * @return                      net.jmp.hitormiss.data.AccessScript
+     */
+    private AccessScript createAccessScript(final FakeScript fake, final long timeToLiveMillis) {
+        final Application application = new Application();
+
+        application.setAccumulatorBucketNameForHits("hits");
+        application.setAccumulatorBucketNameForMisses("misses");
+        application.setBucketKeyPrefix("DE-");
+
+        final Expiry expiry = new Expiry();
+
+        expiry.setTtlMillis(timeToLiveMillis);
+
+        final Config config = new Config();
+
+        config.setApplication(application);
+        config.setExpiry(expiry);
+
+        final RScript script = (RScript) Proxy.newProxyInstance(RScript.class.getClassLoader(), new Class<?>[] {RScript.class}, fake);
+        final Encoder encoder = in -> Unpooled.copiedBuffer(((DataElement) in).getValue(), StandardCharsets.UTF_8);
+        final Codec codec = (Codec) Proxy.newProxyInstance(Codec.class.getClassLoader(), new Class<?>[] {Codec.class}, (proxy, method, args) -> {
+            if (method.getName().equals("getValueEncoder"))
+                return encoder;
+
+            throw new UnsupportedOperationException(method.getName());
+        });
+
+        return new AccessScript(config, script, script, codec, new KeyEncoder(new BucketKeys("DE-", KeyLayout.PLAIN, 1), KEY_SPACE));
+    }
+
+    /**
+     * A script service that records what the script
+     * is evaluated with and returns a set result or
+     * throws a set error once.
+     */
+    private static final class FakeScript implements InvocationHandler {
+        /** The number of times the script was loaded. */
+        private int loads;
+
+        /** The number of times the script was evaluated. */
+        private int evaluations;
+
+        /** The keys of the last evaluation. */
+        private List<Object> keys;
+
+        /** The arguments of the last evaluation. */
+        private Object[] values;
+
+        /** The result of an evaluation. */
+        private Long result = 0L;
+
+        /** The error the next evaluation throws or null. */
+        private RedisException error;
+
+        /**
+         * Handle a call to the script service.
+         *
+         * @param   proxy       java.lang.Object
+         * @param   method      java.lang.reflect.Method
+         * @param   args        java.lang.Object[]
+         * @return              java.lang.Object
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            switch (method.getName()) {
+                case "scriptLoad" -> {
+                    this.loads++;
+
+                    assertEquals(AccessScript.SCRIPT, args[0]);
+
+                    return SHA;
+                }
+                case "evalSha" -> {
+                    this.evaluations++;
+
+                    assertEquals(RScript.Mode.READ_WRITE, args[0]);
+                    assertEquals(SHA, args[1]);
+                    assertEquals(RScript.ReturnType.INTEGER, args[2]);
+
+                    this.keys = (List<Object>) args[3];
+                    this.values = (Object[]) args[4];
+
+                    if (this.error != null) {
+                        final RedisException thrown = this.error;
+
+                        this.error = null;
+
+                        throw thrown;
+                    }
+
+                    return this.result;
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            }
+        }
+    }
+}
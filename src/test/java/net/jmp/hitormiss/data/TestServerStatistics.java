@@ -0,0 +1,104 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)TestServerStatistics.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The server statistics test class.
+ */
+public class TestServerStatistics {
+    /**
+     * Test that the keyspace counters are read from INFO fields.
+     */
+    @Test
+    public void testFromInfo() {
+        final ServerStatistics statistics = ServerStatistics.fromInfo(Map.of(
+                "keyspace_hits", "120",
+                "keyspace_misses", "30",
+                "evicted_keys", "2",
+                "expired_keys", "7",
+                "total_commands_processed", "999"
+        ));
+
+        assertEquals(120, statistics.getKeyspaceHits());
+        assertEquals(30, statistics.getKeyspaceMisses());
+        assertEquals(2, statistics.getEvictedKeys());
+        assertEquals(7, statistics.getExpiredKeys());
+        assertEquals(0.8, statistics.getHitRatio(), 1e-9);
+    }
+
+    /**
+     * Test that missing INFO fields count as zero.
+     */
+    @Test
+    public void testMissingFields() {
+        final ServerStatistics statistics = ServerStatistics.fromInfo(Map.of("keyspace_hits", "5"));
+
+        assertEquals(5, statistics.getKeyspaceHits());
+        assertEquals(0, statistics.getKeyspaceMisses());
+        assertEquals(0, statistics.getEvictedKeys());
+        assertEquals(0, statistics.getExpiredKeys());
+    }
+
+    /**
+     * Test the difference and sum of samples.
+     */
+    @Test
+    public void testMinusAndPlus() {
+        final ServerStatistics start = new ServerStatistics(100, 50, 1, 2);
+        final ServerStatistics end = new ServerStatistics(160, 70, 4, 2);
+        final ServerStatistics delta = end.minus(start);
+
+        assertEquals(60, delta.getKeyspaceHits());
+        assertEquals(20, delta.getKeyspaceMisses());
+        assertEquals(3, delta.getEvictedKeys());
+        assertEquals(0, delta.getExpiredKeys());
+        assertEquals(0.75, delta.getHitRatio(), 1e-9);
+
+        final ServerStatistics sum = start.plus(delta);
+
+        assertEquals(160, sum.getKeyspaceHits());
+        assertEquals(70, sum.getKeyspaceMisses());
+    }
+
+    /**
+     * Test that no lookups give a zero hit ratio.
+     */
+    @Test
+    public void testNoLookups() {
+        assertEquals(0.0, new ServerStatistics(0, 0, 0, 0).getHitRatio(), 0.0);
+    }
+}
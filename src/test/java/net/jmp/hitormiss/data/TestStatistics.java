@@ -0,0 +1,107 @@
+package net.jmp.hitormiss.data;
+
+/*
+ * (#)TestStatistics.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The statistics test class.
+ */
+public class TestStatistics {
+    /**
+     * Test that each key of a multi-get is an outcome,
+     * that the operation is one sample and that its
+     * service time is amortized over the keys.
+     */
+    @Test
+    public void testMultiGet() {
+        final Statistics statistics = new Statistics(0);
+
+        statistics.record(new RequestQueueElement(RequestType.HIT, 4_000_000, 4_000_000, 0, -1, 4));
+        statistics.record(new RequestQueueElement(RequestType.HIT, 0));
+        statistics.record(new RequestQueueElement(RequestType.MISS, 0));
+        statistics.record(new RequestQueueElement(RequestType.EXPIRY_MISS, 0));
+
+        assertEquals(1, statistics.getOperations());
+        assertEquals(4, statistics.getOutcomes());
+        assertEquals(0.5, statistics.getHitRatio(), 0.0);
+        assertEquals(1, statistics.getServiceTimes().getTotalCount());
+        assertEquals(1, statistics.getResponseTimes().getTotalCount());
+        assertEquals(1, statistics.getAmortizedTimes().getTotalCount());
+        assertEquals(1_000_000, statistics.getAmortizedTimes().getMax(), 1_000_000 / 100.0);
+        assertEquals(4_000_000, statistics.getServiceTimes().getMax(), 4_000_000 / 100.0);
+    }
+
+    /**
+     * Test that the keys of a multi-get that carry no
+     * timings are not back-filled for coordinated omission.
+     */
+    @Test
+    public void testMultiGetCoordinatedOmission() {
+        final Statistics statistics = new Statistics(1_000_000);
+
+        statistics.record(new RequestQueueElement(RequestType.HIT, 3_500_000, 3_500_000, 0, -1, 3));
+        statistics.record(new RequestQueueElement(RequestType.HIT, 0));
+        statistics.record(new RequestQueueElement(RequestType.HIT, 0));
+
+        assertEquals(1, statistics.getServiceTimes().getTotalCount());
+        assertEquals(3, statistics.getResponseTimes().getTotalCount());
+    }
+
+    /**
+     * Test that single-key requests are not amortized.
+     */
+    @Test
+    public void testSingleKey() {
+        final Statistics statistics = new Statistics(0);
+
+        statistics.record(new RequestQueueElement(RequestType.HIT, 1_000_000, 1_000_000));
+
+        assertEquals(1, statistics.getOperations());
+        assertEquals(0, statistics.getAmortizedTimes().getTotalCount());
+    }
+
+    /**
+     * Test that a reset clears the amortized times.
+     */
+    @Test
+    public void testReset() {
+        final Statistics statistics = new Statistics(0);
+
+        statistics.record(new RequestQueueElement(RequestType.HIT, 2_000_000, 2_000_000, 0, -1, 2));
+        statistics.reset();
+
+        assertEquals(0, statistics.getOperations());
+        assertEquals(0, statistics.getAmortizedTimes().getTotalCount());
+    }
+}
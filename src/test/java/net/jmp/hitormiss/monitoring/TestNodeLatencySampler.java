@@ -0,0 +1,132 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)TestNodeLatencySampler.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Proxy;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.hitormiss.util.LatencySummary;
+
+import org.junit.Test;
+
+import org.redisson.api.redisnode.RedisNode;
+
+import org.redisson.client.RedisException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The node latency sampler test class.
+ */
+public class TestNodeLatencySampler {
+    /**
+     * Test that only the round trips of the nodes that
+     * answer a ping are recorded and that the summaries
+     * are keyed by node in the order they were listed.
+     *
+     * @throws  java.lang.InterruptedException  When the wait is interrupted
+     */
+    @Test
+    public void testRoundTrips() throws InterruptedException {
+        final CountDownLatch pinged = new CountDownLatch(1);
+        final Map<String, RedisNode> nodes = new LinkedHashMap<>();
+
+        nodes.put("master 127.0.0.1:6379", this.createNode(() -> true));
+        nodes.put("replica 127.0.0.1:6380", this.createNode(() -> {
+            throw new RedisException("Connection refused");
+        }));
+        nodes.put("replica 127.0.0.1:6381", this.createNode(() -> {
+            pinged.countDown();
+
+            return false;
+        }));
+
+        // The first ping is immediate and the next is a minute away
+
+        final NodeLatencySampler sampler = new NodeLatencySampler(60_000, () -> nodes);
+
+        sampler.start();
+
+        assertTrue(pinged.await(10, TimeUnit.SECONDS));
+
+        sampler.stop();
+
+        final Map<String, LatencySummary> summaries = sampler.getSummaries();
+
+        assertEquals(List.copyOf(nodes.keySet()), List.copyOf(summaries.keySet()));
+        assertEquals(1, summaries.get("master 127.0.0.1:6379").getCount());
+        assertEquals(0, summaries.get("replica 127.0.0.1:6380").getCount());
+        assertEquals(0, summaries.get("replica 127.0.0.1:6381").getCount());
+    }
+
+    /**
+     * Test that the interval must be positive.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInterval() {
+        new NodeLatencySampler(0, Map::of);
+    }
+
+    /**
+     * Create a node whose pings are answered by a ping.
+     *
+     * @param   ping    net.jmp.hitormiss.monitoring.TestNodeLatencySampler.Ping
+     * @return          org.redisson.api.redisnode.RedisNode
+     */
+    private RedisNode createNode(final Ping ping) {
+        return (RedisNode) Proxy.newProxyInstance(RedisNode.class.getClassLoader(), new Class<?>[] {RedisNode.class}, (proxy, method, args) -> {
+            if (!method.getName().equals("ping"))
+                throw new UnsupportedOperationException(method.getName());
+
+            return ping.ping();
+        });
+    }
+
+    /**
+     * Answers a ping.
+     */
+    @FunctionalInterface
+    private interface Ping {
+        /**
+         * Return true if the ping was answered.
+         *
+         * @return  boolean
+         */
+        boolean ping();
+    }
+}
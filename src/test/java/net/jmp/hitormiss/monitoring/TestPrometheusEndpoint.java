@@ -0,0 +1,97 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)TestPrometheusEndpoint.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import net.jmp.hitormiss.config.Config;
+import net.jmp.hitormiss.config.Load;
+import net.jmp.hitormiss.config.Monitoring;
+
+import net.jmp.hitormiss.data.RequestQueueElement;
+import net.jmp.hitormiss.data.RequestType;
+
+import net.jmp.hitormiss.threads.StatisticsThread;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Prometheus endpoint test class.
+ */
+public class TestPrometheusEndpoint {
+    /** The statistics thread. */
+    private StatisticsThread statisticsThread;
+
+    /** The endpoint. */
+    private PrometheusEndpoint endpoint;
+
+    /**
+     * Method to run before each test.
+     */
+    @Before
+    public void init() {
+        final Config config = new Config();
+
+        config.setLoad(new Load());
+        config.setMonitoring(new Monitoring());
+
+        this.statisticsThread = new StatisticsThread(config);
+        this.endpoint = new PrometheusEndpoint(config.getMonitoring(), this.statisticsThread);
+    }
+
+    /**
+     * Test the outcome counters.
+     */
+    @Test
+    public void testOutcomeCounters() {
+        this.statisticsThread.getStatistics().record(new RequestQueueElement(RequestType.HIT, 1_000, 1_000));
+        this.statisticsThread.getStatistics().record(new RequestQueueElement(RequestType.HIT, 1_000, 1_000));
+        this.statisticsThread.getStatistics().record(new RequestQueueElement(RequestType.MISS, 3_000, 3_000));
+
+        final String text = this.endpoint.scrape();
+
+        assertTrue(text.contains("# TYPE hitormiss_requests_total counter\n"));
+        assertTrue(text.contains("hitormiss_requests_total{phase=\"measurement\",outcome=\"hit\"} 2\n"));
+        assertTrue(text.contains("hitormiss_requests_total{phase=\"measurement\",outcome=\"miss\"} 1\n"));
+        assertTrue(text.contains("hitormiss_requests_total{phase=\"measurement\",outcome=\"error\"} 0\n"));
+        assertTrue(text.contains("hitormiss_service_time_seconds_count{phase=\"measurement\"} 3\n"));
+    }
+
+    /**
+     * Test that control request types are not exported.
+     */
+    @Test
+    public void testNoControlTypes() {
+        assertFalse(this.endpoint.scrape().contains("outcome=\"shutdown\""));
+    }
+}
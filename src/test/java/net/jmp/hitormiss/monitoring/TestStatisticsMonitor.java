@@ -0,0 +1,83 @@
+package net.jmp.hitormiss.monitoring;
+
+/*
+ * (#)TestStatisticsMonitor.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertEquals;
+
+import net.jmp.hitormiss.config.Config;
+import net.jmp.hitormiss.config.Load;
+
+import net.jmp.hitormiss.threads.StatisticsThread;
+
+import net.jmp.hitormiss.util.RateSchedule;
+
+import org.junit.Test;
+
+/**
+ * The statistics monitor test class.
+ */
+public class TestStatisticsMonitor {
+    /**
+     * Return a statistics thread.
+     *
+     * @return  net.jmp.hitormiss.threads.StatisticsThread
+     */
+    private StatisticsThread newStatisticsThread() {
+        final Config config = new Config();
+
+        config.setLoad(new Load());
+
+        return new StatisticsThread(config);
+    }
+
+    /**
+     * Test changing the target rate.
+     */
+    @Test
+    public void testChangeTargetRate() {
+        final RateSchedule schedule = new RateSchedule(100);
+        final StatisticsMonitor monitor = new StatisticsMonitor(this.newStatisticsThread(), schedule);
+
+        assertEquals(100.0, monitor.getTargetRate(), 0.001);
+
+        monitor.changeTargetRate(250);
+
+        assertEquals(250.0, monitor.getTargetRate(), 0.001);
+    }
+
+    /**
+     * Test changing the target rate of a closed loop.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testChangeTargetRateOfClosedLoop() {
+        new StatisticsMonitor(this.newStatisticsThread(), null).changeTargetRate(250);
+    }
+}
@@ -0,0 +1,91 @@
+package net.jmp.hitormiss.recorder;
+
+/*
+ * (#)TestCountingRecorder.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The counting recorder test class.
+ */
+public class TestCountingRecorder {
+    /**
+     * Test that hits, misses and their times are counted.
+     */
+    @Test
+    public void testCounts() {
+        final CountingRecorder<String> recorder = new CountingRecorder<>();
+
+        assertEquals(0.0, recorder.getHitRatio(), 0.0);
+
+        recorder.recordHit("a");
+        recorder.recordHit("b", 100);
+        recorder.recordHit("c", 200);
+        recorder.recordMiss("d", 1000);
+
+        assertEquals(3, recorder.getHits());
+        assertEquals(1, recorder.getMisses());
+        assertEquals(300, recorder.getHitNanos());
+        assertEquals(1000, recorder.getMissNanos());
+        assertEquals(0.75, recorder.getHitRatio(), 0.0);
+    }
+
+    /**
+     * Test that concurrent records are all counted.
+     *
+     * @throws  java.lang.InterruptedException  When a thread is interrupted
+     */
+    @Test
+    public void testConcurrentCounts() throws InterruptedException {
+        final CountingRecorder<Integer> recorder = new CountingRecorder<>();
+        final Thread[] threads = new Thread[4];
+
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    if (i % 4 == 0)
+                        recorder.recordMiss(i);
+                    else
+                        recorder.recordHit(i);
+                }
+            });
+
+            threads[t].start();
+        }
+
+        for (final Thread thread : threads)
+            thread.join();
+
+        assertEquals(30_000, recorder.getHits());
+        assertEquals(10_000, recorder.getMisses());
+    }
+}
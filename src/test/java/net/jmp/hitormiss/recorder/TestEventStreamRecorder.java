@@ -0,0 +1,128 @@
+package net.jmp.hitormiss.recorder;
+
+/*
+ * (#)TestEventStreamRecorder.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The event stream recorder test class.
+ */
+public class TestEventStreamRecorder {
+    /**
+     * Test that the events are delivered in order
+     * and that closing delivers the queued ones.
+     */
+    @Test
+    public void testDelivery() {
+        final List<HitMissEvent<String>> received = new CopyOnWriteArrayList<>();
+
+        try (final EventStreamRecorder<String> recorder = new EventStreamRecorder<>(received::add, 1_000)) {
+            recorder.recordHit("a");
+            recorder.recordMiss("b", 250);
+            recorder.recordHit("c", 100);
+        }
+
+        assertEquals(3, received.size());
+        assertEquals("a", received.get(0).getKey());
+        assertTrue(received.get(0).isHit());
+        assertEquals(-1, received.get(0).getNanos());
+        assertEquals("b", received.get(1).getKey());
+        assertFalse(received.get(1).isHit());
+        assertEquals(250, received.get(1).getNanos());
+        assertEquals("c", received.get(2).getKey());
+    }
+
+    /**
+     * Test that events are dropped rather than
+     * waited for when the queue is full, and
+     * that every record is still counted.
+     *
+     * @throws  java.lang.InterruptedException  When the wait is interrupted
+     */
+    @Test
+    public void testDropWhenFull() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+
+        final EventStreamRecorder<Integer> recorder = new EventStreamRecorder<>(event -> {
+            blocked.countDown();
+
+            try {
+                release.await();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }, 10);
+
+        recorder.recordHit(0);
+        blocked.await();
+
+        for (int i = 1; i <= 20; i++)
+            recorder.recordMiss(i);
+
+        release.countDown();
+        recorder.close();
+
+        assertEquals(1, recorder.getHits());
+        assertEquals(20, recorder.getMisses());
+        assertEquals(10, recorder.getDropped());
+        assertEquals(11, recorder.getDelivered());
+    }
+
+    /**
+     * Test that a failing listener loses only its event.
+     */
+    @Test
+    public void testFailingListener() {
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+
+        try (final EventStreamRecorder<Integer> recorder = new EventStreamRecorder<>(event -> {
+            if (event.getKey() == 2)
+                throw new IllegalStateException("Boom");
+
+            received.add(event.getKey());
+        }, 100)) {
+            for (int i = 1; i <= 3; i++)
+                recorder.recordHit(i);
+        }
+
+        assertEquals(List.of(1, 3), received);
+    }
+}
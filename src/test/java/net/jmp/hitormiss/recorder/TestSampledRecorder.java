@@ -0,0 +1,85 @@
+package net.jmp.hitormiss.recorder;
+
+/*
+ * (#)TestSampledRecorder.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The sampled recorder test class.
+ */
+public class TestSampledRecorder {
+    /**
+     * Test that every record is counted and every
+     * time kept when every record is sampled.
+     */
+    @Test
+    public void testEverySampled() {
+        final SampledRecorder<String> recorder = new SampledRecorder<>(1);
+
+        for (int i = 1; i <= 100; i++)
+            recorder.recordHit("k", i * 1_000L);
+
+        recorder.recordMiss("k", 5_000_000);
+
+        assertEquals(100, recorder.getHits());
+        assertEquals(1, recorder.getMisses());
+        assertEquals(100, recorder.getHitTimes().getCount());
+        assertEquals(1, recorder.getMissTimes().getCount());
+    }
+
+    /**
+     * Test that about one in the sample rate of the
+     * timed records is kept while all are counted.
+     */
+    @Test
+    public void testSampling() {
+        final SampledRecorder<String> recorder = new SampledRecorder<>(10);
+
+        for (int i = 0; i < 100_000; i++)
+            recorder.recordHit("k", 1_000);
+
+        final long sampled = recorder.getHitTimes().getCount();
+
+        assertEquals(100_000, recorder.getHits());
+        assertTrue("Sampled " + sampled, sampled > 9_000 && sampled < 11_000);
+    }
+
+    /**
+     * Test that a sample rate below one is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadSampleRate() {
+        new SampledRecorder<String>(0);
+    }
+}
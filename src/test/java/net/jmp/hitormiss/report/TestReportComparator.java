@@ -0,0 +1,141 @@
+package net.jmp.hitormiss.report;
+
+/*
+ * (#)TestReportComparator.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The report comparator test class.
+ */
+public class TestReportComparator {
+    /** The comparator. */
+    private ReportComparator comparator;
+
+    /** The baseline report. */
+    private RunReport baseline;
+
+    /**
+     * Method to run before each test.
+     */
+    @Before
+    public void init() {
+        this.comparator = new ReportComparator(5.0, 10.0);
+        this.baseline = this.createReport(1_000.0, 2.0);
+    }
+
+    /**
+     * Test that an unchanged run does not regress.
+     */
+    @Test
+    public void testUnchanged() {
+        assertTrue(this.comparator.compare(this.baseline, this.createReport(1_000.0, 2.0)).isEmpty());
+    }
+
+    /**
+     * Test that changes within the tolerances do not regress.
+     */
+    @Test
+    public void testWithinTolerance() {
+        assertTrue(this.comparator.compare(this.baseline, this.createReport(960.0, 2.15)).isEmpty());
+    }
+
+    /**
+     * Test that improvements do not regress.
+     */
+    @Test
+    public void testImprovement() {
+        assertTrue(this.comparator.compare(this.baseline, this.createReport(2_000.0, 1.0)).isEmpty());
+    }
+
+    /**
+     * Test that a throughput drop regresses.
+     */
+    @Test
+    public void testThroughputRegression() {
+        final List<String> regressions = this.comparator.compare(this.baseline, this.createReport(900.0, 2.0));
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith("Throughput"));
+    }
+
+    /**
+     * Test that a p99 increase regresses.
+     */
+    @Test
+    public void testP99Regression() {
+        final List<String> regressions = this.comparator.compare(this.baseline, this.createReport(1_000.0, 2.5));
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith("p99"));
+    }
+
+    /**
+     * Test that an empty baseline never regresses.
+     */
+    @Test
+    public void testEmptyBaseline() {
+        assertTrue(this.comparator.compare(this.createReport(0.0, 0.0), this.createReport(1_000.0, 2.0)).isEmpty());
+    }
+
+    /**
+     * Test that negative tolerances are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTolerance() {
+        new ReportComparator(-1.0, 10.0);
+    }
+
+    /**
+     * Create a report.
+     *
+     * @param   operationsPerSecond double
+     * @param   p99Millis           double
+     * @return                      net.jmp.hitormiss.report.RunReport
+     */
+    private RunReport createReport(final double operationsPerSecond, final double p99Millis) {
+        final LatencyReport responseTime = new LatencyReport();
+
+        responseTime.setP99Millis(p99Millis);
+
+        final RunReport report = new RunReport();
+
+        report.setOperationsPerSecond(operationsPerSecond);
+        report.setResponseTime(responseTime);
+
+        return report;
+    }
+}
@@ -0,0 +1,206 @@
+package net.jmp.hitormiss.store;
+
+/*
+ * (#)TestSimulatedBackingStore.java    0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.hitormiss.config.BackingStoreConfig;
+import net.jmp.hitormiss.config.BackingStoreType;
+import net.jmp.hitormiss.config.LatencyDistribution;
+
+import net.jmp.hitormiss.data.DataElement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The simulated backing store test class.
+ */
+public class TestSimulatedBackingStore {
+    /** The number of samples drawn to test a mean. */
+    private static final int SAMPLES = 200_000;
+
+    /** The configuration. */
+    private BackingStoreConfig config;
+
+    /**
+     * Method to run before each test.
+     */
+    @Before
+    public void init() {
+        this.config = new BackingStoreConfig();
+
+        this.config.setType(BackingStoreType.SIMULATED);
+        this.config.setMeanLatencyMillis(2.0);
+    }
+
+    /**
+     * Test a fixed latency.
+     */
+    @Test
+    public void testFixed() {
+        final SimulatedBackingStore store = new SimulatedBackingStore(this.config);
+
+        assertEquals(2_000_000L, store.sampleLatencyNanos());
+    }
+
+    /**
+     * Test that uniform latencies stay within their bounds.
+     */
+    @Test
+    public void testUniformBounds() {
+        this.config.setDistribution(LatencyDistribution.UNIFORM);
+        this.config.setMinLatencyMillis(1.0);
+
+        final SimulatedBackingStore store = new SimulatedBackingStore(this.config);
+
+        for (int i = 0; i < 10_000; i++) {
+            final long latency = store.sampleLatencyNanos();
+
+            assertTrue(latency >= 1_000_000L && latency <= 3_000_000L);
+        }
+    }
+
+    /**
+     * Test that exponential latencies have the configured mean.
+     */
+    @Test
+    public void testExponentialMean() {
+        this.config.setDistribution(LatencyDistribution.EXPONENTIAL);
+
+        assertEquals(2_000_000.0, this.mean(new SimulatedBackingStore(this.config)), 60_000.0);
+    }
+
+    /**
+     * Test that log-normal latencies have the configured mean.
+     */
+    @Test
+    public void testLogNormalMean() {
+        this.config.setDistribution(LatencyDistribution.LOG_NORMAL);
+        this.config.setLogNormalSigma(0.5);
+
+        assertEquals(2_000_000.0, this.mean(new SimulatedBackingStore(this.config)), 60_000.0);
+    }
+
+    /**
+     * Test that the largest latency caps the latencies.
+     */
+    @Test
+    public void testMaxLatency() {
+        this.config.setDistribution(LatencyDistribution.EXPONENTIAL);
+        this.config.setMaxLatencyMillis(3.0);
+
+        final SimulatedBackingStore store = new SimulatedBackingStore(this.config);
+
+        for (int i = 0; i < 10_000; i++)
+            assertTrue(store.sampleLatencyNanos() <= 3_000_000L);
+    }
+
+    /**
+     * Test that a load returns the element of the key.
+     */
+    @Test
+    public void testLoad() {
+        this.config.setMeanLatencyMillis(0.0);
+
+        final DataElement dataElement = new SimulatedBackingStore(this.config).load(42);
+
+        assertEquals(42, dataElement.getKeyAsInt());
+        assertNotNull(dataElement.getValue());
+    }
+
+    /**
+     * Test that every load fails at a failure rate of one.
+     */
+    @Test(expected = BackingStoreException.class)
+    public void testFailure() {
+        this.config.setMeanLatencyMillis(0.0);
+        this.config.setFailureRate(1.0);
+
+        new SimulatedBackingStore(this.config).load(42);
+    }
+
+    /**
+     * Test that an invalid failure rate is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFailureRate() {
+        this.config.setFailureRate(1.5);
+
+        new SimulatedBackingStore(this.config);
+    }
+
+    /**
+     * Test that the concurrency limit serializes loads.
+     *
+     * @throws  java.lang.InterruptedException  When interrupted
+     */
+    @Test
+    public void testConcurrencyLimit() throws InterruptedException {
+        this.config.setMeanLatencyMillis(20.0);
+        this.config.setMaxConcurrency(1);
+
+        final SimulatedBackingStore store = new SimulatedBackingStore(this.config);
+        final Thread[] threads = new Thread[4];
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < threads.length; i++) {
+            final int key = i + 1;
+
+            threads[i] = new Thread(() -> store.load(key));
+            threads[i].start();
+        }
+
+        for (final Thread thread : threads)
+            thread.join();
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(80));
+    }
+
+    /**
+     * Return the mean of many latency samples.
+     *
+     * @param   store   net.jmp.hitormiss.store.SimulatedBackingStore
+     * @return          double
+     */
+    private double mean(final SimulatedBackingStore store) {
+        double sum = 0.0;
+
+        for (int i = 0; i < SAMPLES; i++)
+            sum += store.sampleLatencyNanos();
+
+        return sum / SAMPLES;
+    }
+}
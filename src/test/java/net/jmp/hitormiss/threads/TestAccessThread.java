@@ -0,0 +1,95 @@
+package net.jmp.hitormiss.threads;
+
+/*
+ * (#)TestAccessThread.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Proxy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The access thread test class.
+ */
+public class TestAccessThread {
+    /**
+     * Test that a bucket is checked on its master with
+     * a write script and that only a positive count is
+     * reported as existing.
+     */
+    @Test
+    public void testExistsOnMaster() {
+        final List<Object[]> evaluations = new ArrayList<>();
+        final Long[] result = {1L};
+
+        final RScript script = (RScript) Proxy.newProxyInstance(RScript.class.getClassLoader(), new Class<?>[] {RScript.class}, (proxy, method, args) -> {
+            if (!method.getName().equals("eval"))
+                throw new UnsupportedOperationException(method.getName());
+
+            evaluations.add(args);
+
+            return result[0];
+        });
+
+        final RedissonClient client = (RedissonClient) Proxy.newProxyInstance(RedissonClient.class.getClassLoader(), new Class<?>[] {RedissonClient.class}, (proxy, method, args) -> {
+            if (!method.getName().equals("getScript"))
+                throw new UnsupportedOperationException(method.getName());
+
+            return script;
+        });
+
+        assertTrue(AccessThread.existsOnMaster(client, "DE-7"));
+
+        final Object[] args = evaluations.getFirst();
+
+        assertEquals(RScript.Mode.READ_WRITE, args[0]);
+        assertEquals("return redis.call('exists', KEYS[1])", args[1]);
+        assertEquals(RScript.ReturnType.INTEGER, args[2]);
+        assertEquals(List.of("DE-7"), args[3]);
+
+        result[0] = 0L;
+
+        assertFalse(AccessThread.existsOnMaster(client, "DE-8"));
+
+        result[0] = null;
+
+        assertFalse(AccessThread.existsOnMaster(client, "DE-9"));
+        assertEquals(3, evaluations.size());
+    }
+}
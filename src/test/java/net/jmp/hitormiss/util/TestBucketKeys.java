@@ -0,0 +1,113 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestBucketKeys.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.hitormiss.config.KeyLayout;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The bucket keys test class.
+ */
+public class TestBucketKeys {
+    /**
+     * Test the plain layout.
+     */
+    @Test
+    public void testPlain() {
+        final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.PLAIN, 100);
+
+        assertEquals("DE-312", bucketKeys.key(312));
+        assertTrue(bucketKeys.isBucketKey("DE-312"));
+        assertFalse(bucketKeys.isBucketKey("DE-{3}-312"));
+        assertFalse(bucketKeys.isBucketKey("hit-or-miss-hits"));
+    }
+
+    /**
+     * Test the hash tag layout.
+     */
+    @Test
+    public void testHashTag() {
+        final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.HASH_TAG, 100);
+
+        assertEquals("DE-{3}-312", bucketKeys.key(312));
+        assertEquals(3, bucketKeys.group(312));
+        assertTrue(bucketKeys.isBucketKey("DE-{3}-312"));
+        assertFalse(bucketKeys.isBucketKey("DE-312"));
+    }
+
+    /**
+     * Test that the keys of a group share a slot.
+     */
+    @Test
+    public void testGroupSlot() {
+        final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.HASH_TAG, 100);
+
+        for (int i = 300; i < 400; i++)
+            assertEquals(bucketKeys.slot(300), bucketKeys.slot(i));
+
+        assertEquals(ClusterSlot.of("3"), bucketKeys.slot(300));
+    }
+
+    /**
+     * Test that an empty group is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyGroup() {
+        new BucketKeys("DE-", KeyLayout.HASH_TAG, 0);
+    }
+
+    /**
+     * Test that a bucket key is parsed back to its key.
+     */
+    @Test
+    public void testKeyAsInt() {
+        final BucketKeys plain = new BucketKeys("DE-", KeyLayout.PLAIN, 1);
+        final BucketKeys tagged = new BucketKeys("DE-", KeyLayout.HASH_TAG, 16);
+
+        assertEquals(312, plain.keyAsInt(plain.key(312)));
+        assertEquals(312, tagged.keyAsInt(tagged.key(312)));
+        assertEquals(-1, plain.keyAsInt("hits"));
+        assertEquals(-1, plain.keyAsInt("DE-99999999999"));
+        assertEquals(Integer.MAX_VALUE, plain.keyAsInt("DE-" + Integer.MAX_VALUE));
+        assertEquals(-1, plain.keyAsInt("DE-"));
+        assertEquals(-1, plain.keyAsInt("DE-12a"));
+        assertEquals(-1, plain.keyAsInt("DE--12"));
+        assertEquals(-1, tagged.keyAsInt("DE-312"));
+        assertEquals(-1, tagged.keyAsInt("DE-{}-312"));
+        assertEquals(-1, tagged.keyAsInt("DE-{19}312"));
+        assertEquals(-1, tagged.keyAsInt("DE-{19}-"));
+    }
+}
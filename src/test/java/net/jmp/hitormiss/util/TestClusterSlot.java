@@ -0,0 +1,100 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestClusterSlot.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The cluster slot test class.
+ */
+public class TestClusterSlot {
+    /**
+     * Test the CRC16 check value.
+     */
+    @Test
+    public void testCrc16() {
+        final byte[] bytes = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(0x31C3, ClusterSlot.crc16(bytes, 0, bytes.length));
+    }
+
+    /**
+     * Test the slot of a plain key.
+     */
+    @Test
+    public void testPlainKey() {
+        assertEquals(12182, ClusterSlot.of("foo"));
+    }
+
+    /**
+     * Test that keys with the same hash tag share a slot.
+     */
+    @Test
+    public void testHashTag() {
+        assertEquals(ClusterSlot.of("{user1000}.following"), ClusterSlot.of("{user1000}.followers"));
+        assertEquals(ClusterSlot.of("user1000"), ClusterSlot.of("{user1000}.following"));
+    }
+
+    /**
+     * Test that an empty hash tag hashes the whole key.
+     */
+    @Test
+    public void testEmptyHashTag() {
+        final byte[] bytes = "foo{}{bar}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(ClusterSlot.crc16(bytes, 0, bytes.length) & (ClusterSlot.SLOT_COUNT - 1), ClusterSlot.of("foo{}{bar}"));
+    }
+
+    /**
+     * Test that the hash tag ends at the first closing brace.
+     */
+    @Test
+    public void testNestedHashTag() {
+        assertEquals(ClusterSlot.of("{bar"), ClusterSlot.of("foo{{bar}}zap"));
+    }
+
+    /**
+     * Test that every slot is in range.
+     */
+    @Test
+    public void testRange() {
+        for (int i = 0; i < 10_000; i++) {
+            final int slot = ClusterSlot.of("DE-" + i);
+
+            assertTrue(slot >= 0 && slot < ClusterSlot.SLOT_COUNT);
+        }
+    }
+}
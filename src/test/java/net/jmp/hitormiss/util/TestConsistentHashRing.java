@@ -0,0 +1,177 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestConsistentHashRing.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The consistent hash ring test class.
+ */
+public class TestConsistentHashRing {
+    /** The keys under test. */
+    private final List<String> keys = IntStream.rangeClosed(1, 10000).mapToObj(i -> "DE-" + i).toList();
+
+    /**
+     * Test that a key always routes to the same node.
+     */
+    @Test
+    public void testStableRouting() {
+        final ConsistentHashRing<Integer> ring = this.createRing(4);
+        final ConsistentHashRing<Integer> same = this.createRing(4);
+
+        for (final String key : this.keys) {
+            assertEquals(ring.routeName(key), same.routeName(key));
+            assertEquals(ring.getNodes().get(ring.routeName(key)), ring.route(key));
+        }
+    }
+
+    /**
+     * Test that removing a node only moves its own keys.
+     */
+    @Test
+    public void testRemoveNode() {
+        final ConsistentHashRing<Integer> ring = this.createRing(4);
+        final ConsistentHashRing<Integer> removed = ring.withoutNode("node-2");
+
+        assertEquals(3, removed.getNames().size());
+
+        for (final String key : this.keys) {
+            if ("node-2".equals(ring.routeName(key)))
+                assertNotEquals("node-2", removed.routeName(key));
+            else
+                assertEquals(ring.routeName(key), removed.routeName(key));
+        }
+    }
+
+    /**
+     * Test that adding a node moves about
+     * its share of the keys and only to it.
+     */
+    @Test
+    public void testAddNode() {
+        final ConsistentHashRing<Integer> ring = this.createRing(4);
+        final ConsistentHashRing<Integer> added = ring.withNode("node-4", 4);
+
+        int moved = 0;
+
+        for (final String key : this.keys) {
+            if (!ring.routeName(key).equals(added.routeName(key))) {
+                assertEquals("node-4", added.routeName(key));
+                moved++;
+            }
+        }
+
+        final double share = (double) moved / this.keys.size();
+
+        assertTrue("Moved " + share, share > 0.1 && share < 0.3);
+    }
+
+    /**
+     * Test that the virtual nodes spread the keys evenly.
+     */
+    @Test
+    public void testSpread() {
+        final ConsistentHashRing<Integer> ring = this.createRing(4);
+        final Map<String, Integer> counts = new HashMap<>();
+
+        for (final String key : this.keys)
+            counts.merge(ring.routeName(key), 1, Integer::sum);
+
+        assertEquals(4, counts.size());
+
+        for (final int count : counts.values())
+            assertTrue("Count " + count, count > this.keys.size() / 4 * 0.75 && count < this.keys.size() / 4 * 1.25);
+    }
+
+    /**
+     * Test that a single node takes every key.
+     */
+    @Test
+    public void testSingleNode() {
+        final ConsistentHashRing<Integer> ring = this.createRing(1);
+
+        for (final String key : this.keys)
+            assertEquals("node-0", ring.routeName(key));
+    }
+
+    /**
+     * Test that an empty ring is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyRing() {
+        new ConsistentHashRing<>(Map.of(), 160);
+    }
+
+    /**
+     * Test that a ring without virtual nodes is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoVirtualNodes() {
+        this.createRing(0, 0);
+    }
+
+    /**
+     * Create a ring of nodes with 160 virtual nodes each.
+     *
+     * @param   size    int
+     * @return          net.jmp.hitormiss.util.ConsistentHashRing&lt;java.lang.Integer&gt;
+     */
+    private ConsistentHashRing<Integer> createRing(final int size) {
+        return this.createRing(size, 160);
+    }
+
+    /**
+     * Create a ring of nodes.
+     *
+     * @param   size            int
+     * @param   virtualNodes    int
+     * @return                  net.jmp.hitormiss.util.ConsistentHashRing&lt;java.lang.Integer&gt;
+     */
+    private ConsistentHashRing<Integer> createRing(final int size, final int virtualNodes) {
+        final Map<String, Integer> nodes = new LinkedHashMap<>();
+
+        for (int i = 0; i < Math.max(1, size); i++)
+            nodes.put("node-" + i, i);
+
+        return new ConsistentHashRing<>(nodes, virtualNodes);
+    }
+}
@@ -0,0 +1,116 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestEarlyRefreshPolicy.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The early refresh policy test class.
+ */
+public class TestEarlyRefreshPolicy {
+    /** A compute time of 100 ms in nanoseconds. */
+    private static final long COMPUTE_NANOS = 100_000_000L;
+
+    /** The expiry in milliseconds since the epoch. */
+    private static final long EXPIRES_AT = 1_000_000L;
+
+    /** The policy. */
+    private EarlyRefreshPolicy policy;
+
+    /**
+     * Method to run before each test.
+     */
+    @Before
+    public void init() {
+        this.policy = new EarlyRefreshPolicy(1.0);
+    }
+
+    /**
+     * Test that a bucket without expiry is never refreshed.
+     */
+    @Test
+    public void testNoExpiry() {
+        assertFalse(this.policy.shouldRefresh(COMPUTE_NANOS, 0, EXPIRES_AT, 0.0001));
+    }
+
+    /**
+     * Test that a bucket is refreshed once it has expired.
+     */
+    @Test
+    public void testExpired() {
+        assertTrue(this.policy.shouldRefresh(COMPUTE_NANOS, EXPIRES_AT, EXPIRES_AT, 1.0));
+    }
+
+    /**
+     * Test that a bucket far from expiry is not refreshed.
+     */
+    @Test
+    public void testFarFromExpiry() {
+        assertFalse(this.policy.shouldRefresh(COMPUTE_NANOS, EXPIRES_AT, EXPIRES_AT - 60_000, 0.0001));
+    }
+
+    /**
+     * Test that the refresh window scales with the compute time.
+     * With a draw of 1/e the window is one compute time long.
+     */
+    @Test
+    public void testWindowScalesWithComputeTime() {
+        final double random = 1.0 / Math.E;
+
+        assertTrue(this.policy.shouldRefresh(COMPUTE_NANOS, EXPIRES_AT, EXPIRES_AT - 99, random));
+        assertFalse(this.policy.shouldRefresh(COMPUTE_NANOS, EXPIRES_AT, EXPIRES_AT - 101, random));
+        assertFalse(this.policy.shouldRefresh(COMPUTE_NANOS / 10, EXPIRES_AT, EXPIRES_AT - 99, random));
+    }
+
+    /**
+     * Test that a larger beta refreshes earlier.
+     */
+    @Test
+    public void testBeta() {
+        final EarlyRefreshPolicy eager = new EarlyRefreshPolicy(3.0);
+        final double random = 1.0 / Math.E;
+
+        assertFalse(this.policy.shouldRefresh(COMPUTE_NANOS, EXPIRES_AT, EXPIRES_AT - 250, random));
+        assertTrue(eager.shouldRefresh(COMPUTE_NANOS, EXPIRES_AT, EXPIRES_AT - 250, random));
+    }
+
+    /**
+     * Test that a non-positive beta is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBeta() {
+        new EarlyRefreshPolicy(0.0);
+    }
+}
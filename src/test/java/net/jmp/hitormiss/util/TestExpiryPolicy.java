@@ -0,0 +1,116 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestExpiryPolicy.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+/**
+ * The expiry policy test class.
+ */
+public class TestExpiryPolicy {
+    /**
+     * Test that no time to live never expires.
+     */
+    @Test
+    public void testNoExpiry() {
+        final ExpiryPolicy policy = new ExpiryPolicy(0, 10.0);
+
+        assertFalse(policy.isExpiring());
+        assertEquals(Duration.ZERO, policy.nextTimeToLive());
+    }
+
+    /**
+     * Test a time to live without jitter.
+     */
+    @Test
+    public void testNoJitter() {
+        final ExpiryPolicy policy = new ExpiryPolicy(5_000, 0.0);
+
+        assertTrue(policy.isExpiring());
+        assertEquals(Duration.ofMillis(5_000), policy.nextTimeToLive());
+    }
+
+    /**
+     * Test that jitter stays within its bounds and varies.
+     */
+    @Test
+    public void testJitter() {
+        final ExpiryPolicy policy = new ExpiryPolicy(10_000, 20.0);
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        for (int i = 0; i < 10_000; i++) {
+            final long ttl = policy.nextTimeToLive().toMillis();
+
+            min = Math.min(min, ttl);
+            max = Math.max(max, ttl);
+        }
+
+        assertTrue(min >= 8_000);
+        assertTrue(max <= 12_000);
+        assertTrue(max - min > 2_000);
+    }
+
+    /**
+     * Test that a negative time to live is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTtl() {
+        new ExpiryPolicy(-1, 0.0);
+    }
+
+    /**
+     * Test that the stale period is kept apart from the time to live.
+     */
+    @Test
+    public void testStaleMillis() {
+        final ExpiryPolicy policy = new ExpiryPolicy(1_000, 0.0, 500);
+
+        assertEquals(500, policy.getStaleMillis());
+        assertEquals(1_000, policy.nextTimeToLive().toMillis());
+        assertEquals(0, new ExpiryPolicy(1_000, 0.0).getStaleMillis());
+    }
+
+    /**
+     * Test that a negative stale period is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeStaleMillis() {
+        new ExpiryPolicy(1_000, 0.0, -1);
+    }
+}
@@ -0,0 +1,73 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestKeyEncoder.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.hitormiss.config.KeyLayout;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * The key encoder test class.
+ */
+public class TestKeyEncoder {
+    /**
+     * Test that a key is encoded once and then reused.
+     */
+    @Test
+    public void testKey() {
+        final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.HASH_TAG, 100);
+        final KeyEncoder keyEncoder = new KeyEncoder(bucketKeys, 1000);
+        final String key = keyEncoder.key(312);
+
+        assertEquals(bucketKeys.key(312), key);
+        assertSame(key, keyEncoder.key(312));
+        assertEquals(bucketKeys.key(5000), keyEncoder.key(5000));
+    }
+
+    /**
+     * Test that a slot is computed once and matches the bucket key's.
+     */
+    @Test
+    public void testSlot() {
+        final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.PLAIN, 1);
+        final KeyEncoder keyEncoder = new KeyEncoder(bucketKeys, 1000);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(bucketKeys.slot(i), keyEncoder.slot(i));
+            assertEquals(bucketKeys.slot(i), keyEncoder.slot(i));
+        }
+
+        assertEquals(bucketKeys.slot(5000), keyEncoder.slot(5000));
+    }
+}
@@ -0,0 +1,90 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestKeyTracker.java   0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The key tracker test class.
+ */
+public class TestKeyTracker {
+    /** The tracker. */
+    private KeyTracker tracker;
+
+    /**
+     * Method to run before each test.
+     */
+    @Before
+    public void init() {
+        this.tracker = new KeyTracker(200);
+    }
+
+    /**
+     * Test that keys start out not stored.
+     */
+    @Test
+    public void testInitiallyNotStored() {
+        for (int key = 0; key < 200; key++)
+            assertFalse(this.tracker.wasStored(key));
+    }
+
+    /**
+     * Test that marking a key stores only that key.
+     */
+    @Test
+    public void testMarkStored() {
+        this.tracker.markStored(0);
+        this.tracker.markStored(63);
+        this.tracker.markStored(64);
+        this.tracker.markStored(199);
+        this.tracker.markStored(199);
+
+        assertTrue(this.tracker.wasStored(0));
+        assertTrue(this.tracker.wasStored(63));
+        assertTrue(this.tracker.wasStored(64));
+        assertTrue(this.tracker.wasStored(199));
+        assertFalse(this.tracker.wasStored(1));
+        assertFalse(this.tracker.wasStored(65));
+        assertFalse(this.tracker.wasStored(198));
+    }
+
+    /**
+     * Test that a key beyond the capacity is rejected.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfRange() {
+        this.tracker.markStored(200);
+    }
+}
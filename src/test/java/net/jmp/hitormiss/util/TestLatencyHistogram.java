@@ -0,0 +1,134 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestLatencyHistogram.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The latency histogram test class.
+ */
+public class TestLatencyHistogram {
+    /** The histogram. */
+    private LatencyHistogram histogram;
+
+    /**
+     * Method to run before each test.
+     */
+    @Before
+    public void init() {
+        this.histogram = new LatencyHistogram();
+    }
+
+    /**
+     * Test an empty histogram.
+     */
+    @Test
+    public void testEmpty() {
+        assertEquals(0, this.histogram.getTotalCount());
+        assertEquals(0, this.histogram.getValueAtPercentile(99.0));
+        assertEquals(0.0, this.histogram.getMean(), 0.0);
+    }
+
+    /**
+     * Test that small values are exact.
+     */
+    @Test
+    public void testSmallValuesAreExact() {
+        for (int i = 1; i <= 100; i++)
+            this.histogram.record(i);
+
+        assertEquals(100, this.histogram.getTotalCount());
+        assertEquals(50, this.histogram.getValueAtPercentile(50.0));
+        assertEquals(99, this.histogram.getValueAtPercentile(99.0));
+        assertEquals(100, this.histogram.getMax());
+        assertEquals(50.5, this.histogram.getMean(), 0.001);
+    }
+
+    /**
+     * Test that large values are within the relative error.
+     */
+    @Test
+    public void testLargeValuesAreClose() {
+        for (long value = 1_000; value <= 1_000_000; value += 1_000)
+            this.histogram.record(value);
+
+        final long p50 = this.histogram.getValueAtPercentile(50.0);
+        final long p99 = this.histogram.getValueAtPercentile(99.0);
+
+        assertTrue(Math.abs(p50 - 500_000) <= 500_000 / 64);
+        assertTrue(Math.abs(p99 - 990_000) <= 990_000 / 64);
+        assertEquals(1_000_000, this.histogram.getValueAtPercentile(100.0));
+    }
+
+    /**
+     * Test the coordinated omission correction.
+     */
+    @Test
+    public void testRecordWithExpectedInterval() {
+        this.histogram.recordWithExpectedInterval(100, 10);
+
+        assertEquals(10, this.histogram.getTotalCount());
+        assertEquals(10, this.histogram.getValueAtPercentile(0.0));
+        assertEquals(100, this.histogram.getMax());
+    }
+
+    /**
+     * Test adding and resetting.
+     */
+    @Test
+    public void testAddAndReset() {
+        final LatencyHistogram other = new LatencyHistogram();
+
+        other.record(5_000);
+        this.histogram.record(5);
+        this.histogram.add(other);
+
+        assertEquals(2, this.histogram.getTotalCount());
+        assertEquals(5_000, this.histogram.getMax());
+
+        this.histogram.reset();
+
+        assertEquals(0, this.histogram.getTotalCount());
+        assertEquals(0, this.histogram.getMax());
+    }
+
+    /**
+     * Test an invalid percentile.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        this.histogram.getValueAtPercentile(100.1);
+    }
+}
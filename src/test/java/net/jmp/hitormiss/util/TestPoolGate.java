@@ -0,0 +1,104 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestPoolGate.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The pool gate test class.
+ */
+public class TestPoolGate {
+    /** The gate under test. */
+    private PoolGate gate;
+
+    /**
+     * Create a gate of one permit.
+     */
+    @Before
+    public void init() {
+        this.gate = new PoolGate(1);
+    }
+
+    /**
+     * Test that a free permit is taken without waiting.
+     */
+    @Test
+    public void testNoWait() {
+        assertEquals(0, this.gate.acquire());
+        assertEquals(0, this.gate.getAvailable());
+
+        this.gate.release();
+
+        assertEquals(1, this.gate.getAvailable());
+    }
+
+    /**
+     * Test that the wait for a taken permit is measured.
+     *
+     * @throws  java.lang.InterruptedException When interrupted
+     */
+    @Test
+    public void testWait() throws InterruptedException {
+        final AtomicLong waitNanos = new AtomicLong(-1);
+
+        this.gate.acquire();
+
+        final Thread waiter = new Thread(() -> {
+            waitNanos.set(this.gate.acquire());
+            this.gate.release();
+        });
+
+        waiter.start();
+
+        Thread.sleep(50);
+
+        this.gate.release();
+
+        waiter.join();
+
+        assertTrue(waitNanos.get() >= 40_000_000);
+        assertEquals(1, this.gate.getAvailable());
+    }
+
+    /**
+     * Test that an empty pool is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyPool() {
+        new PoolGate(0);
+    }
+}
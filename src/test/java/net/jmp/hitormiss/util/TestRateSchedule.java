@@ -0,0 +1,113 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestRateSchedule.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * The rate schedule test class.
+ */
+public class TestRateSchedule {
+    /**
+     * Test a constant rate.
+     */
+    @Test
+    public void testConstantRate() {
+        final RateSchedule schedule = new RateSchedule(1_000);
+
+        schedule.start(0);
+
+        assertEquals(0, schedule.next());
+        assertEquals(1_000_000, schedule.next());
+        assertEquals(2_000_000, schedule.next());
+    }
+
+    /**
+     * Test a ramping rate.
+     */
+    @Test
+    public void testRampingRate() {
+        final RateSchedule schedule = new RateSchedule(100, 200, 1_000_000_000L);
+
+        assertEquals(100.0, schedule.getRate(0), 0.001);
+        assertEquals(150.0, schedule.getRate(500_000_000L), 0.001);
+        assertEquals(200.0, schedule.getRate(1_000_000_000L), 0.001);
+        assertEquals(200.0, schedule.getRate(5_000_000_000L), 0.001);
+        assertEquals(10_000_000, schedule.getIntervalNanos(0));
+        assertEquals(5_000_000, schedule.getIntervalNanos(2_000_000_000L));
+    }
+
+    /**
+     * Test that intended start times do not depend on the caller.
+     */
+    @Test
+    public void testIntendedTimesAreIndependentOfCompletion() {
+        final RateSchedule schedule = new RateSchedule(10);
+
+        schedule.start(1_000);
+
+        long intended = 0;
+
+        for (int i = 0; i < 10; i++)
+            intended = schedule.next();
+
+        assertEquals(1_000 + (9 * 100_000_000L), intended);
+    }
+
+    /**
+     * Test changing the rate while running.
+     */
+    @Test
+    public void testSetRate() {
+        final RateSchedule schedule = new RateSchedule(100, 1_000, 10_000_000_000L);
+
+        schedule.start(0);
+
+        assertEquals(0, schedule.next());
+        assertEquals(10_000_000, schedule.next());
+
+        schedule.setRate(1_000);
+
+        assertEquals(1_000.0, schedule.getCurrentRate(), 0.001);
+        assertEquals(11_000_000, schedule.next());
+        assertEquals(12_000_000, schedule.next());
+    }
+
+    /**
+     * Test an invalid rate.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRate() {
+        new RateSchedule(0);
+    }
+}
@@ -0,0 +1,164 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestSingleFlight.java 0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The single-flight test class.
+ */
+public class TestSingleFlight {
+    /** The single flight. */
+    private SingleFlight<Integer> singleFlight;
+
+    /**
+     * Method to run before each test.
+     */
+    @Before
+    public void init() {
+        this.singleFlight = new SingleFlight<>();
+    }
+
+    /**
+     * Test that an uncontended load runs the loader.
+     */
+    @Test
+    public void testUncontended() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        assertTrue(this.singleFlight.execute(1, loads::incrementAndGet));
+        assertTrue(this.singleFlight.execute(1, loads::incrementAndGet));
+        assertEquals(2, loads.get());
+        assertEquals(0, this.singleFlight.getInFlight());
+    }
+
+    /**
+     * Test that a concurrent load of the same key is coalesced.
+     *
+     * @throws  java.lang.InterruptedException  When interrupted
+     */
+    @Test
+    public void testCoalesced() throws InterruptedException {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Thread leader = new Thread(() -> this.singleFlight.execute(1, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+
+            try {
+                release.await();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        leader.start();
+
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        final AtomicBoolean ran = new AtomicBoolean(true);
+        final Thread follower = new Thread(() -> ran.set(this.singleFlight.execute(1, loads::incrementAndGet)));
+
+        follower.start();
+
+        while (follower.getState() != Thread.State.WAITING && follower.isAlive())
+            Thread.onSpinWait();
+
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertFalse(ran.get());
+        assertEquals(1, loads.get());
+    }
+
+    /**
+     * Test that different keys are not coalesced.
+     *
+     * @throws  java.lang.InterruptedException  When interrupted
+     */
+    @Test
+    public void testDifferentKeys() throws InterruptedException {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Thread leader = new Thread(() -> this.singleFlight.execute(1, () -> {
+            loading.countDown();
+
+            try {
+                release.await();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        leader.start();
+
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        assertTrue(this.singleFlight.execute(2, () -> { }));
+
+        release.countDown();
+        leader.join();
+    }
+
+    /**
+     * Test that a failed load is thrown and forgotten.
+     */
+    @Test
+    public void testFailure() {
+        try {
+            this.singleFlight.execute(1, () -> {
+                throw new IllegalStateException("load failed");
+            });
+
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException ise) {
+            assertEquals("load failed", ise.getMessage());
+        }
+
+        assertEquals(0, this.singleFlight.getInFlight());
+        assertTrue(this.singleFlight.execute(1, () -> { }));
+    }
+}
@@ -0,0 +1,106 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestSlotBatcher.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+
+import java.util.stream.IntStream;
+
+import net.jmp.hitormiss.config.KeyLayout;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The slot batcher test class.
+ */
+public class TestSlotBatcher {
+    /** The keys under test. */
+    private final List<Integer> keys = IntStream.range(0, 1000).boxed().toList();
+
+    /**
+     * Test that every key is batched once.
+     */
+    @Test
+    public void testPartition() {
+        final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.PLAIN, 100);
+        final SlotBatcher batcher = new SlotBatcher(64, true);
+        final List<List<Integer>> batches = batcher.partition(this.keys, bucketKeys::slot);
+
+        assertEquals(16, batches.size());
+        assertEquals(1000, batches.stream().mapToInt(List::size).sum());
+        assertEquals(1000, batches.stream().flatMap(List::stream).distinct().count());
+        assertEquals(16, batcher.getBatches());
+        assertEquals(1000, batcher.getKeys());
+    }
+
+    /**
+     * Test that grouped batches are in slot order.
+     */
+    @Test
+    public void testSlotOrder() {
+        final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.PLAIN, 100);
+        final List<Integer> ordered = new SlotBatcher(64, true).partition(this.keys, bucketKeys::slot).stream()
+                .flatMap(List::stream)
+                .toList();
+
+        for (int i = 1; i < ordered.size(); i++)
+            assertTrue(bucketKeys.slot(ordered.get(i - 1)) <= bucketKeys.slot(ordered.get(i)));
+    }
+
+    /**
+     * Test that hash tags and slot grouping
+     * put each group in as few batches as it can.
+     */
+    @Test
+    public void testHashTagEfficiency() {
+        final BucketKeys bucketKeys = new BucketKeys("DE-", KeyLayout.HASH_TAG, 100);
+        final SlotBatcher grouped = new SlotBatcher(100, true);
+        final SlotBatcher ungrouped = new SlotBatcher(100, false);
+
+        grouped.partition(this.keys, bucketKeys::slot);
+        ungrouped.partition(this.keys, key -> ClusterSlot.of("DE-" + key));
+
+        assertEquals(100.0, grouped.getKeysPerSlot(), 0.0);
+        assertEquals(1.0, grouped.getSlotsPerBatch(), 0.0);
+        assertTrue(ungrouped.getKeysPerSlot() < 1.1);
+    }
+
+    /**
+     * Test that an empty batch is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyBatch() {
+        new SlotBatcher(0, true);
+    }
+}
@@ -0,0 +1,118 @@
+package net.jmp.hitormiss.util;
+
+/*
+ * (#)TestSteadyStateDetector.java  0.6.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.6.0
+ * @since    0.6.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The steady-state detector test class.
+ */
+public class TestSteadyStateDetector {
+    /** One second in nanoseconds. */
+    private static final long SECOND = 1_000_000_000L;
+
+    /** The detector. */
+    private SteadyStateDetector detector;
+
+    /**
+     * Method to run before each test.
+     */
+    @Before
+    public void init() {
+        this.detector = new SteadyStateDetector(5.0, 3);
+    }
+
+    /**
+     * Test that too few windows are never steady.
+     */
+    @Test
+    public void testTooFewWindows() {
+        assertFalse(this.detector.addWindow(1_000, 900, SECOND));
+        assertFalse(this.detector.addWindow(1_000, 900, SECOND));
+    }
+
+    /**
+     * Test that stable windows are steady.
+     */
+    @Test
+    public void testStableWindows() {
+        this.detector.addWindow(1_000, 900, SECOND);
+        this.detector.addWindow(1_010, 910, SECOND);
+
+        assertTrue(this.detector.addWindow(990, 890, SECOND));
+    }
+
+    /**
+     * Test that rising throughput is not steady.
+     */
+    @Test
+    public void testRisingThroughput() {
+        this.detector.addWindow(500, 450, SECOND);
+        this.detector.addWindow(800, 720, SECOND);
+
+        assertFalse(this.detector.addWindow(1_000, 900, SECOND));
+    }
+
+    /**
+     * Test that a rising hit ratio is not steady.
+     */
+    @Test
+    public void testRisingHitRatio() {
+        this.detector.addWindow(1_000, 300, SECOND);
+        this.detector.addWindow(1_000, 500, SECOND);
+
+        assertFalse(this.detector.addWindow(1_000, 700, SECOND));
+    }
+
+    /**
+     * Test that old windows are forgotten.
+     */
+    @Test
+    public void testOldWindowsAreForgotten() {
+        this.detector.addWindow(100, 10, SECOND);
+        this.detector.addWindow(1_000, 900, SECOND);
+        this.detector.addWindow(1_000, 900, SECOND);
+
+        assertTrue(this.detector.addWindow(1_000, 900, SECOND));
+    }
+
+    /**
+     * Test an invalid number of windows.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidStableWindows() {
+        new SteadyStateDetector(5.0, 1);
+    }
+}